@@ -0,0 +1,91 @@
+package co.cetad.umas.scheduler.application.service;
+
+import co.cetad.umas.scheduler.benchmark.BenchmarkFixtures;
+import co.cetad.umas.scheduler.benchmark.StubMissionRepository;
+import co.cetad.umas.scheduler.domain.model.dto.DronPreparationNotificationEvent;
+import co.cetad.umas.scheduler.domain.model.dto.MissionExecutionScheduledEvent;
+import co.cetad.umas.scheduler.domain.ports.out.DroneBookingRegistry;
+import co.cetad.umas.scheduler.domain.ports.out.EventPublisher;
+import co.cetad.umas.scheduler.infrastructure.config.CatchUpProperties;
+import co.cetad.umas.scheduler.infrastructure.config.DispatchGovernorProperties;
+import co.cetad.umas.scheduler.infrastructure.config.DispatchQueueProperties;
+import co.cetad.umas.scheduler.infrastructure.config.ShardingProperties;
+import co.cetad.umas.scheduler.infrastructure.messaging.kafka.config.KafkaTopicsProperties;
+import co.cetad.umas.scheduler.infrastructure.metrics.SchedulerMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark del fan-out de publishExecutionEvents
+ *
+ * scheduleReadyMissions() con un repositorio que devuelve el lote ya reclamado
+ * y un EventPublisher que confirma cada evento de inmediato: mide la creación de eventos,
+ * la cola EDF (ExecutionDispatchQueue en el mismo hilo), la agregación de resultados
+ * y las métricas, sin BD ni Kafka
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ExecutionFanOutBenchmark {
+
+    @Param({"100", "10000", "100000"})
+    private int missions;
+
+    private MissionSchedulerService service;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        StubMissionRepository repository = new StubMissionRepository(BenchmarkFixtures.missions(missions));
+
+        EventPublisher<MissionExecutionScheduledEvent> executionPublisher =
+                event -> CompletableFuture.completedFuture(null);
+        EventPublisher<DronPreparationNotificationEvent> preparationPublisher =
+                event -> CompletableFuture.completedFuture(null);
+
+        // Sin catch-up: se mide un solo lote reclamado, sin la consulta de conteo
+        CatchUpProperties catchUp = new CatchUpProperties();
+        catchUp.setEnabled(false);
+
+        service = new MissionSchedulerService(
+                repository,
+                // El enriquecimiento, el watermark y las notificadas solo intervienen en el job de notificación
+                null,
+                null,
+                null,
+                new ExecutionDispatchQueue(executionPublisher, new DispatchQueueProperties(), Runnable::run, Runnable::run,
+                        new SimpleMeterRegistry()),
+                preparationPublisher,
+                new SchedulerMetrics(new SimpleMeterRegistry()),
+                new KafkaTopicsProperties(),
+                new ShardingProperties(),
+                new StaticListableBeanFactory().getBeanProvider(ReactiveMissionPipeline.class),
+                // Sin catch-up no se leen ni guardan checkpoints
+                new ExecutionBacklogDrainer(null, catchUp, new SimpleMeterRegistry()),
+                new DispatchGovernor(new DispatchGovernorProperties(), new SimpleMeterRegistry()),
+                new DroneConflictGuard(new StaticListableBeanFactory().getBeanProvider(DroneBookingRegistry.class),
+                        repository, new SimpleMeterRegistry())
+        );
+        ReflectionTestUtils.setField(service, "preparationNotificationMinutes", 30);
+        ReflectionTestUtils.setField(service, "claimBatchSize", missions);
+        ReflectionTestUtils.setField(service, "outboxEnabled", false);
+    }
+
+    @Benchmark
+    public Integer publishExecutionEvents() {
+        return service.scheduleReadyMissions().join();
+    }
+
+}
@@ -0,0 +1,67 @@
+package co.cetad.umas.scheduler.application.service;
+
+import co.cetad.umas.scheduler.benchmark.BenchmarkFixtures;
+import co.cetad.umas.scheduler.benchmark.InMemoryEnrichmentLookupSource;
+import co.cetad.umas.scheduler.domain.model.dto.DronPreparationNotificationEvent;
+import co.cetad.umas.scheduler.domain.model.vo.Mission;
+import co.cetad.umas.scheduler.infrastructure.config.CacheConfig;
+import co.cetad.umas.scheduler.infrastructure.config.LookupCacheProperties;
+import co.cetad.umas.scheduler.infrastructure.persistence.cache.EnrichmentLookupCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de NotificationEventEnricher contra un origen de búsquedas en memoria
+ *
+ * InMemoryEnrichmentLookupSource responde desde mapas precargados y el executor corre en el hilo
+ * llamante: se mide la cache, el agrupado en bloques IN, la resolución por mapas y la construcción
+ * de eventos
+ *
+ * - cold: caches vacías en cada invocación (todas las claves van a los repositorios)
+ * - warm: caches llenas por la invocación anterior (sin consultas)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NotificationEnrichmentBenchmark {
+
+    @Param({"100", "10000", "100000"})
+    private int missions;
+
+    private NotificationEventEnricher enricher;
+    private EnrichmentLookupCache lookupCache;
+    private List<Mission> batch;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        batch = BenchmarkFixtures.missions(missions);
+
+        lookupCache = new EnrichmentLookupCache(
+                new InMemoryEnrichmentLookupSource(missions),
+                new CacheConfig().cacheManager(new LookupCacheProperties())
+        );
+        enricher = new NotificationEventEnricher(lookupCache, Runnable::run);
+    }
+
+    @Benchmark
+    public List<DronPreparationNotificationEvent> enrichNotificationEventsCold() {
+        lookupCache.invalidateAll();
+        return enricher.enrichNotificationEvents(batch, 30).join();
+    }
+
+    @Benchmark
+    public List<DronPreparationNotificationEvent> enrichNotificationEventsWarm() {
+        return enricher.enrichNotificationEvents(batch, 30).join();
+    }
+
+}
@@ -0,0 +1,191 @@
+package co.cetad.umas.scheduler.benchmark;
+
+import co.cetad.umas.scheduler.domain.model.entity.DroneEntity;
+import co.cetad.umas.scheduler.domain.model.entity.DroneMissionAssignmentEntity;
+import co.cetad.umas.scheduler.domain.model.entity.DroneStatus;
+import co.cetad.umas.scheduler.domain.model.entity.MissionEntity;
+import co.cetad.umas.scheduler.domain.model.entity.MissionOrigin;
+import co.cetad.umas.scheduler.domain.model.entity.MissionState;
+import co.cetad.umas.scheduler.domain.model.entity.OperatorEntity;
+import co.cetad.umas.scheduler.domain.model.vo.Mission;
+import co.cetad.umas.scheduler.infrastructure.persistence.postgresql.projection.MissionRow;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+/**
+ * Datos deterministas para los benchmarks JMH
+ *
+ * - Misiones automáticas APROBADA con estimatedDate escalonado por segundo
+ * - OPERATORS operadores y DRONES drones compartidos por todas las misiones
+ * - Una de cada ASSIGNMENT_GAP misiones no tiene dron (ejercita los valores por defecto)
+ *
+ * Toda misión parte de missionEntity (setters por nombre); mission y missionRow son los únicos
+ * puntos que conocen el orden de los constructores del VO y de la proyección: un cambio de firma
+ * se corrige aquí y no en cada benchmark
+ */
+public final class BenchmarkFixtures {
+
+    public static final int OPERATORS = 50;
+    public static final int DRONES = 200;
+    public static final int ASSIGNMENT_GAP = 10;
+
+    private static final long MISSION_NAMESPACE = 0x4D495353L;
+    private static final long OPERATOR_NAMESPACE = 0x4F504552L;
+    private static final long DRONE_NAMESPACE = 0x44524F4EL;
+
+    private static final LocalDateTime BASE_DATE = LocalDateTime.of(2025, 1, 1, 8, 0);
+
+    private BenchmarkFixtures() {
+    }
+
+    public static UUID missionId(int index) {
+        return new UUID(MISSION_NAMESPACE, index);
+    }
+
+    public static UUID operatorId(int index) {
+        return new UUID(OPERATOR_NAMESPACE, index % OPERATORS);
+    }
+
+    public static UUID droneId(int index) {
+        return new UUID(DRONE_NAMESPACE, index % DRONES);
+    }
+
+    public static List<MissionEntity> missionEntities(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(BenchmarkFixtures::missionEntity)
+                .toList();
+    }
+
+    public static List<Mission> missions(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(index -> mission(missionEntity(index)))
+                .toList();
+    }
+
+    public static MissionEntity missionEntity(int index) {
+        MissionEntity entity = new MissionEntity();
+        entity.setId(missionId(index));
+        entity.setName("Mission " + index);
+        entity.setOperatorId(operatorId(index));
+        entity.setMissionType(MissionOrigin.AUTOMATICA);
+        entity.setState(MissionState.APROBADA);
+        entity.setEstimatedDate(BASE_DATE.plusSeconds(index));
+        entity.setIsAutomatic(true);
+        entity.setCreatedAt(BASE_DATE);
+        entity.setUpdatedAt(BASE_DATE);
+        return entity;
+    }
+
+    /**
+     * VO de dominio con los datos de la entidad (sin pasar por un adaptador)
+     */
+    public static Mission mission(MissionEntity entity) {
+        return new Mission(
+                entity.getId().toString(),
+                entity.getName(),
+                entity.getOperatorId().toString(),
+                entity.getMissionType(),
+                entity.getState(),
+                entity.getEstimatedDate(),
+                entity.getStartDate(),
+                entity.getEndDate(),
+                entity.getIsAutomatic(),
+                entity.getCreatedAt(),
+                entity.getUpdatedAt(),
+                false
+        );
+    }
+
+    /**
+     * Nueva instancia con los mismos valores: vuelve a pasar por el constructor compacto
+     */
+    public static Mission copy(Mission mission) {
+        return new Mission(
+                mission.id(),
+                mission.name(),
+                mission.operatorId(),
+                mission.missionType(),
+                mission.state(),
+                mission.estimatedDate(),
+                mission.startDate(),
+                mission.endDate(),
+                mission.isAutomatic(),
+                mission.createdAt(),
+                mission.updatedAt(),
+                mission.isNew()
+        );
+    }
+
+    /**
+     * Proyección de lectura con los datos de la entidad
+     */
+    public static MissionRow missionRow(MissionEntity entity) {
+        return new MissionRow(
+                entity.getId(),
+                entity.getName(),
+                entity.getOperatorId(),
+                entity.getMissionType(),
+                entity.getState(),
+                entity.getEstimatedDate(),
+                entity.getStartDate(),
+                entity.getEndDate(),
+                entity.getIsAutomatic(),
+                entity.getCreatedAt(),
+                entity.getUpdatedAt()
+        );
+    }
+
+    /**
+     * Asignaciones de las misiones [0, count), omitiendo una de cada ASSIGNMENT_GAP
+     */
+    public static List<DroneMissionAssignmentEntity> assignments(int count) {
+        return IntStream.range(0, count)
+                .filter(index -> index % ASSIGNMENT_GAP != 0)
+                .mapToObj(index -> {
+                    DroneMissionAssignmentEntity assignment = new DroneMissionAssignmentEntity();
+                    assignment.setMissionId(missionId(index));
+                    assignment.setDroneId(droneId(index));
+                    assignment.setAssignedAt(BASE_DATE);
+                    assignment.setCreatedAt(BASE_DATE);
+                    assignment.setUpdatedAt(BASE_DATE);
+                    return assignment;
+                })
+                .toList();
+    }
+
+    public static List<DroneEntity> drones() {
+        return IntStream.range(0, DRONES)
+                .mapToObj(index -> {
+                    DroneEntity drone = new DroneEntity();
+                    drone.setId(droneId(index));
+                    drone.setName("Drone " + index);
+                    drone.setVehicleId("VH-" + index);
+                    drone.setModel("Benchmark");
+                    drone.setSerialNumber("SN-" + index);
+                    drone.setStatus(DroneStatus.values()[0]);
+                    drone.setFlightHours(BigDecimal.ZERO);
+                    drone.setCreatedAt(BASE_DATE);
+                    drone.setUpdatedAt(BASE_DATE);
+                    return drone;
+                })
+                .toList();
+    }
+
+    public static List<OperatorEntity> operators() {
+        return IntStream.range(0, OPERATORS)
+                .mapToObj(index -> {
+                    OperatorEntity operator = new OperatorEntity();
+                    operator.setId(operatorId(index));
+                    operator.setUsername("operator" + index);
+                    operator.setFullName("Operator " + index);
+                    operator.setEmail("operator" + index + "@umas.co");
+                    return operator;
+                })
+                .toList();
+    }
+
+}
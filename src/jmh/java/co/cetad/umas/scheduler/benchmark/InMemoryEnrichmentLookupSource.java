@@ -0,0 +1,82 @@
+package co.cetad.umas.scheduler.benchmark;
+
+import co.cetad.umas.scheduler.domain.model.entity.DroneEntity;
+import co.cetad.umas.scheduler.domain.model.entity.DroneMissionAssignmentEntity;
+import co.cetad.umas.scheduler.domain.model.entity.OperatorEntity;
+import co.cetad.umas.scheduler.infrastructure.persistence.cache.EnrichmentLookupSource;
+import co.cetad.umas.scheduler.infrastructure.persistence.postgresql.projection.DroneBookingRow;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * EnrichmentLookupSource sobre los datos de BenchmarkFixtures
+ *
+ * Recorre los ids en bloques de IN_CLAUSE_CHUNK_SIZE como los orígenes reales
+ * y responde desde mapas precargados en el hilo llamante
+ */
+public class InMemoryEnrichmentLookupSource implements EnrichmentLookupSource {
+
+    private final Map<UUID, UUID> firstDroneIdByMission;
+    private final Map<UUID, DroneEntity> dronesById;
+    private final Map<UUID, OperatorEntity> operatorsById;
+
+    public InMemoryEnrichmentLookupSource(int missions) {
+        this.firstDroneIdByMission = BenchmarkFixtures.assignments(missions).stream()
+                .collect(Collectors.toMap(
+                        DroneMissionAssignmentEntity::getMissionId,
+                        DroneMissionAssignmentEntity::getDroneId,
+                        (first, ignored) -> first
+                ));
+        this.dronesById = BenchmarkFixtures.drones().stream()
+                .collect(Collectors.toMap(DroneEntity::getId, Function.identity()));
+        this.operatorsById = BenchmarkFixtures.operators().stream()
+                .collect(Collectors.toMap(OperatorEntity::getId, Function.identity()));
+    }
+
+    @Override
+    public CompletableFuture<Map<UUID, UUID>> loadFirstDroneIds(List<UUID> missionIds) {
+        return CompletableFuture.completedFuture(load(missionIds, firstDroneIdByMission));
+    }
+
+    @Override
+    public CompletableFuture<Map<UUID, DroneEntity>> loadDrones(List<UUID> droneIds) {
+        return CompletableFuture.completedFuture(load(droneIds, dronesById));
+    }
+
+    @Override
+    public CompletableFuture<Map<UUID, OperatorEntity>> loadOperators(List<UUID> operatorIds) {
+        return CompletableFuture.completedFuture(load(operatorIds, operatorsById));
+    }
+
+    @Override
+    public CompletableFuture<Map<UUID, List<UUID>>> loadDroneIds(List<UUID> missionIds) {
+        throw new UnsupportedOperationException("loadDroneIds is not stubbed");
+    }
+
+    @Override
+    public CompletableFuture<List<DroneBookingRow>> loadDroneBookings(
+            LocalDateTime busySince,
+            LocalDateTime pendingBefore
+    ) {
+        throw new UnsupportedOperationException("loadDroneBookings is not stubbed");
+    }
+
+    private static <V> Map<UUID, V> load(List<UUID> ids, Map<UUID, V> source) {
+        Map<UUID, V> loaded = new HashMap<>();
+        EnrichmentLookupSource.chunked(ids).forEach(chunk -> chunk.forEach(id -> {
+            V value = source.get(id);
+            if (value != null) {
+                loaded.put(id, value);
+            }
+        }));
+        return loaded;
+    }
+
+}
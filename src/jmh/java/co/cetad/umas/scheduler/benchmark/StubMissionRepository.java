@@ -0,0 +1,114 @@
+package co.cetad.umas.scheduler.benchmark;
+
+import co.cetad.umas.scheduler.domain.model.entity.MissionState;
+import co.cetad.umas.scheduler.domain.model.vo.ClaimPartition;
+import co.cetad.umas.scheduler.domain.model.vo.Mission;
+import co.cetad.umas.scheduler.domain.model.vo.MissionCursor;
+import co.cetad.umas.scheduler.domain.model.vo.MissionPage;
+import co.cetad.umas.scheduler.domain.model.vo.MissionShard;
+import co.cetad.umas.scheduler.domain.ports.out.MissionRepository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * MissionRepository en memoria para el camino de reclamo y publicación
+ *
+ * - claimReadyMissions devuelve siempre el mismo lote ya reclamado
+ * - release/defer/confirm responden de inmediato con el número de ids recibidos
+ * - Las consultas y el outbox no forman parte de los benchmarks: lanzan
+ *   UnsupportedOperationException para que un cambio de camino falle rápido
+ */
+public class StubMissionRepository implements MissionRepository {
+
+    private final List<Mission> claimed;
+
+    public StubMissionRepository(List<Mission> claimed) {
+        this.claimed = claimed;
+    }
+
+    @Override
+    public CompletableFuture<List<Mission>> claimReadyMissions(
+            LocalDateTime estimatedDateBefore,
+            int limit,
+            MissionShard shard
+    ) {
+        return CompletableFuture.completedFuture(claimed);
+    }
+
+    @Override
+    public CompletableFuture<Integer> releaseClaims(Collection<String> missionIds) {
+        return CompletableFuture.completedFuture(missionIds.size());
+    }
+
+    @Override
+    public CompletableFuture<Integer> deferClaims(Collection<String> missionIds, LocalDateTime notBefore) {
+        return CompletableFuture.completedFuture(missionIds.size());
+    }
+
+    @Override
+    public CompletableFuture<Integer> confirmClaims(Collection<String> missionIds) {
+        return CompletableFuture.completedFuture(missionIds.size());
+    }
+
+    @Override
+    public CompletableFuture<Integer> releaseStaleClaims(LocalDateTime claimedBefore, int limit) {
+        return CompletableFuture.completedFuture(0);
+    }
+
+    @Override
+    public CompletableFuture<MissionPage> findAutoByState(MissionState state, MissionCursor after, int limit) {
+        throw unsupported("findAutoByState");
+    }
+
+    @Override
+    public CompletableFuture<List<Mission>> findByStateAndIsAutomaticAndEstimatedDateBetween(
+            MissionState state,
+            Boolean isAutomatic,
+            LocalDateTime estimatedDateAfter,
+            LocalDateTime estimatedDateBefore,
+            MissionShard shard
+    ) {
+        throw unsupported("findByStateAndIsAutomaticAndEstimatedDateBetween");
+    }
+
+    @Override
+    public CompletableFuture<Long> countReadyMissions(LocalDateTime estimatedDateBefore, MissionShard shard) {
+        throw unsupported("countReadyMissions");
+    }
+
+    @Override
+    public CompletableFuture<List<Mission>> claimMissions(
+            Collection<String> missionIds,
+            LocalDateTime estimatedDateBefore
+    ) {
+        throw unsupported("claimMissions");
+    }
+
+    @Override
+    public CompletableFuture<ClaimPartition> claimReadyMissionsIntoOutbox(
+            LocalDateTime estimatedDateBefore,
+            int limit,
+            MissionShard shard,
+            Function<List<Mission>, CompletableFuture<ClaimPartition>> partitioner
+    ) {
+        throw unsupported("claimReadyMissionsIntoOutbox");
+    }
+
+    @Override
+    public CompletableFuture<ClaimPartition> claimMissionsIntoOutbox(
+            Collection<String> missionIds,
+            LocalDateTime estimatedDateBefore,
+            Function<List<Mission>, CompletableFuture<ClaimPartition>> partitioner
+    ) {
+        throw unsupported("claimMissionsIntoOutbox");
+    }
+
+    private static UnsupportedOperationException unsupported(String method) {
+        return new UnsupportedOperationException(method + " is not stubbed");
+    }
+
+}
@@ -0,0 +1,142 @@
+package co.cetad.umas.scheduler.domain.model.dto;
+
+import co.cetad.umas.scheduler.benchmark.BenchmarkFixtures;
+import co.cetad.umas.scheduler.infrastructure.messaging.kafka.serialization.CompactBinaryWireFormat;
+import co.cetad.umas.scheduler.infrastructure.messaging.kafka.serialization.JsonWireFormat;
+import co.cetad.umas.scheduler.infrastructure.messaging.kafka.serialization.KafkaMessageWriter;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de serialización Jackson de los mensajes Kafka
+ *
+ * Reproduce el camino de los publishers: evento de dominio → mensaje → JSON
+ * El ObjectMapper se configura como el de Spring Boot (módulos registrados, fechas ISO)
+ *
+ * - *Message: writeValueAsString reflexivo (solo el String)
+ * - *MessageStringUtf8: camino anterior completo, String + re-codificación de StringSerializer
+ * - *MessageBytes: KafkaMessageWriter, ObjectWriter precompilado directo a byte[]
+ * - *MessageCompact: KafkaMessageWriter con CompactBinaryWireFormat (kafka.wire-format=binary)
+ *
+ * Asignación por mensaje: gc.alloc.rate.norm / missions (profiler gc de build.gradle)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MessageSerializationBenchmark {
+
+    @Param({"100", "10000", "100000"})
+    private int missions;
+
+    private ObjectMapper objectMapper;
+    private KafkaMessageWriter messageWriter;
+    private KafkaMessageWriter compactWriter;
+    private List<MissionExecutionScheduledEvent> executionEvents;
+    private List<DronPreparationNotificationEvent> preparationEvents;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        messageWriter = new KafkaMessageWriter(new JsonWireFormat(objectMapper));
+        compactWriter = new KafkaMessageWriter(new CompactBinaryWireFormat());
+
+        executionEvents = BenchmarkFixtures.missions(missions).stream()
+                .map(mission -> MissionExecutionScheduledEvent.of(
+                        mission.id(),
+                        mission.name(),
+                        mission.estimatedDate()
+                ))
+                .toList();
+
+        preparationEvents = BenchmarkFixtures.missions(missions).stream()
+                .map(mission -> DronPreparationNotificationEvent.of(
+                        mission.id(),
+                        mission.name(),
+                        "VH-1",
+                        "Drone 1",
+                        mission.estimatedDate(),
+                        30,
+                        "operator@umas.co"
+                ))
+                .toList();
+    }
+
+    @Benchmark
+    public void missionExecutionMessage(Blackhole blackhole) throws JsonProcessingException {
+        for (MissionExecutionScheduledEvent event : executionEvents) {
+            blackhole.consume(objectMapper.writeValueAsString(MissionExecutionMessage.from(event)));
+        }
+    }
+
+    @Benchmark
+    public void dronPreparationMessage(Blackhole blackhole) throws JsonProcessingException {
+        for (DronPreparationNotificationEvent event : preparationEvents) {
+            blackhole.consume(objectMapper.writeValueAsString(DronPreparationMessage.from(event)));
+        }
+    }
+
+    @Benchmark
+    public void missionExecutionMessageStringUtf8(Blackhole blackhole) throws JsonProcessingException {
+        for (MissionExecutionScheduledEvent event : executionEvents) {
+            blackhole.consume(objectMapper.writeValueAsString(MissionExecutionMessage.from(event))
+                    .getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Benchmark
+    public void missionExecutionMessageBytes(Blackhole blackhole) throws IOException {
+        for (MissionExecutionScheduledEvent event : executionEvents) {
+            blackhole.consume(messageWriter.executionPayload(event));
+        }
+    }
+
+    @Benchmark
+    public void dronPreparationMessageStringUtf8(Blackhole blackhole) throws JsonProcessingException {
+        for (DronPreparationNotificationEvent event : preparationEvents) {
+            blackhole.consume(objectMapper.writeValueAsString(DronPreparationMessage.from(event))
+                    .getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Benchmark
+    public void dronPreparationMessageBytes(Blackhole blackhole) throws IOException {
+        for (DronPreparationNotificationEvent event : preparationEvents) {
+            blackhole.consume(messageWriter.preparationPayload(event));
+        }
+    }
+
+    @Benchmark
+    public void missionExecutionMessageCompact(Blackhole blackhole) throws IOException {
+        for (MissionExecutionScheduledEvent event : executionEvents) {
+            blackhole.consume(compactWriter.executionPayload(event));
+        }
+    }
+
+    @Benchmark
+    public void dronPreparationMessageCompact(Blackhole blackhole) throws IOException {
+        for (DronPreparationNotificationEvent event : preparationEvents) {
+            blackhole.consume(compactWriter.preparationPayload(event));
+        }
+    }
+
+}
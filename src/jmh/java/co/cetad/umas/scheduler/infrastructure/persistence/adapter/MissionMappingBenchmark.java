@@ -0,0 +1,73 @@
+package co.cetad.umas.scheduler.infrastructure.persistence.adapter;
+
+import co.cetad.umas.scheduler.benchmark.BenchmarkFixtures;
+import co.cetad.umas.scheduler.domain.model.entity.MissionEntity;
+import co.cetad.umas.scheduler.domain.model.vo.Mission;
+import co.cetad.umas.scheduler.infrastructure.persistence.postgresql.projection.MissionRow;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark del mapeo entidad / proyección → VO y de las validaciones del record Mission
+ *
+ * Cada operación procesa un lote completo de @Param missions
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MissionMappingBenchmark {
+
+    @Param({"100", "10000", "100000"})
+    private int missions;
+
+    private List<MissionEntity> entities;
+    private List<MissionRow> rows;
+    private List<Mission> validated;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        entities = BenchmarkFixtures.missionEntities(missions);
+        rows = entities.stream()
+                .map(BenchmarkFixtures::missionRow)
+                .toList();
+        validated = entities.stream()
+                .map(BenchmarkFixtures::mission)
+                .toList();
+    }
+
+    @Benchmark
+    public void toDomain(Blackhole blackhole) {
+        for (MissionEntity entity : entities) {
+            blackhole.consume(MissionPersistenceAdapter.toDomain(entity));
+        }
+    }
+
+    @Benchmark
+    public void rowToDomain(Blackhole blackhole) {
+        for (MissionRow row : rows) {
+            blackhole.consume(MissionPersistenceAdapter.toDomain(row));
+        }
+    }
+
+    /**
+     * Solo el constructor compacto (requireNonNull + reglas de fechas) sobre misiones ya construidas
+     */
+    @Benchmark
+    public void missionValidation(Blackhole blackhole) {
+        for (Mission mission : validated) {
+            blackhole.consume(BenchmarkFixtures.copy(mission));
+        }
+    }
+
+}
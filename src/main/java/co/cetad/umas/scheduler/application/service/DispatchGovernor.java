@@ -0,0 +1,210 @@
+package co.cetad.umas.scheduler.application.service;
+
+import co.cetad.umas.scheduler.domain.model.vo.PublicationResult;
+import co.cetad.umas.scheduler.domain.ports.out.DispatchGovernorSettings;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Gobernador de la publicación de eventos de ejecución (scheduler.dispatch-governor)
+ *
+ * FUNCIONAMIENTO:
+ * - Token bucket con tasa (eventos/s) y ráfaga (burst) configurables
+ * - Un lote se divide en tramos de a lo sumo burst eventos; cada tramo reserva sus tokens
+ *   y se publica cuando se generaron, sin bloquear hilos (delayedExecutor)
+ * - Las reservas se encadenan: cientos de misiones con la misma estimatedDate salen
+ *   escalonadas a la tasa vigente en lugar de en una sola ráfaga
+ * - La deuda tiene tope (max-wait): los tramos que esperarían más no reservan tokens y
+ *   vuelven como fallos, el llamador los libera y se reintentan en el siguiente tick
+ *   (con la tasa en min-rate un lote grande no queda minutos retenido en memoria)
+ * - ConsumerLagMonitor informa el lag del grupo consumidor y la tasa se ajusta con AIMD
+ *   (ver DispatchGovernorSettings)
+ * - Deshabilitado: el lote se publica completo, como siempre
+ *
+ * MÉTRICAS:
+ * - scheduler.dispatch.rate: tasa de publicación vigente (eventos/s)
+ * - scheduler.dispatch.consumer.lag: último lag observado del grupo consumidor
+ * - scheduler.dispatch.throttle.wait: espera impuesta a cada tramo
+ * - scheduler.dispatch.throttle.shed: elementos devueltos por superar max-wait
+ */
+@Slf4j
+@Service
+public class DispatchGovernor {
+
+    private static final long UNKNOWN_LAG = -1;
+
+    private final DispatchGovernorSettings properties;
+    private final LongSupplier nanoTime;
+    private final Timer throttleWait;
+    private final Counter throttleShed;
+    private final AtomicLong consumerLag = new AtomicLong(UNKNOWN_LAG);
+
+    private double rate;
+    private double tokens;
+    private long lastRefill;
+
+    @Autowired
+    public DispatchGovernor(DispatchGovernorSettings properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::nanoTime);
+    }
+
+    /**
+     * Reloj inyectable: las pruebas avanzan el tiempo sin dormir
+     */
+    DispatchGovernor(DispatchGovernorSettings properties, MeterRegistry meterRegistry, LongSupplier nanoTime) {
+        this.properties = properties;
+        this.nanoTime = nanoTime;
+        this.rate = clamp(properties.getInitialRate());
+        this.tokens = properties.getBurst();
+        this.lastRefill = nanoTime.getAsLong();
+
+        Gauge.builder("scheduler.dispatch.rate", this, DispatchGovernor::currentRate)
+                .description("Tasa de publicación de eventos de ejecución")
+                .baseUnit("events/s")
+                .register(meterRegistry);
+        Gauge.builder("scheduler.dispatch.consumer.lag", consumerLag, AtomicLong::get)
+                .description("Lag del grupo consumidor del topic de ejecución (-1 sin muestra)")
+                .baseUnit("messages")
+                .register(meterRegistry);
+        this.throttleWait = Timer.builder("scheduler.dispatch.throttle.wait")
+                .description("Espera impuesta por el gobernador antes de publicar un tramo")
+                .register(meterRegistry);
+        this.throttleShed = Counter.builder("scheduler.dispatch.throttle.shed")
+                .description("Elementos devueltos como fallo por superar la espera máxima")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Publica el lote a la tasa vigente, tramo a tramo
+     *
+     * @param events Elementos del lote (eventos o misiones), en orden de publicación
+     * @param publisher Publica un tramo y devuelve su resultado
+     * @param shed Evento de resultado de un elemento no publicado por superar max-wait
+     * @return Resultado agregado de todos los tramos (los descartados, como fallos)
+     */
+    public <T, R> CompletableFuture<PublicationResult<R>> throttle(
+            List<T> events,
+            Function<List<T>, CompletableFuture<PublicationResult<R>>> publisher,
+            Function<T, R> shed
+    ) {
+        if (!properties.isEnabled() || events.isEmpty()) {
+            return publisher.apply(events);
+        }
+
+        int burst = Math.max(properties.getBurst(), 1);
+        List<CompletableFuture<PublicationResult<R>>> slices = new ArrayList<>();
+
+        for (int from = 0; from < events.size(); from += burst) {
+            List<T> slice = events.subList(from, Math.min(from + burst, events.size()));
+            long waitNanos = reserve(slice.size());
+            if (waitNanos < 0) {
+                // Los siguientes tramos esperarían aún más: se devuelven todos, en orden
+                slices.add(CompletableFuture.completedFuture(shed(events.subList(from, events.size()), shed)));
+                break;
+            }
+            throttleWait.record(waitNanos, TimeUnit.NANOSECONDS);
+
+            slices.add(waitNanos == 0
+                    ? publisher.apply(slice)
+                    : CompletableFuture.supplyAsync(() -> slice,
+                                    CompletableFuture.delayedExecutor(waitNanos, TimeUnit.NANOSECONDS))
+                            .thenCompose(publisher));
+        }
+
+        return CompletableFuture.allOf(slices.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> PublicationResult.merge(slices.stream()
+                        .map(CompletableFuture::join)
+                        .toList()));
+    }
+
+    private <T, R> PublicationResult<R> shed(List<T> rest, Function<T, R> shed) {
+        throttleShed.increment(rest.size());
+        log.warn("🐢 Dispatch rate {} events/s would delay {} events beyond {}, returning them for the next tick",
+                Math.round(currentRate()), rest.size(), properties.getMaxWait());
+
+        RejectedExecutionException cause = new RejectedExecutionException(
+                "Dispatch governor wait exceeds " + properties.getMaxWait());
+        return new PublicationResult<>(List.of(), rest.stream()
+                .map(element -> new PublicationResult.Failure<>(shed.apply(element), (Throwable) cause))
+                .toList());
+    }
+
+    /**
+     * Ajusta la tasa con una nueva muestra del lag del grupo consumidor (AIMD)
+     */
+    public synchronized void onConsumerLag(long lag) {
+        refill(nanoTime.getAsLong());
+        consumerLag.set(lag);
+        double previous = rate;
+
+        rate = lag > properties.getTargetLag()
+                ? clamp(rate * properties.getDecreaseFactor())
+                : clamp(rate + properties.getIncreaseStep());
+
+        if (rate < previous) {
+            log.warn("🐢 Execution consumer lag {} above target {}, dispatch rate {} → {} events/s",
+                    lag, properties.getTargetLag(), Math.round(previous), Math.round(rate));
+        } else if (rate > previous) {
+            log.debug("Execution consumer lag {}, dispatch rate {} → {} events/s",
+                    lag, Math.round(previous), Math.round(rate));
+        }
+    }
+
+    /**
+     * Sin muestra de lag la tasa se mantiene
+     */
+    public void onConsumerLagUnavailable() {
+        consumerLag.set(UNKNOWN_LAG);
+    }
+
+    public synchronized double currentRate() {
+        return rate;
+    }
+
+    /**
+     * Reserva permits tokens; el saldo puede quedar negativo (deuda que pagan los siguientes)
+     * Si la espera superaría max-wait no reserva nada
+     *
+     * @return Nanosegundos a esperar hasta que los tokens reservados estén generados,
+     *         o -1 si superaría max-wait
+     */
+    synchronized long reserve(int permits) {
+        refill(nanoTime.getAsLong());
+        double balance = tokens - permits;
+        long waitNanos = balance >= 0 ? 0 : (long) (-balance / rate * TimeUnit.SECONDS.toNanos(1));
+        if (waitNanos > properties.getMaxWait().toNanos()) {
+            return -1;
+        }
+        tokens = balance;
+        return waitNanos;
+    }
+
+    private void refill(long now) {
+        double elapsedSeconds = (now - lastRefill) / (double) TimeUnit.SECONDS.toNanos(1);
+        tokens = Math.min(tokens + elapsedSeconds * rate, properties.getBurst());
+        lastRefill = now;
+    }
+
+    private double clamp(double value) {
+        return Math.max(properties.getMinRate(), Math.min(properties.getMaxRate(), value));
+    }
+
+}
@@ -0,0 +1,151 @@
+package co.cetad.umas.scheduler.application.service;
+
+import co.cetad.umas.scheduler.domain.model.vo.ClaimPartition;
+import co.cetad.umas.scheduler.domain.model.vo.ClaimPartition.Hold;
+import co.cetad.umas.scheduler.domain.model.vo.DroneConflict;
+import co.cetad.umas.scheduler.domain.model.vo.Mission;
+import co.cetad.umas.scheduler.domain.ports.out.DroneBookingRegistry;
+import co.cetad.umas.scheduler.domain.ports.out.MissionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Retención de despachos que reservarían un dron ya ocupado (scheduler.drone-conflicts)
+ *
+ * FUNCIONAMIENTO:
+ * - Recorre las misiones reclamadas en orden de prioridad (ExecutionDispatchQueue.prioritize)
+ * - Los drones de las reclamadas que el índice no conoce se cargan antes con una consulta IN por lote
+ * - Cada una intenta reservar sus drones en DroneBookingRegistry desde max(estimatedDate, now):
+ *   si alguno está ocupado por otra misión en la ventana, la misión se retiene
+ * - Entre dos misiones solapadas del mismo tick gana la más prioritaria
+ * - Las retenidas se difieren hasta el fin de la reserva que las bloquea (deferClaims):
+ *   vuelven a APROBADA pero ningún reclamo las toma antes, así no bloquean la cola
+ *   ni se cuentan de nuevo en cada tick; cada retención se reporta en el log y en métricas
+ * - Sin índice (deshabilitado o aún sin cargar) todas las misiones se despachan
+ * - Lo aplican los dos modos de pipeline (MissionSchedulerService y ReactiveMissionPipeline)
+ *   y el reclamo con outbox, dentro de la transacción que registra los eventos
+ *
+ * MÉTRICAS:
+ * - scheduler.drone.conflicts: misiones retenidas por conflicto de dron
+ * - scheduler.drone.conflicts.held: retenidas en el último tick
+ */
+@Slf4j
+@Service
+public class DroneConflictGuard {
+
+    private final ObjectProvider<DroneBookingRegistry> bookingIndex;
+    private final MissionRepository missionRepository;
+
+    private final Counter conflicts;
+    private final AtomicInteger lastHeld = new AtomicInteger();
+
+    public DroneConflictGuard(
+            ObjectProvider<DroneBookingRegistry> bookingIndex,
+            MissionRepository missionRepository,
+            MeterRegistry meterRegistry
+    ) {
+        this.bookingIndex = bookingIndex;
+        this.missionRepository = missionRepository;
+
+        this.conflicts = Counter.builder("scheduler.drone.conflicts")
+                .description("Misiones retenidas por tener un dron ya reservado en su ventana")
+                .baseUnit("missions")
+                .register(meterRegistry);
+        Gauge.builder("scheduler.drone.conflicts.held", lastHeld, AtomicInteger::get)
+                .description("Misiones retenidas por conflicto de dron en el último tick")
+                .baseUnit("missions")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Separa las misiones despachables de las que chocan con una reserva existente
+     *
+     * Antes se cargan los drones de las misiones que el índice no conoce; si esa carga falla
+     * se reparte con lo conocido (esas misiones no se retienen)
+     *
+     * @param missions Misiones reclamadas, en orden de prioridad
+     */
+    public CompletableFuture<ClaimPartition> partition(List<Mission> missions) {
+        DroneBookingRegistry index = bookingIndex.getIfAvailable();
+        if (index == null || !index.ready() || missions.isEmpty()) {
+            return CompletableFuture.completedFuture(ClaimPartition.releaseAll(missions));
+        }
+
+        return index.loadAssignments(missions)
+                .exceptionally(throwable -> {
+                    log.warn("⚠️ Could not load drone assignments of {} claimed missions, checking known ones only: {}",
+                            missions.size(), throwable.getMessage());
+                    return null;
+                })
+                .thenApply(ignored -> reserve(index, missions));
+    }
+
+    private ClaimPartition reserve(DroneBookingRegistry index, List<Mission> missions) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Mission> released = new ArrayList<>(missions.size());
+        List<Hold> held = new ArrayList<>();
+
+        for (Mission mission : missions) {
+            LocalDateTime start = mission.estimatedDate().isAfter(now) ? mission.estimatedDate() : now;
+            DroneConflict conflict = index.reserve(mission, start);
+
+            if (conflict == null) {
+                released.add(mission);
+            } else {
+                held.add(new Hold(mission, conflict.busyUntil()));
+                log.warn("🚫 Holding back mission {} until {}: drone {} is already booked by mission {}",
+                        conflict.missionId(), conflict.busyUntil(), conflict.droneId(),
+                        conflict.conflictingMissionId());
+            }
+        }
+
+        lastHeld.set(held.size());
+        conflicts.increment(held.size());
+        return new ClaimPartition(released, held);
+    }
+
+    /**
+     * Difiere las misiones retenidas hasta que su dron quede libre (deferClaims)
+     * Vuelven a APROBADA pero no se reclaman antes de notBefore: no bloquean la cola
+     *
+     * @return Número de misiones diferidas
+     */
+    public CompletableFuture<Integer> defer(ClaimPartition partition) {
+        if (partition.held().isEmpty()) {
+            return CompletableFuture.completedFuture(0);
+        }
+
+        log.warn("Holding back {} missions whose drone is already booked in their window", partition.held().size());
+
+        List<CompletableFuture<Integer>> deferrals = partition.heldIdsByNotBefore().entrySet().stream()
+                .map(entry -> missionRepository.deferClaims(entry.getValue(), entry.getKey()))
+                .toList();
+
+        return CompletableFuture.allOf(deferrals.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> deferrals.stream()
+                        .mapToInt(CompletableFuture::join)
+                        .sum());
+    }
+
+    /**
+     * Libera las reservas de misiones cuyo evento finalmente no se publicó
+     */
+    public void release(Collection<String> missionIds) {
+        DroneBookingRegistry index = bookingIndex.getIfAvailable();
+        if (index != null) {
+            missionIds.forEach(index::release);
+        }
+    }
+
+}
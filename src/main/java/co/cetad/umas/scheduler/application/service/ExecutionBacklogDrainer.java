@@ -0,0 +1,268 @@
+package co.cetad.umas.scheduler.application.service;
+
+import co.cetad.umas.scheduler.domain.model.vo.CatchUpCheckpoint;
+import co.cetad.umas.scheduler.domain.model.vo.Mission;
+import co.cetad.umas.scheduler.domain.model.vo.MissionCursor;
+import co.cetad.umas.scheduler.domain.model.vo.MissionShard;
+import co.cetad.umas.scheduler.domain.ports.out.CatchUpCheckpointRepository;
+import co.cetad.umas.scheduler.domain.ports.out.CatchUpSettings;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static co.cetad.umas.scheduler.domain.ports.out.SchedulingMetrics.JOB_EXECUTION;
+
+/**
+ * Drenado por lotes del atraso de misiones vencidas (modo catch-up del job de ejecución)
+ *
+ * FUNCIONAMIENTO:
+ * 1. MissionSchedulerService cuenta las misiones vencidas sin reclamar; si superan
+ *    scheduler.catch-up.threshold delega aquí en lugar de reclamar un solo lote
+ * 2. Cada lote reclama chunk-size misiones en orden de estimatedDate y las publica
+ *    (o las registra en el outbox) antes de reclamar el siguiente
+ *    El reclamo hace de keyset: las reclamadas salen de APROBADA, así cada lote empieza
+ *    donde terminó el anterior sin OFFSET
+ * 3. Entre lotes espera pacing (sin bloquear hilos); el drenado se corta al agotar
+ *    el atraso, al superar max-duration o si un lote tiene fallos de publicación
+ *    (Kafka sigue caído: las liberadas se reintentan en el siguiente tick)
+ *    Las retenidas por conflicto de dron cuentan como tratadas: quedan diferidas
+ *
+ * CHECKPOINT:
+ * - Tras cada lote se guarda scheduleMissions:catch-up[:bucketCount:bucket] con la última
+ *   misión drenada (estimatedDate, id), las drenadas y el ritmo del drenado
+ * - El reclamo sigue siendo el keyset (las reclamadas salen de APROBADA): el checkpoint no
+ *   filtra el siguiente reclamo, registra desde dónde retoma un drenado posterior (u otra instancia)
+ *   y a qué ritmo iba; al arrancar se informa junto con el atraso
+ * - Un fallo al guardar el checkpoint no corta el drenado
+ *
+ * MÉTRICAS:
+ * - scheduler.catchup.backlog: misiones vencidas pendientes estimadas
+ * - scheduler.catchup.drain.rate: misiones por segundo del drenado en curso (o del último)
+ * - scheduler.catchup.drained: misiones drenadas en modo catch-up
+ */
+@Slf4j
+@Service
+public class ExecutionBacklogDrainer {
+
+    private static final String CHECKPOINT = JOB_EXECUTION + ":catch-up";
+    private static final Comparator<MissionCursor> POSITION_ORDER = Comparator
+            .comparing(MissionCursor::estimatedDate)
+            .thenComparing(MissionCursor::missionId);
+
+    private final CatchUpCheckpointRepository checkpointRepository;
+    private final CatchUpSettings properties;
+
+    private final AtomicLong backlog = new AtomicLong();
+    private final AtomicLong drainRate = new AtomicLong();
+    private final Counter drained;
+
+    public ExecutionBacklogDrainer(
+            CatchUpCheckpointRepository checkpointRepository,
+            CatchUpSettings properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.checkpointRepository = checkpointRepository;
+        this.properties = properties;
+
+        Gauge.builder("scheduler.catchup.backlog", backlog, AtomicLong::get)
+                .description("Misiones vencidas pendientes de reclamo en modo catch-up")
+                .baseUnit("missions")
+                .register(meterRegistry);
+        Gauge.builder("scheduler.catchup.drain.rate", drainRate, AtomicLong::get)
+                .description("Misiones drenadas por segundo en modo catch-up")
+                .baseUnit("missions/s")
+                .register(meterRegistry);
+        this.drained = Counter.builder("scheduler.catchup.drained")
+                .description("Misiones drenadas en modo catch-up")
+                .baseUnit("missions")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Indica si el atraso justifica el modo catch-up
+     */
+    public boolean shouldDrain(long readyMissions) {
+        return properties.isEnabled() && readyMissions >= properties.getThreshold();
+    }
+
+    /**
+     * Drena el atraso lote a lote
+     *
+     * @param shard Buckets de la instancia (define el nombre del checkpoint)
+     * @param readyMissions Atraso detectado al inicio del tick
+     * @param step Reclama y procesa un lote del tamaño indicado
+     * @return CompletableFuture con el número de misiones procesadas
+     */
+    public CompletableFuture<Integer> drain(
+            MissionShard shard,
+            long readyMissions,
+            Function<Integer, CompletableFuture<Chunk>> step
+    ) {
+        Set<String> checkpoints = checkpointNames(shard);
+        backlog.set(readyMissions);
+
+        return checkpointRepository.find(checkpoints)
+                .exceptionally(throwable -> {
+                    log.warn("⚠️ Could not read catch-up checkpoints: {}", throwable.getMessage());
+                    return Map.of();
+                })
+                .thenCompose(previous -> {
+                    log.warn("⏩ Execution backlog of {} missions in {}, draining in chunks of {} (last checkpoint: {})",
+                            readyMissions, shard, properties.getChunkSize(), describe(previous));
+
+                    return nextChunk(new Drain(checkpoints, System.nanoTime()), step);
+                });
+    }
+
+    private CompletableFuture<Integer> nextChunk(Drain drain, Function<Integer, CompletableFuture<Chunk>> step) {
+        return step.apply(properties.getChunkSize())
+                .thenCompose(chunk -> {
+                    drain.record(chunk);
+                    drained.increment(chunk.processed());
+                    backlog.updateAndGet(remaining -> Math.max(remaining - chunk.claimed(), 0));
+                    drainRate.set(drain.ratePerSecond());
+
+                    return checkpoint(drain).thenCompose(saved -> {
+                        String stop = stopReason(drain, chunk);
+                        if (stop != null) {
+                            log.info("Execution catch-up stopped ({}) at {} - {} missions in {} ({} missions/s), ~{} pending",
+                                    stop, drain.last, drain.processed, drain.elapsed(), drainRate.get(), backlog.get());
+                            return CompletableFuture.completedFuture(drain.processed);
+                        }
+
+                        log.debug("Execution catch-up chunk drained up to {} - {} missions ({} held), ~{} pending",
+                                drain.last, chunk.processed(), chunk.held(), backlog.get());
+                        return CompletableFuture.runAsync(() -> { }, paced())
+                                .thenCompose(paused -> nextChunk(drain, step));
+                    });
+                });
+    }
+
+    /**
+     * Guarda la posición alcanzada; sin misiones drenadas aún no hay posición que guardar
+     */
+    private CompletableFuture<Void> checkpoint(Drain drain) {
+        if (drain.last == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        CatchUpCheckpoint checkpoint = new CatchUpCheckpoint(drain.last, drain.processed, drainRate.get());
+        return checkpointRepository.save(drain.checkpoints, checkpoint)
+                .exceptionally(throwable -> {
+                    log.warn("⚠️ Could not save catch-up checkpoint at {}: {}", drain.last, throwable.getMessage());
+                    return null;
+                });
+    }
+
+    private String stopReason(Drain drain, Chunk chunk) {
+        if (chunk.processed() + chunk.held() < chunk.claimed()) {
+            return "publication failures";
+        }
+        if (chunk.claimed() < properties.getChunkSize()) {
+            return "backlog drained";
+        }
+        if (drain.elapsed().compareTo(properties.getMaxDuration()) >= 0) {
+            return "max duration reached";
+        }
+        return null;
+    }
+
+    private Executor paced() {
+        return CompletableFuture.delayedExecutor(properties.getPacing().toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private Set<String> checkpointNames(MissionShard shard) {
+        if (shard.isAll()) {
+            return Set.of(CHECKPOINT);
+        }
+        return shard.buckets().stream()
+                .map(bucket -> CHECKPOINT + ":" + shard.bucketCount() + ":" + bucket)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Checkpoint más atrasado entre los buckets: desde ahí retoma el drenado
+     */
+    private static String describe(Map<String, CatchUpCheckpoint> checkpoints) {
+        return checkpoints.values().stream()
+                .min(Comparator.comparing(CatchUpCheckpoint::position, POSITION_ORDER))
+                .map(checkpoint -> checkpoint.position() + " after " + checkpoint.drained()
+                        + " missions at " + checkpoint.drainRate() + " missions/s")
+                .orElse("none");
+    }
+
+    /**
+     * Resultado de un lote
+     *
+     * @param claimed Misiones reclamadas
+     * @param processed Misiones publicadas (o registradas en el outbox)
+     * @param held Misiones retenidas por conflicto de dron (diferidas, no fallidas)
+     * @param last Última misión reclamada por (estimatedDate, id); null si el lote vino vacío
+     */
+    public record Chunk(int claimed, int processed, int held, MissionCursor last) {
+
+        /**
+         * El RETURNING del reclamo no garantiza orden: la última se toma por (estimatedDate, id)
+         */
+        public static Chunk of(List<Mission> claimed, int processed, int held) {
+            MissionCursor last = claimed.stream()
+                    .map(MissionCursor::after)
+                    .max(POSITION_ORDER)
+                    .orElse(null);
+            return new Chunk(claimed.size(), processed, held, last);
+        }
+
+    }
+
+    /**
+     * Estado de un drenado en curso
+     */
+    private static final class Drain {
+
+        private final Set<String> checkpoints;
+        private final long startedAt;
+        private int processed;
+        private MissionCursor last;
+
+        private Drain(Set<String> checkpoints, long startedAt) {
+            this.checkpoints = checkpoints;
+            this.startedAt = startedAt;
+        }
+
+        void record(Chunk chunk) {
+            processed += chunk.processed();
+            if (chunk.last() != null) {
+                last = chunk.last();
+            }
+        }
+
+        Duration elapsed() {
+            return Duration.ofNanos(System.nanoTime() - startedAt);
+        }
+
+        long ratePerSecond() {
+            long millis = Math.max(elapsed().toMillis(), 1);
+            return processed * 1000L / millis;
+        }
+
+    }
+
+}
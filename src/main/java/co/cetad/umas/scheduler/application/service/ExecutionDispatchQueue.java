@@ -0,0 +1,239 @@
+package co.cetad.umas.scheduler.application.service;
+
+import co.cetad.umas.scheduler.domain.model.dto.MissionExecutionScheduledEvent;
+import co.cetad.umas.scheduler.domain.model.entity.MissionOrigin;
+import co.cetad.umas.scheduler.domain.model.vo.Mission;
+import co.cetad.umas.scheduler.domain.model.vo.PublicationResult;
+import co.cetad.umas.scheduler.domain.ports.out.DispatchQueueSettings;
+import co.cetad.umas.scheduler.domain.ports.out.EventPublisher;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cola de publicación de eventos de ejecución ordenada por plazo (earliest deadline first)
+ *
+ * FUNCIONAMIENTO:
+ * - Cada misión reclamada entra con plazo efectivo = estimatedDate - adelanto de su origen
+ *   (scheduler.dispatch-queue.origin-advance): la más atrasada sale primero
+ * - Como máximo max-in-flight envíos en curso, sumando todos los lotes y jobs;
+ *   al llegar cada ack se toma la siguiente misión de mayor prioridad
+ * - Bajo sobrecarga (Kafka lento, ráfagas del cron y del dispatcher a la vez) las misiones
+ *   más atrasadas reciben la capacidad del producer antes que las recién vencidas,
+ *   en lugar de competir todas a la vez con un orden de ack arbitrario
+ * - Los envíos salen del hilo de drenado (dispatchExecutor), nunca del hilo que encola
+ *   ni del hilo de red del producer: un ack solo marca el drenado como pendiente
+ *   (una sola tarea pendiente a la vez, sin CallerRunsPolicy)
+ * - Los futuros de cada misión se completan en el publishingExecutor: la liberación
+ *   de reclamos y las métricas aguas abajo tampoco corren en el hilo de red
+ *
+ * MÉTRICAS:
+ * - scheduler.dispatch.queue.depth (origin): misiones en espera por origen
+ * - scheduler.dispatch.inflight: envíos en curso
+ * - scheduler.dispatch.queue.wait (origin): tiempo en cola hasta el envío
+ */
+@Slf4j
+@Service
+public class ExecutionDispatchQueue {
+
+    private final EventPublisher<MissionExecutionScheduledEvent> missionExecutionPublisher;
+    private final DispatchQueueSettings properties;
+    private final Executor dispatchExecutor;
+    private final Executor completionExecutor;
+
+    private final PriorityBlockingQueue<Entry> queue = new PriorityBlockingQueue<>(64,
+            Comparator.comparing(Entry::deadline).thenComparingLong(Entry::sequence));
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean drainPending = new AtomicBoolean();
+
+    private final Map<MissionOrigin, AtomicInteger> depths = new EnumMap<>(MissionOrigin.class);
+    private final Map<MissionOrigin, Timer> waits = new EnumMap<>(MissionOrigin.class);
+
+    public ExecutionDispatchQueue(
+            EventPublisher<MissionExecutionScheduledEvent> missionExecutionPublisher,
+            DispatchQueueSettings properties,
+            @Qualifier("dispatchExecutor") Executor dispatchExecutor,
+            @Qualifier("publishingExecutor") Executor completionExecutor,
+            MeterRegistry meterRegistry
+    ) {
+        this.missionExecutionPublisher = missionExecutionPublisher;
+        this.properties = properties;
+        this.dispatchExecutor = dispatchExecutor;
+        this.completionExecutor = completionExecutor;
+
+        for (MissionOrigin origin : MissionOrigin.values()) {
+            AtomicInteger depth = new AtomicInteger();
+            depths.put(origin, depth);
+            Gauge.builder("scheduler.dispatch.queue.depth", depth, AtomicInteger::get)
+                    .description("Misiones en espera de publicación por origen")
+                    .tag("origin", origin.name())
+                    .baseUnit("missions")
+                    .register(meterRegistry);
+            waits.put(origin, Timer.builder("scheduler.dispatch.queue.wait")
+                    .description("Tiempo en cola hasta el envío a Kafka")
+                    .tag("origin", origin.name())
+                    .register(meterRegistry));
+        }
+        Gauge.builder("scheduler.dispatch.inflight", inFlight, AtomicInteger::get)
+                .description("Envíos de eventos de ejecución en curso")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Ordena las misiones por prioridad de despacho (la misma que usa la cola)
+     * Permite que los primeros tramos del gobernador lleven las más atrasadas
+     */
+    public List<Mission> prioritize(List<Mission> missions) {
+        if (!properties.isEnabled()) {
+            return missions;
+        }
+        return missions.stream()
+                .sorted(Comparator.comparing(this::deadline))
+                .toList();
+    }
+
+    /**
+     * Encola los eventos de ejecución de las misiones y espera todos sus acks
+     * Nunca falla en bloque: cada fallo queda en el resultado
+     */
+    public CompletableFuture<PublicationResult<MissionExecutionScheduledEvent>> submit(List<Mission> missions) {
+        List<MissionExecutionScheduledEvent> events = missions.stream()
+                .map(mission -> MissionExecutionScheduledEvent.of(
+                        mission.id(),
+                        mission.name(),
+                        mission.estimatedDate()
+                ))
+                .toList();
+
+        if (!properties.isEnabled() || events.isEmpty()) {
+            return missionExecutionPublisher.publishAll(events);
+        }
+
+        long enqueuedAt = System.nanoTime();
+        List<CompletableFuture<Void>> acks = events.stream()
+                .map(event -> new CompletableFuture<Void>())
+                .toList();
+
+        for (int i = 0; i < missions.size(); i++) {
+            Mission mission = missions.get(i);
+            queue.add(new Entry(events.get(i), mission.missionType(), deadline(mission),
+                    sequence.getAndIncrement(), enqueuedAt, acks.get(i)));
+            depths.get(mission.missionType()).incrementAndGet();
+        }
+
+        scheduleDrain();
+        return PublicationResult.aggregate(events, acks);
+    }
+
+    /**
+     * Marca el drenado como pendiente y, si no lo estaba, lo encarga al dispatchExecutor
+     * Muchos acks seguidos generan una sola tarea; el rechazo (p. ej. al apagar) solo se registra
+     */
+    private void scheduleDrain() {
+        if (!drainPending.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            dispatchExecutor.execute(() -> {
+                drainPending.set(false);
+                drain();
+            });
+        } catch (RejectedExecutionException e) {
+            drainPending.set(false);
+            log.warn("Execution dispatch drain rejected, {} missions remain queued", queue.size(), e);
+        }
+    }
+
+    /**
+     * Lanza envíos mientras haya misiones en cola y lugar en vuelo
+     * Un solo hilo drena a la vez (también si el executor corre las tareas en línea);
+     * tras soltar el turno se vuelve a comprobar: cubre encolados y acks que llegaron mientras tanto
+     */
+    private void drain() {
+        while (!queue.isEmpty()
+                && inFlight.get() < properties.getMaxInFlight()
+                && draining.compareAndSet(false, true)) {
+            try {
+                Entry entry;
+                while (inFlight.get() < properties.getMaxInFlight() && (entry = queue.poll()) != null) {
+                    inFlight.incrementAndGet();
+                    depths.get(entry.origin()).decrementAndGet();
+                    waits.get(entry.origin()).record(System.nanoTime() - entry.enqueuedAt(), TimeUnit.NANOSECONDS);
+                    send(entry);
+                }
+            } finally {
+                draining.set(false);
+            }
+        }
+    }
+
+    private void send(Entry entry) {
+        CompletableFuture<Void> publication;
+        try {
+            publication = missionExecutionPublisher.publish(entry.event());
+        } catch (Exception e) {
+            publication = CompletableFuture.failedFuture(e);
+        }
+
+        publication.whenComplete((ignored, throwable) -> {
+            // El ack llega en el hilo de red del producer: aquí solo se delega trabajo
+            inFlight.decrementAndGet();
+            complete(entry.ack(), throwable);
+            if (!queue.isEmpty()) {
+                scheduleDrain();
+            }
+        });
+    }
+
+    /**
+     * Completa el futuro de la misión fuera del hilo que recibió el ack
+     * Si el publishingExecutor rechaza la tarea se usa el commonPool, nunca el hilo llamante
+     */
+    private void complete(CompletableFuture<Void> ack, Throwable throwable) {
+        Runnable completion = throwable != null
+                ? () -> ack.completeExceptionally(throwable)
+                : () -> ack.complete(null);
+        try {
+            completionExecutor.execute(completion);
+        } catch (RejectedExecutionException e) {
+            ForkJoinPool.commonPool().execute(completion);
+        }
+    }
+
+    private LocalDateTime deadline(Mission mission) {
+        Duration advance = properties.getOriginAdvance().getOrDefault(mission.missionType(), Duration.ZERO);
+        return mission.estimatedDate().minus(advance);
+    }
+
+    private record Entry(
+            MissionExecutionScheduledEvent event,
+            MissionOrigin origin,
+            LocalDateTime deadline,
+            long sequence,
+            long enqueuedAt,
+            CompletableFuture<Void> ack
+    ) {
+    }
+
+}
@@ -3,31 +3,73 @@ package co.cetad.umas.scheduler.application.service;
 import co.cetad.umas.scheduler.domain.model.entity.MissionState;
 import co.cetad.umas.scheduler.domain.model.dto.DronPreparationNotificationEvent;
 import co.cetad.umas.scheduler.domain.model.dto.MissionExecutionScheduledEvent;
+import co.cetad.umas.scheduler.domain.model.vo.ClaimPartition;
 import co.cetad.umas.scheduler.domain.model.vo.Mission;
+import co.cetad.umas.scheduler.domain.model.vo.MissionCursor;
+import co.cetad.umas.scheduler.domain.model.vo.MissionShard;
+import co.cetad.umas.scheduler.domain.model.vo.PublicationResult;
 import co.cetad.umas.scheduler.domain.ports.in.MissionSchedulerUseCase;
 import co.cetad.umas.scheduler.domain.ports.out.EventPublisher;
 import co.cetad.umas.scheduler.domain.ports.out.MissionRepository;
+import co.cetad.umas.scheduler.domain.ports.out.NotifiedMissionRepository;
+import co.cetad.umas.scheduler.domain.ports.out.SchedulingMetrics;
+import co.cetad.umas.scheduler.domain.ports.out.ShardingSettings;
+import co.cetad.umas.scheduler.domain.ports.out.TopicSettings;
+import co.cetad.umas.scheduler.domain.ports.out.WatermarkRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static co.cetad.umas.scheduler.domain.ports.out.SchedulingMetrics.JOB_DISPATCH;
+import static co.cetad.umas.scheduler.domain.ports.out.SchedulingMetrics.JOB_EXECUTION;
+import static co.cetad.umas.scheduler.domain.ports.out.SchedulingMetrics.JOB_NOTIFICATION;
+import static co.cetad.umas.scheduler.domain.ports.out.SchedulingMetrics.JOB_PRELOAD;
 
 /**
  * Servicio de dominio para el scheduling de misiones automáticas
  *
  * RESPONSABILIDADES:
- * 1. Identificar misiones automáticas aprobadas listas para ejecutar
- * 2. Publicar eventos de ejecución cuando llegue la hora
+ * 1. Reclamar atómicamente misiones automáticas aprobadas listas para ejecutar
+ * 2. Publicar eventos de ejecución cuando llegue la hora (una sola vez por misión)
  * 3. Publicar eventos de preparación X minutos antes (con datos enriquecidos)
  *
  * CAMBIOS RECIENTES:
  * - Agregado NotificationEventEnricher para enriquecer eventos de preparación
  * - Modificado notifyUpcomingMissions() para usar enrichAndPublishPreparationNotifications()
- * - El método scheduleReadyMissions() NO tiene cambios
+ * - scheduleReadyMissions() reclama las misiones (APROBADA → EN_EJECUCION) antes de publicar
+ *   y libera las que no se pudieron publicar para reintentarlas en el siguiente tick
+ * - Con scheduler.outbox.enabled el reclamo y el evento se registran en la misma transacción
+ *   y el OutboxRelay entrega a Kafka (no hay publicación directa ni liberación)
+ * - Cada etapa (consulta, enriquecimiento, publicación) se mide con SchedulingMetrics
+ *   etiquetada por job; el dispatch lag se toma con el ack (o con el registro en el outbox)
+ * - notifyUpcomingMissions() escanea de forma incremental desde un watermark persistido
+ *   (scheduler_watermark): cada ejecución cubre exactamente (watermark, now + N], sin importar
+ *   el espaciado del cron ni los ticks retrasados
+ * - Con scheduler.pipeline.mode=reactive el reclamo/publicación y el escaneo/enriquecimiento/
+ *   publicación de cada rango corren en ReactiveMissionPipeline (Flux con backpressure);
+ *   el outbox, cuando está habilitado, sigue teniendo prioridad en la ejecución
+ * - Con scheduler.dispatch-governor.enabled los eventos de ejecución salen por DispatchGovernor:
+ *   ráfagas de misiones con la misma estimatedDate se escalonan a una tasa que sigue
+ *   el lag del consumidor del topic de ejecución
+ * - Los eventos de ejecución se publican por ExecutionDispatchQueue: orden EDF por atraso y origen
+ *   con envíos en curso acotados, en lugar de lanzar todo el lote a la vez
+ * - Antes de publicar, las misiones cuyo dron ya está reservado en su ventana se retienen
+ *   (DroneConflictGuard sobre el índice de intervalos por dron) en lugar de despacharse;
+ *   con outbox el reparto se aplica dentro de la transacción del reclamo
  *
  * CARACTERÍSTICAS:
  * - Asíncrono con CompletableFuture
@@ -42,126 +84,481 @@ public class MissionSchedulerService implements MissionSchedulerUseCase {
 
     private final MissionRepository missionRepository;
     private final NotificationEventEnricher eventEnricher; // ✅ NUEVO
+    private final WatermarkRepository watermarkRepository;
+    private final NotifiedMissionRepository notifiedMissionRepository;
 
-    private final EventPublisher<MissionExecutionScheduledEvent> missionExecutionPublisher;
+    private final ExecutionDispatchQueue dispatchQueue;
 
     private final EventPublisher<DronPreparationNotificationEvent> dronPreparationPublisher;
 
+    private final SchedulingMetrics metrics;
+    private final TopicSettings topics;
+    private final ShardingSettings sharding;
+    private final ObjectProvider<ReactiveMissionPipeline> reactivePipeline;
+    private final ExecutionBacklogDrainer backlogDrainer;
+    private final DispatchGovernor dispatchGovernor;
+    private final DroneConflictGuard droneConflictGuard;
+
     @Value("${scheduler.preparation-notification-minutes:30}")
     private Integer preparationNotificationMinutes;
 
+    @Value("${scheduler.claim-batch-size:1000}")
+    private Integer claimBatchSize;
+
+    @Value("${scheduler.outbox.enabled:false}")
+    private boolean outboxEnabled;
+
     /**
      * Ejecuta el scheduling de misiones listas para ejecutar
-     * ⚠️ SIN CAMBIOS - Mantiene funcionamiento original
+     * Solo ve misiones aún no reclamadas: el costo por tick es proporcional a las nuevas
+     * En modo sharded solo reclama misiones de los buckets de esta instancia
+     * Con un atraso mayor a scheduler.catch-up.threshold lo drena por lotes (ExecutionBacklogDrainer)
      */
     @Override
-    public CompletableFuture<Integer> scheduleReadyMissions() {
+    public CompletableFuture<Integer> scheduleReadyMissions(MissionShard shard) {
+        if (shard.isEmpty()) {
+            log.debug("No buckets assigned, skipping mission scheduling");
+            return CompletableFuture.completedFuture(0);
+        }
         log.info("Starting mission scheduling process");
 
-        return findReadyMissions()
-                .thenCompose(this::publishExecutionEvents)
-                .thenApply(this::countSuccessfulPublications)
+        ReactiveMissionPipeline pipeline = reactivePipeline.getIfAvailable();
+        if (!outboxEnabled && pipeline != null) {
+            return pipeline.scheduleReadyMissions(shard)
+                    .whenComplete(this::logSchedulingResult);
+        }
+
+        CompletableFuture<Long> readyMissions = backlogDrainer.isEnabled()
+                ? metrics.timeQuery(JOB_EXECUTION, "countReadyMissions",
+                        () -> missionRepository.countReadyMissions(LocalDateTime.now(), shard))
+                : CompletableFuture.completedFuture(0L);
+
+        return readyMissions
+                .thenCompose(backlog -> backlogDrainer.shouldDrain(backlog)
+                        ? backlogDrainer.drain(shard, backlog, limit -> claimAndProcessChunk(shard, limit))
+                        : claimReadyMissions(shard))
                 .whenComplete(this::logSchedulingResult);
     }
 
     /**
      * Ejecuta el proceso de notificación de preparación de drones
      * ✅ MODIFICADO - Ahora usa enrichAndPublishPreparationNotifications
+     *
+     * WATERMARK:
+     * - Rango escaneado: (max(watermark, now), now + N]
+     * - Sin watermark previo arranca en now + N - 1 (la franja que cubría el job original)
+     * - Tras publicar, el watermark avanza hasta la última misión contigua notificada
+     *   (NotificationWatermark); si una falla o no produjo evento, ella y las posteriores
+     *   se vuelven a escanear en la siguiente ejecución
+     * - Las posteriores al hueco que sí se notificaron se registran (NotifiedMissionRepository)
+     *   y el reescaneo no las vuelve a publicar; los registros ya vencidos se purgan en cada ejecución
+     * - En modo sharded hay un watermark por bucket (aunque la instancia tenga todos);
+     *   los buckets con el mismo watermark se escanean juntos
      */
     @Override
-    public CompletableFuture<Integer> notifyUpcomingMissions() {
+    public CompletableFuture<Integer> notifyUpcomingMissions(MissionShard shard) {
+        if (shard.isEmpty()) {
+            log.debug("No buckets assigned, skipping preparation notifications");
+            return CompletableFuture.completedFuture(0);
+        }
         log.info("Starting upcoming missions notification process");
 
-        return findUpcomingMissions()
-                .thenCompose(this::enrichAndPublishPreparationNotifications) // ✅ CAMBIADO
-                .thenApply(this::countSuccessfulPublications)
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime notificationWindow = now.plusMinutes(preparationNotificationMinutes);
+        Map<String, Integer> bucketByWatermark = notificationWatermarks(shard);
+
+        return purgeNotifiedBefore(now)
+                .thenCompose(purged -> watermarkRepository.find(bucketByWatermark.keySet()))
+                .thenCompose(watermarks -> {
+                    List<NotificationRange> ranges = notificationRanges(
+                            shard, bucketByWatermark, watermarks, now, notificationWindow);
+
+                    List<CompletableFuture<Integer>> runs = ranges.stream()
+                            .map(range -> notifyRange(range, notificationWindow))
+                            .toList();
+
+                    return CompletableFuture.allOf(runs.toArray(CompletableFuture[]::new))
+                            .thenApply(ignored -> runs.stream()
+                                    .mapToInt(CompletableFuture::join)
+                                    .sum());
+                })
                 .whenComplete(this::logNotificationResult);
     }
 
     /**
-     * Busca misiones automáticas aprobadas cuya hora de ejecución ha llegado
-     * ⚠️ SIN CAMBIOS
+     * Busca misiones que vencen dentro de la ventana del dispatcher en memoria
      */
-    private CompletableFuture<List<Mission>> findReadyMissions() {
+    @Override
+    public CompletableFuture<List<Mission>> findMissionsDueWithin(Duration lookahead, MissionShard shard) {
         LocalDateTime now = LocalDateTime.now();
 
-        return missionRepository.findByStateAndIsAutomaticAndEstimatedDateBefore(
-                MissionState.APROBADA,
-                true,
-                now
-        );
+        return metrics.timeQuery(JOB_PRELOAD, "findMissionsDueWithin",
+                () -> missionRepository.findByStateAndIsAutomaticAndEstimatedDateBetween(
+                        MissionState.APROBADA,
+                        true,
+                        now,
+                        now.plus(lookahead),
+                        shard
+                ));
     }
 
     /**
-     * Busca misiones que se ejecutarán en X minutos
-     * ⚠️ SIN CAMBIOS
+     * Publica eventos de ejecución para las misiones que el dispatcher encontró vencidas
      */
-    private CompletableFuture<List<Mission>> findUpcomingMissions() {
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime notificationWindow = now.plusMinutes(preparationNotificationMinutes);
+    @Override
+    public CompletableFuture<Integer> dispatchMissions(List<Mission> missions) {
+        log.debug("Dispatching {} due missions", missions.size());
 
-        return missionRepository.findByStateAndIsAutomaticAndEstimatedDateBetween(
-                MissionState.APROBADA,
-                true,
-                now.plusMinutes(preparationNotificationMinutes - 1), // Evitar duplicados
-                notificationWindow
-        );
+        List<String> missionIds = missions.stream()
+                .map(Mission::id)
+                .toList();
+
+        if (outboxEnabled) {
+            return stageIntoOutbox(JOB_DISPATCH, "claimMissionsIntoOutbox",
+                            partitioner -> missionRepository.claimMissionsIntoOutbox(
+                                    missionIds, LocalDateTime.now(), partitioner))
+                    .thenApply(partition -> partition.released().size())
+                    .whenComplete(this::logSchedulingResult);
+        }
+
+        return metrics.timeQuery(JOB_DISPATCH, "claimMissions",
+                        () -> missionRepository.claimMissions(missionIds, LocalDateTime.now()))
+                .thenCompose(claimed -> publishExecutionEvents(JOB_DISPATCH, claimed))
+                .thenApply(ExecutionBacklogDrainer.Chunk::processed)
+                .whenComplete(this::logSchedulingResult);
     }
 
     /**
-     * Publica eventos de ejecución para cada misión
-     * ⚠️ SIN CAMBIOS
+     * Reclama y procesa un lote de misiones listas: un tick normal o un lote de catch-up
+     * Con outbox el reclamo registra los eventos; sin él se publican y las fallidas se liberan
      */
-    private CompletableFuture<List<Void>> publishExecutionEvents(List<Mission> missions) {
-        log.debug("Publishing execution events for {} missions", missions.size());
+    private CompletableFuture<Integer> claimReadyMissions(MissionShard shard) {
+        return claimAndProcessChunk(shard, claimBatchSize)
+                .thenApply(ExecutionBacklogDrainer.Chunk::processed);
+    }
 
-        List<CompletableFuture<Void>> publications = missions.stream()
-                .map(this::createExecutionEvent)
-                .map(missionExecutionPublisher::publish)
-                .toList();
+    private CompletableFuture<ExecutionBacklogDrainer.Chunk> claimAndProcessChunk(MissionShard shard, int limit) {
+        if (outboxEnabled) {
+            return stageIntoOutbox(JOB_EXECUTION, "claimReadyMissionsIntoOutbox",
+                            partitioner -> missionRepository.claimReadyMissionsIntoOutbox(
+                                    LocalDateTime.now(), limit, shard, partitioner))
+                    .thenApply(partition -> ExecutionBacklogDrainer.Chunk.of(
+                            partition.claimed(), partition.released().size(), partition.held().size()));
+        }
 
-        return CompletableFuture.allOf(publications.toArray(new CompletableFuture[0]))
-                .thenApply(v -> publications.stream()
-                        .map(CompletableFuture::join)
-                        .toList());
+        return metrics.timeQuery(JOB_EXECUTION, "claimReadyMissions",
+                        () -> missionRepository.claimReadyMissions(LocalDateTime.now(), limit, shard))
+                .thenCompose(missions -> publishExecutionEvents(JOB_EXECUTION, missions));
     }
 
     /**
-     * Enriquece y publica eventos de preparación de dron
-     * ✅ NUEVO MÉTODO - Usa NotificationEventEnricher para obtener datos del dron y operador
+     * Publica los eventos de ejecución de misiones reclamadas
+     * Salen por ExecutionDispatchQueue (las más atrasadas primero) al ritmo de DispatchGovernor
+     * Las que reservarían un dron ya ocupado se retienen (DroneConflictGuard) y se difieren
+     * Las que fallan se liberan (vuelven a APROBADA) para reintentarse en el siguiente tick
+     * Las confirmadas por Kafka confirman su reclamo (confirmClaims): si la instancia cae
+     * antes, el reaper libera el reclamo pasado scheduler.claim-reaper.timeout
+     *
+     * @return Lote con las reclamadas, las publicadas correctamente y las retenidas
      */
-    private CompletableFuture<List<Void>> enrichAndPublishPreparationNotifications(List<Mission> missions) {
-        log.debug("Enriching and publishing preparation notifications for {} missions", missions.size());
+    private CompletableFuture<ExecutionBacklogDrainer.Chunk> publishExecutionEvents(String job, List<Mission> missions) {
+        log.debug("Publishing execution events for {} claimed missions", missions.size());
+        metrics.recordTickMissions(job, missions.size());
+
+        return droneConflictGuard.partition(dispatchQueue.prioritize(missions))
+                .thenCompose(partition -> publishReleased(job, missions, partition));
+    }
+
+    /**
+     * Difiere las retenidas y publica las despachadas de un lote ya repartido
+     */
+    private CompletableFuture<ExecutionBacklogDrainer.Chunk> publishReleased(
+            String job,
+            List<Mission> claimed,
+            ClaimPartition partition
+    ) {
+        int held = partition.held().size();
+
+        return droneConflictGuard.defer(partition)
+                .thenCompose(deferred -> metrics.timePublish(job, topics.getExecute(),
+                        () -> dispatchGovernor.throttle(partition.released(), dispatchQueue::submit,
+                                mission -> MissionExecutionScheduledEvent.of(
+                                        mission.id(), mission.name(), mission.estimatedDate()))))
+                .thenCompose(result -> {
+                    LocalDateTime ackedAt = LocalDateTime.now();
+                    result.published().forEach(event ->
+                            metrics.recordDispatchLag(job, event.scheduledAt(), ackedAt));
+
+                    ExecutionBacklogDrainer.Chunk chunk =
+                            ExecutionBacklogDrainer.Chunk.of(claimed, result.publishedCount(), held);
+                    CompletableFuture<Integer> confirmed = confirmClaims(result.published().stream()
+                            .map(MissionExecutionScheduledEvent::missionId)
+                            .toList());
+                    if (!result.hasFailures()) {
+                        return confirmed.thenApply(ignored -> chunk);
+                    }
+
+                    List<String> failedIds = result.failures().stream()
+                            .map(failure -> failure.event().missionId())
+                            .toList();
+
+                    log.warn("Releasing {} missions whose execution event could not be published",
+                            failedIds.size());
+                    droneConflictGuard.release(failedIds);
+                    return confirmed.thenCompose(ignored -> missionRepository.releaseClaims(failedIds))
+                            .thenApply(released -> chunk);
+                });
+    }
+
+    /**
+     * Confirma los reclamos de misiones publicadas
+     * Un fallo no falla el tick: el reaper liberaría esos reclamos y el evento se repetiría
+     * (at-least-once, el consumidor ya tolera duplicados)
+     */
+    private CompletableFuture<Integer> confirmClaims(List<String> missionIds) {
+        return missionRepository.confirmClaims(missionIds)
+                .exceptionally(throwable -> {
+                    log.warn("⚠️ Could not confirm {} published claims, the reaper may release them: {}",
+                            missionIds.size(), throwable.getMessage());
+                    return 0;
+                });
+    }
 
-        List<CompletableFuture<Void>> publications = missions.stream()
-                .map(mission -> eventEnricher.enrichNotificationEvent(mission, preparationNotificationMinutes))
-                .map(eventFuture -> eventFuture.thenCompose(dronPreparationPublisher::publish))
+    /**
+     * Reclama misiones directamente en el outbox
+     * El reparto se aplica dentro de la transacción del reclamo, igual que al publicar:
+     * orden de ExecutionDispatchQueue y retención por DroneConflictGuard (las retenidas se difieren)
+     * Si la transacción falla se liberan las reservas de dron que hizo el reparto
+     * El ritmo de envío a Kafka lo marca OutboxRelay: DispatchGovernor no interviene
+     *
+     * @param claim Reclamo con outbox que recibe el reparto
+     * @return Reparto aplicado por la transacción confirmada
+     */
+    private CompletableFuture<ClaimPartition> stageIntoOutbox(
+            String job,
+            String query,
+            Function<Function<List<Mission>, CompletableFuture<ClaimPartition>>, CompletableFuture<ClaimPartition>> claim
+    ) {
+        AtomicReference<ClaimPartition> reserved = new AtomicReference<>();
+        Function<List<Mission>, CompletableFuture<ClaimPartition>> partitioner = claimed ->
+                droneConflictGuard.partition(dispatchQueue.prioritize(claimed))
+                        .thenApply(partition -> {
+                            reserved.set(partition);
+                            return partition;
+                        });
+
+        return metrics.timeQuery(job, query, () -> claim.apply(partitioner))
+                .whenComplete((partition, throwable) -> {
+                    ClaimPartition uncommitted = reserved.get();
+                    if (throwable != null && uncommitted != null) {
+                        droneConflictGuard.release(uncommitted.released().stream()
+                                .map(Mission::id)
+                                .toList());
+                    }
+                })
+                .thenApply(partition -> recordStagedMissions(job, partition));
+    }
+
+    /**
+     * Registra métricas de misiones reclamadas directamente en el outbox
+     * El lag se toma al confirmar la transacción; el relay añade su intervalo de drenado
+     */
+    private ClaimPartition recordStagedMissions(String job, ClaimPartition partition) {
+        metrics.recordTickMissions(job, partition.claimed().size());
+
+        LocalDateTime stagedAt = LocalDateTime.now();
+        partition.released().forEach(mission -> metrics.recordDispatchLag(job, mission.estimatedDate(), stagedAt));
+
+        if (!partition.held().isEmpty()) {
+            log.warn("Held back {} missions whose drone is already booked in their window", partition.held().size());
+        }
+        return partition;
+    }
+
+    /**
+     * Escanea, notifica y avanza el watermark de un rango
+     *
+     * @return Número de notificaciones publicadas correctamente
+     */
+    private CompletableFuture<Integer> notifyRange(NotificationRange range, LocalDateTime notificationWindow) {
+        ReactiveMissionPipeline pipeline = reactivePipeline.getIfAvailable();
+        if (pipeline != null) {
+            return findNotifiedBetween(range.after(), notificationWindow)
+                    .thenCompose(alreadyNotified -> pipeline.notifyRange(range.after(), notificationWindow,
+                            range.shard(), preparationNotificationMinutes, alreadyNotified,
+                            this::recordNotifiedPastGap))
+                    .thenCompose(outcome -> watermarkRepository.advance(range.watermarks(), outcome.watermark())
+                            .thenApply(ignored -> outcome.published()));
+        }
+
+        return findNotifiedBetween(range.after(), notificationWindow)
+                .thenCompose(alreadyNotified -> metrics.timeQuery(JOB_NOTIFICATION, "findUpcomingMissions",
+                                () -> findUpcomingMissions(range.after(), notificationWindow, range.shard()))
+                        .thenCompose(missions -> enrichAndPublishPreparationNotifications(
+                                        pendingNotification(missions, alreadyNotified))
+                                .thenCompose(result -> {
+                                    NotificationWatermark watermark = NotificationWatermark.start(range.after())
+                                            .apply(missions, result, alreadyNotified);
+                                    return recordNotifiedPastGap(watermark.pastGap())
+                                            .thenCompose(ignored -> watermarkRepository.advance(
+                                                    range.watermarks(), watermark.next(notificationWindow)))
+                                            .thenApply(ignored -> result.publishedCount());
+                                })));
+    }
+
+    /**
+     * Misiones del rango ya notificadas más allá de un hueco anterior
+     * Si la lectura falla se publican de nuevo (at-least-once, como antes del registro)
+     */
+    private CompletableFuture<Set<MissionCursor>> findNotifiedBetween(LocalDateTime after, LocalDateTime before) {
+        return metrics.timeQuery(JOB_NOTIFICATION, "findNotifiedMissions",
+                        () -> notifiedMissionRepository.findNotifiedBetween(after, before))
+                .exceptionally(throwable -> {
+                    log.warn("⚠️ Could not read missions notified past the watermark, they may be notified again: {}",
+                            throwable.getMessage());
+                    return Set.of();
+                });
+    }
+
+    private static List<Mission> pendingNotification(List<Mission> missions, Set<MissionCursor> alreadyNotified) {
+        if (alreadyNotified.isEmpty()) {
+            return missions;
+        }
+        return missions.stream()
+                .filter(mission -> !alreadyNotified.contains(MissionCursor.after(mission)))
                 .toList();
+    }
+
+    /**
+     * Registra las notificadas por delante del watermark detenido
+     * Un fallo no falla el tick: esas misiones se volverían a notificar (at-least-once)
+     */
+    private CompletableFuture<Void> recordNotifiedPastGap(List<Mission> missions) {
+        if (missions.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        log.info("Recording {} missions notified past the notification watermark", missions.size());
+        return notifiedMissionRepository.record(missions)
+                .exceptionally(throwable -> {
+                    log.warn("⚠️ Could not record {} missions notified past the watermark, they may be notified again: {}",
+                            missions.size(), throwable.getMessage());
+                    return null;
+                });
+    }
 
-        return CompletableFuture.allOf(publications.toArray(new CompletableFuture[0]))
-                .thenApply(v -> publications.stream()
-                        .map(CompletableFuture::join)
-                        .toList());
+    /**
+     * Purga los registros de misiones ya vencidas: ningún rango vuelve a escanearlas
+     */
+    private CompletableFuture<Integer> purgeNotifiedBefore(LocalDateTime now) {
+        return notifiedMissionRepository.purgeBefore(now)
+                .exceptionally(throwable -> {
+                    log.warn("⚠️ Could not purge notified missions: {}", throwable.getMessage());
+                    return 0;
+                });
     }
 
     /**
-     * Crea un evento de ejecución desde una misión
-     * ⚠️ SIN CAMBIOS
+     * Busca misiones que se ejecutarán en X minutos y aún no fueron notificadas
      */
-    private MissionExecutionScheduledEvent createExecutionEvent(Mission mission) {
-        return MissionExecutionScheduledEvent.of(
-                mission.id(),
-                mission.name(),
-                mission.estimatedDate()
+    private CompletableFuture<List<Mission>> findUpcomingMissions(
+            LocalDateTime after,
+            LocalDateTime notificationWindow,
+            MissionShard shard
+    ) {
+        return missionRepository.findByStateAndIsAutomaticAndEstimatedDateBetween(
+                MissionState.APROBADA,
+                true,
+                after,
+                notificationWindow,
+                shard
         );
     }
 
     /**
-     * Cuenta las publicaciones exitosas
-     * ⚠️ SIN CAMBIOS
+     * Nombre del watermark de notificación para cada bucket del shard
+     * Sin sharding hay un único watermark global; con sharding siempre uno por bucket,
+     * también cuando una réplica sola tiene todos los buckets (si no, al entrar otra
+     * réplica se cambiaría de espacio de nombres y se perdería el progreso)
+     */
+    private Map<String, Integer> notificationWatermarks(MissionShard shard) {
+        if (!sharding.isEnabled()) {
+            return Map.of(JOB_NOTIFICATION, 0);
+        }
+        return shard.buckets().stream()
+                .collect(Collectors.toMap(
+                        bucket -> JOB_NOTIFICATION + ":" + shard.bucketCount() + ":" + bucket,
+                        bucket -> bucket
+                ));
+    }
+
+    /**
+     * Agrupa los buckets por su límite inferior de escaneo (normalmente uno solo)
      */
-    private Integer countSuccessfulPublications(List<Void> results) {
-        return results.size();
+    private List<NotificationRange> notificationRanges(
+            MissionShard shard,
+            Map<String, Integer> bucketByWatermark,
+            Map<String, LocalDateTime> watermarks,
+            LocalDateTime now,
+            LocalDateTime notificationWindow
+    ) {
+        LocalDateTime initial = notificationWindow.minusMinutes(1);
+        Map<LocalDateTime, Set<String>> namesByLowerBound = new TreeMap<>();
+
+        bucketByWatermark.keySet().forEach(name -> {
+            LocalDateTime watermark = watermarks.get(name);
+            // Misiones ya vencidas no se notifican; tampoco se retrocede tras un apagado largo
+            LocalDateTime lowerBound = watermark == null
+                    ? initial
+                    : watermark.isBefore(now) ? now : watermark;
+            namesByLowerBound.computeIfAbsent(lowerBound, ignored -> new TreeSet<>()).add(name);
+        });
+
+        return namesByLowerBound.entrySet().stream()
+                .filter(entry -> entry.getKey().isBefore(notificationWindow))
+                .map(entry -> new NotificationRange(
+                        entry.getKey(),
+                        shard.isAll()
+                                ? shard
+                                : new MissionShard(shard.bucketCount(), entry.getValue().stream()
+                                        .map(bucketByWatermark::get)
+                                        .collect(Collectors.toSet())),
+                        entry.getValue()
+                ))
+                .toList();
+    }
+
+    /**
+     * Enriquece y publica eventos de preparación de dron
+     * Enriquece todo el lote de una vez (consultas IN) y luego publica cada evento
+     */
+    private CompletableFuture<PublicationResult<DronPreparationNotificationEvent>> enrichAndPublishPreparationNotifications(
+            List<Mission> missions
+    ) {
+        log.debug("Enriching and publishing preparation notifications for {} missions", missions.size());
+        metrics.recordTickMissions(JOB_NOTIFICATION, missions.size());
+
+        return metrics.timeEnrichment(JOB_NOTIFICATION,
+                        () -> eventEnricher.enrichNotificationEvents(missions, preparationNotificationMinutes))
+                .thenCompose(this::publishPreparationEvents);
+    }
+
+    /**
+     * Publica los eventos de preparación ya enriquecidos en un solo lote
+     *
+     * @return Resultado del lote (publicados y fallidos)
+     */
+    private CompletableFuture<PublicationResult<DronPreparationNotificationEvent>> publishPreparationEvents(
+            List<DronPreparationNotificationEvent> events
+    ) {
+        return metrics.timePublish(JOB_NOTIFICATION, topics.getNotification(),
+                        () -> dronPreparationPublisher.publishAll(events))
+                .whenComplete((result, throwable) -> {
+                    if (result != null) {
+                        result.failures().forEach(failure ->
+                                log.error("Error publishing preparation notification for mission: {}",
+                                        failure.event().missionId(), failure.cause()));
+                    }
+                });
     }
 
     /**
@@ -188,4 +585,14 @@ public class MissionSchedulerService implements MissionSchedulerUseCase {
         }
     }
 
-}
\ No newline at end of file
+    /**
+     * Rango de notificación (after, notificationWindow] de un grupo de buckets
+     */
+    private record NotificationRange(
+            LocalDateTime after,
+            MissionShard shard,
+            Set<String> watermarks
+    ) {
+    }
+
+}
@@ -2,19 +2,21 @@ package co.cetad.umas.scheduler.application.service;
 
 import co.cetad.umas.scheduler.domain.model.dto.DronPreparationNotificationEvent;
 import co.cetad.umas.scheduler.domain.model.entity.DroneEntity;
-import co.cetad.umas.scheduler.domain.model.entity.DroneMissionAssignmentEntity;
 import co.cetad.umas.scheduler.domain.model.entity.OperatorEntity;
 import co.cetad.umas.scheduler.domain.model.vo.Mission;
-import co.cetad.umas.scheduler.infrastructure.persistence.postgresql.repository.R2dbcDroneMissionAssignmentRepository;
-import co.cetad.umas.scheduler.infrastructure.persistence.postgresql.repository.R2dbcDroneRepository;
-import co.cetad.umas.scheduler.infrastructure.persistence.postgresql.repository.R2dbcOperatorRepository;
+import co.cetad.umas.scheduler.domain.ports.out.EnrichmentLookup;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
-import java.util.Optional;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
 
 /**
  * Servicio de dominio para enriquecer eventos de notificación
@@ -24,8 +26,12 @@ import java.util.concurrent.CompletableFuture;
  * 2. Obtener información del operador de la misión
  * 3. Construir el evento completo de notificación con todos los datos necesarios
  *
- * FLUJO:
- * Mission → buscar asignación → buscar dron → buscar operador → evento enriquecido
+ * FLUJO (por lote):
+ * Missions → asignaciones (IN) → drones (IN) → operadores (IN) → eventos enriquecidos
+ * El número de consultas es constante por lote, no por misión
+ * Drones, operadores y asignaciones se leen a través de EnrichmentLookup (EnrichmentLookupCache):
+ * solo las claves que no están en cache llegan a la BD (JPA o R2DBC según scheduler.persistence.adapter)
+ * Las búsquedas se componen de forma asíncrona; los operadores se resuelven en paralelo
  *
  * VALORES POR DEFECTO:
  * - Si no hay dron asignado: vehicleId="UNKNOWN", vehicleName="Not Assigned"
@@ -36,9 +42,14 @@ import java.util.concurrent.CompletableFuture;
 @RequiredArgsConstructor
 public class NotificationEventEnricher {
 
-    private final R2dbcDroneMissionAssignmentRepository assignmentRepository;
-    private final R2dbcDroneRepository droneRepository;
-    private final R2dbcOperatorRepository operatorRepository;
+    private static final String UNKNOWN_VEHICLE_ID = "UNKNOWN";
+    private static final String UNASSIGNED_VEHICLE_NAME = "Not Assigned";
+    private static final String DEFAULT_RECIPIENT_EMAIL = "no-reply@umas.co";
+
+    private final EnrichmentLookup lookupCache;
+
+    @Qualifier("enrichmentExecutor")
+    private final Executor enrichmentExecutor;
 
     /**
      * Enriquece una misión con datos de dron y operador para crear el evento de notificación
@@ -51,66 +62,115 @@ public class NotificationEventEnricher {
             Mission mission,
             Integer minutesBeforeExecution
     ) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                log.debug("Enriching notification event for mission: {}", mission.id());
-
-                UUID missionId = UUID.fromString(mission.id());
-                UUID operatorId = UUID.fromString(mission.operatorId());
-
-                // Obtener asignación de dron
-                Optional<DroneMissionAssignmentEntity> assignmentOpt =
-                        assignmentRepository.findFirstByMissionId(missionId);
-
-                // Obtener información del dron si está asignado
-                String vehicleId = "UNKNOWN";
-                String vehicleName = "Not Assigned";
-
-                if (assignmentOpt.isPresent()) {
-                    UUID droneId = assignmentOpt.get().getDroneId();
-                    Optional<DroneEntity> droneOpt = droneRepository.findById(droneId);
-
-                    if (droneOpt.isPresent()) {
-                        DroneEntity drone = droneOpt.get();
-                        vehicleId = drone.getVehicleId();
-                        vehicleName = drone.getName();
-                        log.debug("Found drone assignment - vehicleId: {}, vehicleName: {}",
-                                vehicleId, vehicleName);
-                    } else {
-                        log.warn("Drone not found for mission: {}, droneId: {}", mission.id(), droneId);
-                    }
-                } else {
-                    log.warn("No drone assignment found for mission: {}", mission.id());
-                }
-
-                // Obtener email del operador
-                String recipientEmail = operatorRepository.findById(operatorId)
-                        .map(OperatorEntity::getEmail)
-                        .orElseGet(() -> {
-                            log.warn("Operator not found for mission: {}, operatorId: {}",
-                                    mission.id(), operatorId);
-                            return "no-reply@umas.co";
-                        });
-
-                log.debug("Enriched notification - vehicleId: {}, vehicleName: {}, recipientEmail: {}",
-                        vehicleId, vehicleName, recipientEmail);
-
-                // Construir evento enriquecido
-                return DronPreparationNotificationEvent.of(
-                        mission.id(),
-                        mission.name(),
-                        vehicleId,
-                        vehicleName,
-                        mission.estimatedDate(),
-                        minutesBeforeExecution,
-                        recipientEmail
-                );
-
-            } catch (Exception e) {
-                log.error("Error enriching notification event for mission: {}", mission.id(), e);
-                throw new RuntimeException("Failed to enrich notification event", e);
-            }
-        });
+        return enrichNotificationEvents(List.of(mission), minutesBeforeExecution)
+                .thenApply(events -> events.get(0));
+    }
+
+    /**
+     * Enriquece un lote de misiones resolviendo asignaciones, drones y operadores
+     * con consultas IN (...) en lugar de tres consultas por misión
+     *
+     * @param missions Misiones a enriquecer
+     * @param minutesBeforeExecution Minutos antes de la ejecución
+     * @return CompletableFuture con los eventos enriquecidos, en el mismo orden de las misiones
+     */
+    public CompletableFuture<List<DronPreparationNotificationEvent>> enrichNotificationEvents(
+            List<Mission> missions,
+            Integer minutesBeforeExecution
+    ) {
+        if (missions.isEmpty()) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+
+        log.debug("Enriching notification events for {} missions", missions.size());
+
+        // Primera asignación (por assignedAt) de cada misión y, con ella, los drones
+        CompletableFuture<Map<UUID, UUID>> droneIdsFuture = lookupCache.findFirstDroneIdByMission(
+                missions.stream()
+                        .map(mission -> UUID.fromString(mission.id()))
+                        .collect(Collectors.toSet())
+        );
+        CompletableFuture<Map<UUID, DroneEntity>> dronesFuture = droneIdsFuture.thenCompose(droneIdByMission ->
+                lookupCache.findDrones(Set.copyOf(droneIdByMission.values())));
+
+        // Operadores en paralelo a la cadena asignaciones → drones
+        CompletableFuture<Map<UUID, OperatorEntity>> operatorsFuture = lookupCache.findOperators(
+                missions.stream()
+                        .map(mission -> UUID.fromString(mission.operatorId()))
+                        .collect(Collectors.toSet())
+        );
+
+        // La construcción de eventos corre en el enrichmentExecutor, no en el hilo que completó la consulta
+        return dronesFuture.thenCombineAsync(operatorsFuture, (dronesById, operatorsById) -> {
+                    Map<UUID, UUID> droneIdByMission = droneIdsFuture.join();
+
+                    List<DronPreparationNotificationEvent> events = missions.stream()
+                            .map(mission -> toNotificationEvent(
+                                    mission,
+                                    minutesBeforeExecution,
+                                    droneIdByMission,
+                                    dronesById,
+                                    operatorsById
+                            ))
+                            .toList();
+
+                    log.debug("Enriched {} notification events - {} drones, {} operators resolved",
+                            events.size(), dronesById.size(), operatorsById.size());
+
+                    return events;
+                }, enrichmentExecutor)
+                .exceptionally(throwable -> {
+                    log.error("Error enriching notification events for {} missions", missions.size(), throwable);
+                    throw new RuntimeException("Failed to enrich notification events", throwable);
+                });
+    }
+
+    /**
+     * Construye el evento de una misión a partir de los datos ya resueltos del lote
+     */
+    private DronPreparationNotificationEvent toNotificationEvent(
+            Mission mission,
+            Integer minutesBeforeExecution,
+            Map<UUID, UUID> droneIdByMission,
+            Map<UUID, DroneEntity> dronesById,
+            Map<UUID, OperatorEntity> operatorsById
+    ) {
+        UUID missionId = UUID.fromString(mission.id());
+        UUID operatorId = UUID.fromString(mission.operatorId());
+
+        // Obtener información del dron si está asignado
+        String vehicleId = UNKNOWN_VEHICLE_ID;
+        String vehicleName = UNASSIGNED_VEHICLE_NAME;
+
+        UUID droneId = droneIdByMission.get(missionId);
+        if (droneId == null) {
+            log.warn("No drone assignment found for mission: {}", mission.id());
+        } else if (!dronesById.containsKey(droneId)) {
+            log.warn("Drone not found for mission: {}, droneId: {}", mission.id(), droneId);
+        } else {
+            DroneEntity drone = dronesById.get(droneId);
+            vehicleId = drone.getVehicleId();
+            vehicleName = drone.getName();
+        }
+
+        // Obtener email del operador
+        OperatorEntity operator = operatorsById.get(operatorId);
+        String recipientEmail = DEFAULT_RECIPIENT_EMAIL;
+        if (operator == null) {
+            log.warn("Operator not found for mission: {}, operatorId: {}", mission.id(), operatorId);
+        } else {
+            recipientEmail = operator.getEmail();
+        }
+
+        return DronPreparationNotificationEvent.of(
+                mission.id(),
+                mission.name(),
+                vehicleId,
+                vehicleName,
+                mission.estimatedDate(),
+                minutesBeforeExecution,
+                recipientEmail
+        );
     }
 
-}
\ No newline at end of file
+}
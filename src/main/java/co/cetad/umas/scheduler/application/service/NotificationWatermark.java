@@ -0,0 +1,113 @@
+package co.cetad.umas.scheduler.application.service;
+
+import co.cetad.umas.scheduler.domain.model.dto.DronPreparationNotificationEvent;
+import co.cetad.umas.scheduler.domain.model.vo.Mission;
+import co.cetad.umas.scheduler.domain.model.vo.MissionCursor;
+import co.cetad.umas.scheduler.domain.model.vo.PublicationResult;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Avance del watermark de notificación sobre las misiones escaneadas de un rango
+ * Única implementación para MissionSchedulerService y ReactiveMissionPipeline
+ *
+ * FUNCIONAMIENTO:
+ * - Los lotes llegan en orden de estimatedDate; cada lote trae las misiones escaneadas
+ *   y el resultado de publicar sus eventos
+ * - Una misión cuenta como notificada si su evento está entre los publicados o si ya se
+ *   había notificado más allá de un hueco anterior (NotifiedMissionRepository);
+ *   las que fallan y las que no produjeron evento (p. ej. descartadas al enriquecer) detienen el avance
+ * - El watermark avanza por grupos de misiones con la misma estimatedDate: un grupo
+ *   con una misión sin notificar deja el watermark en el grupo anterior, aunque
+ *   el grupo haya quedado repartido entre dos lotes
+ * - Tras el primer hueco los lotes siguientes ya no avanzan el watermark
+ *
+ * HUECOS:
+ * - Las misiones publicadas que quedan por delante del watermark detenido se devuelven
+ *   en pastGap (las del lote, más las del grupo retrocedido de lotes anteriores): quien aplica
+ *   el lote las registra para no volver a publicarlas cuando el siguiente tick reescanee desde el hueco
+ * - lastGroup retiene solo las publicadas del último grupo (misma estimatedDate) mientras no hay hueco
+ *
+ * @param watermark Mayor fecha hasta la que todas las misiones quedaron notificadas
+ * @param previous Watermark antes del último grupo (si ese grupo continúa en el lote siguiente y falla)
+ * @param stopped Hubo una misión sin notificar
+ * @param lastGroup Misiones publicadas del grupo en watermark (se registran si el grupo se retrocede)
+ * @param pastGap Misiones publicadas en este lote (o retrocedidas) que quedaron por delante del watermark
+ */
+record NotificationWatermark(
+        LocalDateTime watermark,
+        LocalDateTime previous,
+        boolean stopped,
+        List<Mission> lastGroup,
+        List<Mission> pastGap
+) {
+
+    static NotificationWatermark start(LocalDateTime after) {
+        return new NotificationWatermark(after, after, false, List.of(), List.of());
+    }
+
+    /**
+     * @param missions Misiones escaneadas del lote, en orden de estimatedDate
+     * @param result Resultado de publicar los eventos de las que no estaban ya notificadas
+     * @param alreadyNotified Misiones notificadas en un tick anterior más allá de un hueco
+     */
+    NotificationWatermark apply(
+            List<Mission> missions,
+            PublicationResult<DronPreparationNotificationEvent> result,
+            Set<MissionCursor> alreadyNotified
+    ) {
+        Set<String> published = result.published().stream()
+                .map(DronPreparationNotificationEvent::missionId)
+                .collect(Collectors.toSet());
+
+        if (stopped) {
+            return new NotificationWatermark(watermark, previous, true, List.of(),
+                    publishedOf(missions, published));
+        }
+
+        LocalDateTime next = watermark;
+        LocalDateTime nextPrevious = previous;
+        List<Mission> group = new ArrayList<>(lastGroup);
+        for (int i = 0; i < missions.size(); i++) {
+            Mission mission = missions.get(i);
+            LocalDateTime date = mission.estimatedDate();
+            boolean notifiedNow = published.contains(mission.id());
+            if (!notifiedNow && !alreadyNotified.contains(MissionCursor.after(mission))) {
+                // El grupo de esta fecha queda incompleto: si ya se había avanzado hasta él, se retrocede
+                boolean rollback = date.equals(next);
+                LocalDateTime stoppedAt = rollback ? nextPrevious : next;
+
+                List<Mission> pastGap = new ArrayList<>(rollback ? group : List.of());
+                pastGap.addAll(publishedOf(missions.subList(i + 1, missions.size()), published));
+                return new NotificationWatermark(stoppedAt, stoppedAt, true, List.of(), pastGap);
+            }
+            if (date.isAfter(next)) {
+                nextPrevious = next;
+                next = date;
+                group.clear();
+            }
+            if (notifiedNow) {
+                group.add(mission);
+            }
+        }
+        return new NotificationWatermark(next, nextPrevious, false, group, List.of());
+    }
+
+    /**
+     * Posición a persistir al terminar el rango: su límite superior si no hubo huecos
+     */
+    LocalDateTime next(LocalDateTime notificationWindow) {
+        return stopped ? watermark : notificationWindow;
+    }
+
+    private static List<Mission> publishedOf(List<Mission> missions, Set<String> published) {
+        return missions.stream()
+                .filter(mission -> published.contains(mission.id()))
+                .toList();
+    }
+
+}
@@ -0,0 +1,332 @@
+package co.cetad.umas.scheduler.application.service;
+
+import co.cetad.umas.scheduler.domain.model.dto.DronPreparationNotificationEvent;
+import co.cetad.umas.scheduler.domain.model.dto.MissionExecutionScheduledEvent;
+import co.cetad.umas.scheduler.domain.model.vo.ClaimPartition;
+import co.cetad.umas.scheduler.domain.model.vo.Mission;
+import co.cetad.umas.scheduler.domain.model.vo.MissionCursor;
+import co.cetad.umas.scheduler.domain.model.vo.MissionShard;
+import co.cetad.umas.scheduler.domain.model.vo.PublicationResult;
+import co.cetad.umas.scheduler.domain.ports.out.EventPublisher;
+import co.cetad.umas.scheduler.domain.ports.out.MissionRepository;
+import co.cetad.umas.scheduler.domain.ports.out.MissionStreamRepository;
+import co.cetad.umas.scheduler.domain.ports.out.PipelineSettings;
+import co.cetad.umas.scheduler.domain.ports.out.SchedulingMetrics;
+import co.cetad.umas.scheduler.domain.ports.out.TopicSettings;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import static co.cetad.umas.scheduler.domain.ports.out.SchedulingMetrics.JOB_EXECUTION;
+import static co.cetad.umas.scheduler.domain.ports.out.SchedulingMetrics.JOB_NOTIFICATION;
+
+/**
+ * Pipeline reactivo de los jobs de ejecución y notificación (scheduler.pipeline.mode=reactive)
+ *
+ * EJECUCIÓN:
+ * reclamo por lotes de page-size → retención de las misiones con dron ya reservado
+ * (DroneConflictGuard, en orden de ExecutionDispatchQueue.prioritize) → publicación con
+ * publish-concurrency envíos en curso → liberación de los fallidos del lote; el siguiente
+ * lote se reclama al terminar el anterior (nunca queda un lote reclamado sin publicar)
+ * El tick termina con un lote corto, con un lote con fallos de publicación (Kafka caído o
+ * gobernador descartando: las liberadas se reintentan en el siguiente tick, no en este)
+ * o al superar max-duration, que debe quedar por debajo del lockAtMostFor del job
+ *
+ * NOTIFICACIÓN:
+ * flujo por keyset desde la BD → lotes de enrichment-batch-size → enriquecimiento con
+ * enrichment-concurrency lotes en curso (orden preservado) → publicación lote a lote
+ * → watermark calculado de forma incremental con NotificationWatermark (sin retener el resultado completo)
+ * → registro, lote a lote, de las notificadas por delante de un hueco del watermark
+ *
+ * Con el gobernador de publicación habilitado cada lote de ejecución sale a su tasa (DispatchGovernor)
+ *
+ * La memoria queda acotada por los tamaños de página/lote y la concurrencia de cada etapa;
+ * el caudal lo fija la etapa más lenta. MissionSchedulerService delega aquí cuando el bean existe
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "scheduler.pipeline", name = "mode", havingValue = "reactive")
+public class ReactiveMissionPipeline {
+
+    private static final String BACKLOG_DRAINED = "backlog drained";
+
+    private final MissionRepository missionRepository;
+    private final MissionStreamRepository missionStreamRepository;
+    private final NotificationEventEnricher eventEnricher;
+
+    private final EventPublisher<MissionExecutionScheduledEvent> missionExecutionPublisher;
+
+    private final EventPublisher<DronPreparationNotificationEvent> dronPreparationPublisher;
+
+    private final DispatchGovernor dispatchGovernor;
+    private final ExecutionDispatchQueue dispatchQueue;
+    private final DroneConflictGuard droneConflictGuard;
+
+    private final SchedulingMetrics metrics;
+    private final TopicSettings topics;
+    private final PipelineSettings properties;
+
+    /**
+     * Reclama y publica todas las misiones vencidas, lote a lote
+     *
+     * @return CompletableFuture con el número de misiones publicadas
+     */
+    public CompletableFuture<Integer> scheduleReadyMissions(MissionShard shard) {
+        LocalDateTime before = LocalDateTime.now();
+        int batchSize = properties.getPageSize();
+        long startedAt = System.nanoTime();
+
+        return claimBatch(before, batchSize, shard)
+                .flatMap(batch -> batch.isEmpty()
+                        ? Mono.just(ExecutionBacklogDrainer.Chunk.of(List.of(), 0, 0))
+                        : publishExecutionBatch(batch))
+                .repeat()
+                .takeUntil(chunk -> {
+                    String stop = stopReason(chunk, batchSize, startedAt);
+                    if (stop != null && !BACKLOG_DRAINED.equals(stop)) {
+                        log.warn("Reactive execution tick stopped early ({}), the rest waits for the next tick", stop);
+                    }
+                    return stop != null;
+                })
+                .reduceWith(() -> new int[]{0, 0}, (totals, chunk) -> {
+                    totals[0] += chunk.processed();
+                    totals[1] += chunk.claimed();
+                    return totals;
+                })
+                .map(totals -> {
+                    metrics.recordTickMissions(JOB_EXECUTION, totals[1]);
+                    return totals[0];
+                })
+                .toFuture();
+    }
+
+    /**
+     * Mismos criterios de corte que ExecutionBacklogDrainer: sin ellos un lote que falla
+     * se libera y se vuelve a reclamar de inmediato, y el tick no termina nunca
+     */
+    private String stopReason(ExecutionBacklogDrainer.Chunk chunk, int batchSize, long startedAt) {
+        if (chunk.processed() + chunk.held() < chunk.claimed()) {
+            return "publication failures";
+        }
+        if (chunk.claimed() < batchSize) {
+            return BACKLOG_DRAINED;
+        }
+        if (System.nanoTime() - startedAt >= properties.getMaxDuration().toNanos()) {
+            return "max duration reached";
+        }
+        return null;
+    }
+
+    /**
+     * Notifica las misiones de (after, notificationWindow] y calcula hasta dónde avanzar el watermark
+     * Las ya notificadas más allá de un hueco anterior no se publican pero cuentan como notificadas;
+     * las publicadas por delante de un hueco nuevo se registran lote a lote con recordPastGap
+     *
+     * @param alreadyNotified Misiones del rango ya notificadas más allá de un hueco anterior
+     * @param recordPastGap Registra las notificadas por delante del watermark detenido (no falla)
+     */
+    public CompletableFuture<RangeOutcome> notifyRange(
+            LocalDateTime after,
+            LocalDateTime notificationWindow,
+            MissionShard shard,
+            Integer minutesBeforeExecution,
+            Set<MissionCursor> alreadyNotified,
+            Function<List<Mission>, CompletableFuture<Void>> recordPastGap
+    ) {
+        return missionStreamRepository.streamUpcomingMissions(after, notificationWindow, shard)
+                .buffer(properties.getEnrichmentBatchSize())
+                .flatMapSequential(batch -> Mono.fromFuture(() -> metrics.timeEnrichment(JOB_NOTIFICATION,
+                                        () -> eventEnricher.enrichNotificationEvents(
+                                                pendingNotification(batch, alreadyNotified), minutesBeforeExecution)))
+                                .map(events -> new EnrichedBatch(batch, events)),
+                        properties.getEnrichmentConcurrency(), 1)
+                .concatMap(enriched -> Mono.fromFuture(() -> metrics.timePublish(JOB_NOTIFICATION,
+                                topics.getNotification(),
+                                () -> publishEach(enriched.events(), dronPreparationPublisher)))
+                        .map(result -> new PublishedBatch(enriched.missions(), result)), 1)
+                .doOnNext(published -> published.result().failures().forEach(failure ->
+                        log.error("Error publishing preparation notification for mission: {}",
+                                failure.event().missionId(), failure.cause())))
+                .scan(NotificationProgress.start(after), (progress, batch) -> progress.apply(batch, alreadyNotified))
+                .concatMap(progress -> progress.watermark().pastGap().isEmpty()
+                        ? Mono.just(progress)
+                        : Mono.fromFuture(() -> recordPastGap.apply(progress.watermark().pastGap()))
+                                .thenReturn(progress), 1)
+                .last()
+                .map(progress -> {
+                    metrics.recordTickMissions(JOB_NOTIFICATION, progress.processed());
+                    return new RangeOutcome(progress.published(), progress.watermark().next(notificationWindow));
+                })
+                .toFuture();
+    }
+
+    private static List<Mission> pendingNotification(List<Mission> batch, Set<MissionCursor> alreadyNotified) {
+        if (alreadyNotified.isEmpty()) {
+            return batch;
+        }
+        return batch.stream()
+                .filter(mission -> !alreadyNotified.contains(MissionCursor.after(mission)))
+                .toList();
+    }
+
+    private Mono<List<Mission>> claimBatch(LocalDateTime before, int batchSize, MissionShard shard) {
+        return Mono.fromFuture(() -> metrics.timeQuery(JOB_EXECUTION, "claimReadyMissions",
+                () -> missionRepository.claimReadyMissions(before, batchSize, shard)));
+    }
+
+    /**
+     * Publica un lote reclamado y libera las misiones cuyo evento no se publicó
+     * Las que reservarían un dron ya ocupado se difieren sin publicarse (DroneConflictGuard)
+     *
+     * @return Lote con las reclamadas, las publicadas y las retenidas
+     */
+    private Mono<ExecutionBacklogDrainer.Chunk> publishExecutionBatch(List<Mission> missions) {
+        return Mono.fromFuture(() -> droneConflictGuard.partition(dispatchQueue.prioritize(missions)))
+                .flatMap(partition -> publishReleased(missions, partition));
+    }
+
+    /**
+     * Difiere las retenidas y publica las despachadas de un lote ya repartido
+     */
+    private Mono<ExecutionBacklogDrainer.Chunk> publishReleased(List<Mission> claimed, ClaimPartition partition) {
+        List<MissionExecutionScheduledEvent> events = partition.released().stream()
+                .map(mission -> MissionExecutionScheduledEvent.of(
+                        mission.id(),
+                        mission.name(),
+                        mission.estimatedDate()
+                ))
+                .toList();
+
+        return Mono.fromFuture(() -> droneConflictGuard.defer(partition))
+                .then(Mono.fromFuture(() -> metrics.timePublish(JOB_EXECUTION, topics.getExecute(),
+                        () -> dispatchGovernor.throttle(events,
+                                slice -> publishEach(slice, missionExecutionPublisher),
+                                event -> event))))
+                .flatMap(result -> {
+                    LocalDateTime ackedAt = LocalDateTime.now();
+                    result.published().forEach(event ->
+                            metrics.recordDispatchLag(JOB_EXECUTION, event.scheduledAt(), ackedAt));
+
+                    ExecutionBacklogDrainer.Chunk counts = ExecutionBacklogDrainer.Chunk.of(
+                            claimed, result.publishedCount(), partition.held().size());
+                    Mono<Integer> confirmed = confirmClaims(result.published().stream()
+                            .map(MissionExecutionScheduledEvent::missionId)
+                            .toList());
+                    if (!result.hasFailures()) {
+                        return confirmed.thenReturn(counts);
+                    }
+
+                    List<String> failedIds = result.failures().stream()
+                            .map(failure -> failure.event().missionId())
+                            .toList();
+                    log.warn("Releasing {} missions whose execution event could not be published",
+                            failedIds.size());
+                    droneConflictGuard.release(failedIds);
+                    return confirmed.then(Mono.fromFuture(() -> missionRepository.releaseClaims(failedIds)))
+                            .thenReturn(counts);
+                });
+    }
+
+    /**
+     * Confirma los reclamos de misiones publicadas; un fallo lo cubre el reaper (at-least-once)
+     */
+    private Mono<Integer> confirmClaims(List<String> missionIds) {
+        if (missionIds.isEmpty()) {
+            return Mono.just(0);
+        }
+        return Mono.fromFuture(() -> missionRepository.confirmClaims(missionIds))
+                .onErrorResume(throwable -> {
+                    log.warn("⚠️ Could not confirm {} published claims, the reaper may release them: {}",
+                            missionIds.size(), throwable.getMessage());
+                    return Mono.just(0);
+                });
+    }
+
+    /**
+     * Publica un lote evento por evento con a lo sumo publish-concurrency envíos en curso
+     * Nunca falla en bloque: cada fallo queda en el resultado
+     */
+    private <T> CompletableFuture<PublicationResult<T>> publishEach(List<T> events, EventPublisher<T> publisher) {
+        return Flux.fromIterable(events)
+                .flatMapSequential(event -> Mono.fromFuture(() -> publisher.publish(event))
+                                .then(Mono.just(Outcome.published(event)))
+                                .onErrorResume(throwable -> Mono.just(Outcome.failed(event, throwable))),
+                        properties.getPublishConcurrency())
+                .collectList()
+                .map(outcomes -> new PublicationResult<>(
+                        outcomes.stream()
+                                .filter(outcome -> outcome.cause() == null)
+                                .map(Outcome::event)
+                                .toList(),
+                        outcomes.stream()
+                                .filter(outcome -> outcome.cause() != null)
+                                .map(outcome -> new PublicationResult.Failure<>(outcome.event(), outcome.cause()))
+                                .toList()
+                ))
+                .toFuture();
+    }
+
+    /**
+     * Resultado de un rango de notificación
+     *
+     * @param published Notificaciones publicadas
+     * @param watermark Posición hasta la que todas las misiones quedaron notificadas
+     */
+    public record RangeOutcome(int published, LocalDateTime watermark) {
+    }
+
+    private record Outcome<T>(T event, Throwable cause) {
+
+        static <T> Outcome<T> published(T event) {
+            return new Outcome<>(event, null);
+        }
+
+        static <T> Outcome<T> failed(T event, Throwable cause) {
+            return new Outcome<>(event, cause);
+        }
+
+    }
+
+    private record EnrichedBatch(List<Mission> missions, List<DronPreparationNotificationEvent> events) {
+    }
+
+    private record PublishedBatch(
+            List<Mission> missions,
+            PublicationResult<DronPreparationNotificationEvent> result
+    ) {
+    }
+
+    /**
+     * Progreso de un rango: watermark (NotificationWatermark) y contadores del tick
+     */
+    private record NotificationProgress(
+            NotificationWatermark watermark,
+            int published,
+            int processed
+    ) {
+
+        static NotificationProgress start(LocalDateTime after) {
+            return new NotificationProgress(NotificationWatermark.start(after), 0, 0);
+        }
+
+        NotificationProgress apply(PublishedBatch batch, Set<MissionCursor> alreadyNotified) {
+            return new NotificationProgress(
+                    watermark.apply(batch.missions(), batch.result(), alreadyNotified),
+                    published + batch.result().publishedCount(),
+                    processed + batch.missions().size()
+            );
+        }
+
+    }
+
+}
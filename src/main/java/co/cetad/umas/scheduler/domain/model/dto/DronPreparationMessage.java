@@ -53,4 +53,21 @@ public record DronPreparationMessage(
         );
     }
 
+    /**
+     * Construye el mensaje Kafka a partir del evento de dominio
+     * Incluye todos los campos necesarios: vehicleId, vehicleName, recipientEmail
+     */
+    public static DronPreparationMessage from(DronPreparationNotificationEvent event) {
+        return of(
+                event.missionId(),
+                event.missionName(),
+                event.vehicleId(),
+                event.vehicleName(),
+                event.scheduledExecutionTime(),
+                event.minutesBeforeExecution(),
+                event.publishedAt(),
+                event.recipientEmail()
+        );
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,67 @@
+package co.cetad.umas.scheduler.domain.model.dto;
+
+import co.cetad.umas.scheduler.domain.model.entity.MissionOrigin;
+import co.cetad.umas.scheduler.domain.model.entity.MissionState;
+import co.cetad.umas.scheduler.domain.model.vo.Mission;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO para mensaje de cambio de misión en Kafka (creación, aprobación, reprogramación, cancelación)
+ *
+ * El mensaje lleva el estado resultante de la misión: el índice en memoria decide
+ * con state e is_automatic si la misión entra o sale, sin depender de event_type
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record MissionChangeMessage(
+        @JsonProperty("event_type") String eventType,
+        @JsonProperty("mission_id") String missionId,
+        @JsonProperty("name") String name,
+        @JsonProperty("operator_id") String operatorId,
+        @JsonProperty("mission_type") MissionOrigin missionType,
+        @JsonProperty("state") MissionState state,
+        @JsonProperty("estimated_date") LocalDateTime estimatedDate,
+        @JsonProperty("is_automatic") Boolean isAutomatic,
+        @JsonProperty("created_at") LocalDateTime createdAt,
+        @JsonProperty("updated_at") LocalDateTime updatedAt
+) {
+
+    /**
+     * Indica si la misión resultante debe estar en el índice de misiones próximas
+     */
+    public boolean isSchedulable() {
+        return state == MissionState.APROBADA && Boolean.TRUE.equals(isAutomatic);
+    }
+
+    /**
+     * Versión del cambio: updated_at del productor (null si no lo envía: el mensaje se descarta)
+     * Un instante local no sirve como versión: ganaría siempre frente a la reconstrucción
+     */
+    public LocalDateTime version() {
+        return updatedAt;
+    }
+
+    /**
+     * Convierte el mensaje en VO de dominio (solo para misiones programables)
+     */
+    public Mission toMission() {
+        LocalDateTime version = version();
+        return new Mission(
+                missionId,
+                name,
+                operatorId,
+                missionType != null ? missionType : MissionOrigin.AUTOMATICA,
+                state,
+                estimatedDate,
+                null,
+                null,
+                isAutomatic,
+                createdAt != null ? createdAt : version,
+                version,
+                false
+        );
+    }
+
+}
@@ -28,4 +28,16 @@ public record MissionExecutionMessage(
         );
     }
 
+    /**
+     * Construye el mensaje Kafka a partir del evento de dominio
+     */
+    public static MissionExecutionMessage from(MissionExecutionScheduledEvent event) {
+        return of(
+                event.missionId(),
+                event.missionName(),
+                event.scheduledAt(),
+                event.publishedAt()
+        );
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,47 @@
+package co.cetad.umas.scheduler.domain.model.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.data.domain.Persistable;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * Entidad JPA para la tabla SCHEDULER_BUCKET_LEASE
+ *
+ * Una fila por bucket de misiones. owner_id es la instancia que lo procesa
+ * mientras lease_until no haya vencido; un bucket sin dueño o vencido puede
+ * ser tomado por cualquier instancia viva
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "scheduler_bucket_lease")
+public class BucketLeaseEntity implements Serializable, Persistable<Integer> {
+
+    @Id
+    @Column(name = "bucket")
+    private Integer bucket;
+
+    @Column(name = "owner_id")
+    private String ownerId;
+
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
+    @Transient
+    private boolean isNew = false;
+
+    @Override
+    public Integer getId() {
+        return bucket;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+}
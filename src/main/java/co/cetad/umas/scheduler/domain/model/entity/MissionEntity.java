@@ -79,6 +79,20 @@ public class MissionEntity implements Serializable, Persistable<UUID> {
     @Column(name = "is_automatic", nullable = false)
     private Boolean isAutomatic = false;
 
+    /**
+     * Fecha desde la que la misión puede volver a reclamarse (NULLABLE)
+     * Se llena al retener la misión por conflicto de dron; el reclamo la limpia
+     */
+    @Column(name = "dispatch_not_before")
+    private LocalDateTime dispatchNotBefore;
+
+    /**
+     * Instante del reclamo del scheduler aún sin confirmar (NULLABLE)
+     * Se llena al reclamar y se limpia al confirmar la publicación o liberar el reclamo
+     */
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
@@ -0,0 +1,90 @@
+package co.cetad.umas.scheduler.domain.model.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.data.domain.Persistable;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entidad JPA para la tabla EVENT_OUTBOX
+ *
+ * Transactional outbox: cada fila es un mensaje Kafka pendiente de entregar,
+ * escrito en la misma transacción que el cambio de estado que lo origina.
+ * El OutboxRelay drena la tabla hacia Kafka y marca published_at.
+ *
+ * ESTADOS:
+ * - published_at NULL: pendiente de entrega
+ * - published_at NOT NULL: entregado (se purga tras la retención configurada)
+ * - relay_lease_until futuro: lote tomado por un relay, en envío (fuera de transacción)
+ * - attempts >= max-attempts: se deja de reintentar (dead letter, queda para revisión manual)
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "event_outbox")
+public class OutboxEventEntity implements Serializable, Persistable<UUID> {
+
+    @Id
+    @Column(name = "id")
+    private UUID id = UUID.randomUUID();
+
+    /**
+     * ID de la misión que originó el evento
+     */
+    @Column(name = "aggregate_id", nullable = false)
+    private UUID aggregateId;
+
+    @Column(name = "topic", nullable = false)
+    private String topic;
+
+    @Column(name = "message_key", nullable = false)
+    private String messageKey;
+
+    /**
+     * Mensaje ya serializado en el wire format de content_type: el relay lo envía a Kafka tal cual
+     */
+    @Column(name = "payload", nullable = false, columnDefinition = "bytea")
+    private byte[] payload;
+
+    /**
+     * Formato y versión de esquema con que se serializó el payload
+     * Viajan como headers del registro aunque el formato configurado cambie entre escritura y relay
+     */
+    @Column(name = "content_type", nullable = false)
+    private String contentType;
+
+    @Column(name = "schema_version", nullable = false)
+    private Integer schemaVersion;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts = 0;
+
+    @Column(name = "last_error")
+    private String lastError;
+
+    /**
+     * Hasta cuándo el lote está reservado por el relay que lo envía
+     * Vencida la reserva (relay caído a mitad del envío) el evento vuelve a estar disponible
+     */
+    @Column(name = "relay_lease_until")
+    private LocalDateTime relayLeaseUntil;
+
+    @Transient
+    private boolean isNew = true;
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+}
@@ -0,0 +1,56 @@
+package co.cetad.umas.scheduler.domain.model.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.data.domain.Persistable;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entidad JPA para la tabla SCHEDULER_CATCH_UP_CHECKPOINT
+ *
+ * Última misión drenada por (estimated_date, mission_id) en modo catch-up
+ * y ritmo del drenado que la escribió
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "scheduler_catch_up_checkpoint")
+public class SchedulerCatchUpCheckpointEntity implements Serializable, Persistable<String> {
+
+    @Id
+    @Column(name = "name")
+    private String name;
+
+    @Column(name = "estimated_date", nullable = false)
+    private LocalDateTime estimatedDate;
+
+    @Column(name = "mission_id", nullable = false)
+    private UUID missionId;
+
+    @Column(name = "drained", nullable = false)
+    private Long drained;
+
+    @Column(name = "drain_rate", nullable = false)
+    private Long drainRate;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Transient
+    private boolean isNew = false;
+
+    @Override
+    public String getId() {
+        return name;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+}
@@ -0,0 +1,44 @@
+package co.cetad.umas.scheduler.domain.model.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.data.domain.Persistable;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * Entidad JPA para la tabla SCHEDULER_INSTANCE
+ *
+ * Registro de instancias vivas del scheduler en modo sharded.
+ * Cada instancia actualiza heartbeat_at periódicamente; las que dejan de hacerlo
+ * se eliminan y sus buckets se redistribuyen
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "scheduler_instance")
+public class SchedulerInstanceEntity implements Serializable, Persistable<String> {
+
+    @Id
+    @Column(name = "instance_id")
+    private String instanceId;
+
+    @Column(name = "heartbeat_at", nullable = false)
+    private LocalDateTime heartbeatAt;
+
+    @Transient
+    private boolean isNew = false;
+
+    @Override
+    public String getId() {
+        return instanceId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+}
@@ -0,0 +1,47 @@
+package co.cetad.umas.scheduler.domain.model.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.data.domain.Persistable;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entidad JPA para la tabla SCHEDULER_NOTIFIED_MISSION
+ *
+ * Misión ya notificada por delante del watermark de notificación,
+ * con la estimated_date con la que se notificó
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "scheduler_notified_mission")
+public class SchedulerNotifiedMissionEntity implements Serializable, Persistable<UUID> {
+
+    @Id
+    @Column(name = "mission_id")
+    private UUID missionId;
+
+    @Column(name = "estimated_date", nullable = false)
+    private LocalDateTime estimatedDate;
+
+    @Column(name = "notified_at", nullable = false)
+    private LocalDateTime notifiedAt;
+
+    @Transient
+    private boolean isNew = false;
+
+    @Override
+    public UUID getId() {
+        return missionId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+}
@@ -0,0 +1,47 @@
+package co.cetad.umas.scheduler.domain.model.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.data.domain.Persistable;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * Entidad JPA para la tabla SCHEDULER_WATERMARK
+ *
+ * High-watermark sobre estimated_date de un proceso incremental:
+ * todas las misiones con estimated_date <= watermark ya fueron procesadas.
+ * Solo avanza (nunca retrocede)
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "scheduler_watermark")
+public class SchedulerWatermarkEntity implements Serializable, Persistable<String> {
+
+    @Id
+    @Column(name = "name")
+    private String name;
+
+    @Column(name = "watermark", nullable = false)
+    private LocalDateTime watermark;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Transient
+    private boolean isNew = false;
+
+    @Override
+    public String getId() {
+        return name;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+}
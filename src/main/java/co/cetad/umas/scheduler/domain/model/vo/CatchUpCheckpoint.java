@@ -0,0 +1,22 @@
+package co.cetad.umas.scheduler.domain.model.vo;
+
+import java.util.Objects;
+
+/**
+ * Checkpoint del drenado catch-up de ejecución
+ *
+ * - position: última misión drenada por (estimatedDate, id)
+ * - drained: misiones drenadas hasta ese punto en el drenado que lo escribió
+ * - drainRate: misiones por segundo de ese drenado
+ */
+public record CatchUpCheckpoint(
+        MissionCursor position,
+        long drained,
+        long drainRate
+) {
+
+    public CatchUpCheckpoint {
+        Objects.requireNonNull(position, "Position cannot be null");
+    }
+
+}
@@ -0,0 +1,61 @@
+package co.cetad.umas.scheduler.domain.model.vo;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Reparto de un lote de misiones reclamadas antes de despacharlo
+ *
+ * - released: misiones a despachar, en ese orden
+ * - held: misiones retenidas (su dron ya está reservado) y fecha desde la que se pueden reintentar;
+ *   se difieren con deferClaims
+ */
+public record ClaimPartition(
+        List<Mission> released,
+        List<Hold> held
+) {
+
+    public ClaimPartition {
+        Objects.requireNonNull(released, "Released missions cannot be null");
+        Objects.requireNonNull(held, "Held missions cannot be null");
+        released = List.copyOf(released);
+        held = List.copyOf(held);
+    }
+
+    /**
+     * Misión retenida y fecha desde la que su dron queda libre
+     */
+    public record Hold(Mission mission, LocalDateTime notBefore) {
+    }
+
+    /**
+     * Todas las misiones del lote se despachan
+     */
+    public static ClaimPartition releaseAll(List<Mission> missions) {
+        return new ClaimPartition(missions, List.of());
+    }
+
+    /**
+     * Misiones reclamadas del lote: despachadas y retenidas
+     */
+    public List<Mission> claimed() {
+        return Stream.concat(released.stream(), held.stream().map(Hold::mission))
+                .toList();
+    }
+
+    /**
+     * IDs de las retenidas agrupados por notBefore: un deferClaims por grupo
+     */
+    public Map<LocalDateTime, List<String>> heldIdsByNotBefore() {
+        return held.stream()
+                .collect(Collectors.groupingBy(
+                        Hold::notBefore,
+                        Collectors.mapping(hold -> hold.mission().id(), Collectors.toList())
+                ));
+    }
+
+}
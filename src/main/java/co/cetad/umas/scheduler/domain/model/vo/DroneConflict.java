@@ -0,0 +1,11 @@
+package co.cetad.umas.scheduler.domain.model.vo;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Dron ya reservado por otra misión en la ventana de la misión
+ * busyUntil es el fin de esa reserva: antes no tiene sentido reintentar
+ */
+public record DroneConflict(String missionId, UUID droneId, String conflictingMissionId, LocalDateTime busyUntil) {
+}
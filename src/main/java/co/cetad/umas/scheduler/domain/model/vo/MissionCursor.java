@@ -0,0 +1,30 @@
+package co.cetad.umas.scheduler.domain.model.vo;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Cursor de paginación por keyset sobre misiones
+ *
+ * Identifica la última misión leída por (estimatedDate, id), que es el
+ * orden total de las consultas paginadas. La siguiente página empieza
+ * estrictamente después de esta posición, sin OFFSET
+ */
+public record MissionCursor(
+        LocalDateTime estimatedDate,
+        String missionId
+) {
+
+    public MissionCursor {
+        Objects.requireNonNull(estimatedDate, "Estimated date cannot be null");
+        Objects.requireNonNull(missionId, "Mission ID cannot be null");
+    }
+
+    /**
+     * Cursor que apunta a la posición de la misión indicada
+     */
+    public static MissionCursor after(Mission mission) {
+        return new MissionCursor(mission.estimatedDate(), mission.id());
+    }
+
+}
@@ -0,0 +1,36 @@
+package co.cetad.umas.scheduler.domain.model.vo;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Página acotada de misiones obtenida por keyset
+ *
+ * - missions: misiones de la página, en orden (estimatedDate, id)
+ * - nextCursor: posición para pedir la siguiente página (null si no hay más)
+ */
+public record MissionPage(
+        List<Mission> missions,
+        MissionCursor nextCursor
+) {
+
+    public MissionPage {
+        Objects.requireNonNull(missions, "Missions cannot be null");
+        missions = List.copyOf(missions);
+    }
+
+    /**
+     * Construye la página: si se llenó el límite puede haber más resultados
+     */
+    public static MissionPage of(List<Mission> missions, int limit) {
+        MissionCursor next = missions.size() < limit || missions.isEmpty()
+                ? null
+                : MissionCursor.after(missions.get(missions.size() - 1));
+        return new MissionPage(missions, next);
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+}
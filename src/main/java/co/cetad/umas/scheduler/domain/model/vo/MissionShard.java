@@ -0,0 +1,49 @@
+package co.cetad.umas.scheduler.domain.model.vo;
+
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Subconjunto de buckets de misiones que procesa una instancia
+ *
+ * Cada misión pertenece al bucket hash(id) % bucketCount (calculado en PostgreSQL con hashtext).
+ * En modo sharded cada instancia solo escanea y publica las misiones de sus buckets
+ *
+ * - all(): un único bucket que contiene todas las misiones (modo sin sharding)
+ * - isEmpty(): la instancia no tiene buckets asignados (no debe consultar)
+ */
+public record MissionShard(
+        int bucketCount,
+        Set<Integer> buckets
+) {
+
+    private static final MissionShard ALL = new MissionShard(1, Set.of(0));
+
+    public MissionShard {
+        Objects.requireNonNull(buckets, "Buckets cannot be null");
+        if (bucketCount < 1) {
+            throw new IllegalArgumentException("Bucket count must be positive");
+        }
+        buckets = Set.copyOf(buckets);
+        if (buckets.stream().anyMatch(bucket -> bucket < 0 || bucket >= bucketCount)) {
+            throw new IllegalArgumentException("Buckets must be in [0, " + bucketCount + ")");
+        }
+    }
+
+    public static MissionShard all() {
+        return ALL;
+    }
+
+    public static MissionShard none(int bucketCount) {
+        return new MissionShard(bucketCount, Set.of());
+    }
+
+    public boolean isAll() {
+        return buckets.size() == bucketCount;
+    }
+
+    public boolean isEmpty() {
+        return buckets.isEmpty();
+    }
+
+}
@@ -0,0 +1,101 @@
+package co.cetad.umas.scheduler.domain.model.vo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Resultado agregado de la publicación de un lote de eventos
+ *
+ * - published: eventos confirmados por el broker
+ * - failures: eventos que no se pudieron publicar, con su causa
+ */
+public record PublicationResult<T>(
+        List<T> published,
+        List<Failure<T>> failures
+) {
+
+    public PublicationResult {
+        Objects.requireNonNull(published, "Published events cannot be null");
+        Objects.requireNonNull(failures, "Failures cannot be null");
+        published = List.copyOf(published);
+        failures = List.copyOf(failures);
+    }
+
+    /**
+     * Evento que no se pudo publicar y su causa
+     */
+    public record Failure<T>(T event, Throwable cause) {
+    }
+
+    public static <T> PublicationResult<T> empty() {
+        return new PublicationResult<>(List.of(), List.of());
+    }
+
+    /**
+     * Espera todas las publicaciones del lote y clasifica cada evento según su resultado
+     * Nunca completa excepcionalmente: los fallos quedan en failures
+     *
+     * @param events Eventos del lote
+     * @param outcomes Futuro de publicación de cada evento, en el mismo orden
+     */
+    public static <T> CompletableFuture<PublicationResult<T>> aggregate(
+            List<T> events,
+            List<? extends CompletableFuture<?>> outcomes
+    ) {
+        if (events.size() != outcomes.size()) {
+            throw new IllegalArgumentException("Each event must have exactly one outcome");
+        }
+
+        return CompletableFuture.allOf(outcomes.toArray(new CompletableFuture[0]))
+                .handle((v, ignored) -> {
+                    List<T> published = new ArrayList<>();
+                    List<Failure<T>> failures = new ArrayList<>();
+
+                    for (int i = 0; i < events.size(); i++) {
+                        T event = events.get(i);
+                        outcomes.get(i)
+                                .handle((result, throwable) -> throwable == null
+                                        ? published.add(event)
+                                        : failures.add(new Failure<>(event, unwrap(throwable))))
+                                .join();
+                    }
+
+                    return new PublicationResult<>(published, failures);
+                });
+    }
+
+    /**
+     * Une los resultados de varios tramos de un mismo lote, en orden
+     */
+    public static <T> PublicationResult<T> merge(List<PublicationResult<T>> results) {
+        List<T> published = new ArrayList<>();
+        List<Failure<T>> failures = new ArrayList<>();
+        results.forEach(result -> {
+            published.addAll(result.published());
+            failures.addAll(result.failures());
+        });
+        return new PublicationResult<>(published, failures);
+    }
+
+    public int publishedCount() {
+        return published.size();
+    }
+
+    public int failedCount() {
+        return failures.size();
+    }
+
+    public boolean hasFailures() {
+        return !failures.isEmpty();
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        return throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause()
+                : throwable;
+    }
+
+}
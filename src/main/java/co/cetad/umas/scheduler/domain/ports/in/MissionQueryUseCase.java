@@ -1,9 +1,9 @@
 package co.cetad.umas.scheduler.domain.ports.in;
 
 import co.cetad.umas.scheduler.domain.model.entity.MissionState;
-import co.cetad.umas.scheduler.domain.model.vo.Mission;
+import co.cetad.umas.scheduler.domain.model.vo.MissionCursor;
+import co.cetad.umas.scheduler.domain.model.vo.MissionPage;
 
-import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -23,6 +23,15 @@ import java.util.concurrent.CompletableFuture;
  */
 public interface MissionQueryUseCase {
 
-    CompletableFuture<List<Mission>> findAutoByState(MissionState state);
+    /**
+     * Busca misiones por estado, paginadas por keyset en orden (estimatedDate, id)
+     * Cada llamada carga como máximo una página, sin importar el tamaño del histórico
+     *
+     * @param state Estado de la misión
+     * @param after Cursor de la página anterior (null para la primera página)
+     * @param limit Tamaño máximo de la página
+     * @return Página de misiones con el cursor de la siguiente
+     */
+    CompletableFuture<MissionPage> findAutoByState(MissionState state, MissionCursor after, int limit);
 
 }
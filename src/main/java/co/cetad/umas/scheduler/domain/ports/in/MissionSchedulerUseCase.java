@@ -1,5 +1,10 @@
 package co.cetad.umas.scheduler.domain.ports.in;
 
+import co.cetad.umas.scheduler.domain.model.vo.Mission;
+import co.cetad.umas.scheduler.domain.model.vo.MissionShard;
+
+import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -12,11 +17,22 @@ public interface MissionSchedulerUseCase {
      * Ejecuta el proceso de scheduling de misiones automáticas
      * - Busca misiones aprobadas y automáticas cuya hora de ejecución ha llegado
      * - Publica eventos para iniciar su ejecución
-     * - Evita ejecuciones concurrentes mediante lock
+     * - Evita ejecuciones concurrentes mediante lock (o shards en modo sharded)
+     *
+     * @return CompletableFuture con el número de misiones programadas
+     */
+    default CompletableFuture<Integer> scheduleReadyMissions() {
+        return scheduleReadyMissions(MissionShard.all());
+    }
+
+    /**
+     * Scheduling de misiones listas restringido a los buckets del shard
+     * Usado en modo sharded: cada instancia procesa solo sus buckets
      *
+     * @param shard Buckets de misiones asignados a esta instancia
      * @return CompletableFuture con el número de misiones programadas
      */
-    CompletableFuture<Integer> scheduleReadyMissions();
+    CompletableFuture<Integer> scheduleReadyMissions(MissionShard shard);
 
     /**
      * Ejecuta el proceso de notificación de preparación de drones
@@ -25,6 +41,45 @@ public interface MissionSchedulerUseCase {
      *
      * @return CompletableFuture con el número de notificaciones enviadas
      */
-    CompletableFuture<Integer> notifyUpcomingMissions();
+    default CompletableFuture<Integer> notifyUpcomingMissions() {
+        return notifyUpcomingMissions(MissionShard.all());
+    }
+
+    /**
+     * Notificación de preparación restringida a los buckets del shard
+     *
+     * @param shard Buckets de misiones asignados a esta instancia
+     * @return CompletableFuture con el número de notificaciones enviadas
+     */
+    CompletableFuture<Integer> notifyUpcomingMissions(MissionShard shard);
+
+    /**
+     * Busca misiones automáticas aprobadas que vencen dentro de la ventana indicada
+     * Usado por el dispatcher en memoria para precargar su cola
+     *
+     * @param lookahead Ventana desde ahora hacia el futuro
+     * @return CompletableFuture con las misiones ordenadas por fecha estimada
+     */
+    default CompletableFuture<List<Mission>> findMissionsDueWithin(Duration lookahead) {
+        return findMissionsDueWithin(lookahead, MissionShard.all());
+    }
+
+    /**
+     * Busca misiones que vencen dentro de la ventana, restringidas a los buckets del shard
+     *
+     * @param lookahead Ventana desde ahora hacia el futuro
+     * @param shard Buckets de misiones asignados a esta instancia
+     * @return CompletableFuture con las misiones ordenadas por fecha estimada
+     */
+    CompletableFuture<List<Mission>> findMissionsDueWithin(Duration lookahead, MissionShard shard);
+
+    /**
+     * Publica eventos de ejecución para misiones cuya hora ya llegó
+     * Usado por el dispatcher en memoria al vencer cada misión
+     *
+     * @param missions Misiones vencidas a despachar
+     * @return CompletableFuture con el número de misiones programadas
+     */
+    CompletableFuture<Integer> dispatchMissions(List<Mission> missions);
 
 }
\ No newline at end of file
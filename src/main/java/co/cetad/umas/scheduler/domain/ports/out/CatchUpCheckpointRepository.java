@@ -0,0 +1,33 @@
+package co.cetad.umas.scheduler.domain.ports.out;
+
+import co.cetad.umas.scheduler.domain.model.vo.CatchUpCheckpoint;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Puerto de salida para los checkpoints del drenado catch-up de ejecución
+ *
+ * El reclamo ya hace de keyset (las reclamadas salen de APROBADA): el checkpoint
+ * registra hasta dónde llegó el drenado y a qué ritmo, para retomarlo e informarlo
+ */
+public interface CatchUpCheckpointRepository {
+
+    /**
+     * Busca los checkpoints indicados
+     *
+     * @param names Nombres de los checkpoints
+     * @return Checkpoints existentes por nombre (los que no existen no aparecen)
+     */
+    CompletableFuture<Map<String, CatchUpCheckpoint>> find(Collection<String> names);
+
+    /**
+     * Guarda el checkpoint en los nombres indicados (reemplaza el anterior)
+     *
+     * @param names Nombres de los checkpoints
+     * @param checkpoint Posición y ritmo del drenado
+     */
+    CompletableFuture<Void> save(Collection<String> names, CatchUpCheckpoint checkpoint);
+
+}
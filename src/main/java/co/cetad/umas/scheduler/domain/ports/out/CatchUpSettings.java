@@ -0,0 +1,20 @@
+package co.cetad.umas.scheduler.domain.ports.out;
+
+import java.time.Duration;
+
+/**
+ * Parámetros del drenado por lotes del atraso de ejecución
+ */
+public interface CatchUpSettings {
+
+    boolean isEnabled();
+
+    long getThreshold();
+
+    int getChunkSize();
+
+    Duration getPacing();
+
+    Duration getMaxDuration();
+
+}
@@ -0,0 +1,28 @@
+package co.cetad.umas.scheduler.domain.ports.out;
+
+import java.time.Duration;
+
+/**
+ * Parámetros del gobernador de publicación (AIMD sobre el lag y token bucket)
+ */
+public interface DispatchGovernorSettings {
+
+    boolean isEnabled();
+
+    long getTargetLag();
+
+    double getInitialRate();
+
+    double getMinRate();
+
+    double getMaxRate();
+
+    double getIncreaseStep();
+
+    double getDecreaseFactor();
+
+    int getBurst();
+
+    Duration getMaxWait();
+
+}
@@ -0,0 +1,19 @@
+package co.cetad.umas.scheduler.domain.ports.out;
+
+import co.cetad.umas.scheduler.domain.model.entity.MissionOrigin;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Parámetros de la cola EDF de publicación de eventos de ejecución
+ */
+public interface DispatchQueueSettings {
+
+    boolean isEnabled();
+
+    int getMaxInFlight();
+
+    Map<MissionOrigin, Duration> getOriginAdvance();
+
+}
@@ -0,0 +1,38 @@
+package co.cetad.umas.scheduler.domain.ports.out;
+
+import co.cetad.umas.scheduler.domain.model.vo.DroneConflict;
+import co.cetad.umas.scheduler.domain.model.vo.Mission;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Puerto de salida para las reservas de drones por ventana de misión
+ */
+public interface DroneBookingRegistry {
+
+    /**
+     * @return false hasta la primera carga: antes no se puede afirmar ningún conflicto
+     */
+    boolean ready();
+
+    /**
+     * Carga con una sola consulta los drones asignados de las misiones que el registro no conoce
+     * (reclamadas fuera de la ventana de la última carga); debe completarse antes de reserve
+     */
+    CompletableFuture<Void> loadAssignments(List<Mission> missions);
+
+    /**
+     * Reserva los drones de la misión desde start si ninguno está ocupado en la ventana
+     *
+     * @return El conflicto encontrado (la misión no reserva nada), o null si quedó reservada
+     */
+    DroneConflict reserve(Mission mission, LocalDateTime start);
+
+    /**
+     * Libera las reservas de una misión que finalmente no se despachó
+     */
+    void release(String missionId);
+
+}
@@ -0,0 +1,26 @@
+package co.cetad.umas.scheduler.domain.ports.out;
+
+import co.cetad.umas.scheduler.domain.model.entity.DroneEntity;
+import co.cetad.umas.scheduler.domain.model.entity.OperatorEntity;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Puerto de salida para las búsquedas por lote del enriquecimiento de notificaciones
+ * Las claves sin fila no aparecen en el mapa resultante
+ */
+public interface EnrichmentLookup {
+
+    /**
+     * Dron principal (primera asignación por assignedAt) de cada misión
+     */
+    CompletableFuture<Map<UUID, UUID>> findFirstDroneIdByMission(Collection<UUID> missionIds);
+
+    CompletableFuture<Map<UUID, DroneEntity>> findDrones(Collection<UUID> droneIds);
+
+    CompletableFuture<Map<UUID, OperatorEntity>> findOperators(Collection<UUID> operatorIds);
+
+}
@@ -1,5 +1,9 @@
 package co.cetad.umas.scheduler.domain.ports.out;
 
+import co.cetad.umas.scheduler.domain.model.vo.PublicationResult;
+
+import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -13,4 +17,27 @@ public interface EventPublisher<T> {
      */
     CompletableFuture<Void> publish(T event);
 
-}
\ No newline at end of file
+    /**
+     * Publica un lote de eventos y reporta el resultado de cada uno
+     * Todas las publicaciones se lanzan a la vez y se esperan en conjunto
+     *
+     * @param events Eventos a publicar
+     * @return CompletableFuture con los eventos publicados y los fallidos (nunca falla en bloque)
+     */
+    default CompletableFuture<PublicationResult<T>> publishAll(Collection<T> events) {
+        List<T> batch = List.copyOf(events);
+
+        List<CompletableFuture<Void>> publications = batch.stream()
+                .map(event -> {
+                    try {
+                        return publish(event);
+                    } catch (Exception e) {
+                        return CompletableFuture.<Void>failedFuture(e);
+                    }
+                })
+                .toList();
+
+        return PublicationResult.aggregate(batch, publications);
+    }
+
+}
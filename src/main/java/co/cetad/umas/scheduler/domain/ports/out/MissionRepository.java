@@ -1,11 +1,17 @@
 package co.cetad.umas.scheduler.domain.ports.out;
 
 import co.cetad.umas.scheduler.domain.model.entity.MissionState;
+import co.cetad.umas.scheduler.domain.model.vo.ClaimPartition;
 import co.cetad.umas.scheduler.domain.model.vo.Mission;
+import co.cetad.umas.scheduler.domain.model.vo.MissionCursor;
+import co.cetad.umas.scheduler.domain.model.vo.MissionPage;
+import co.cetad.umas.scheduler.domain.model.vo.MissionShard;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 /**
  * Puerto de salida para persistencia de misiones
@@ -14,21 +20,16 @@ import java.util.concurrent.CompletableFuture;
  */
 public interface MissionRepository {
 
-    CompletableFuture<List<Mission>> findAutoByState(MissionState state);
-
     /**
-     * Busca misiones automáticas aprobadas que deben ejecutarse
+     * Busca misiones por estado, paginadas por keyset en orden (estimatedDate, id)
+     * Cada llamada carga como máximo una página, sin importar el tamaño del histórico
      *
-     * @param state Estado de la misión (APROBADA)
-     * @param isAutomatic Filtro por ejecución automática
-     * @param estimatedDateBefore Fecha límite para buscar misiones
-     * @return Lista de misiones que cumplen los criterios
+     * @param state Estado de la misión
+     * @param after Cursor de la página anterior (null para la primera página)
+     * @param limit Tamaño máximo de la página
+     * @return Página de misiones con el cursor de la siguiente
      */
-    CompletableFuture<List<Mission>> findByStateAndIsAutomaticAndEstimatedDateBefore(
-            MissionState state,
-            Boolean isAutomatic,
-            LocalDateTime estimatedDateBefore
-    );
+    CompletableFuture<MissionPage> findAutoByState(MissionState state, MissionCursor after, int limit);
 
     /**
      * Busca misiones automáticas aprobadas programadas para un rango de tiempo
@@ -40,11 +41,140 @@ public interface MissionRepository {
      * @param estimatedDateBefore Fecha de fin del rango
      * @return Lista de misiones en el rango especificado
      */
-    CompletableFuture<List<Mission>> findByStateAndIsAutomaticAndEstimatedDateBetween(
+    default CompletableFuture<List<Mission>> findByStateAndIsAutomaticAndEstimatedDateBetween(
             MissionState state,
             Boolean isAutomatic,
             LocalDateTime estimatedDateAfter,
             LocalDateTime estimatedDateBefore
+    ) {
+        return findByStateAndIsAutomaticAndEstimatedDateBetween(
+                state, isAutomatic, estimatedDateAfter, estimatedDateBefore, MissionShard.all());
+    }
+
+    /**
+     * Igual que la búsqueda por rango, restringida a los buckets del shard
+     *
+     * @param shard Buckets de misiones asignados a esta instancia
+     */
+    CompletableFuture<List<Mission>> findByStateAndIsAutomaticAndEstimatedDateBetween(
+            MissionState state,
+            Boolean isAutomatic,
+            LocalDateTime estimatedDateAfter,
+            LocalDateTime estimatedDateBefore,
+            MissionShard shard
+    );
+
+    /**
+     * Cuenta las misiones automáticas aprobadas vencidas que aún no se reclamaron
+     * Usado para detectar un atraso grande (p. ej. tras una caída de BD o Kafka)
+     *
+     * @param estimatedDateBefore Fecha límite de ejecución
+     * @param shard Buckets de misiones asignados a esta instancia
+     * @return Número de misiones pendientes de reclamo
+     */
+    CompletableFuture<Long> countReadyMissions(LocalDateTime estimatedDateBefore, MissionShard shard);
+
+    /**
+     * Reclama atómicamente misiones automáticas aprobadas que deben ejecutarse
+     * Las misiones reclamadas pasan a EN_EJECUCION y ningún otro tick las vuelve a ver
+     *
+     * @param estimatedDateBefore Fecha límite de ejecución
+     * @param limit Máximo de misiones a reclamar
+     * @return Misiones reclamadas, ordenadas por fecha estimada
+     */
+    default CompletableFuture<List<Mission>> claimReadyMissions(LocalDateTime estimatedDateBefore, int limit) {
+        return claimReadyMissions(estimatedDateBefore, limit, MissionShard.all());
+    }
+
+    /**
+     * Reclama misiones listas restringidas a los buckets del shard
+     *
+     * @param shard Buckets de misiones asignados a esta instancia
+     */
+    CompletableFuture<List<Mission>> claimReadyMissions(LocalDateTime estimatedDateBefore, int limit, MissionShard shard);
+
+    /**
+     * Reclama atómicamente las misiones indicadas si siguen aprobadas y ya vencieron
+     *
+     * @param missionIds IDs de las misiones candidatas
+     * @param estimatedDateBefore Fecha límite de ejecución
+     * @return Misiones efectivamente reclamadas
+     */
+    CompletableFuture<List<Mission>> claimMissions(Collection<String> missionIds, LocalDateTime estimatedDateBefore);
+
+    /**
+     * Libera misiones reclamadas (vuelven a APROBADA) cuando su publicación falla
+     *
+     * @param missionIds IDs de las misiones a liberar
+     * @return Número de misiones liberadas
+     */
+    CompletableFuture<Integer> releaseClaims(Collection<String> missionIds);
+
+    /**
+     * Libera misiones reclamadas que no deben despacharse todavía (p. ej. dron ocupado)
+     * Vuelven a APROBADA pero los reclamos las ignoran hasta notBefore
+     *
+     * @param missionIds IDs de las misiones a diferir
+     * @param notBefore Fecha desde la que pueden volver a reclamarse
+     * @return Número de misiones diferidas
+     */
+    CompletableFuture<Integer> deferClaims(Collection<String> missionIds, LocalDateTime notBefore);
+
+    /**
+     * Confirma la publicación de misiones reclamadas (Kafka confirmó su evento)
+     * Un reclamo sin confirmar lo libera releaseStaleClaims pasado el timeout
+     *
+     * @param missionIds IDs de las misiones publicadas
+     * @return Número de reclamos confirmados
+     */
+    CompletableFuture<Integer> confirmClaims(Collection<String> missionIds);
+
+    /**
+     * Libera reclamos sin confirmar anteriores a claimedBefore: la instancia que los hizo
+     * cayó antes de publicar o de liberar; vuelven a APROBADA para el siguiente tick
+     *
+     * @param claimedBefore Reclamos más antiguos que esta fecha
+     * @param limit Máximo de reclamos a liberar
+     * @return Número de misiones liberadas
+     */
+    CompletableFuture<Integer> releaseStaleClaims(LocalDateTime claimedBefore, int limit);
+
+    /**
+     * Reclama misiones listas de los buckets del shard y registra sus eventos de ejecución
+     * en el outbox dentro de la misma transacción: el relay los entrega a Kafka (at-least-once)
+     *
+     * En esa transacción, tras el reclamo:
+     * - partitioner reparte el lote (orden de despacho y retención por conflicto de dron)
+     * - Las despachadas registran su evento y su reclamo queda confirmado (el reaper no lo libera)
+     * - Las retenidas se difieren hasta su notBefore (como deferClaims)
+     * Si la transacción falla no queda nada reclamado ni registrado
+     *
+     * @param estimatedDateBefore Fecha límite de ejecución
+     * @param limit Máximo de misiones a reclamar
+     * @param shard Buckets de misiones asignados a esta instancia
+     * @param partitioner Reparto de las misiones reclamadas
+     * @return Reparto aplicado: misiones cuyo evento quedó registrado y misiones diferidas
+     */
+    CompletableFuture<ClaimPartition> claimReadyMissionsIntoOutbox(
+            LocalDateTime estimatedDateBefore,
+            int limit,
+            MissionShard shard,
+            Function<List<Mission>, CompletableFuture<ClaimPartition>> partitioner
+    );
+
+    /**
+     * Reclama las misiones indicadas y registra sus eventos de ejecución en el outbox
+     * dentro de la misma transacción, con el mismo reparto que claimReadyMissionsIntoOutbox
+     *
+     * @param missionIds IDs de las misiones candidatas
+     * @param estimatedDateBefore Fecha límite de ejecución
+     * @param partitioner Reparto de las misiones reclamadas
+     * @return Reparto aplicado: misiones cuyo evento quedó registrado y misiones diferidas
+     */
+    CompletableFuture<ClaimPartition> claimMissionsIntoOutbox(
+            Collection<String> missionIds,
+            LocalDateTime estimatedDateBefore,
+            Function<List<Mission>, CompletableFuture<ClaimPartition>> partitioner
     );
 
-}
\ No newline at end of file
+}
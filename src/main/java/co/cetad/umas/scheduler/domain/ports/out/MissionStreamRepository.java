@@ -0,0 +1,27 @@
+package co.cetad.umas.scheduler.domain.ports.out;
+
+import co.cetad.umas.scheduler.domain.model.vo.Mission;
+import co.cetad.umas.scheduler.domain.model.vo.MissionShard;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+
+/**
+ * Puerto de salida para leer misiones como flujo con backpressure
+ *
+ * A diferencia de MissionRepository no materializa el resultado completo:
+ * las filas se leen a medida que el consumidor las pide
+ */
+public interface MissionStreamRepository {
+
+    /**
+     * Misiones APROBADA automáticas con estimatedDate en (after, before], en orden (estimatedDate, id)
+     *
+     * @param after Límite inferior exclusivo
+     * @param before Límite superior inclusivo
+     * @param shard Buckets de misiones asignados a esta instancia
+     * @return Flujo de misiones; cada página se consulta solo cuando hay demanda
+     */
+    Flux<Mission> streamUpcomingMissions(LocalDateTime after, LocalDateTime before, MissionShard shard);
+
+}
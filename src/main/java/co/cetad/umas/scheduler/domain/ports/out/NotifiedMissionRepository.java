@@ -0,0 +1,38 @@
+package co.cetad.umas.scheduler.domain.ports.out;
+
+import co.cetad.umas.scheduler.domain.model.vo.Mission;
+import co.cetad.umas.scheduler.domain.model.vo.MissionCursor;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Puerto de salida para las misiones notificadas por delante del watermark de notificación
+ *
+ * El watermark se detiene en la primera misión sin notificar; las posteriores que sí se
+ * notificaron se registran aquí para que el reescaneo desde el hueco no las vuelva a publicar
+ */
+public interface NotifiedMissionRepository {
+
+    /**
+     * Busca las misiones registradas con estimatedDate en (after, before]
+     *
+     * @return Posición (estimatedDate, id) de cada misión notificada
+     */
+    CompletableFuture<Set<MissionCursor>> findNotifiedBetween(LocalDateTime after, LocalDateTime before);
+
+    /**
+     * Registra misiones notificadas (con su estimatedDate actual)
+     */
+    CompletableFuture<Void> record(Collection<Mission> missions);
+
+    /**
+     * Elimina los registros con estimatedDate anterior a la indicada (ya no se escanean)
+     *
+     * @return Número de registros eliminados
+     */
+    CompletableFuture<Integer> purgeBefore(LocalDateTime estimatedDate);
+
+}
@@ -0,0 +1,23 @@
+package co.cetad.umas.scheduler.domain.ports.out;
+
+import java.time.Duration;
+
+/**
+ * Tamaños y concurrencia de las etapas del pipeline reactivo
+ */
+public interface PipelineSettings {
+
+    int getPageSize();
+
+    int getEnrichmentBatchSize();
+
+    int getEnrichmentConcurrency();
+
+    int getPublishConcurrency();
+
+    /**
+     * Tiempo máximo de reclamo y publicación por tick de ejecución
+     */
+    Duration getMaxDuration();
+
+}
@@ -0,0 +1,59 @@
+package co.cetad.umas.scheduler.domain.ports.out;
+
+import co.cetad.umas.scheduler.domain.model.vo.PublicationResult;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Puerto de salida para las métricas del pipeline de scheduling
+ *
+ * Cada medición se etiqueta con el job que la produce (JOB_*)
+ * Las operaciones time* devuelven el mismo resultado que la acción medida:
+ * si la acción lanza en lugar de devolver un futuro, se registra como error
+ * y se devuelve un futuro fallido
+ */
+public interface SchedulingMetrics {
+
+    String JOB_EXECUTION = "scheduleMissions";
+    String JOB_DISPATCH = "dispatchMissions";
+    String JOB_NOTIFICATION = "notifyUpcomingMissions";
+    String JOB_PRELOAD = "preloadUpcomingMissions";
+
+    /**
+     * Registra la duración completa de un job
+     */
+    void recordJob(String job, Duration duration, boolean successful);
+
+    /**
+     * Mide una consulta o reclamo asíncrono hasta que su futuro se completa
+     */
+    <T> CompletableFuture<T> timeQuery(String job, String query, Supplier<CompletableFuture<T>> action);
+
+    /**
+     * Mide el enriquecimiento de un lote de notificaciones
+     */
+    <T> CompletableFuture<T> timeEnrichment(String job, Supplier<CompletableFuture<T>> action);
+
+    /**
+     * Mide la publicación de un lote y cuenta los eventos fallidos por topic
+     */
+    <T> CompletableFuture<PublicationResult<T>> timePublish(
+            String job,
+            String topic,
+            Supplier<CompletableFuture<PublicationResult<T>>> action
+    );
+
+    /**
+     * Registra cuántas misiones procesó un tick
+     */
+    void recordTickMissions(String job, int missions);
+
+    /**
+     * Registra el retraso entre la hora estimada de la misión y su publicación
+     */
+    void recordDispatchLag(String job, LocalDateTime estimatedDate, LocalDateTime publishedAt);
+
+}
@@ -0,0 +1,13 @@
+package co.cetad.umas.scheduler.domain.ports.out;
+
+/**
+ * Modo de reparto de misiones entre instancias
+ */
+public interface ShardingSettings {
+
+    /**
+     * true: cada instancia procesa solo los buckets que tiene en arriendo
+     */
+    boolean isEnabled();
+
+}
@@ -0,0 +1,12 @@
+package co.cetad.umas.scheduler.domain.ports.out;
+
+/**
+ * Destinos de los eventos publicados por el scheduler
+ */
+public interface TopicSettings {
+
+    String getExecute();
+
+    String getNotification();
+
+}
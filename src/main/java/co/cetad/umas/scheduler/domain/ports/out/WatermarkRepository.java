@@ -0,0 +1,32 @@
+package co.cetad.umas.scheduler.domain.ports.out;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Puerto de salida para watermarks de procesos incrementales
+ *
+ * Un watermark indica hasta qué estimatedDate se procesaron las misiones,
+ * de modo que cada ejecución escanea solo el rango nuevo
+ */
+public interface WatermarkRepository {
+
+    /**
+     * Busca los watermarks indicados
+     *
+     * @param names Nombres de los watermarks
+     * @return Watermarks existentes por nombre (los que no existen no aparecen)
+     */
+    CompletableFuture<Map<String, LocalDateTime>> find(Collection<String> names);
+
+    /**
+     * Avanza los watermarks indicados; si alguno ya está más adelante, no retrocede
+     *
+     * @param names Nombres de los watermarks
+     * @param watermark Nueva posición
+     */
+    CompletableFuture<Void> advance(Collection<String> names, LocalDateTime watermark);
+
+}
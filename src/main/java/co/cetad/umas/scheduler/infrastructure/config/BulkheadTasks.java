@@ -0,0 +1,38 @@
+package co.cetad.umas.scheduler.infrastructure.config;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Envío de tareas a los bulkheads de ExecutorConfig
+ *
+ * CompletableFuture.supplyAsync / runAsync llaman a execute() en el hilo llamante:
+ * con AbortPolicy un pool saturado lanza TaskRejectedException sincrónicamente, fuera
+ * del futuro, y rompe la cadena del llamante (un callback de Kafka, una etapa de otro futuro)
+ * Estos métodos convierten ese rechazo en un futuro fallido, igual que cualquier otro
+ * error de la tarea
+ */
+public final class BulkheadTasks {
+
+    private BulkheadTasks() {
+    }
+
+    public static <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier, Executor executor) {
+        try {
+            return CompletableFuture.supplyAsync(supplier, executor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    public static CompletableFuture<Void> runAsync(Runnable runnable, Executor executor) {
+        try {
+            return CompletableFuture.runAsync(runnable, executor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+}
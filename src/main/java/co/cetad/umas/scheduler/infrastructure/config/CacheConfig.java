@@ -0,0 +1,43 @@
+package co.cetad.umas.scheduler.infrastructure.config;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuración de caches Caffeine
+ *
+ * Las caches se registran al crear el CacheManager, de modo que Spring Boot
+ * las publica en el endpoint caches y en Micrometer (cache.gets, cache.evictions...)
+ */
+@Configuration
+public class CacheConfig {
+
+    public static final String DRONES_CACHE = "drones";
+    public static final String OPERATORS_CACHE = "operators";
+    public static final String ASSIGNMENTS_CACHE = "droneAssignments";
+
+    @Bean
+    public CaffeineCacheManager cacheManager(LookupCacheProperties properties) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setAsyncCacheMode(true);
+        cacheManager.registerCustomCache(DRONES_CACHE, buildCache(properties.getDrones()));
+        cacheManager.registerCustomCache(OPERATORS_CACHE, buildCache(properties.getOperators()));
+        cacheManager.registerCustomCache(ASSIGNMENTS_CACHE, buildCache(properties.getAssignments()));
+        return cacheManager;
+    }
+
+    /**
+     * Cache asíncrona: las búsquedas concurrentes de la misma clave comparten el futuro en curso
+     */
+    private static AsyncCache<Object, Object> buildCache(LookupCacheProperties.Spec spec) {
+        return Caffeine.newBuilder()
+                .expireAfterWrite(spec.getTtl())
+                .maximumSize(spec.getMaxSize())
+                .recordStats()
+                .buildAsync();
+    }
+
+}
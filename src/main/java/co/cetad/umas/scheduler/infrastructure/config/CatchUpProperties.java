@@ -0,0 +1,44 @@
+package co.cetad.umas.scheduler.infrastructure.config;
+
+import co.cetad.umas.scheduler.domain.ports.out.CatchUpSettings;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuración del modo catch-up del job de ejecución
+ *
+ * Cuando el atraso de misiones vencidas supera threshold (p. ej. tras una caída de BD o Kafka)
+ * el tick drena el atraso en lotes de chunk-size, con pacing entre lotes, hasta agotarlo
+ * o hasta max-duration (debe quedar por debajo del lockAtMostFor del job)
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "scheduler.catch-up")
+public class CatchUpProperties implements CatchUpSettings {
+
+    private boolean enabled = true;
+
+    /**
+     * Misiones vencidas sin reclamar a partir de las cuales se entra en catch-up
+     */
+    private long threshold = 5000;
+
+    /**
+     * Misiones reclamadas y publicadas por lote
+     */
+    private int chunkSize = 500;
+
+    /**
+     * Pausa entre lotes: deja drenar el buffer del producer y no satura a los consumidores
+     */
+    private Duration pacing = Duration.ofMillis(250);
+
+    /**
+     * Tiempo máximo de drenado por tick; lo que quede sigue en el siguiente
+     */
+    private Duration maxDuration = Duration.ofMinutes(8);
+
+}
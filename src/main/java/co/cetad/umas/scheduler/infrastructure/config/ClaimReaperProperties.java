@@ -0,0 +1,40 @@
+package co.cetad.umas.scheduler.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuración del reaper de reclamos sin confirmar (StaleClaimReaper)
+ *
+ * Un reclamo (APROBADA → EN_EJECUCION con claimed_at) se confirma al recibir el ack de Kafka
+ * o al registrarse en el outbox; si la instancia cae antes, la misión quedaría EN_EJECUCION
+ * sin evento publicado. Pasado timeout el reaper la devuelve a APROBADA
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "scheduler.claim-reaper")
+public class ClaimReaperProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Antigüedad a partir de la cual un reclamo sin confirmar se considera abandonado
+     * Debe superar lo que puede tardar una publicación (delivery.timeout.ms del productor
+     * más la espera máxima del gobernador), o se repetirían eventos aún en vuelo
+     */
+    private Duration timeout = Duration.ofMinutes(5);
+
+    /**
+     * Intervalo entre pasadas del reaper
+     */
+    private long intervalMs = 60_000;
+
+    /**
+     * Máximo de reclamos liberados por pasada
+     */
+    private int batchSize = 1000;
+
+}
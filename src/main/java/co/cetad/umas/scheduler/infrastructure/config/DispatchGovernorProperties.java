@@ -0,0 +1,72 @@
+package co.cetad.umas.scheduler.infrastructure.config;
+
+import co.cetad.umas.scheduler.domain.ports.out.DispatchGovernorSettings;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuración del gobernador de publicación de eventos de ejecución
+ *
+ * La tasa de publicación (eventos/s) se adapta al lag del grupo consumidor del topic
+ * de ejecución con AIMD:
+ * - lag por debajo de target-lag: la tasa sube increase-step por muestra (hasta max-rate)
+ * - lag por encima: la tasa se multiplica por decrease-factor (hasta min-rate)
+ * - sin muestra (AdminClient caído o grupo inexistente): la tasa se mantiene
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "scheduler.dispatch-governor")
+public class DispatchGovernorProperties implements DispatchGovernorSettings {
+
+    private boolean enabled = false;
+
+    /**
+     * Grupo consumidor del topic de ejecución cuyo lag se observa
+     */
+    private String consumerGroup = "umas-mission-executor";
+
+    /**
+     * Intervalo entre muestras de lag
+     */
+    private long lagPollIntervalMs = 5000;
+
+    /**
+     * Timeout de cada consulta al AdminClient
+     */
+    private Duration adminTimeout = Duration.ofSeconds(3);
+
+    /**
+     * Lag (mensajes pendientes del grupo) que el consumidor absorbe sin degradarse
+     */
+    private long targetLag = 1000;
+
+    private double initialRate = 200;
+
+    private double minRate = 10;
+
+    private double maxRate = 2000;
+
+    /**
+     * Incremento aditivo de la tasa por muestra con lag bajo control (eventos/s)
+     */
+    private double increaseStep = 50;
+
+    /**
+     * Factor multiplicativo de la tasa por muestra con lag excedido
+     */
+    private double decreaseFactor = 0.5;
+
+    /**
+     * Capacidad del token bucket: ráfaga máxima y tamaño máximo de cada envío de un lote
+     */
+    private int burst = 100;
+
+    /**
+     * Espera máxima de un tramo: lo que excede no se retiene, vuelve como fallo y se libera
+     */
+    private Duration maxWait = Duration.ofSeconds(30);
+
+}
@@ -0,0 +1,42 @@
+package co.cetad.umas.scheduler.infrastructure.config;
+
+import co.cetad.umas.scheduler.domain.model.entity.MissionOrigin;
+import co.cetad.umas.scheduler.domain.ports.out.DispatchQueueSettings;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Configuración de la cola de publicación de eventos de ejecución (EDF)
+ *
+ * Los eventos salen por orden de plazo efectivo: estimatedDate menos el adelanto
+ * de su origen (origin-advance); a igual plazo, por orden de llegada
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "scheduler.dispatch-queue")
+public class DispatchQueueProperties implements DispatchQueueSettings {
+
+    /**
+     * Deshabilitada: cada lote se publica completo con publishAll
+     */
+    private boolean enabled = true;
+
+    /**
+     * Envíos a Kafka en curso como máximo (sumando todos los lotes y jobs)
+     */
+    private int maxInFlight = 256;
+
+    /**
+     * Adelanto de plazo por origen: una misión MANUAL con 30s compite como si
+     * estuviera 30s más atrasada que una AUTOMATICA con la misma estimatedDate
+     */
+    private Map<MissionOrigin, Duration> originAdvance = new EnumMap<>(Map.of(
+            MissionOrigin.MANUAL, Duration.ofSeconds(30)
+    ));
+
+}
@@ -0,0 +1,38 @@
+package co.cetad.umas.scheduler.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuración del dispatcher en memoria de misiones listas
+ *
+ * El dispatcher precarga las misiones que vencen dentro de la ventana
+ * (lookahead) y las publica al llegar su estimatedDate, sin esperar
+ * al siguiente tick del cron de ejecución
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "scheduler.dispatcher")
+public class DispatcherProperties {
+
+    /**
+     * Habilita el dispatcher en memoria
+     * El cron de ejecución se mantiene como barrido de recuperación
+     */
+    private boolean enabled = true;
+
+    /**
+     * Ventana de precarga: misiones que vencen dentro de este tiempo
+     * Debe ser mayor que el intervalo de precarga para no dejar huecos
+     */
+    private Duration lookahead = Duration.ofMinutes(2);
+
+    /**
+     * Máximo de misiones vencidas que se publican juntas en un disparo
+     */
+    private int maxBatchSize = 500;
+
+}
@@ -0,0 +1,38 @@
+package co.cetad.umas.scheduler.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuración de la detección de drones con reservas solapadas antes del despacho
+ *
+ * Cada misión reserva sus drones durante [inicio, inicio + mission-duration): el inicio es
+ * el despacho (estimatedDate, o el momento del tick si se despacha con atraso)
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "scheduler.drone-conflicts")
+public class DroneConflictProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Duración que se asume para cada misión (la tabla mission no guarda duración planificada)
+     */
+    private Duration missionDuration = Duration.ofMinutes(30);
+
+    /**
+     * Misiones APROBADA precargadas: las que vencen antes de now + lookahead
+     */
+    private Duration lookahead = Duration.ofMinutes(10);
+
+    /**
+     * Intervalo de reconstrucción del índice desde la BD
+     * Debe ser menor que lookahead para no dejar misiones sin asignaciones conocidas
+     */
+    private long refreshIntervalMs = 30000;
+
+}
@@ -0,0 +1,140 @@
+package co.cetad.umas.scheduler.infrastructure.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Executors dedicados para I/O bloqueante
+ *
+ * BULKHEADS:
+ * - dbExecutor: consultas y reclamos JPA
+ * - enrichmentExecutor: enriquecimiento de notificaciones
+ * - publishingExecutor: envío de lotes a Kafka
+ * - dispatchExecutor: un solo hilo que drena ExecutionDispatchQueue (los drenados se agrupan
+ *   en una sola tarea pendiente; si aun así se rechaza, nunca corre en el hilo llamante)
+ *
+ * CARACTERÍSTICAS:
+ * - Pools y colas acotados; al saturarse, AbortPolicy rechaza la tarea (TaskRejectedException)
+ *   Sin CallerRunsPolicy: estos pools se alimentan desde callbacks (acks de Kafka, etapas de
+ *   CompletableFuture, @Scheduled) y correr la tarea en el llamante bloquearía el hilo de I/O
+ *   del productor o del scheduler
+ * - Los envíos pasan por BulkheadTasks: supplyAsync / runAsync directos lanzarían el rechazo
+ *   sincrónicamente al llamante; así llega como futuro fallido y el tick reintenta
+ * - Opción de hilos virtuales (scheduler.executors.virtual-threads)
+ * - Métricas executor.* (activos, en cola, completados) con tag name=scheduler.<pool>
+ * - Reemplaza al ForkJoinPool.commonPool() para trabajo bloqueante
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class ExecutorConfig implements AsyncConfigurer {
+
+    public static final String DB_EXECUTOR = "dbExecutor";
+    public static final String ENRICHMENT_EXECUTOR = "enrichmentExecutor";
+    public static final String PUBLISHING_EXECUTOR = "publishingExecutor";
+    public static final String DISPATCH_EXECUTOR = "dispatchExecutor";
+
+    private final ExecutorProperties properties;
+
+    @Bean(DB_EXECUTOR)
+    public ThreadPoolTaskExecutor dbExecutor() {
+        return executor("scheduler-db-", properties.getDb());
+    }
+
+    @Bean(ENRICHMENT_EXECUTOR)
+    public ThreadPoolTaskExecutor enrichmentExecutor() {
+        return executor("scheduler-enrichment-", properties.getEnrichment());
+    }
+
+    @Bean(PUBLISHING_EXECUTOR)
+    public ThreadPoolTaskExecutor publishingExecutor() {
+        return executor("scheduler-publishing-", properties.getPublishing());
+    }
+
+    /**
+     * Hilo del drenado de la cola de despacho: una tarea en curso y como mucho una pendiente
+     */
+    @Bean(DISPATCH_EXECUTOR)
+    public ThreadPoolTaskExecutor dispatchExecutor() {
+        return executor("scheduler-dispatch-", new ExecutorProperties.Pool(1, 1, 1),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * @Async sin executor explícito se reserva para I/O de BD
+     */
+    @Override
+    public Executor getAsyncExecutor() {
+        return dbExecutor();
+    }
+
+    /**
+     * Expone tamaño de pool, tareas activas y profundidad de cola de cada bulkhead
+     */
+    @Bean
+    public MeterBinder schedulerExecutorMetrics(
+            @Qualifier(DB_EXECUTOR) ThreadPoolTaskExecutor dbExecutor,
+            @Qualifier(ENRICHMENT_EXECUTOR) ThreadPoolTaskExecutor enrichmentExecutor,
+            @Qualifier(PUBLISHING_EXECUTOR) ThreadPoolTaskExecutor publishingExecutor,
+            @Qualifier(DISPATCH_EXECUTOR) ThreadPoolTaskExecutor dispatchExecutor
+    ) {
+        return registry -> {
+            bind(registry, dbExecutor, "scheduler.db");
+            bind(registry, enrichmentExecutor, "scheduler.enrichment");
+            bind(registry, publishingExecutor, "scheduler.publishing");
+            bind(registry, dispatchExecutor, "scheduler.dispatch");
+        };
+    }
+
+    private ThreadPoolTaskExecutor executor(String threadNamePrefix, ExecutorProperties.Pool pool) {
+        return executor(threadNamePrefix, pool, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    private ThreadPoolTaskExecutor executor(
+            String threadNamePrefix,
+            ExecutorProperties.Pool pool,
+            RejectedExecutionHandler rejectionPolicy
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(pool.getCoreSize());
+        executor.setMaxPoolSize(pool.getMaxSize());
+        executor.setQueueCapacity(pool.getQueueCapacity());
+        executor.setKeepAliveSeconds((int) properties.getKeepAlive().toSeconds());
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setRejectedExecutionHandler(rejectionPolicy);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+
+        if (properties.isVirtualThreads()) {
+            executor.setThreadFactory(Thread.ofVirtual().name(threadNamePrefix, 0).factory());
+        }
+
+        log.info("Executor {} - core: {}, max: {}, queue: {}, virtual threads: {}",
+                threadNamePrefix, pool.getCoreSize(), pool.getMaxSize(), pool.getQueueCapacity(),
+                properties.isVirtualThreads());
+
+        return executor;
+    }
+
+    private static void bind(
+            MeterRegistry registry,
+            ThreadPoolTaskExecutor executor,
+            String name
+    ) {
+        new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), name, Tags.empty()).bindTo(registry);
+    }
+
+}
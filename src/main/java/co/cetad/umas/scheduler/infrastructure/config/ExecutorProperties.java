@@ -0,0 +1,71 @@
+package co.cetad.umas.scheduler.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuración de los executors dedicados (bulkheads) del scheduler
+ *
+ * Cada tipo de trabajo bloqueante tiene su propio pool acotado, de modo que
+ * una BD lenta no agota los hilos de publicación y viceversa
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "scheduler.executors")
+public class ExecutorProperties {
+
+    /**
+     * Ejecuta las tareas en hilos virtuales de Java 21
+     * Los límites de cada pool se mantienen como bulkhead
+     */
+    private boolean virtualThreads = false;
+
+    /**
+     * Tiempo de vida de hilos ociosos por encima del core
+     */
+    private Duration keepAlive = Duration.ofSeconds(60);
+
+    /**
+     * Consultas y reclamos en PostgreSQL
+     * Su máximo queda por debajo del pool de Hikari (20): el resto de conexiones atiende
+     * ShedLock, el relay del outbox, los leases y el listener sin esperar a este pool
+     */
+    private Pool db = new Pool(8, 12, 1_000);
+
+    /**
+     * Enriquecimiento de notificaciones (consultas por lote)
+     */
+    private Pool enrichment = new Pool(2, 4, 200);
+
+    /**
+     * Envío de lotes a Kafka (send puede bloquear con el buffer lleno)
+     */
+    private Pool publishing = new Pool(2, 4, 200);
+
+    @Data
+    public static class Pool {
+
+        private int coreSize;
+
+        private int maxSize;
+
+        /**
+         * Capacidad de la cola; al llenarse (y con el pool al máximo) la tarea se rechaza
+         */
+        private int queueCapacity;
+
+        public Pool() {
+        }
+
+        public Pool(int coreSize, int maxSize, int queueCapacity) {
+            this.coreSize = coreSize;
+            this.maxSize = maxSize;
+            this.queueCapacity = queueCapacity;
+        }
+
+    }
+
+}
@@ -0,0 +1,58 @@
+package co.cetad.umas.scheduler.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuración de las caches de consulta del enriquecimiento de notificaciones
+ *
+ * Pocos operadores y drones concentran la mayoría de las misiones: sus filas
+ * se leen una vez por TTL en lugar de una vez por lote
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "scheduler.cache")
+public class LookupCacheProperties {
+
+    /**
+     * Drones por id
+     */
+    private Spec drones = new Spec(Duration.ofMinutes(10), 10_000);
+
+    /**
+     * Operadores por id
+     */
+    private Spec operators = new Spec(Duration.ofMinutes(10), 10_000);
+
+    /**
+     * Dron principal por misión (las asignaciones cambian más seguido)
+     */
+    private Spec assignments = new Spec(Duration.ofMinutes(1), 50_000);
+
+    @Data
+    public static class Spec {
+
+        /**
+         * Tiempo de vida desde la escritura
+         */
+        private Duration ttl;
+
+        /**
+         * Máximo de entradas; al superarlo se desalojan las menos usadas
+         */
+        private long maxSize;
+
+        public Spec() {
+        }
+
+        public Spec(Duration ttl, long maxSize) {
+            this.ttl = ttl;
+            this.maxSize = maxSize;
+        }
+
+    }
+
+}
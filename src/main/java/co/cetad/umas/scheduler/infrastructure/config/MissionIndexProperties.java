@@ -0,0 +1,40 @@
+package co.cetad.umas.scheduler.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuración del índice en memoria de misiones próximas
+ *
+ * El índice se reconstruye desde la BD al arrancar (y periódicamente como
+ * reconciliación) y se mantiene con el topic de cambios de misión
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "scheduler.mission-index")
+public class MissionIndexProperties {
+
+    /**
+     * Habilita el índice (requiere que el servicio de misiones publique en kafka.topics.mission-changes)
+     */
+    private boolean enabled = false;
+
+    /**
+     * Tamaño de página de la carga completa desde la BD
+     */
+    private int rebuildPageSize = 1000;
+
+    /**
+     * Cron de reconciliación completa con la BD (cubre eventos perdidos)
+     */
+    private String rebuildCron = "0 */10 * * * *";
+
+    /**
+     * Identificador estable de la instancia: sufijo del grupo consumidor del topic de cambios
+     * Estable entre reinicios (hostname del pod por defecto) para no dejar un grupo huérfano
+     * en el broker por cada arranque; distinto por instancia porque cada una tiene su índice
+     */
+    private String instanceId;
+
+}
@@ -0,0 +1,54 @@
+package co.cetad.umas.scheduler.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuración del listener LISTEN/NOTIFY de cambios de misión
+ *
+ * Un trigger sobre mission notifica cuando una misión automática queda APROBADA
+ * o se reprograma; el listener despacha de inmediato las que ya vencieron y
+ * refresca la cola del dispatcher para las próximas
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "scheduler.listener")
+public class MissionListenerProperties {
+
+    /**
+     * Habilita el listener (requiere el trigger trg_mission_change_notify)
+     */
+    private boolean enabled = true;
+
+    /**
+     * Canal de NOTIFY (debe coincidir con el del trigger)
+     * Identificador simple de PostgreSQL: minúsculas, dígitos y guion bajo
+     */
+    private String channel = "mission_changes";
+
+    /**
+     * Espera máxima por notificaciones en cada vuelta del bucle
+     */
+    private Duration pollTimeout = Duration.ofSeconds(1);
+
+    /**
+     * Espera antes de reconectar si la conexión de escucha se pierde
+     */
+    private Duration reconnectBackoff = Duration.ofSeconds(5);
+
+    /**
+     * Misiones que vencen dentro de este margen se despachan de inmediato
+     * Las posteriores quedan en la cola del dispatcher
+     */
+    private Duration dispatchThreshold = Duration.ofSeconds(1);
+
+    /**
+     * Intervalo mínimo entre dos disparos del scheduling por notificaciones
+     * Las que llegan dentro del intervalo se agrupan en el siguiente disparo
+     */
+    private Duration dispatchDebounce = Duration.ofSeconds(2);
+
+}
@@ -0,0 +1,65 @@
+package co.cetad.umas.scheduler.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuración del adaptador de persistencia de misiones y del enriquecimiento
+ *
+ * - jpa: repositorios Spring Data JPA (JDBC bloqueante en el dbExecutor)
+ * - r2dbc: r2dbc-postgresql con pool reactivo, sin hilos bloqueados por consulta
+ *
+ * Las escrituras de infraestructura (ShedLock, outbox relay, leases, watermarks)
+ * siguen en JPA/JDBC con cualquiera de los dos
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "scheduler.persistence")
+public class PersistenceProperties {
+
+    /**
+     * Calificador del adaptador de BD activo (JPA o R2DBC), sin el índice en memoria delante
+     */
+    public static final String DATABASE_MISSION_REPOSITORY = "databaseMissionRepository";
+
+    public enum Adapter {
+        JPA,
+        R2DBC
+    }
+
+    private Adapter adapter = Adapter.JPA;
+
+    private R2dbc r2dbc = new R2dbc();
+
+    @Data
+    public static class R2dbc {
+
+        /**
+         * URL R2DBC (r2dbc:postgresql://host:port/db)
+         */
+        private String url = "r2dbc:postgresql://localhost:5432/umas_db";
+
+        private String username;
+
+        private String password;
+
+        private int initialSize = 5;
+
+        /**
+         * Conexiones máximas del pool reactivo (se suman a las de Hikari)
+         */
+        private int maxSize = 20;
+
+        private Duration maxIdleTime = Duration.ofMinutes(30);
+
+        /**
+         * Espera máxima por una conexión libre antes de fallar la consulta
+         */
+        private Duration maxAcquireTime = Duration.ofSeconds(5);
+
+    }
+
+}
@@ -0,0 +1,55 @@
+package co.cetad.umas.scheduler.infrastructure.config;
+
+import co.cetad.umas.scheduler.domain.ports.out.PipelineSettings;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuración del pipeline de los jobs de ejecución y notificación
+ *
+ * - future: listas completas por tick y publicación por lote con CompletableFuture
+ * - reactive: Flux con backpressure de la BD a Kafka; cada etapa tiene concurrencia
+ *   y buffer acotados, así la memoria no depende del tamaño del tick
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "scheduler.pipeline")
+public class PipelineProperties implements PipelineSettings {
+
+    public enum Mode {
+        FUTURE,
+        REACTIVE
+    }
+
+    private Mode mode = Mode.FUTURE;
+
+    /**
+     * Filas por página leída de la BD (y misiones por lote de reclamo)
+     */
+    private int pageSize = 500;
+
+    /**
+     * Misiones por lote de enriquecimiento (consultas IN)
+     */
+    private int enrichmentBatchSize = 200;
+
+    /**
+     * Lotes de enriquecimiento en curso a la vez
+     */
+    private int enrichmentConcurrency = 2;
+
+    /**
+     * Envíos a Kafka en curso a la vez dentro de un lote
+     */
+    private int publishConcurrency = 64;
+
+    /**
+     * Tiempo máximo de reclamo y publicación por tick de ejecución; lo que quede sigue
+     * en el siguiente (debe quedar por debajo del lockAtMostFor del job)
+     */
+    private Duration maxDuration = Duration.ofMinutes(8);
+
+}
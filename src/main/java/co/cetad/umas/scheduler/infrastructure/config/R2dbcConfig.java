@@ -0,0 +1,72 @@
+package co.cetad.umas.scheduler.infrastructure.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+/**
+ * Configuración R2DBC del adaptador reactivo (scheduler.persistence.adapter=r2dbc)
+ *
+ * El pool no se expone como bean ConnectionFactory: Spring Boot desactiva el DataSource
+ * (y con él JPA, ShedLock y Flyway) cuando encuentra uno. Por lo mismo no se registra un
+ * ReactiveTransactionManager, que competiría con el de JPA en @Transactional;
+ * las transacciones reactivas usan schedulerTransactionalOperator
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "scheduler.persistence", name = "adapter", havingValue = "r2dbc")
+public class R2dbcConfig implements DisposableBean {
+
+    public static final String DATABASE_CLIENT = "schedulerDatabaseClient";
+    public static final String TRANSACTIONAL_OPERATOR = "schedulerTransactionalOperator";
+
+    private final ConnectionPool connectionPool;
+
+    public R2dbcConfig(PersistenceProperties properties) {
+        PersistenceProperties.R2dbc r2dbc = properties.getR2dbc();
+
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(r2dbc.getUrl()).mutate();
+        if (r2dbc.getUsername() != null) {
+            options.option(ConnectionFactoryOptions.USER, r2dbc.getUsername());
+        }
+        if (r2dbc.getPassword() != null) {
+            options.option(ConnectionFactoryOptions.PASSWORD, r2dbc.getPassword());
+        }
+
+        this.connectionPool = new ConnectionPool(ConnectionPoolConfiguration
+                .builder(ConnectionFactories.get(options.build()))
+                .name("scheduler-r2dbc")
+                .initialSize(r2dbc.getInitialSize())
+                .maxSize(r2dbc.getMaxSize())
+                .maxIdleTime(r2dbc.getMaxIdleTime())
+                .maxAcquireTime(r2dbc.getMaxAcquireTime())
+                .build());
+
+        log.info("R2DBC connection pool created - max size: {}", r2dbc.getMaxSize());
+    }
+
+    @Bean(DATABASE_CLIENT)
+    public DatabaseClient schedulerDatabaseClient() {
+        return DatabaseClient.create(connectionPool);
+    }
+
+    @Bean(TRANSACTIONAL_OPERATOR)
+    public TransactionalOperator schedulerTransactionalOperator() {
+        return TransactionalOperator.create(new R2dbcTransactionManager(connectionPool));
+    }
+
+    @Override
+    public void destroy() {
+        connectionPool.dispose();
+    }
+
+}
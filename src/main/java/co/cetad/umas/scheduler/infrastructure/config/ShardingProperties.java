@@ -0,0 +1,50 @@
+package co.cetad.umas.scheduler.infrastructure.config;
+
+import co.cetad.umas.scheduler.domain.ports.out.ShardingSettings;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuración del scheduling sharded entre instancias
+ *
+ * Las misiones se reparten en buckets por hash de su id. Cada instancia viva
+ * toma en arriendo (lease) una parte de los buckets en scheduler_bucket_lease
+ * y solo escanea y publica las misiones de esos buckets. Al entrar o caer una
+ * instancia, los buckets se redistribuyen en los siguientes heartbeats
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "scheduler.sharding")
+public class ShardingProperties implements ShardingSettings {
+
+    /**
+     * Habilita el modo sharded (reemplaza al ShedLock de los jobs de ejecución y notificación)
+     */
+    private boolean enabled = false;
+
+    /**
+     * Número de buckets; debe ser el mismo en todas las instancias
+     * Conviene que sea varias veces el número máximo de réplicas
+     */
+    private int bucketCount = 64;
+
+    /**
+     * Identificador de la instancia (por defecto hostname + sufijo aleatorio)
+     */
+    private String instanceId;
+
+    /**
+     * Intervalo de heartbeat, renovación de leases y rebalanceo
+     */
+    private Duration heartbeatInterval = Duration.ofSeconds(5);
+
+    /**
+     * Duración de un lease sin renovar; pasado este tiempo la instancia se considera caída
+     * Debe ser varias veces el heartbeat-interval
+     */
+    private Duration leaseTtl = Duration.ofSeconds(20);
+
+}
@@ -1,6 +1,8 @@
 package co.cetad.umas.scheduler.infrastructure.config;
 
+import net.javacrumbs.shedlock.core.DefaultLockingTaskExecutor;
 import net.javacrumbs.shedlock.core.LockProvider;
+import net.javacrumbs.shedlock.core.LockingTaskExecutor;
 import net.javacrumbs.shedlock.provider.jdbctemplate.JdbcTemplateLockProvider;
 import net.javacrumbs.shedlock.spring.annotation.EnableSchedulerLock;
 import org.springframework.context.annotation.Bean;
@@ -19,6 +21,9 @@ import javax.sql.DataSource;
  * - Antes de ejecutar un job, ShedLock intenta adquirir un lock en la BD
  * - Si el lock ya está tomado por otra instancia, el job no se ejecuta
  * - El lock se libera automáticamente después de lockAtMostFor
+ *
+ * En modo sharded (scheduler.sharding.enabled) los jobs de ejecución y notificación
+ * no usan ShedLock: el trabajo se reparte por buckets (ver BucketLeaseManager)
  */
 @Configuration
 @EnableScheduling
@@ -39,4 +44,13 @@ public class ShedLockConfig {
         );
     }
 
+    /**
+     * Executor para locks programáticos
+     * Usado donde el lock depende de la configuración (p. ej. precarga del dispatcher sin sharding)
+     */
+    @Bean
+    public LockingTaskExecutor lockingTaskExecutor(LockProvider lockProvider) {
+        return new DefaultLockingTaskExecutor(lockProvider);
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,127 @@
+package co.cetad.umas.scheduler.infrastructure.messaging.kafka.admin;
+
+import co.cetad.umas.scheduler.application.service.DispatchGovernor;
+import co.cetad.umas.scheduler.infrastructure.config.DispatchGovernorProperties;
+import co.cetad.umas.scheduler.infrastructure.messaging.kafka.config.KafkaTopicsProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.admin.ListConsumerGroupOffsetsOptions;
+import org.apache.kafka.clients.admin.ListOffsetsOptions;
+import org.apache.kafka.clients.admin.ListOffsetsResult;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/**
+ * Muestreo del lag del grupo consumidor del topic de ejecución
+ *
+ * FUNCIONAMIENTO:
+ * 1. Offsets confirmados del grupo (scheduler.dispatch-governor.consumer-group) en el topic
+ * 2. Offsets finales de esas particiones
+ * 3. Lag = suma de (final - confirmado), informado a DispatchGovernor
+ *
+ * - El AdminClient parte de la configuración de KafkaAdmin (spring.kafka.bootstrap-servers,
+ *   spring.kafka.admin.*: SSL/SASL incluidos), con client-id y timeout propios
+ * - Las consultas al AdminClient son asíncronas: no ocupan el pool de @Scheduled
+ * - Cualquier fallo (broker caído, grupo inexistente, timeout) deja la tasa como está
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "scheduler.dispatch-governor", name = "enabled", havingValue = "true")
+public class ConsumerLagMonitor implements DisposableBean {
+
+    private final AdminClient adminClient;
+    private final DispatchGovernor governor;
+    private final DispatchGovernorProperties properties;
+    private final KafkaTopicsProperties topicsProperties;
+
+    public ConsumerLagMonitor(
+            KafkaAdmin kafkaAdmin,
+            DispatchGovernor governor,
+            DispatchGovernorProperties properties,
+            KafkaTopicsProperties topicsProperties
+    ) {
+        this.governor = governor;
+        this.properties = properties;
+        this.topicsProperties = topicsProperties;
+        Map<String, Object> config = new HashMap<>(kafkaAdmin.getConfigurationProperties());
+        config.put(AdminClientConfig.CLIENT_ID_CONFIG, "umas-scheduler-lag-monitor");
+        config.put(AdminClientConfig.DEFAULT_API_TIMEOUT_MS_CONFIG, timeoutMs(properties.getAdminTimeout()));
+        this.adminClient = AdminClient.create(config);
+    }
+
+    @Scheduled(fixedDelayString = "${scheduler.dispatch-governor.lag-poll-interval-ms:5000}")
+    public void sampleConsumerLag() {
+        consumerLag().whenComplete((lag, throwable) -> {
+            if (throwable != null) {
+                log.warn("⚠️ Could not sample lag of consumer group {}: {}",
+                        properties.getConsumerGroup(), throwable.getMessage());
+                governor.onConsumerLagUnavailable();
+            } else {
+                governor.onConsumerLag(lag);
+            }
+        });
+    }
+
+    private CompletableFuture<Long> consumerLag() {
+        String topic = topicsProperties.getExecute();
+        int timeoutMs = timeoutMs(properties.getAdminTimeout());
+
+        return adminClient.listConsumerGroupOffsets(properties.getConsumerGroup(),
+                        new ListConsumerGroupOffsetsOptions().timeoutMs(timeoutMs))
+                .partitionsToOffsetAndMetadata()
+                .toCompletionStage()
+                .toCompletableFuture()
+                .thenCompose(committed -> {
+                    Map<TopicPartition, Long> positions = committed.entrySet().stream()
+                            .filter(entry -> entry.getKey().topic().equals(topic) && entry.getValue() != null)
+                            .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().offset()));
+                    if (positions.isEmpty()) {
+                        return CompletableFuture.<Long>failedFuture(new IllegalStateException(
+                                "No committed offsets on " + topic));
+                    }
+
+                    Map<TopicPartition, OffsetSpec> latest = positions.keySet().stream()
+                            .collect(Collectors.toMap(partition -> partition, partition -> OffsetSpec.latest()));
+
+                    return adminClient.listOffsets(latest, new ListOffsetsOptions().timeoutMs(timeoutMs))
+                            .all()
+                            .toCompletionStage()
+                            .toCompletableFuture()
+                            .thenApply(ends -> lag(positions, ends));
+                });
+    }
+
+    private static long lag(
+            Map<TopicPartition, Long> positions,
+            Map<TopicPartition, ListOffsetsResult.ListOffsetsResultInfo> ends
+    ) {
+        return positions.entrySet().stream()
+                .mapToLong(entry -> {
+                    ListOffsetsResult.ListOffsetsResultInfo end = ends.get(entry.getKey());
+                    return end == null ? 0 : Math.max(end.offset() - entry.getValue(), 0);
+                })
+                .sum();
+    }
+
+    private static int timeoutMs(Duration timeout) {
+        return (int) Math.min(timeout.toMillis(), Integer.MAX_VALUE);
+    }
+
+    @Override
+    public void destroy() {
+        adminClient.close(Duration.ofSeconds(5));
+    }
+
+}
@@ -1,10 +1,13 @@
 package co.cetad.umas.scheduler.infrastructure.messaging.kafka.config;
 
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
@@ -13,28 +16,77 @@ import org.springframework.kafka.core.ProducerFactory;
 import java.util.HashMap;
 import java.util.Map;
 
+/**
+ * Configuración de producers Kafka
+ *
+ * Un ProducerFactory/KafkaTemplate por perfil (ver KafkaProducerProperties):
+ * - executionKafkaTemplate (@Primary): eventos de ejecución, baja latencia
+ * - notificationKafkaTemplate: notificaciones de preparación, lotes agresivos
+ *
+ * Los valores ya vienen serializados a UTF-8 (KafkaMessageWriter): ByteArraySerializer
+ * los pasa al acumulador sin copiarlos ni re-codificarlos
+ */
 @EnableKafka
 @Configuration
 public class KafkaProducerConfig {
 
+    /**
+     * Límite de requests en vuelo compatible con idempotencia
+     */
+    private static final int MAX_IDEMPOTENT_IN_FLIGHT = 5;
+
     @Value("${spring.kafka.producer.bootstrap-servers:localhost:9092}")
     private String bootstrapServers;
 
     @Bean
-    public ProducerFactory<String, String> producerFactory() {
+    @Primary
+    public ProducerFactory<String, byte[]> executionProducerFactory(KafkaProducerProperties properties) {
+        return producerFactory("execution", properties.getExecution());
+    }
+
+    @Bean
+    public ProducerFactory<String, byte[]> notificationProducerFactory(KafkaProducerProperties properties) {
+        return producerFactory("notification", properties.getNotification());
+    }
+
+    @Bean
+    @Primary
+    public KafkaTemplate<String, byte[]> executionKafkaTemplate(
+            @Qualifier("executionProducerFactory") ProducerFactory<String, byte[]> producerFactory
+    ) {
+        return new KafkaTemplate<>(producerFactory);
+    }
+
+    @Bean
+    public KafkaTemplate<String, byte[]> notificationKafkaTemplate(
+            @Qualifier("notificationProducerFactory") ProducerFactory<String, byte[]> producerFactory
+    ) {
+        return new KafkaTemplate<>(producerFactory);
+    }
+
+    private ProducerFactory<String, byte[]> producerFactory(String profileName, KafkaProducerProperties.Profile profile) {
+        if (profile.getMaxInFlight() > MAX_IDEMPOTENT_IN_FLIGHT) {
+            throw new IllegalStateException("kafka.producer-profiles." + profileName
+                    + ".max-in-flight must be <= " + MAX_IDEMPOTENT_IN_FLIGHT + " with idempotence enabled");
+        }
+
         Map<String, Object> props = new HashMap<>();
         props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        props.put(ProducerConfig.ACKS_CONFIG, "all");
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        props.put(ProducerConfig.ACKS_CONFIG, profile.getAcks());
         props.put(ProducerConfig.RETRIES_CONFIG, 3);
         props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
-        return new DefaultKafkaProducerFactory<>(props);
-    }
 
-    @Bean
-    public KafkaTemplate<String, String> kafkaTemplate() {
-        return new KafkaTemplate<>(producerFactory());
+        // Perfil de throughput/latencia
+        props.put(ProducerConfig.LINGER_MS_CONFIG, profile.getLingerMs());
+        props.put(ProducerConfig.BATCH_SIZE_CONFIG, profile.getBatchSize());
+        props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, profile.getCompressionType());
+        props.put(ProducerConfig.BUFFER_MEMORY_CONFIG, profile.getBufferMemory());
+        props.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION_CONFIG, profile.getMaxInFlight());
+        props.put(ProducerConfig.CLIENT_ID_CONFIG, "umas-mission-scheduler-" + profileName);
+
+        return new DefaultKafkaProducerFactory<>(props);
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,84 @@
+package co.cetad.umas.scheduler.infrastructure.messaging.kafka.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Perfiles de producer Kafka por topic
+ *
+ * - execution: baja latencia (sin linger, lotes pequeños) para umas.mission.execute
+ * - notification: alto throughput (linger + lotes grandes + zstd) para notificaciones
+ *
+ * Cada perfil genera su propio ProducerFactory y KafkaTemplate
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "kafka.producer-profiles")
+public class KafkaProducerProperties {
+
+    /**
+     * Perfil del topic de ejecución de misiones
+     */
+    private Profile execution = new Profile("all", 0, 16_384, "lz4", 33_554_432L, 5);
+
+    /**
+     * Perfil del topic de notificaciones de preparación
+     */
+    private Profile notification = new Profile("all", 50, 131_072, "zstd", 67_108_864L, 5);
+
+    @Data
+    public static class Profile {
+
+        /**
+         * acks del producer (all es obligatorio con idempotencia)
+         */
+        private String acks;
+
+        /**
+         * linger.ms: espera máxima para completar un lote
+         */
+        private int lingerMs;
+
+        /**
+         * batch.size en bytes por partición
+         */
+        private int batchSize;
+
+        /**
+         * compression.type: none, gzip, snappy, lz4, zstd
+         */
+        private String compressionType;
+
+        /**
+         * buffer.memory en bytes para registros pendientes de envío
+         */
+        private long bufferMemory;
+
+        /**
+         * max.in.flight.requests.per.connection (máximo 5 con idempotencia)
+         */
+        private int maxInFlight;
+
+        public Profile() {
+        }
+
+        public Profile(
+                String acks,
+                int lingerMs,
+                int batchSize,
+                String compressionType,
+                long bufferMemory,
+                int maxInFlight
+        ) {
+            this.acks = acks;
+            this.lingerMs = lingerMs;
+            this.batchSize = batchSize;
+            this.compressionType = compressionType;
+            this.bufferMemory = bufferMemory;
+            this.maxInFlight = maxInFlight;
+        }
+
+    }
+
+}
@@ -1,5 +1,6 @@
 package co.cetad.umas.scheduler.infrastructure.messaging.kafka.config;
 
+import co.cetad.umas.scheduler.domain.ports.out.TopicSettings;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
@@ -7,7 +8,7 @@ import org.springframework.stereotype.Component;
 @Data
 @Component
 @ConfigurationProperties(prefix = "kafka.topics")
-public class KafkaTopicsProperties {
+public class KafkaTopicsProperties implements TopicSettings {
 
     /**
      * Topic para ejecutar misiones
@@ -19,4 +20,10 @@ public class KafkaTopicsProperties {
      */
     private String notification = "umas.dron.preparation.notification";
 
+    /**
+     * Topic de cambios de misión (creación, aprobación, reprogramación, cancelación)
+     * Alimenta el índice en memoria de misiones próximas
+     */
+    private String missionChanges = "umas.mission.changes";
+
 }
\ No newline at end of file
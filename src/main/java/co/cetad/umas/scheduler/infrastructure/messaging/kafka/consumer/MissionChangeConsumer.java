@@ -0,0 +1,92 @@
+package co.cetad.umas.scheduler.infrastructure.messaging.kafka.consumer;
+
+import co.cetad.umas.scheduler.domain.model.dto.MissionChangeMessage;
+import co.cetad.umas.scheduler.infrastructure.persistence.cache.EnrichmentLookupCache;
+import co.cetad.umas.scheduler.infrastructure.persistence.index.UpcomingMissionIndex;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Consumidor del topic de cambios de misión que mantiene el índice en memoria
+ *
+ * FUNCIONAMIENTO:
+ * - Consumo por lotes (highThroughputKafkaListenerFactory) con ack manual tras aplicar el lote
+ * - Misión resultante APROBADA y automática: se inserta o reemplaza (aprobación, reprogramación)
+ * - Cualquier otro estado: se retira del índice (cancelación, ejecución, rechazo)
+ * - Todo cambio invalida el dron asignado en cache (la reasignación suele acompañar al cambio)
+ *
+ * GRUPO:
+ * - Cada instancia mantiene su propio índice, así que usa un grupo propio y empieza
+ *   en latest: el estado previo lo aporta la reconstrucción desde la BD
+ * - El sufijo del grupo es scheduler.mission-index.instance-id, estable entre reinicios:
+ *   un sufijo aleatorio dejaría un grupo huérfano en el broker por cada arranque
+ * - Los mensajes malformados o sin updated_at (sin versión no se pueden ordenar frente
+ *   a la reconstrucción) se registran y se omiten para no bloquear la partición
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "scheduler.mission-index", name = "enabled", havingValue = "true")
+public class MissionChangeConsumer {
+
+    private final UpcomingMissionIndex index;
+    private final EnrichmentLookupCache lookupCache;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(
+            id = "missionChangeConsumer",
+            topics = "${kafka.topics.mission-changes:umas.mission.changes}",
+            groupId = "${spring.kafka.consumer.group-id:umas-operation-service}-mission-index-"
+                    + "${scheduler.mission-index.instance-id:${HOSTNAME:umas-scheduler}}",
+            containerFactory = "highThroughputKafkaListenerFactory",
+            concurrency = "1",
+            properties = "auto.offset.reset=latest"
+    )
+    public void onMissionChanges(List<ConsumerRecord<String, String>> records, Acknowledgment acknowledgment) {
+        int applied = 0;
+
+        for (ConsumerRecord<String, String> record : records) {
+            if (apply(record)) {
+                applied++;
+            }
+        }
+
+        acknowledgment.acknowledge();
+        log.debug("Applied {} of {} mission change events, {} missions indexed",
+                applied, records.size(), index.size());
+    }
+
+    private boolean apply(ConsumerRecord<String, String> record) {
+        try {
+            MissionChangeMessage message = objectMapper.readValue(record.value(), MissionChangeMessage.class);
+            if (message.version() == null) {
+                log.warn("Skipping mission change event without updated_at at {}-{}@{} (mission {})",
+                        record.topic(), record.partition(), record.offset(), message.missionId());
+                return false;
+            }
+            lookupCache.invalidateAssignment(UUID.fromString(message.missionId()));
+
+            if (message.isSchedulable()) {
+                index.upsert(message.toMission());
+            } else {
+                index.remove(message.missionId(), message.version());
+            }
+            return true;
+
+        } catch (Exception e) {
+            log.warn("Skipping malformed mission change event at {}-{}@{}: {}",
+                    record.topic(), record.partition(), record.offset(), e.getMessage());
+            return false;
+        }
+    }
+
+}
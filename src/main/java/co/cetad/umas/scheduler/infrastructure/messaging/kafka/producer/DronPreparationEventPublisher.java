@@ -1,18 +1,23 @@
 package co.cetad.umas.scheduler.infrastructure.messaging.kafka.producer;
 
 import co.cetad.umas.scheduler.domain.model.dto.DronPreparationNotificationEvent;
+import co.cetad.umas.scheduler.domain.model.vo.PublicationResult;
 import co.cetad.umas.scheduler.domain.ports.out.EventPublisher;
-import co.cetad.umas.scheduler.domain.model.dto.DronPreparationMessage;
+import co.cetad.umas.scheduler.infrastructure.config.BulkheadTasks;
+import co.cetad.umas.scheduler.infrastructure.config.ExecutorConfig;
 import co.cetad.umas.scheduler.infrastructure.messaging.kafka.config.KafkaTopicsProperties;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import co.cetad.umas.scheduler.infrastructure.messaging.kafka.serialization.KafkaMessageWriter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Adaptador de infraestructura para publicación de eventos de preparación de dron en Kafka
@@ -21,13 +26,14 @@ import java.util.concurrent.CompletableFuture;
  *
  * RESPONSABILIDADES:
  * 1. Transformar eventos de dominio a mensajes DTO para Kafka
- * 2. Serializar mensajes a JSON
+ * 2. Serializar mensajes a JSON (bytes UTF-8, sin String intermedio)
  * 3. Publicar en el topic umas.dron.preparation.notification
  * 4. Manejo de errores de serialización y publicación
  *
  * IMPORTANTE:
  * - Usa @Qualifier("dronPreparationEventPublisher") para inyección
- * - Espera acknowledgment de Kafka con .get()
+ * - El futuro retornado se completa con el acknowledgment de Kafka (sin bloquear hilos)
+ * - publishAll envía todo el lote y agrega los acks en un solo resultado
  * - Logging detallado para debugging
  */
 @Slf4j
@@ -35,72 +41,81 @@ import java.util.concurrent.CompletableFuture;
 @RequiredArgsConstructor
 public class DronPreparationEventPublisher implements EventPublisher<DronPreparationNotificationEvent> {
 
-    private final KafkaTemplate<String, String> kafkaTemplate;
+    @Qualifier("notificationKafkaTemplate")
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
     private final KafkaTopicsProperties topicsProperties;
-    private final ObjectMapper objectMapper;
+    private final KafkaMessageWriter messageWriter;
+
+    @Qualifier(ExecutorConfig.PUBLISHING_EXECUTOR)
+    private final Executor publishingExecutor;
 
     @Override
-    @Async
     public CompletableFuture<Void> publish(DronPreparationNotificationEvent event) {
-        return CompletableFuture.runAsync(() -> {
-            try {
-                // Transformar evento a mensaje DTO
-                DronPreparationMessage message = toPreparationMessage(event);
-
-                // Serializar a JSON
-                String jsonPayload = serializeMessage(message);
-
-                // Publicar en Kafka
-                kafkaTemplate.send(
-                        topicsProperties.getNotification(),
-                        event.missionId(),
-                        jsonPayload
-                ).get(); // Wait for acknowledgment
+        return send(event);
+    }
 
-                log.info("✅ Published dron preparation notification - Mission: {}, Vehicle: {} ({}), " +
-                                "Scheduled: {}, Minutes before: {}, Recipient: {}, Topic: {}",
-                        event.missionId(),
-                        event.vehicleName(),
-                        event.vehicleId(),
-                        event.scheduledExecutionTime(),
-                        event.minutesBeforeExecution(),
-                        event.recipientEmail(),
-                        topicsProperties.getNotification());
+    @Override
+    public CompletableFuture<PublicationResult<DronPreparationNotificationEvent>> publishAll(
+            Collection<DronPreparationNotificationEvent> events
+    ) {
+        List<DronPreparationNotificationEvent> batch = List.copyOf(events);
 
-            } catch (JsonProcessingException e) {
-                log.error("❌ Error serializing preparation notification for mission: {}",
-                        event.missionId(), e);
-                throw new RuntimeException("Failed to serialize preparation notification", e);
-            } catch (Exception e) {
-                log.error("❌ Error publishing preparation notification for mission: {}",
-                        event.missionId(), e);
-                throw new RuntimeException("Failed to publish preparation notification", e);
-            }
-        });
+        // send() puede bloquear (metadata, buffer lleno): el lote se lanza en el bulkhead de publicación
+        return BulkheadTasks.supplyAsync(() -> batch.stream()
+                        .map(this::send)
+                        .toList(), publishingExecutor)
+                .thenCompose(sends -> PublicationResult.aggregate(batch, sends))
+                .whenComplete((result, throwable) -> {
+                    if (result != null) {
+                        log.info("Published {} dron preparation notifications ({} failed) to {}",
+                                result.publishedCount(), result.failedCount(), topicsProperties.getNotification());
+                    }
+                });
     }
 
     /**
-     * Transforma evento de dominio a mensaje DTO para Kafka
-     * Incluye todos los campos necesarios: vehicleId, vehicleName, recipientEmail
+     * Serializa y envía un evento; el futuro se completa con el ack del broker
      */
-    private DronPreparationMessage toPreparationMessage(DronPreparationNotificationEvent event) {
-        return DronPreparationMessage.of(
-                event.missionId(),
-                event.missionName(),
-                event.vehicleId(),
-                event.vehicleName(),
-                event.scheduledExecutionTime(),
-                event.minutesBeforeExecution(),
-                event.publishedAt(),
-                event.recipientEmail()
-        );
-    }
+    private CompletableFuture<Void> send(DronPreparationNotificationEvent event) {
+        try {
+            // Transformar evento a mensaje DTO y serializar en el formato configurado (kafka.wire-format)
+            byte[] payload = messageWriter.preparationPayload(event);
 
-    /**
-     * Serializa un mensaje a JSON
-     */
-    private String serializeMessage(Object message) throws JsonProcessingException {
-        return objectMapper.writeValueAsString(message);
+            // Publicar en Kafka
+            return kafkaTemplate.send(messageWriter.record(
+                            topicsProperties.getNotification(),
+                            event.missionId(),
+                            payload
+                    ))
+                    .<Void>thenApply(result -> null)
+                    .whenComplete((v, throwable) -> {
+                        if (throwable != null) {
+                            log.error("❌ Error publishing preparation notification for mission: {}",
+                                    event.missionId(), throwable);
+                            return;
+                        }
+                        log.debug("✅ Published dron preparation notification - Mission: {}, Vehicle: {} ({}), " +
+                                        "Scheduled: {}, Minutes before: {}, Recipient: {}, Topic: {}",
+                                event.missionId(),
+                                event.vehicleName(),
+                                event.vehicleId(),
+                                event.scheduledExecutionTime(),
+                                event.minutesBeforeExecution(),
+                                event.recipientEmail(),
+                                topicsProperties.getNotification());
+                    });
+
+        } catch (IOException e) {
+            log.error("❌ Error serializing preparation notification for mission: {}",
+                    event.missionId(), e);
+            return CompletableFuture.failedFuture(
+                    new RuntimeException("Failed to serialize preparation notification", e));
+        } catch (Exception e) {
+            log.error("❌ Error publishing preparation notification for mission: {}",
+                    event.missionId(), e);
+            return CompletableFuture.failedFuture(
+                    new RuntimeException("Failed to publish preparation notification", e));
+        }
     }
 
-}
\ No newline at end of file
+}
@@ -1,20 +1,23 @@
 package co.cetad.umas.scheduler.infrastructure.messaging.kafka.producer;
 
-import co.cetad.umas.scheduler.domain.model.dto.DronPreparationMessage;
-import co.cetad.umas.scheduler.domain.model.dto.DronPreparationNotificationEvent;
-import co.cetad.umas.scheduler.domain.model.dto.MissionExecutionMessage;
 import co.cetad.umas.scheduler.domain.model.dto.MissionExecutionScheduledEvent;
+import co.cetad.umas.scheduler.domain.model.vo.PublicationResult;
 import co.cetad.umas.scheduler.domain.ports.out.EventPublisher;
+import co.cetad.umas.scheduler.infrastructure.config.BulkheadTasks;
+import co.cetad.umas.scheduler.infrastructure.config.ExecutorConfig;
 import co.cetad.umas.scheduler.infrastructure.messaging.kafka.config.KafkaTopicsProperties;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import co.cetad.umas.scheduler.infrastructure.messaging.kafka.serialization.KafkaMessageWriter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Adaptador de Kafka para publicación de eventos de misión
@@ -25,8 +28,10 @@ import java.util.concurrent.CompletableFuture;
  * 3. Manejo de errores de serialización y publicación
  *
  * CARACTERÍSTICAS:
- * - Operaciones asíncronas
- * - Serialización JSON con Jackson
+ * - No bloqueante: el futuro retornado es el ack de KafkaTemplate, sin saltos de hilo
+ * - publishAll lanza todo el lote en el pipeline del producer y agrega los acks
+ * - Serialización a bytes en el formato configurado, con headers content-type y schema-version
+ *   (KafkaMessageWriter)
  * - Manejo funcional de errores
  */
 @Slf4j
@@ -34,53 +39,68 @@ import java.util.concurrent.CompletableFuture;
 @RequiredArgsConstructor
 public class MissionEventPublisher implements EventPublisher<MissionExecutionScheduledEvent> {
 
-    private final KafkaTemplate<String, String> kafkaTemplate;
+    @Qualifier("executionKafkaTemplate")
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
     private final KafkaTopicsProperties topicsProperties;
-    private final ObjectMapper objectMapper;
+    private final KafkaMessageWriter messageWriter;
+
+    @Qualifier(ExecutorConfig.PUBLISHING_EXECUTOR)
+    private final Executor publishingExecutor;
 
     @Override
-    @Async
     public CompletableFuture<Void> publish(MissionExecutionScheduledEvent event) {
-        return CompletableFuture.runAsync(() -> {
-            try {
-                MissionExecutionMessage message = toExecutionMessage(event);
-                String jsonPayload = serializeMessage(message);
-
-                kafkaTemplate.send(
-                        topicsProperties.getExecute(),
-                        event.missionId(),
-                        jsonPayload
-                );
+        return send(event)
+                .thenRun(() -> log.info("Published mission execution event for mission: {}", event.missionId()));
+    }
 
-                log.info("Published mission execution event for mission: {}", event.missionId());
+    @Override
+    public CompletableFuture<PublicationResult<MissionExecutionScheduledEvent>> publishAll(
+            Collection<MissionExecutionScheduledEvent> events
+    ) {
+        List<MissionExecutionScheduledEvent> batch = List.copyOf(events);
 
-            } catch (JsonProcessingException e) {
-                log.error("Error serializing mission execution event", e);
-                throw new RuntimeException("Failed to serialize mission execution event", e);
-            } catch (Exception e) {
-                log.error("Error publishing mission execution event", e);
-                throw new RuntimeException("Failed to publish mission execution event", e);
-            }
-        });
+        // send() puede bloquear (metadata, buffer lleno): el lote se lanza en el bulkhead de publicación
+        return BulkheadTasks.supplyAsync(() -> batch.stream()
+                        .map(this::send)
+                        .toList(), publishingExecutor)
+                .thenCompose(sends -> PublicationResult.aggregate(batch, sends))
+                .whenComplete((result, throwable) -> {
+                    if (result != null) {
+                        log.info("Published {} mission execution events ({} failed) to {}",
+                                result.publishedCount(), result.failedCount(), topicsProperties.getExecute());
+                    }
+                });
     }
 
     /**
-     * Transforma evento de dominio a mensaje DTO
+     * Serializa y envía un evento; el futuro se completa con el ack del broker
      */
-    private MissionExecutionMessage toExecutionMessage(MissionExecutionScheduledEvent event) {
-        return MissionExecutionMessage.of(
-                event.missionId(),
-                event.missionName(),
-                event.scheduledAt(),
-                event.publishedAt()
-        );
-    }
+    private CompletableFuture<Void> send(MissionExecutionScheduledEvent event) {
+        try {
+            byte[] payload = messageWriter.executionPayload(event);
 
-    /**
-     * Serializa un mensaje a JSON
-     */
-    private String serializeMessage(Object message) throws JsonProcessingException {
-        return objectMapper.writeValueAsString(message);
+            return kafkaTemplate.send(messageWriter.record(
+                            topicsProperties.getExecute(),
+                            event.missionId(),
+                            payload
+                    ))
+                    .<Void>thenApply(result -> null)
+                    .whenComplete((v, throwable) -> {
+                        if (throwable != null) {
+                            log.error("Error publishing mission execution event for mission: {}",
+                                    event.missionId(), throwable);
+                        }
+                    });
+
+        } catch (IOException e) {
+            log.error("Error serializing mission execution event", e);
+            return CompletableFuture.failedFuture(
+                    new RuntimeException("Failed to serialize mission execution event", e));
+        } catch (Exception e) {
+            log.error("Error publishing mission execution event", e);
+            return CompletableFuture.failedFuture(
+                    new RuntimeException("Failed to publish mission execution event", e));
+        }
     }
 
-}
\ No newline at end of file
+}
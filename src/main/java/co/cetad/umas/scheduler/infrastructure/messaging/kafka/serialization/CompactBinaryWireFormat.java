@@ -0,0 +1,280 @@
+package co.cetad.umas.scheduler.infrastructure.messaging.kafka.serialization;
+
+import co.cetad.umas.scheduler.domain.model.dto.DronPreparationMessage;
+import co.cetad.umas.scheduler.domain.model.dto.MissionExecutionMessage;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Formato binario compacto (kafka.wire-format=binary), esquema versión 1
+ *
+ * TIPOS (big-endian, en el orden de los campos del record, sin nombres de campo):
+ * - uuid: 16 bytes (most significant bits, least significant bits)
+ * - string: longitud UTF-8 + 1 como varint sin signo (0 = null), seguida de los bytes
+ * - timestamp: int64 epoch millis del LocalDateTime interpretado como UTC (Long.MIN_VALUE = null)
+ *   El valor local se escribe tal cual, sin conversión de zona: 10:30 local es 10:30Z.
+ *   Los consumidores deben leerlo como UTC y no convertirlo a su zona; la precisión
+ *   es de milisegundos (se truncan micro y nanosegundos)
+ * - int: int32 (Integer.MIN_VALUE = null)
+ *
+ * MENSAJES:
+ * - MissionExecutionMessage: uuid mission_id, string name, timestamp scheduled_at,
+ *   timestamp published_at
+ * - DronPreparationMessage: uuid mission_id, string mission_name, string vehicleId,
+ *   string vehicleName, timestamp scheduled_execution_time, int minutes_before_execution,
+ *   timestamp published_at, string recipient_email
+ *
+ * Agregar campos al final o cambiar un tipo exige subir schemaVersion
+ * readExecution / readPreparation son el decodificador de referencia del esquema
+ * (consumidores JVM y pruebas de compatibilidad)
+ */
+@Component
+@ConditionalOnProperty(name = "kafka.wire-format", havingValue = "binary")
+public class CompactBinaryWireFormat implements WireFormat {
+
+    public static final String CONTENT_TYPE = "application/vnd.umas.compact";
+
+    /**
+     * Tamaño inicial del buffer: cubre un mensaje típico sin crecer
+     */
+    private static final int INITIAL_CAPACITY = 128;
+
+    @Override
+    public String contentType() {
+        return CONTENT_TYPE;
+    }
+
+    @Override
+    public int schemaVersion() {
+        return 1;
+    }
+
+    @Override
+    public byte[] write(MissionExecutionMessage message) {
+        return new Encoder(INITIAL_CAPACITY)
+                .uuid(message.missionId())
+                .string(message.name())
+                .timestamp(message.scheduledAt())
+                .timestamp(message.publishedAt())
+                .toByteArray();
+    }
+
+    @Override
+    public byte[] write(DronPreparationMessage message) {
+        return new Encoder(INITIAL_CAPACITY)
+                .uuid(message.missionId())
+                .string(message.missionName())
+                .string(message.vehicleId())
+                .string(message.vehicleName())
+                .timestamp(message.scheduledExecutionTime())
+                .int32(message.minutesBeforeExecution())
+                .timestamp(message.publishedAt())
+                .string(message.recipientEmail())
+                .toByteArray();
+    }
+
+    /**
+     * Decodifica un MissionExecutionMessage del esquema versión 1
+     *
+     * @throws IllegalArgumentException si los bytes están truncados o sobran bytes
+     */
+    public MissionExecutionMessage readExecution(byte[] payload) {
+        Decoder decoder = new Decoder(payload);
+        MissionExecutionMessage message = new MissionExecutionMessage(
+                decoder.uuid(),
+                decoder.string(),
+                decoder.timestamp(),
+                decoder.timestamp()
+        );
+        decoder.requireFullyRead();
+        return message;
+    }
+
+    /**
+     * Decodifica un DronPreparationMessage del esquema versión 1
+     *
+     * @throws IllegalArgumentException si los bytes están truncados o sobran bytes
+     */
+    public DronPreparationMessage readPreparation(byte[] payload) {
+        Decoder decoder = new Decoder(payload);
+        DronPreparationMessage message = new DronPreparationMessage(
+                decoder.uuid(),
+                decoder.string(),
+                decoder.string(),
+                decoder.string(),
+                decoder.timestamp(),
+                decoder.int32(),
+                decoder.timestamp(),
+                decoder.string()
+        );
+        decoder.requireFullyRead();
+        return message;
+    }
+
+    /**
+     * Escritor sobre un arreglo que crece al doble; toByteArray copia solo los bytes usados
+     */
+    private static final class Encoder {
+
+        private byte[] buffer;
+        private int size;
+
+        private Encoder(int capacity) {
+            this.buffer = new byte[capacity];
+        }
+
+        Encoder uuid(String value) {
+            UUID uuid = UUID.fromString(value);
+            int64(uuid.getMostSignificantBits());
+            return int64(uuid.getLeastSignificantBits());
+        }
+
+        Encoder string(String value) {
+            if (value == null) {
+                return varint(0);
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            varint(bytes.length + 1);
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, size, bytes.length);
+            size += bytes.length;
+            return this;
+        }
+
+        Encoder timestamp(LocalDateTime value) {
+            return int64(value == null
+                    ? Long.MIN_VALUE
+                    : value.toInstant(ZoneOffset.UTC).toEpochMilli());
+        }
+
+        Encoder int32(Integer value) {
+            int raw = value == null ? Integer.MIN_VALUE : value;
+            ensureCapacity(Integer.BYTES);
+            for (int shift = 24; shift >= 0; shift -= 8) {
+                buffer[size++] = (byte) (raw >>> shift);
+            }
+            return this;
+        }
+
+        Encoder int64(long value) {
+            ensureCapacity(Long.BYTES);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                buffer[size++] = (byte) (value >>> shift);
+            }
+            return this;
+        }
+
+        Encoder varint(int value) {
+            ensureCapacity(5);
+            int remaining = value;
+            while ((remaining & ~0x7F) != 0) {
+                buffer[size++] = (byte) ((remaining & 0x7F) | 0x80);
+                remaining >>>= 7;
+            }
+            buffer[size++] = (byte) remaining;
+            return this;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, size);
+        }
+
+        private void ensureCapacity(int additional) {
+            if (size + additional > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + additional));
+            }
+        }
+
+    }
+
+    /**
+     * Lector secuencial, simétrico a Encoder
+     */
+    private static final class Decoder {
+
+        private final byte[] buffer;
+        private int position;
+
+        private Decoder(byte[] buffer) {
+            this.buffer = buffer;
+        }
+
+        String uuid() {
+            return new UUID(int64(), int64()).toString();
+        }
+
+        String string() {
+            int length = varint();
+            if (length == 0) {
+                return null;
+            }
+            require(length - 1);
+            String value = new String(buffer, position, length - 1, StandardCharsets.UTF_8);
+            position += length - 1;
+            return value;
+        }
+
+        LocalDateTime timestamp() {
+            long millis = int64();
+            return millis == Long.MIN_VALUE
+                    ? null
+                    : LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneOffset.UTC);
+        }
+
+        Integer int32() {
+            require(Integer.BYTES);
+            int value = 0;
+            for (int i = 0; i < Integer.BYTES; i++) {
+                value = (value << 8) | (buffer[position++] & 0xFF);
+            }
+            return value == Integer.MIN_VALUE ? null : value;
+        }
+
+        long int64() {
+            require(Long.BYTES);
+            long value = 0;
+            for (int i = 0; i < Long.BYTES; i++) {
+                value = (value << 8) | (buffer[position++] & 0xFF);
+            }
+            return value;
+        }
+
+        int varint() {
+            int value = 0;
+            for (int shift = 0; shift < 35; shift += 7) {
+                require(1);
+                byte current = buffer[position++];
+                value |= (current & 0x7F) << shift;
+                if ((current & 0x80) == 0) {
+                    if (value < 0) {
+                        throw new IllegalArgumentException("Negative string length in compact message");
+                    }
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint in compact message");
+        }
+
+        void requireFullyRead() {
+            if (position != buffer.length) {
+                throw new IllegalArgumentException(
+                        "Compact message has " + (buffer.length - position) + " trailing bytes");
+            }
+        }
+
+        private void require(int bytes) {
+            if (bytes > buffer.length - position) {
+                throw new IllegalArgumentException("Truncated compact message at byte " + position);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,53 @@
+package co.cetad.umas.scheduler.infrastructure.messaging.kafka.serialization;
+
+import co.cetad.umas.scheduler.domain.model.dto.DronPreparationMessage;
+import co.cetad.umas.scheduler.domain.model.dto.MissionExecutionMessage;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Formato JSON (por defecto): el mismo JSON que consumen hoy los servicios
+ *
+ * - ObjectWriter precompilado por tipo de mensaje: el serializador del record se resuelve
+ *   una sola vez al arrancar, no en cada envío
+ * - writeValueAsBytes escribe sobre los buffers reciclados de Jackson y copia una sola vez
+ *   al byte[] final (sin String intermedio)
+ */
+@Component
+@ConditionalOnProperty(name = "kafka.wire-format", havingValue = "json", matchIfMissing = true)
+public class JsonWireFormat implements WireFormat {
+
+    public static final String CONTENT_TYPE = "application/json";
+
+    private final ObjectWriter executionWriter;
+    private final ObjectWriter preparationWriter;
+
+    public JsonWireFormat(ObjectMapper objectMapper) {
+        this.executionWriter = objectMapper.writerFor(MissionExecutionMessage.class);
+        this.preparationWriter = objectMapper.writerFor(DronPreparationMessage.class);
+    }
+
+    @Override
+    public String contentType() {
+        return CONTENT_TYPE;
+    }
+
+    @Override
+    public int schemaVersion() {
+        return 1;
+    }
+
+    @Override
+    public byte[] write(MissionExecutionMessage message) throws JsonProcessingException {
+        return executionWriter.writeValueAsBytes(message);
+    }
+
+    @Override
+    public byte[] write(DronPreparationMessage message) throws JsonProcessingException {
+        return preparationWriter.writeValueAsBytes(message);
+    }
+
+}
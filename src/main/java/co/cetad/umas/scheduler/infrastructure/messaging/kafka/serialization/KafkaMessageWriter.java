@@ -0,0 +1,74 @@
+package co.cetad.umas.scheduler.infrastructure.messaging.kafka.serialization;
+
+import co.cetad.umas.scheduler.domain.model.dto.DronPreparationMessage;
+import co.cetad.umas.scheduler.domain.model.dto.DronPreparationNotificationEvent;
+import co.cetad.umas.scheduler.domain.model.dto.MissionExecutionMessage;
+import co.cetad.umas.scheduler.domain.model.dto.MissionExecutionScheduledEvent;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Serialización de los mensajes Kafka en el WireFormat configurado (kafka.wire-format)
+ *
+ * CARACTERÍSTICAS:
+ * - Evento de dominio → mensaje → bytes, sin String intermedio
+ * - El byte[] va tal cual al producer (ByteArraySerializer) y al outbox (bytea)
+ * - Cada registro lleva los headers content-type y schema-version del formato
+ */
+@Component
+public class KafkaMessageWriter {
+
+    private final WireFormat wireFormat;
+    private final Headers headerTemplate;
+
+    public KafkaMessageWriter(WireFormat wireFormat) {
+        this.wireFormat = wireFormat;
+        this.headerTemplate = headers(wireFormat.contentType(), wireFormat.schemaVersion());
+    }
+
+    /**
+     * Payload del topic de ejecución de misiones
+     */
+    public byte[] executionPayload(MissionExecutionScheduledEvent event) throws IOException {
+        return wireFormat.write(MissionExecutionMessage.from(event));
+    }
+
+    /**
+     * Payload del topic de notificaciones de preparación
+     */
+    public byte[] preparationPayload(DronPreparationNotificationEvent event) throws IOException {
+        return wireFormat.write(DronPreparationMessage.from(event));
+    }
+
+    /**
+     * Registro listo para enviar con los headers del formato configurado
+     */
+    public ProducerRecord<String, byte[]> record(String topic, String key, byte[] payload) {
+        return new ProducerRecord<>(topic, null, key, payload, new RecordHeaders(headerTemplate.toArray()));
+    }
+
+    public String contentType() {
+        return wireFormat.contentType();
+    }
+
+    public int schemaVersion() {
+        return wireFormat.schemaVersion();
+    }
+
+    /**
+     * Headers de formato y versión (también para registros del outbox escritos con otro formato)
+     */
+    public static Headers headers(String contentType, int schemaVersion) {
+        RecordHeaders headers = new RecordHeaders();
+        headers.add(WireFormat.HEADER_CONTENT_TYPE, contentType.getBytes(StandardCharsets.UTF_8));
+        headers.add(WireFormat.HEADER_SCHEMA_VERSION,
+                Integer.toString(schemaVersion).getBytes(StandardCharsets.UTF_8));
+        return headers;
+    }
+
+}
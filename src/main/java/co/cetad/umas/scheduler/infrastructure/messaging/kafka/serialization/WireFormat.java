@@ -0,0 +1,35 @@
+package co.cetad.umas.scheduler.infrastructure.messaging.kafka.serialization;
+
+import co.cetad.umas.scheduler.domain.model.dto.DronPreparationMessage;
+import co.cetad.umas.scheduler.domain.model.dto.MissionExecutionMessage;
+
+import java.io.IOException;
+
+/**
+ * Formato de serialización de los mensajes de los topics del scheduler
+ *
+ * Cada registro lleva en sus headers el formato (content-type) y la versión del esquema
+ * (schema-version): los consumidores eligen el decodificador sin registry externo
+ *
+ * Implementaciones según kafka.wire-format:
+ * - json (por defecto): JsonWireFormat, el JSON de siempre
+ * - binary: CompactBinaryWireFormat, UUID en 16 bytes y fechas en epoch millis
+ */
+public interface WireFormat {
+
+    String HEADER_CONTENT_TYPE = "content-type";
+    String HEADER_SCHEMA_VERSION = "schema-version";
+
+    String contentType();
+
+    /**
+     * Versión del esquema de los mensajes en este formato
+     * Se incrementa ante cualquier cambio incompatible de la codificación
+     */
+    int schemaVersion();
+
+    byte[] write(MissionExecutionMessage message) throws IOException;
+
+    byte[] write(DronPreparationMessage message) throws IOException;
+
+}
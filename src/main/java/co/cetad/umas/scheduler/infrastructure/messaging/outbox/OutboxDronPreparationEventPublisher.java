@@ -0,0 +1,79 @@
+package co.cetad.umas.scheduler.infrastructure.messaging.outbox;
+
+import co.cetad.umas.scheduler.domain.model.dto.DronPreparationNotificationEvent;
+import co.cetad.umas.scheduler.domain.model.vo.PublicationResult;
+import co.cetad.umas.scheduler.domain.ports.out.EventPublisher;
+import co.cetad.umas.scheduler.infrastructure.config.BulkheadTasks;
+import co.cetad.umas.scheduler.infrastructure.config.ExecutorConfig;
+import co.cetad.umas.scheduler.infrastructure.persistence.postgresql.repository.R2dbcOutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Publicador de notificaciones de preparación a través del outbox
+ *
+ * Con el outbox habilitado reemplaza (@Primary) al publicador Kafka directo:
+ * el evento se persiste en event_outbox y el OutboxRelay lo entrega.
+ * El futuro se completa cuando la fila está confirmada en BD (entrega durable)
+ */
+@Slf4j
+@Primary
+@Component("outboxDronPreparationEventPublisher")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "scheduler.outbox", name = "enabled", havingValue = "true")
+public class OutboxDronPreparationEventPublisher implements EventPublisher<DronPreparationNotificationEvent> {
+
+    private final R2dbcOutboxEventRepository outboxRepository;
+    private final OutboxEventWriter outboxEventWriter;
+
+    @Qualifier(ExecutorConfig.DB_EXECUTOR)
+    private final Executor dbExecutor;
+
+    @Override
+    public CompletableFuture<Void> publish(DronPreparationNotificationEvent event) {
+        return BulkheadTasks.runAsync(() -> {
+            outboxRepository.save(outboxEventWriter.preparationEntry(event));
+            log.debug("Staged preparation notification in outbox for mission: {}", event.missionId());
+        }, dbExecutor);
+    }
+
+    /**
+     * Registra todo el lote con un solo saveAll (una transacción)
+     * Es todo o nada: si la inserción falla, todos los eventos se reportan como fallidos
+     */
+    @Override
+    public CompletableFuture<PublicationResult<DronPreparationNotificationEvent>> publishAll(
+            Collection<DronPreparationNotificationEvent> events
+    ) {
+        List<DronPreparationNotificationEvent> batch = List.copyOf(events);
+        if (batch.isEmpty()) {
+            return CompletableFuture.completedFuture(PublicationResult.empty());
+        }
+
+        return BulkheadTasks.supplyAsync(() -> {
+            try {
+                outboxRepository.saveAll(batch.stream()
+                        .map(outboxEventWriter::preparationEntry)
+                        .toList());
+                log.debug("Staged {} preparation notifications in outbox", batch.size());
+                return new PublicationResult<>(batch, List.of());
+
+            } catch (Exception e) {
+                log.error("❌ Error staging {} preparation notifications in outbox", batch.size(), e);
+                return new PublicationResult<>(List.of(), batch.stream()
+                        .map(event -> new PublicationResult.Failure<>(event, e))
+                        .toList());
+            }
+        }, dbExecutor);
+    }
+
+}
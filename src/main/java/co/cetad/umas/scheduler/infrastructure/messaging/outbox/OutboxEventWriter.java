@@ -0,0 +1,79 @@
+package co.cetad.umas.scheduler.infrastructure.messaging.outbox;
+
+import co.cetad.umas.scheduler.domain.model.dto.DronPreparationNotificationEvent;
+import co.cetad.umas.scheduler.domain.model.dto.MissionExecutionScheduledEvent;
+import co.cetad.umas.scheduler.domain.model.entity.OutboxEventEntity;
+import co.cetad.umas.scheduler.infrastructure.messaging.kafka.config.KafkaTopicsProperties;
+import co.cetad.umas.scheduler.infrastructure.messaging.kafka.serialization.KafkaMessageWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Construye las filas del outbox a partir de eventos de dominio
+ *
+ * El payload son exactamente los mismos bytes que publican los adaptadores Kafka
+ * (KafkaMessageWriter), de modo que los consumidores no distinguen entre publicación
+ * directa y relay; el relay los envía sin volver a serializar, con los headers
+ * del formato registrado en la fila (content_type, schema_version)
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxEventWriter {
+
+    private final KafkaTopicsProperties topicsProperties;
+    private final KafkaMessageWriter messageWriter;
+
+    /**
+     * Fila para el topic de ejecución de misiones
+     */
+    public OutboxEventEntity executionEntry(MissionExecutionScheduledEvent event) {
+        return entry(
+                event.missionId(),
+                topicsProperties.getExecute(),
+                serialize(() -> messageWriter.executionPayload(event))
+        );
+    }
+
+    /**
+     * Fila para el topic de notificaciones de preparación
+     */
+    public OutboxEventEntity preparationEntry(DronPreparationNotificationEvent event) {
+        return entry(
+                event.missionId(),
+                topicsProperties.getNotification(),
+                serialize(() -> messageWriter.preparationPayload(event))
+        );
+    }
+
+    private OutboxEventEntity entry(String missionId, String topic, byte[] payload) {
+        OutboxEventEntity entity = new OutboxEventEntity();
+        entity.setAggregateId(UUID.fromString(missionId));
+        entity.setTopic(topic);
+        entity.setMessageKey(missionId);
+        entity.setPayload(payload);
+        entity.setContentType(messageWriter.contentType());
+        entity.setSchemaVersion(messageWriter.schemaVersion());
+        entity.setCreatedAt(LocalDateTime.now());
+        return entity;
+    }
+
+    private byte[] serialize(Payload payload) {
+        try {
+            return payload.write();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed to serialize outbox message", e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Payload {
+
+        byte[] write() throws IOException;
+
+    }
+
+}
@@ -0,0 +1,49 @@
+package co.cetad.umas.scheduler.infrastructure.messaging.outbox;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuración del transactional outbox
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "scheduler.outbox")
+public class OutboxProperties {
+
+    /**
+     * Habilita el outbox: los eventos se escriben en BD y el relay los entrega
+     * Deshabilitado, los eventos se publican directamente en Kafka
+     */
+    private boolean enabled = false;
+
+    /**
+     * Eventos por lote drenado hacia Kafka
+     */
+    private int relayBatchSize = 500;
+
+    /**
+     * Intentos de entrega antes de dejar un evento para revisión manual (dead letter)
+     */
+    private int maxAttempts = 10;
+
+    /**
+     * Tiempo máximo de espera de los acks de un lote
+     */
+    private Duration sendTimeout = Duration.ofSeconds(30);
+
+    /**
+     * Reserva de un lote mientras se envía fuera de transacción
+     * Debe superar send-timeout: vencida, otro relay puede volver a enviar el lote
+     */
+    private Duration relayLease = Duration.ofMinutes(2);
+
+    /**
+     * Tiempo que se conservan los eventos ya entregados
+     */
+    private Duration retention = Duration.ofHours(24);
+
+}
@@ -0,0 +1,292 @@
+package co.cetad.umas.scheduler.infrastructure.messaging.outbox;
+
+import co.cetad.umas.scheduler.domain.model.entity.OutboxEventEntity;
+import co.cetad.umas.scheduler.infrastructure.messaging.kafka.config.KafkaTopicsProperties;
+import co.cetad.umas.scheduler.infrastructure.messaging.kafka.serialization.KafkaMessageWriter;
+import co.cetad.umas.scheduler.infrastructure.persistence.postgresql.repository.R2dbcMissionRepository;
+import co.cetad.umas.scheduler.infrastructure.persistence.postgresql.repository.R2dbcOutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Relay del transactional outbox hacia Kafka
+ *
+ * FUNCIONAMIENTO:
+ * 1. Reserva un lote de eventos pendientes hasta relay-lease (FOR UPDATE SKIP LOCKED)
+ *    en una transacción corta que se confirma antes de enviar
+ * 2. Envía todo el lote a Kafka sin esperar cada ack, por el producer del perfil de cada topic,
+ *    con los headers content-type y schema-version registrados en cada fila
+ * 3. Espera una sola vez los acks del lote, con timeout, sin transacción ni conexión tomada
+ * 4. En una segunda transacción corta marca entregados los confirmados y suma un intento a los fallidos
+ * 5. Repite mientras los lotes salgan llenos
+ *
+ * DEAD LETTERS:
+ * - Un evento que agota max-attempts deja de reintentarse: se registra en el log de error y en métricas
+ * - Si era un evento de ejecución su misión se libera (vuelve a APROBADA): sin evento en Kafka
+ *   quedaría EN_EJECUCION con el reclamo confirmado, fuera del alcance del reaper
+ *
+ * GARANTÍAS:
+ * - At-least-once: si la instancia cae tras el envío y antes de registrar el resultado,
+ *   la reserva vence y el lote se vuelve a enviar (los consumidores deben ser idempotentes por mission_id)
+ * - Varias instancias pueden drenar en paralelo sin ShedLock gracias a SKIP LOCKED y a la reserva
+ *
+ * MÉTRICAS:
+ * - scheduler.outbox.dead.letters: eventos que agotaron sus intentos
+ * - scheduler.outbox.dead.letters.pending: dead letters en la tabla (se actualiza con cada nuevo
+ *   dead letter y con la purga)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "scheduler.outbox", name = "enabled", havingValue = "true")
+public class OutboxRelay {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final R2dbcOutboxEventRepository outboxRepository;
+    private final R2dbcMissionRepository missionRepository;
+    private final KafkaTemplate<String, byte[]> executionKafkaTemplate;
+    private final KafkaTemplate<String, byte[]> notificationKafkaTemplate;
+    private final KafkaTopicsProperties topicsProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxProperties properties;
+
+    private final Counter deadLetters;
+    private final AtomicLong pendingDeadLetters = new AtomicLong();
+
+    public OutboxRelay(
+            R2dbcOutboxEventRepository outboxRepository,
+            R2dbcMissionRepository missionRepository,
+            @Qualifier("executionKafkaTemplate") KafkaTemplate<String, byte[]> executionKafkaTemplate,
+            @Qualifier("notificationKafkaTemplate") KafkaTemplate<String, byte[]> notificationKafkaTemplate,
+            KafkaTopicsProperties topicsProperties,
+            TransactionTemplate transactionTemplate,
+            OutboxProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.outboxRepository = outboxRepository;
+        this.missionRepository = missionRepository;
+        this.executionKafkaTemplate = executionKafkaTemplate;
+        this.notificationKafkaTemplate = notificationKafkaTemplate;
+        this.topicsProperties = topicsProperties;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+
+        this.deadLetters = Counter.builder("scheduler.outbox.dead.letters")
+                .description("Eventos del outbox que agotaron sus intentos de entrega")
+                .baseUnit("events")
+                .register(meterRegistry);
+        Gauge.builder("scheduler.outbox.dead.letters.pending", pendingDeadLetters, AtomicLong::get)
+                .description("Eventos del outbox sin entregar que ya no se reintentan")
+                .baseUnit("events")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Drena el outbox mientras haya lotes completos pendientes
+     */
+    @Scheduled(fixedDelayString = "${scheduler.outbox.relay-interval-ms:1000}")
+    public void relayPendingEvents() {
+        try {
+            int totalPublished = 0;
+            BatchResult result;
+            do {
+                result = relayBatch();
+                totalPublished += result.published();
+            } while (result.size() == properties.getRelayBatchSize() && result.published() > 0);
+
+            if (totalPublished > 0) {
+                log.info("📤 Outbox relay published {} events", totalPublished);
+            }
+
+        } catch (Exception e) {
+            log.error("❌ Unexpected error relaying outbox events", e);
+        }
+    }
+
+    /**
+     * Purga los eventos ya entregados fuera de la retención
+     */
+    @Scheduled(cron = "${scheduler.outbox.cleanup-cron:0 0 * * * *}")
+    public void purgePublishedEvents() {
+        try {
+            LocalDateTime cutoff = LocalDateTime.now().minus(properties.getRetention());
+            Integer deleted = transactionTemplate.execute(status ->
+                    outboxRepository.deletePublishedBefore(cutoff));
+            log.debug("Purged {} published outbox events before {}", deleted, cutoff);
+            refreshPendingDeadLetters();
+
+        } catch (Exception e) {
+            log.error("❌ Error purging published outbox events", e);
+        }
+    }
+
+    /**
+     * Reserva un lote, lo envía fuera de transacción y registra el resultado en otra transacción corta
+     */
+    private BatchResult relayBatch() {
+        LocalDateTime leasedAt = LocalDateTime.now();
+        List<OutboxEventEntity> batch = transactionTemplate.execute(status -> outboxRepository.leasePendingBatch(
+                        properties.getMaxAttempts(),
+                        properties.getRelayBatchSize(),
+                        leasedAt,
+                        leasedAt.plus(properties.getRelayLease())
+                )).stream()
+                .sorted(Comparator.comparing(OutboxEventEntity::getCreatedAt))
+                .toList();
+        if (batch.isEmpty()) {
+            return new BatchResult(0, 0);
+        }
+
+        List<CompletableFuture<SendResult<String, byte[]>>> sends = batch.stream()
+                .map(this::send)
+                .toList();
+
+        awaitAcks(sends);
+
+        List<UUID> publishedIds = new ArrayList<>();
+        List<OutboxEventEntity> failed = new ArrayList<>();
+        String firstError = null;
+
+        for (int i = 0; i < batch.size(); i++) {
+            CompletableFuture<SendResult<String, byte[]>> send = sends.get(i);
+
+            if (send.isDone() && !send.isCompletedExceptionally()) {
+                publishedIds.add(batch.get(i).getId());
+            } else {
+                failed.add(batch.get(i));
+                if (firstError == null) {
+                    firstError = describeFailure(send);
+                }
+            }
+        }
+
+        String error = firstError;
+        List<OutboxEventEntity> exhausted = failed.stream()
+                .filter(event -> event.getAttempts() + 1 >= properties.getMaxAttempts())
+                .toList();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!publishedIds.isEmpty()) {
+                outboxRepository.markPublished(publishedIds, LocalDateTime.now());
+            }
+            if (!failed.isEmpty()) {
+                log.warn("⚠️ {} outbox events failed to publish, will retry - {}", failed.size(), error);
+                outboxRepository.markFailed(failed.stream().map(OutboxEventEntity::getId).toList(), error);
+                deadLetter(exhausted, error);
+            }
+        });
+
+        if (!exhausted.isEmpty()) {
+            deadLetters.increment(exhausted.size());
+            refreshPendingDeadLetters();
+        }
+
+        return new BatchResult(batch.size(), publishedIds.size());
+    }
+
+    /**
+     * Eventos que agotaron sus intentos: ya no se reintentan
+     * Las misiones de los eventos de ejecución se liberan en la misma transacción que el último intento
+     */
+    private void deadLetter(List<OutboxEventEntity> exhausted, String error) {
+        if (exhausted.isEmpty()) {
+            return;
+        }
+
+        log.error("☠️ {} outbox events exhausted {} delivery attempts and will no longer be retried: {} - {}",
+                exhausted.size(), properties.getMaxAttempts(),
+                exhausted.stream().map(OutboxEventEntity::getId).toList(), error);
+
+        List<UUID> missionIds = exhausted.stream()
+                .filter(event -> event.getTopic().equals(topicsProperties.getExecute()))
+                .map(OutboxEventEntity::getAggregateId)
+                .distinct()
+                .toList();
+        if (!missionIds.isEmpty()) {
+            int released = missionRepository.releaseClaims(missionIds, LocalDateTime.now());
+            log.error("☠️ Released {} of {} missions whose execution event was dead-lettered: {}",
+                    released, missionIds.size(), missionIds);
+        }
+    }
+
+    private void refreshPendingDeadLetters() {
+        try {
+            pendingDeadLetters.set(outboxRepository.countDeadLetters(properties.getMaxAttempts()));
+        } catch (Exception e) {
+            log.warn("⚠️ Could not count outbox dead letters: {}", e.getMessage());
+        }
+    }
+
+    private CompletableFuture<SendResult<String, byte[]>> send(OutboxEventEntity event) {
+        try {
+            ProducerRecord<String, byte[]> record = new ProducerRecord<>(
+                    event.getTopic(),
+                    null,
+                    event.getMessageKey(),
+                    event.getPayload(),
+                    KafkaMessageWriter.headers(event.getContentType(), event.getSchemaVersion())
+            );
+            return templateFor(event.getTopic()).send(record);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Cada topic sale por el producer de su perfil (latencia vs. throughput)
+     */
+    private KafkaTemplate<String, byte[]> templateFor(String topic) {
+        return topic.equals(topicsProperties.getNotification())
+                ? notificationKafkaTemplate
+                : executionKafkaTemplate;
+    }
+
+    /**
+     * Espera los acks del lote completo una sola vez
+     * Los envíos que no terminen dentro del timeout cuentan como fallidos
+     */
+    private void awaitAcks(List<CompletableFuture<SendResult<String, byte[]>>> sends) {
+        try {
+            CompletableFuture.allOf(sends.toArray(new CompletableFuture[0]))
+                    .get(properties.getSendTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (TimeoutException e) {
+            log.warn("⚠️ Timed out waiting for outbox batch acks after {}", properties.getSendTimeout());
+        } catch (Exception e) {
+            // Los fallos individuales se evalúan por cada envío
+        }
+    }
+
+    private String describeFailure(CompletableFuture<SendResult<String, byte[]>> send) {
+        if (!send.isDone()) {
+            return "Timed out waiting for Kafka ack";
+        }
+        String error = send.handle((result, throwable) -> String.valueOf(throwable)).join();
+        return error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+
+    private record BatchResult(int size, int published) {
+    }
+
+}
@@ -0,0 +1,165 @@
+package co.cetad.umas.scheduler.infrastructure.metrics;
+
+import co.cetad.umas.scheduler.domain.model.vo.PublicationResult;
+import co.cetad.umas.scheduler.domain.ports.out.SchedulingMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Métricas Micrometer del pipeline de scheduling
+ *
+ * MÉTRICAS:
+ * - scheduler.job.duration (job, outcome): duración total de cada ejecución de job
+ * - scheduler.query.latency (job, query, outcome): consultas y reclamos en BD
+ * - scheduler.enrichment.latency (job, outcome): enriquecimiento por lote
+ * - scheduler.publish.latency (job, topic, outcome): publicación de un lote hasta el último ack
+ * - scheduler.publish.failures (job, topic): eventos no publicados
+ * - scheduler.tick.missions (job): misiones procesadas por tick
+ * - scheduler.dispatch.lag (job): instante de publicación menos estimatedDate
+ *
+ * OUTCOME:
+ * - success / error para jobs, consultas y enriquecimiento
+ * - success / partial / failure para publicaciones por lote
+ * - Una acción que lanza en lugar de devolver su futuro cuenta como error (o failure)
+ *   y se devuelve como futuro fallido
+ */
+@Component
+@RequiredArgsConstructor
+public class SchedulerMetrics implements SchedulingMetrics {
+
+    private static final String SUCCESS = "success";
+    private static final String ERROR = "error";
+    private static final String PARTIAL = "partial";
+    private static final String FAILURE = "failure";
+
+    private final MeterRegistry registry;
+
+    /**
+     * Mide la duración completa de un job (incluye espera de todas sus etapas)
+     */
+    @Override
+    public void recordJob(String job, Duration duration, boolean successful) {
+        Timer.builder("scheduler.job.duration")
+                .description("Duración total de una ejecución del job")
+                .tags("job", job, "outcome", successful ? SUCCESS : ERROR)
+                .register(registry)
+                .record(duration);
+    }
+
+    /**
+     * Mide una consulta o reclamo asíncrono hasta que su futuro se completa
+     */
+    @Override
+    public <T> CompletableFuture<T> timeQuery(String job, String query, Supplier<CompletableFuture<T>> action) {
+        Timer.Sample sample = Timer.start(registry);
+
+        return start(action).whenComplete((result, throwable) -> sample.stop(Timer.builder("scheduler.query.latency")
+                .description("Latencia de consultas y reclamos en BD")
+                .tags("job", job, "query", query, "outcome", throwable == null ? SUCCESS : ERROR)
+                .register(registry)));
+    }
+
+    /**
+     * Mide el enriquecimiento de un lote de notificaciones
+     */
+    @Override
+    public <T> CompletableFuture<T> timeEnrichment(String job, Supplier<CompletableFuture<T>> action) {
+        Timer.Sample sample = Timer.start(registry);
+
+        return start(action).whenComplete((result, throwable) -> sample.stop(Timer.builder("scheduler.enrichment.latency")
+                .description("Latencia de enriquecimiento por lote")
+                .tags("job", job, "outcome", throwable == null ? SUCCESS : ERROR)
+                .register(registry)));
+    }
+
+    /**
+     * Mide la publicación de un lote y cuenta los eventos fallidos por topic
+     */
+    @Override
+    public <T> CompletableFuture<PublicationResult<T>> timePublish(
+            String job,
+            String topic,
+            Supplier<CompletableFuture<PublicationResult<T>>> action
+    ) {
+        Timer.Sample sample = Timer.start(registry);
+
+        return start(action).whenComplete((result, throwable) -> {
+            sample.stop(Timer.builder("scheduler.publish.latency")
+                    .description("Latencia de publicación de un lote hasta el último ack")
+                    .tags("job", job, "topic", topic, "outcome", publishOutcome(result, throwable))
+                    .register(registry));
+
+            if (result != null && result.hasFailures()) {
+                publishFailures(job, topic).increment(result.failedCount());
+            }
+        });
+    }
+
+    /**
+     * Registra cuántas misiones procesó un tick
+     */
+    @Override
+    public void recordTickMissions(String job, int missions) {
+        DistributionSummary.builder("scheduler.tick.missions")
+                .description("Misiones procesadas por tick")
+                .baseUnit("missions")
+                .tag("job", job)
+                .register(registry)
+                .record(missions);
+    }
+
+    /**
+     * Registra el retraso entre la hora estimada de la misión y su publicación
+     * Publicaciones adelantadas (dispatcher) cuentan como retraso cero
+     */
+    @Override
+    public void recordDispatchLag(String job, LocalDateTime estimatedDate, LocalDateTime publishedAt) {
+        Duration lag = Duration.between(estimatedDate, publishedAt);
+
+        Timer.builder("scheduler.dispatch.lag")
+                .description("Instante de publicación menos estimatedDate")
+                .tag("job", job)
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(lag.isNegative() ? Duration.ZERO : lag);
+    }
+
+    /**
+     * Obtiene el futuro de la acción; si lanza al crearlo, el fallo vuelve como futuro fallido
+     * para que el timer lo registre y el llamador lo reciba por la misma vía
+     */
+    private static <T> CompletableFuture<T> start(Supplier<CompletableFuture<T>> action) {
+        try {
+            return action.get();
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private Counter publishFailures(String job, String topic) {
+        return Counter.builder("scheduler.publish.failures")
+                .description("Eventos que no pudieron publicarse")
+                .tags("job", job, "topic", topic)
+                .register(registry);
+    }
+
+    private static String publishOutcome(PublicationResult<?> result, Throwable throwable) {
+        if (throwable != null || result == null) {
+            return FAILURE;
+        }
+        if (!result.hasFailures()) {
+            return SUCCESS;
+        }
+        return result.publishedCount() == 0 ? FAILURE : PARTIAL;
+    }
+
+}
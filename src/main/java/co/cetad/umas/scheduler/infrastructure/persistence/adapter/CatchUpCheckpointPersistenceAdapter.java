@@ -0,0 +1,78 @@
+package co.cetad.umas.scheduler.infrastructure.persistence.adapter;
+
+import co.cetad.umas.scheduler.domain.model.entity.SchedulerCatchUpCheckpointEntity;
+import co.cetad.umas.scheduler.domain.model.vo.CatchUpCheckpoint;
+import co.cetad.umas.scheduler.domain.model.vo.MissionCursor;
+import co.cetad.umas.scheduler.domain.ports.out.CatchUpCheckpointRepository;
+import co.cetad.umas.scheduler.infrastructure.config.BulkheadTasks;
+import co.cetad.umas.scheduler.infrastructure.config.ExecutorConfig;
+import co.cetad.umas.scheduler.infrastructure.persistence.postgresql.repository.R2dbcCatchUpCheckpointRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+/**
+ * Adaptador de persistencia para los checkpoints del drenado catch-up
+ *
+ * CARACTERÍSTICAS:
+ * - Operaciones asíncronas en el executor dedicado de BD (dbExecutor)
+ * - Guardado con upsert: el checkpoint refleja el último lote drenado
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CatchUpCheckpointPersistenceAdapter implements CatchUpCheckpointRepository {
+
+    private final R2dbcCatchUpCheckpointRepository repository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Qualifier(ExecutorConfig.DB_EXECUTOR)
+    private final Executor dbExecutor;
+
+    @Override
+    public CompletableFuture<Map<String, CatchUpCheckpoint>> find(Collection<String> names) {
+        if (names.isEmpty()) {
+            return CompletableFuture.completedFuture(Map.of());
+        }
+
+        return BulkheadTasks.supplyAsync(() -> repository.findByNameIn(names).stream()
+                .collect(Collectors.toMap(
+                        SchedulerCatchUpCheckpointEntity::getName,
+                        CatchUpCheckpointPersistenceAdapter::toDomain
+                )), dbExecutor);
+    }
+
+    @Override
+    public CompletableFuture<Void> save(Collection<String> names, CatchUpCheckpoint checkpoint) {
+        if (names.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        MissionCursor position = checkpoint.position();
+        UUID missionId = UUID.fromString(position.missionId());
+
+        return BulkheadTasks.runAsync(() -> transactionTemplate.executeWithoutResult(status -> {
+            names.forEach(name -> repository.upsert(name, position.estimatedDate(), missionId,
+                    checkpoint.drained(), checkpoint.drainRate()));
+            log.debug("Saved {} catch-up checkpoints at {}", names.size(), position);
+        }), dbExecutor);
+    }
+
+    private static CatchUpCheckpoint toDomain(SchedulerCatchUpCheckpointEntity entity) {
+        return new CatchUpCheckpoint(
+                new MissionCursor(entity.getEstimatedDate(), entity.getMissionId().toString()),
+                entity.getDrained(),
+                entity.getDrainRate()
+        );
+    }
+
+}
@@ -0,0 +1,256 @@
+package co.cetad.umas.scheduler.infrastructure.persistence.adapter;
+
+import co.cetad.umas.scheduler.domain.model.entity.MissionState;
+import co.cetad.umas.scheduler.domain.model.vo.ClaimPartition;
+import co.cetad.umas.scheduler.domain.model.vo.Mission;
+import co.cetad.umas.scheduler.domain.model.vo.MissionCursor;
+import co.cetad.umas.scheduler.domain.model.vo.MissionPage;
+import co.cetad.umas.scheduler.domain.model.vo.MissionShard;
+import co.cetad.umas.scheduler.domain.ports.out.MissionRepository;
+import co.cetad.umas.scheduler.infrastructure.config.PersistenceProperties;
+import co.cetad.umas.scheduler.infrastructure.persistence.index.UpcomingMissionIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Repositorio de misiones respaldado por el índice en memoria
+ *
+ * Con el índice habilitado reemplaza (@Primary) al adaptador de BD (JPA o R2DBC) para las lecturas de los jobs:
+ * - Búsquedas por rango de misiones APROBADA automáticas: se responden desde el índice
+ * - Reclamo de misiones listas: los candidatos salen del índice y se reclaman por ID
+ *   (sin escaneo en BD; si no hay vencidas no se toca la BD)
+ * - Escrituras, paginación y consultas con shard parcial: se delegan al adaptador de BD
+ *   (el bucket se calcula con hashtext de PostgreSQL)
+ *
+ * LIBERACIONES:
+ * - Las misiones liberadas vuelven a APROBADA sin evento de cambio; el siguiente reclamo
+ *   hace un barrido en BD para recogerlas
+ * - Las diferidas (deferClaims) se recogen con un barrido en BD cuando vence su notBefore
+ */
+@Slf4j
+@Primary
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "scheduler.mission-index", name = "enabled", havingValue = "true")
+public class IndexedMissionRepository implements MissionRepository {
+
+    @Qualifier(PersistenceProperties.DATABASE_MISSION_REPOSITORY)
+    private final MissionRepository delegate;
+    private final UpcomingMissionIndex index;
+
+    private final AtomicBoolean sweepPending = new AtomicBoolean(false);
+    private final ConcurrentSkipListSet<LocalDateTime> deferredSweeps = new ConcurrentSkipListSet<>();
+
+    @Override
+    public CompletableFuture<MissionPage> findAutoByState(MissionState state, MissionCursor after, int limit) {
+        return delegate.findAutoByState(state, after, limit);
+    }
+
+    @Override
+    public CompletableFuture<List<Mission>> findByStateAndIsAutomaticAndEstimatedDateBetween(
+            MissionState state,
+            Boolean isAutomatic,
+            LocalDateTime estimatedDateAfter,
+            LocalDateTime estimatedDateBefore,
+            MissionShard shard
+    ) {
+        if (!servesFromIndex(state, isAutomatic, shard)) {
+            return delegate.findByStateAndIsAutomaticAndEstimatedDateBetween(
+                    state, isAutomatic, estimatedDateAfter, estimatedDateBefore, shard);
+        }
+        return CompletableFuture.completedFuture(index.between(estimatedDateAfter, estimatedDateBefore));
+    }
+
+    @Override
+    public CompletableFuture<Long> countReadyMissions(LocalDateTime estimatedDateBefore, MissionShard shard) {
+        return delegate.countReadyMissions(estimatedDateBefore, shard);
+    }
+
+    @Override
+    public CompletableFuture<List<Mission>> claimReadyMissions(
+            LocalDateTime estimatedDateBefore,
+            int limit,
+            MissionShard shard
+    ) {
+        if (!claimsFromIndex(shard)) {
+            return delegate.claimReadyMissions(estimatedDateBefore, limit, shard);
+        }
+        return claimIndexed(estimatedDateBefore, limit, delegate::claimMissions, Function.identity(), List.of());
+    }
+
+    @Override
+    public CompletableFuture<List<Mission>> claimMissions(
+            Collection<String> missionIds,
+            LocalDateTime estimatedDateBefore
+    ) {
+        return delegate.claimMissions(missionIds, estimatedDateBefore)
+                .thenApply(this::evictClaimed);
+    }
+
+    @Override
+    public CompletableFuture<Integer> releaseClaims(Collection<String> missionIds) {
+        return delegate.releaseClaims(missionIds)
+                .thenApply(released -> {
+                    if (released > 0) {
+                        sweepPending.set(true);
+                    }
+                    return released;
+                });
+    }
+
+    @Override
+    public CompletableFuture<Integer> deferClaims(Collection<String> missionIds, LocalDateTime notBefore) {
+        return delegate.deferClaims(missionIds, notBefore)
+                .thenApply(deferred -> {
+                    if (deferred > 0) {
+                        deferredSweeps.add(notBefore);
+                    }
+                    return deferred;
+                });
+    }
+
+    @Override
+    public CompletableFuture<Integer> confirmClaims(Collection<String> missionIds) {
+        return delegate.confirmClaims(missionIds);
+    }
+
+    @Override
+    public CompletableFuture<Integer> releaseStaleClaims(LocalDateTime claimedBefore, int limit) {
+        return delegate.releaseStaleClaims(claimedBefore, limit)
+                .thenApply(released -> {
+                    if (released > 0) {
+                        sweepPending.set(true);
+                    }
+                    return released;
+                });
+    }
+
+    @Override
+    public CompletableFuture<ClaimPartition> claimReadyMissionsIntoOutbox(
+            LocalDateTime estimatedDateBefore,
+            int limit,
+            MissionShard shard,
+            Function<List<Mission>, CompletableFuture<ClaimPartition>> partitioner
+    ) {
+        if (!claimsFromIndex(shard)) {
+            return delegate.claimReadyMissionsIntoOutbox(estimatedDateBefore, limit, shard, partitioner)
+                    .thenApply(this::trackDeferred);
+        }
+        return claimIndexed(
+                estimatedDateBefore,
+                limit,
+                (missionIds, before) -> delegate.claimMissionsIntoOutbox(missionIds, before, partitioner)
+                        .thenApply(this::trackDeferred),
+                ClaimPartition::claimed,
+                ClaimPartition.releaseAll(List.of())
+        );
+    }
+
+    @Override
+    public CompletableFuture<ClaimPartition> claimMissionsIntoOutbox(
+            Collection<String> missionIds,
+            LocalDateTime estimatedDateBefore,
+            Function<List<Mission>, CompletableFuture<ClaimPartition>> partitioner
+    ) {
+        return delegate.claimMissionsIntoOutbox(missionIds, estimatedDateBefore, partitioner)
+                .thenApply(partition -> {
+                    evictClaimed(partition.claimed());
+                    return trackDeferred(partition);
+                });
+    }
+
+    /**
+     * Reclama por ID las misiones vencidas del índice
+     * Las candidatas que la BD no reclamó (ya despachadas, canceladas o reprogramadas)
+     * se retiran si el índice no recibió una versión más reciente entre tanto
+     *
+     * @param claimedOf Misiones reclamadas según el resultado del reclamo
+     * @param none Resultado cuando no hay candidatas vencidas
+     */
+    private <T> CompletableFuture<T> claimIndexed(
+            LocalDateTime estimatedDateBefore,
+            int limit,
+            BiFunction<Collection<String>, LocalDateTime, CompletableFuture<T>> claim,
+            Function<T, List<Mission>> claimedOf,
+            T none
+    ) {
+        List<Mission> candidates = index.dueBefore(estimatedDateBefore, limit);
+        if (candidates.isEmpty()) {
+            return CompletableFuture.completedFuture(none);
+        }
+
+        List<String> candidateIds = candidates.stream()
+                .map(Mission::id)
+                .toList();
+
+        return claim.apply(candidateIds, estimatedDateBefore)
+                .thenApply(result -> {
+                    List<Mission> claimed = claimedOf.apply(result);
+                    evictClaimed(claimed);
+
+                    Set<String> claimedIds = claimed.stream()
+                            .map(Mission::id)
+                            .collect(Collectors.toSet());
+                    candidates.stream()
+                            .filter(candidate -> !claimedIds.contains(candidate.id()))
+                            .forEach(index::removeIfUnchanged);
+
+                    log.debug("Claimed {} of {} indexed due missions", claimed.size(), candidates.size());
+                    return result;
+                });
+    }
+
+    /**
+     * Las retenidas del reclamo con outbox se difirieron en su transacción:
+     * se recogen con un barrido en BD cuando vence su notBefore (igual que deferClaims)
+     */
+    private ClaimPartition trackDeferred(ClaimPartition partition) {
+        partition.held().forEach(hold -> deferredSweeps.add(hold.notBefore()));
+        return partition;
+    }
+
+    private List<Mission> evictClaimed(List<Mission> claimed) {
+        claimed.forEach(mission -> index.remove(mission.id(), mission.updatedAt()));
+        return claimed;
+    }
+
+    private boolean servesFromIndex(MissionState state, Boolean isAutomatic, MissionShard shard) {
+        return index.ready()
+                && state == MissionState.APROBADA
+                && Boolean.TRUE.equals(isAutomatic)
+                && shard.isAll();
+    }
+
+    /**
+     * El reclamo usa el índice salvo que haya liberaciones pendientes de barrer
+     * o misiones diferidas cuyo notBefore ya venció
+     */
+    private boolean claimsFromIndex(MissionShard shard) {
+        if (!index.ready() || !shard.isAll()) {
+            return false;
+        }
+
+        Set<LocalDateTime> dueSweeps = deferredSweeps.headSet(LocalDateTime.now(), true);
+        boolean deferredDue = !dueSweeps.isEmpty();
+        dueSweeps.clear();
+
+        boolean releasedPending = sweepPending.getAndSet(false);
+        return !releasedPending && !deferredDue;
+    }
+
+}
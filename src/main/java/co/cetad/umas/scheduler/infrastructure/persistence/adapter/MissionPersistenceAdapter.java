@@ -1,93 +1,400 @@
 package co.cetad.umas.scheduler.infrastructure.persistence.adapter;
 
+import co.cetad.umas.scheduler.domain.model.dto.MissionExecutionScheduledEvent;
 import co.cetad.umas.scheduler.domain.model.entity.MissionEntity;
 import co.cetad.umas.scheduler.domain.model.entity.MissionState;
+import co.cetad.umas.scheduler.domain.model.vo.ClaimPartition;
 import co.cetad.umas.scheduler.domain.model.vo.Mission;
+import co.cetad.umas.scheduler.domain.model.vo.MissionCursor;
+import co.cetad.umas.scheduler.domain.model.vo.MissionPage;
+import co.cetad.umas.scheduler.domain.model.vo.MissionShard;
 import co.cetad.umas.scheduler.domain.ports.out.MissionRepository;
+import co.cetad.umas.scheduler.infrastructure.config.BulkheadTasks;
+import co.cetad.umas.scheduler.infrastructure.config.ExecutorConfig;
+import co.cetad.umas.scheduler.infrastructure.config.PersistenceProperties;
+import co.cetad.umas.scheduler.infrastructure.messaging.outbox.OutboxEventWriter;
+import co.cetad.umas.scheduler.infrastructure.persistence.postgresql.projection.MissionColumns;
+import co.cetad.umas.scheduler.infrastructure.persistence.postgresql.projection.MissionRow;
 import co.cetad.umas.scheduler.infrastructure.persistence.postgresql.repository.R2dbcMissionRepository;
+import co.cetad.umas.scheduler.infrastructure.persistence.postgresql.repository.R2dbcOutboxEventRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 
 /**
  * Adaptador de persistencia para misiones
  * Implementa el patrón Repository del puerto de salida
  *
  * CARACTERÍSTICAS:
- * - Operaciones asíncronas con @Async
- * - Transformación entre entidad JPA y VO de dominio
+ * - Operaciones asíncronas en el executor dedicado de BD (dbExecutor)
+ * - Transformación entre entidad JPA / proyección de lectura y VO de dominio
+ * - Escaneos sobre la proyección MissionRow (sin entidades administradas)
+ * - Reclamo de misiones + registro en outbox en una sola transacción
  * - Programación funcional
+ *
+ * Adaptador por defecto (scheduler.persistence.adapter=jpa); R2dbcMissionPersistenceAdapter
+ * es la alternativa no bloqueante
  */
 @Slf4j
 @Component
+@Qualifier(PersistenceProperties.DATABASE_MISSION_REPOSITORY)
 @RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "scheduler.persistence", name = "adapter", havingValue = "jpa", matchIfMissing = true)
 public class MissionPersistenceAdapter implements MissionRepository {
 
+    /**
+     * Tamaño máximo de página permitido para consultas paginadas
+     */
+    private static final int MAX_PAGE_SIZE = 1000;
+
     private final R2dbcMissionRepository repository;
+    private final R2dbcOutboxEventRepository outboxRepository;
+    private final OutboxEventWriter outboxEventWriter;
+    private final TransactionTemplate transactionTemplate;
+
+    @Qualifier(ExecutorConfig.DB_EXECUTOR)
+    private final Executor dbExecutor;
 
     @Override
-    @Async
-    public CompletableFuture<List<Mission>> findAutoByState(MissionState state) {
-        return CompletableFuture.supplyAsync(() -> {
-            log.debug("Finding missions with state: {}", state);
-            return repository.findAll().stream()
-                    .filter(entity -> entity.getState() == state)
-                    .map(this::toDomain)
-                    .toList();
-        });
+    public CompletableFuture<MissionPage> findAutoByState(MissionState state, MissionCursor after, int limit) {
+        return BulkheadTasks.supplyAsync(() -> {
+            int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+            Pageable pageable = PageRequest.of(0, pageSize);
+            log.debug("Finding missions with state: {}, after: {}, limit: {}", state, after, pageSize);
+
+            List<MissionRow> rows = after == null
+                    ? repository.findPageByState(state, pageable)
+                    : repository.findPageByStateAfter(
+                            state,
+                            after.estimatedDate(),
+                            UUID.fromString(after.missionId()),
+                            pageable
+                    );
+
+            return MissionPage.of(
+                    rows.stream()
+                            .map(MissionPersistenceAdapter::toDomain)
+                            .toList(),
+                    pageSize
+            );
+        }, dbExecutor);
     }
 
     @Override
-    @Async
-    public CompletableFuture<List<Mission>> findByStateAndIsAutomaticAndEstimatedDateBefore(
+    public CompletableFuture<List<Mission>> findByStateAndIsAutomaticAndEstimatedDateBetween(
             MissionState state,
             Boolean isAutomatic,
-            LocalDateTime estimatedDateBefore
+            LocalDateTime estimatedDateAfter,
+            LocalDateTime estimatedDateBefore,
+            MissionShard shard
     ) {
-        return CompletableFuture.supplyAsync(() -> {
-            log.debug("Finding automatic missions with state: {}, before: {}", state, estimatedDateBefore);
+        if (shard.isEmpty()) {
+            return CompletableFuture.completedFuture(List.of());
+        }
 
-            return repository.findByStateAndIsAutomaticAndEstimatedDateBefore(
-                            state,
+        return BulkheadTasks.supplyAsync(() -> {
+            log.debug("Finding automatic missions between {} and {} in {}",
+                    estimatedDateAfter, estimatedDateBefore, shard);
+
+            if (isReadyWindow(state, isAutomatic)) {
+                return (shard.isAll()
+                        ? repository.findReadyBetween(estimatedDateAfter, estimatedDateBefore)
+                        : repository.findReadyBetweenInBuckets(
+                                estimatedDateAfter,
+                                estimatedDateBefore,
+                                shard.bucketCount(),
+                                shard.buckets()
+                        )).stream()
+                        .map(MissionPersistenceAdapter::toDomain)
+                        .toList();
+            }
+
+            if (shard.isAll()) {
+                return repository.findByStateAndIsAutomaticAndEstimatedDateBetween(
+                                state,
+                                isAutomatic,
+                                estimatedDateAfter,
+                                estimatedDateBefore
+                        ).stream()
+                        .map(MissionPersistenceAdapter::toDomain)
+                        .toList();
+            }
+
+            return repository.findByStateAndIsAutomaticAndEstimatedDateBetweenInBuckets(
+                            state.name(),
                             isAutomatic,
-                            estimatedDateBefore
+                            estimatedDateAfter,
+                            estimatedDateBefore,
+                            shard.bucketCount(),
+                            shard.buckets()
                     ).stream()
-                    .map(this::toDomain)
+                    .map(MissionPersistenceAdapter::toDomain)
                     .toList();
-        });
+        }, dbExecutor);
+    }
+
+    /**
+     * Ventana APROBADA automática: la sirven las consultas con literales (índice parcial)
+     */
+    private static boolean isReadyWindow(MissionState state, Boolean isAutomatic) {
+        return state == MissionState.APROBADA && Boolean.TRUE.equals(isAutomatic);
     }
 
     @Override
-    @Async
-    public CompletableFuture<List<Mission>> findByStateAndIsAutomaticAndEstimatedDateBetween(
-            MissionState state,
-            Boolean isAutomatic,
-            LocalDateTime estimatedDateAfter,
+    public CompletableFuture<Long> countReadyMissions(LocalDateTime estimatedDateBefore, MissionShard shard) {
+        if (shard.isEmpty()) {
+            return CompletableFuture.completedFuture(0L);
+        }
+
+        return BulkheadTasks.supplyAsync(() -> {
+            log.debug("Counting ready missions before: {} in {}", estimatedDateBefore, shard);
+
+            if (shard.isAll()) {
+                return repository.countReadyMissions(estimatedDateBefore);
+            }
+            return repository.countReadyMissionsInBuckets(estimatedDateBefore, shard.bucketCount(), shard.buckets());
+        }, dbExecutor);
+    }
+
+    @Override
+    public CompletableFuture<List<Mission>> claimReadyMissions(
+            LocalDateTime estimatedDateBefore,
+            int limit,
+            MissionShard shard
+    ) {
+        if (shard.isEmpty()) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+
+        return BulkheadTasks.supplyAsync(() -> {
+            log.debug("Claiming up to {} ready missions before: {} in {}", limit, estimatedDateBefore, shard);
+
+            return claimReady(estimatedDateBefore, limit, shard).stream()
+                    .map(MissionPersistenceAdapter::toDomain)
+                    .sorted(Comparator.comparing(Mission::estimatedDate))
+                    .toList();
+        }, dbExecutor);
+    }
+
+    @Override
+    public CompletableFuture<List<Mission>> claimMissions(
+            Collection<String> missionIds,
             LocalDateTime estimatedDateBefore
     ) {
-        return CompletableFuture.supplyAsync(() -> {
-            log.debug("Finding automatic missions between {} and {}", estimatedDateAfter, estimatedDateBefore);
+        if (missionIds.isEmpty()) {
+            return CompletableFuture.completedFuture(List.of());
+        }
 
-            return repository.findByStateAndIsAutomaticAndEstimatedDateBetween(
-                            state,
-                            isAutomatic,
-                            estimatedDateAfter,
-                            estimatedDateBefore
-                    ).stream()
-                    .map(this::toDomain)
+        return BulkheadTasks.supplyAsync(() -> {
+            log.debug("Claiming {} missions before: {}", missionIds.size(), estimatedDateBefore);
+
+            return repository.claimMissions(toUuids(missionIds), estimatedDateBefore, LocalDateTime.now()).stream()
+                    .map(MissionPersistenceAdapter::toDomain)
+                    .sorted(Comparator.comparing(Mission::estimatedDate))
                     .toList();
-        });
+        }, dbExecutor);
+    }
+
+    @Override
+    public CompletableFuture<Integer> releaseClaims(Collection<String> missionIds) {
+        if (missionIds.isEmpty()) {
+            return CompletableFuture.completedFuture(0);
+        }
+
+        return BulkheadTasks.supplyAsync(() -> {
+            log.debug("Releasing {} claimed missions", missionIds.size());
+            return repository.releaseClaims(toUuids(missionIds), LocalDateTime.now());
+        }, dbExecutor);
+    }
+
+    @Override
+    public CompletableFuture<Integer> deferClaims(Collection<String> missionIds, LocalDateTime notBefore) {
+        if (missionIds.isEmpty()) {
+            return CompletableFuture.completedFuture(0);
+        }
+
+        return BulkheadTasks.supplyAsync(() -> {
+            log.debug("Deferring {} claimed missions until {}", missionIds.size(), notBefore);
+            return repository.deferClaims(toUuids(missionIds), notBefore, LocalDateTime.now());
+        }, dbExecutor);
+    }
+
+    @Override
+    public CompletableFuture<Integer> confirmClaims(Collection<String> missionIds) {
+        if (missionIds.isEmpty()) {
+            return CompletableFuture.completedFuture(0);
+        }
+
+        return BulkheadTasks.supplyAsync(() -> {
+            log.debug("Confirming {} published claims", missionIds.size());
+            return repository.confirmClaims(toUuids(missionIds));
+        }, dbExecutor);
+    }
+
+    @Override
+    public CompletableFuture<Integer> releaseStaleClaims(LocalDateTime claimedBefore, int limit) {
+        return BulkheadTasks.supplyAsync(() -> {
+            log.debug("Releasing up to {} claims unconfirmed since {}", limit, claimedBefore);
+            return repository.releaseStaleClaims(claimedBefore, LocalDateTime.now(), limit);
+        }, dbExecutor);
+    }
+
+    @Override
+    public CompletableFuture<ClaimPartition> claimReadyMissionsIntoOutbox(
+            LocalDateTime estimatedDateBefore,
+            int limit,
+            MissionShard shard,
+            Function<List<Mission>, CompletableFuture<ClaimPartition>> partitioner
+    ) {
+        if (shard.isEmpty()) {
+            return CompletableFuture.completedFuture(ClaimPartition.releaseAll(List.of()));
+        }
+
+        return BulkheadTasks.supplyAsync(() -> transactionTemplate.execute(status -> {
+            log.debug("Claiming up to {} ready missions into outbox before: {} in {}",
+                    limit, estimatedDateBefore, shard);
+
+            List<Mission> claimed = claimReady(estimatedDateBefore, limit, shard)
+                    .stream()
+                    .map(MissionPersistenceAdapter::toDomain)
+                    .sorted(Comparator.comparing(Mission::estimatedDate))
+                    .toList();
+
+            return stageExecutionEvents(partitioner.apply(claimed).join());
+        }), dbExecutor);
+    }
+
+    @Override
+    public CompletableFuture<ClaimPartition> claimMissionsIntoOutbox(
+            Collection<String> missionIds,
+            LocalDateTime estimatedDateBefore,
+            Function<List<Mission>, CompletableFuture<ClaimPartition>> partitioner
+    ) {
+        if (missionIds.isEmpty()) {
+            return CompletableFuture.completedFuture(ClaimPartition.releaseAll(List.of()));
+        }
+
+        return BulkheadTasks.supplyAsync(() -> transactionTemplate.execute(status -> {
+            log.debug("Claiming {} missions into outbox before: {}", missionIds.size(), estimatedDateBefore);
+
+            List<Mission> claimed = repository.claimMissions(toUuids(missionIds), estimatedDateBefore, LocalDateTime.now())
+                    .stream()
+                    .map(MissionPersistenceAdapter::toDomain)
+                    .sorted(Comparator.comparing(Mission::estimatedDate))
+                    .toList();
+
+            return stageExecutionEvents(partitioner.apply(claimed).join());
+        }), dbExecutor);
+    }
+
+    /**
+     * Reclamo de misiones listas: sin filtro de bucket cuando el shard cubre todas
+     */
+    private List<MissionEntity> claimReady(LocalDateTime estimatedDateBefore, int limit, MissionShard shard) {
+        if (shard.isAll()) {
+            return repository.claimReadyMissions(estimatedDateBefore, LocalDateTime.now(), limit);
+        }
+        return repository.claimReadyMissionsInBuckets(
+                estimatedDateBefore,
+                LocalDateTime.now(),
+                limit,
+                shard.bucketCount(),
+                shard.buckets()
+        );
+    }
+
+    /**
+     * Registra en el outbox el evento de ejecución de cada misión despachada y difiere las retenidas
+     * Debe llamarse dentro de la transacción del reclamo: con el evento registrado
+     * el reclamo queda confirmado (claimed_at = NULL) en la misma transacción
+     */
+    private ClaimPartition stageExecutionEvents(ClaimPartition partition) {
+        List<Mission> released = partition.released();
+        if (!released.isEmpty()) {
+            outboxRepository.saveAll(released.stream()
+                    .map(mission -> MissionExecutionScheduledEvent.of(
+                            mission.id(),
+                            mission.name(),
+                            mission.estimatedDate()
+                    ))
+                    .map(outboxEventWriter::executionEntry)
+                    .toList());
+            repository.confirmClaims(toUuids(released.stream().map(Mission::id).toList()));
+        }
+
+        LocalDateTime deferredAt = LocalDateTime.now();
+        partition.heldIdsByNotBefore().forEach((notBefore, missionIds) ->
+                repository.deferClaims(toUuids(missionIds), notBefore, deferredAt));
+        return partition;
+    }
+
+    private List<UUID> toUuids(Collection<String> missionIds) {
+        return missionIds.stream()
+                .map(UUID::fromString)
+                .toList();
+    }
+
+    /**
+     * Transforma una proyección de lectura en VO de dominio
+     * Sin estado: también lo usan MissionStreamPersistenceAdapter y el benchmark JMH del mapeo
+     */
+    static Mission toDomain(MissionRow row) {
+        return new Mission(
+                row.id().toString(),
+                row.name(),
+                row.operatorId().toString(),
+                row.missionType(),
+                row.state(),
+                row.estimatedDate(),
+                row.startDate(),
+                row.endDate(),
+                row.isAutomatic(),
+                row.createdAt(),
+                row.updatedAt(),
+                false
+        );
+    }
+
+    /**
+     * Transforma una fila de consulta nativa (proyección MissionColumns) en VO de dominio
+     * Sin estado: también lo usa MissionStreamPersistenceAdapter
+     */
+    static Mission toDomain(MissionColumns columns) {
+        return new Mission(
+                columns.getId().toString(),
+                columns.getName(),
+                columns.getOperatorId().toString(),
+                columns.getMissionType(),
+                columns.getState(),
+                columns.getEstimatedDate(),
+                columns.getStartDate(),
+                columns.getEndDate(),
+                columns.getIsAutomatic(),
+                columns.getCreatedAt(),
+                columns.getUpdatedAt(),
+                false
+        );
     }
 
     /**
-     * Transforma una entidad JPA en VO de dominio
+     * Transforma una entidad JPA en VO de dominio (reclamos)
+     * Sin estado: también lo usa el benchmark JMH del mapeo
      */
-    private Mission toDomain(MissionEntity entity) {
+    static Mission toDomain(MissionEntity entity) {
         return new Mission(
                 entity.getId().toString(),
                 entity.getName(),
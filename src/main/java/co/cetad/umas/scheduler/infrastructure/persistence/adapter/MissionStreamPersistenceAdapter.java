@@ -0,0 +1,108 @@
+package co.cetad.umas.scheduler.infrastructure.persistence.adapter;
+
+import co.cetad.umas.scheduler.domain.model.vo.Mission;
+import co.cetad.umas.scheduler.domain.model.vo.MissionCursor;
+import co.cetad.umas.scheduler.domain.model.vo.MissionPage;
+import co.cetad.umas.scheduler.domain.model.vo.MissionShard;
+import co.cetad.umas.scheduler.domain.ports.out.MissionStreamRepository;
+import co.cetad.umas.scheduler.infrastructure.config.ExecutorConfig;
+import co.cetad.umas.scheduler.infrastructure.config.PipelineProperties;
+import co.cetad.umas.scheduler.infrastructure.persistence.postgresql.repository.R2dbcMissionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+
+/**
+ * Adaptador de lectura en flujo de misiones
+ *
+ * CARACTERÍSTICAS:
+ * - Recorre el rango por keyset (estimatedDate, id) en páginas de scheduler.pipeline.page-size
+ * - Cada página es una consulta corta de solo lectura en el executor de BD (dbExecutor)
+ * - La siguiente página se consulta solo cuando el consumidor agotó la anterior:
+ *   en memoria hay como máximo una página más lo que retienen las etapas siguientes
+ * - Solo con el adaptador JPA: con R2DBC el flujo lo sirve R2dbcMissionPersistenceAdapter
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "scheduler.persistence", name = "adapter", havingValue = "jpa", matchIfMissing = true)
+public class MissionStreamPersistenceAdapter implements MissionStreamRepository {
+
+    /**
+     * Mayor UUID posible: con él la primera página solo filtra por estimatedDate > after
+     */
+    private static final String LAST_ID = new UUID(-1L, -1L).toString();
+
+    private final R2dbcMissionRepository repository;
+    private final PipelineProperties properties;
+    private final Scheduler dbScheduler;
+
+    public MissionStreamPersistenceAdapter(
+            R2dbcMissionRepository repository,
+            PipelineProperties properties,
+            @Qualifier(ExecutorConfig.DB_EXECUTOR) Executor dbExecutor
+    ) {
+        this.repository = repository;
+        this.properties = properties;
+        this.dbScheduler = Schedulers.fromExecutor(dbExecutor);
+    }
+
+    @Override
+    public Flux<Mission> streamUpcomingMissions(LocalDateTime after, LocalDateTime before, MissionShard shard) {
+        if (shard.isEmpty()) {
+            return Flux.empty();
+        }
+
+        return fetchPage(new MissionCursor(after, LAST_ID), before, shard)
+                .expand(page -> page.hasNext()
+                        ? fetchPage(page.nextCursor(), before, shard)
+                        : Mono.empty())
+                .concatMapIterable(MissionPage::missions, 1);
+    }
+
+    private Mono<MissionPage> fetchPage(MissionCursor cursor, LocalDateTime before, MissionShard shard) {
+        int pageSize = properties.getPageSize();
+
+        return Mono.fromCallable(() -> {
+                    log.debug("Streaming upcoming missions after {} up to {} in {}", cursor, before, shard);
+                    return MissionPage.of(findPage(cursor, before, pageSize, shard), pageSize);
+                })
+                .subscribeOn(dbScheduler);
+    }
+
+    private List<Mission> findPage(MissionCursor cursor, LocalDateTime before, int pageSize, MissionShard shard) {
+        UUID afterId = UUID.fromString(cursor.missionId());
+
+        if (shard.isAll()) {
+            return repository.findUpcomingPage(
+                            cursor.estimatedDate(),
+                            afterId,
+                            before,
+                            pageSize
+                    ).stream()
+                    .map(MissionPersistenceAdapter::toDomain)
+                    .toList();
+        }
+
+        return repository.findUpcomingPageInBuckets(
+                        cursor.estimatedDate(),
+                        afterId,
+                        before,
+                        pageSize,
+                        shard.bucketCount(),
+                        shard.buckets()
+                ).stream()
+                .map(MissionPersistenceAdapter::toDomain)
+                .toList();
+    }
+
+}
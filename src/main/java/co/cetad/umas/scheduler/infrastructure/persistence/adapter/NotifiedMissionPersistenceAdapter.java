@@ -0,0 +1,68 @@
+package co.cetad.umas.scheduler.infrastructure.persistence.adapter;
+
+import co.cetad.umas.scheduler.domain.model.vo.Mission;
+import co.cetad.umas.scheduler.domain.model.vo.MissionCursor;
+import co.cetad.umas.scheduler.domain.ports.out.NotifiedMissionRepository;
+import co.cetad.umas.scheduler.infrastructure.config.BulkheadTasks;
+import co.cetad.umas.scheduler.infrastructure.config.ExecutorConfig;
+import co.cetad.umas.scheduler.infrastructure.persistence.postgresql.repository.R2dbcNotifiedMissionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+/**
+ * Adaptador de persistencia para las misiones notificadas por delante del watermark
+ *
+ * CARACTERÍSTICAS:
+ * - Operaciones asíncronas en el executor dedicado de BD (dbExecutor)
+ * - Solo se escribe tras un hueco en el watermark: en el caso normal la tabla queda vacía
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotifiedMissionPersistenceAdapter implements NotifiedMissionRepository {
+
+    private final R2dbcNotifiedMissionRepository repository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Qualifier(ExecutorConfig.DB_EXECUTOR)
+    private final Executor dbExecutor;
+
+    @Override
+    public CompletableFuture<Set<MissionCursor>> findNotifiedBetween(LocalDateTime after, LocalDateTime before) {
+        return BulkheadTasks.supplyAsync(() -> repository
+                .findByEstimatedDateGreaterThanAndEstimatedDateLessThanEqual(after, before).stream()
+                .map(entity -> new MissionCursor(entity.getEstimatedDate(), entity.getMissionId().toString()))
+                .collect(Collectors.toSet()), dbExecutor);
+    }
+
+    @Override
+    public CompletableFuture<Void> record(Collection<Mission> missions) {
+        if (missions.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        List<Mission> batch = List.copyOf(missions);
+        return BulkheadTasks.runAsync(() -> transactionTemplate.executeWithoutResult(status -> {
+            batch.forEach(mission -> repository.record(UUID.fromString(mission.id()), mission.estimatedDate()));
+            log.debug("Recorded {} missions notified past the notification watermark", batch.size());
+        }), dbExecutor);
+    }
+
+    @Override
+    public CompletableFuture<Integer> purgeBefore(LocalDateTime estimatedDate) {
+        return BulkheadTasks.supplyAsync(() -> repository.purgeBefore(estimatedDate), dbExecutor);
+    }
+
+}
@@ -0,0 +1,546 @@
+package co.cetad.umas.scheduler.infrastructure.persistence.adapter;
+
+import co.cetad.umas.scheduler.domain.model.dto.MissionExecutionScheduledEvent;
+import co.cetad.umas.scheduler.domain.model.entity.MissionOrigin;
+import co.cetad.umas.scheduler.domain.model.entity.MissionState;
+import co.cetad.umas.scheduler.domain.model.entity.OutboxEventEntity;
+import co.cetad.umas.scheduler.domain.model.vo.ClaimPartition;
+import co.cetad.umas.scheduler.domain.model.vo.Mission;
+import co.cetad.umas.scheduler.domain.model.vo.MissionCursor;
+import co.cetad.umas.scheduler.domain.model.vo.MissionPage;
+import co.cetad.umas.scheduler.domain.model.vo.MissionShard;
+import co.cetad.umas.scheduler.domain.ports.out.MissionRepository;
+import co.cetad.umas.scheduler.domain.ports.out.MissionStreamRepository;
+import co.cetad.umas.scheduler.infrastructure.config.PersistenceProperties;
+import co.cetad.umas.scheduler.infrastructure.config.PipelineProperties;
+import co.cetad.umas.scheduler.infrastructure.config.R2dbcConfig;
+import co.cetad.umas.scheduler.infrastructure.messaging.outbox.OutboxEventWriter;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Adaptador de persistencia de misiones sobre R2DBC (scheduler.persistence.adapter=r2dbc)
+ * Implementa los mismos puertos que MissionPersistenceAdapter con las mismas sentencias SQL
+ *
+ * CARACTERÍSTICAS:
+ * - I/O no bloqueante: ningún hilo queda esperando a PostgreSQL (sin dbExecutor)
+ * - Conexiones del pool reactivo de R2dbcConfig
+ * - Enums de PostgreSQL leídos como texto (::text) y mapeados directamente al VO de dominio
+ * - Reclamo + outbox en una transacción reactiva (TransactionalOperator)
+ * - Flujo de misiones próximas con una sola consulta: las filas llegan en bloques de
+ *   scheduler.pipeline.page-size según la demanda del consumidor
+ */
+@Slf4j
+@Component
+@Qualifier(PersistenceProperties.DATABASE_MISSION_REPOSITORY)
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "scheduler.persistence", name = "adapter", havingValue = "r2dbc")
+public class R2dbcMissionPersistenceAdapter implements MissionRepository, MissionStreamRepository {
+
+    /**
+     * Tamaño máximo de página permitido para consultas paginadas
+     */
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    private static final String COLUMNS = """
+            m.id, m.name, m.operator_id, m.mission_type::text AS mission_type, m.state::text AS state,
+            m.estimated_date, m.start_date, m.end_date, m.is_automatic, m.created_at, m.updated_at
+            """;
+
+    private static final String IN_BUCKETS = """
+            AND (hashtext(CAST(%s.id AS text)) & 2147483647) %% :bucketCount IN (:buckets)
+            """;
+
+    private static final String CLAIM_READY = """
+            UPDATE mission m
+            SET state = 'EN_EJECUCION', updated_at = :claimedAt, dispatch_not_before = NULL, claimed_at = :claimedAt
+            WHERE m.id IN (
+                SELECT c.id FROM mission c
+                WHERE c.state = 'APROBADA'
+                AND c.is_automatic = true
+                AND c.estimated_date <= :estimatedDateBefore
+                AND (c.dispatch_not_before IS NULL OR c.dispatch_not_before <= :claimedAt)
+                %s
+                ORDER BY c.estimated_date ASC
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+            )
+            RETURNING %s
+            """;
+
+    private static final String CLAIM_BY_ID = """
+            UPDATE mission m
+            SET state = 'EN_EJECUCION', updated_at = :claimedAt, dispatch_not_before = NULL, claimed_at = :claimedAt
+            WHERE m.id IN (
+                SELECT c.id FROM mission c
+                WHERE c.id IN (:missionIds)
+                AND c.state = 'APROBADA'
+                AND c.is_automatic = true
+                AND c.estimated_date <= :estimatedDateBefore
+                AND (c.dispatch_not_before IS NULL OR c.dispatch_not_before <= :claimedAt)
+                FOR UPDATE SKIP LOCKED
+            )
+            RETURNING %s
+            """.formatted(COLUMNS);
+
+    private static final String RELEASE = """
+            UPDATE mission
+            SET state = 'APROBADA', updated_at = :releasedAt, claimed_at = NULL
+            WHERE id IN (:missionIds)
+            AND state = 'EN_EJECUCION'
+            """;
+
+    private static final String DEFER = """
+            UPDATE mission
+            SET state = 'APROBADA', updated_at = :releasedAt, dispatch_not_before = :notBefore, claimed_at = NULL
+            WHERE id IN (:missionIds)
+            AND state = 'EN_EJECUCION'
+            """;
+
+    private static final String CONFIRM = """
+            UPDATE mission
+            SET claimed_at = NULL
+            WHERE id IN (:missionIds)
+            AND claimed_at IS NOT NULL
+            """;
+
+    private static final String RELEASE_STALE = """
+            UPDATE mission m
+            SET state = 'APROBADA', updated_at = :releasedAt, claimed_at = NULL
+            WHERE m.id IN (
+                SELECT c.id FROM mission c
+                WHERE c.claimed_at < :claimedBefore
+                AND c.state = 'EN_EJECUCION'
+                ORDER BY c.claimed_at ASC
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+            )
+            """;
+
+    private static final String INSERT_OUTBOX = """
+            INSERT INTO event_outbox (id, aggregate_id, topic, message_key, payload, content_type,
+                                      schema_version, created_at, attempts)
+            VALUES (:id, :aggregateId, :topic, :messageKey, :payload, :contentType,
+                    :schemaVersion, :createdAt, :attempts)
+            """;
+
+    @Qualifier(R2dbcConfig.DATABASE_CLIENT)
+    private final DatabaseClient databaseClient;
+
+    @Qualifier(R2dbcConfig.TRANSACTIONAL_OPERATOR)
+    private final TransactionalOperator transactionalOperator;
+
+    private final OutboxEventWriter outboxEventWriter;
+    private final PipelineProperties pipelineProperties;
+
+    @Override
+    public CompletableFuture<MissionPage> findAutoByState(MissionState state, MissionCursor after, int limit) {
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        log.debug("Finding missions with state: {}, after: {}, limit: {}", state, after, pageSize);
+
+        DatabaseClient.GenericExecuteSpec spec = after == null
+                ? databaseClient.sql("""
+                        SELECT %s FROM mission m
+                        WHERE m.state = CAST(:state AS mission_state)
+                        ORDER BY m.estimated_date ASC, m.id ASC
+                        LIMIT :limit
+                        """.formatted(COLUMNS))
+                : databaseClient.sql("""
+                        SELECT %s FROM mission m
+                        WHERE m.state = CAST(:state AS mission_state)
+                        AND (m.estimated_date > :afterDate
+                            OR (m.estimated_date = :afterDate AND m.id > :afterId))
+                        ORDER BY m.estimated_date ASC, m.id ASC
+                        LIMIT :limit
+                        """.formatted(COLUMNS))
+                        .bind("afterDate", after.estimatedDate())
+                        .bind("afterId", UUID.fromString(after.missionId()));
+
+        return spec.bind("state", state.name())
+                .bind("limit", pageSize)
+                .map(this::toDomain)
+                .all()
+                .collectList()
+                .map(missions -> MissionPage.of(missions, pageSize))
+                .toFuture();
+    }
+
+    @Override
+    public CompletableFuture<List<Mission>> findByStateAndIsAutomaticAndEstimatedDateBetween(
+            MissionState state,
+            Boolean isAutomatic,
+            LocalDateTime estimatedDateAfter,
+            LocalDateTime estimatedDateBefore,
+            MissionShard shard
+    ) {
+        if (shard.isEmpty()) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+
+        log.debug("Finding automatic missions between {} and {} in {}",
+                estimatedDateAfter, estimatedDateBefore, shard);
+
+        // Ventana APROBADA automática con literales: el plan genérico usa el índice parcial
+        boolean readyWindow = state == MissionState.APROBADA && Boolean.TRUE.equals(isAutomatic);
+        String stateFilter = readyWindow
+                ? "m.state = 'APROBADA' AND m.is_automatic = true"
+                : "m.state = CAST(:state AS mission_state) AND m.is_automatic = :isAutomatic";
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql("""
+                        SELECT %s FROM mission m
+                        WHERE %s
+                        AND m.estimated_date > :estimatedDateAfter
+                        AND m.estimated_date <= :estimatedDateBefore
+                        %s
+                        ORDER BY m.estimated_date ASC
+                        """.formatted(COLUMNS, stateFilter, bucketFilter("m", shard)))
+                .bind("estimatedDateAfter", estimatedDateAfter)
+                .bind("estimatedDateBefore", estimatedDateBefore);
+
+        if (!readyWindow) {
+            spec = spec.bind("state", state.name())
+                    .bind("isAutomatic", isAutomatic);
+        }
+
+        return bindShard(spec, shard)
+                .map(this::toDomain)
+                .all()
+                .collectList()
+                .toFuture();
+    }
+
+    @Override
+    public CompletableFuture<Long> countReadyMissions(LocalDateTime estimatedDateBefore, MissionShard shard) {
+        if (shard.isEmpty()) {
+            return CompletableFuture.completedFuture(0L);
+        }
+
+        log.debug("Counting ready missions before: {} in {}", estimatedDateBefore, shard);
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql("""
+                        SELECT count(*) AS ready FROM mission m
+                        WHERE m.state = 'APROBADA'
+                        AND m.is_automatic = true
+                        AND m.estimated_date <= :estimatedDateBefore
+                        AND (m.dispatch_not_before IS NULL OR m.dispatch_not_before <= :estimatedDateBefore)
+                        %s
+                        """.formatted(bucketFilter("m", shard)))
+                .bind("estimatedDateBefore", estimatedDateBefore);
+
+        return bindShard(spec, shard)
+                .map(row -> row.get("ready", Long.class))
+                .one()
+                .toFuture();
+    }
+
+    @Override
+    public CompletableFuture<List<Mission>> claimReadyMissions(
+            LocalDateTime estimatedDateBefore,
+            int limit,
+            MissionShard shard
+    ) {
+        if (shard.isEmpty()) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+
+        log.debug("Claiming up to {} ready missions before: {} in {}", limit, estimatedDateBefore, shard);
+        return claimReady(estimatedDateBefore, limit, shard).toFuture();
+    }
+
+    @Override
+    public CompletableFuture<List<Mission>> claimMissions(
+            Collection<String> missionIds,
+            LocalDateTime estimatedDateBefore
+    ) {
+        if (missionIds.isEmpty()) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+
+        log.debug("Claiming {} missions before: {}", missionIds.size(), estimatedDateBefore);
+        return claimById(missionIds, estimatedDateBefore).toFuture();
+    }
+
+    @Override
+    public CompletableFuture<Integer> releaseClaims(Collection<String> missionIds) {
+        if (missionIds.isEmpty()) {
+            return CompletableFuture.completedFuture(0);
+        }
+
+        log.debug("Releasing {} claimed missions", missionIds.size());
+
+        return databaseClient.sql(RELEASE)
+                .bind("missionIds", toUuids(missionIds))
+                .bind("releasedAt", LocalDateTime.now())
+                .fetch()
+                .rowsUpdated()
+                .map(Long::intValue)
+                .toFuture();
+    }
+
+    @Override
+    public CompletableFuture<Integer> deferClaims(Collection<String> missionIds, LocalDateTime notBefore) {
+        if (missionIds.isEmpty()) {
+            return CompletableFuture.completedFuture(0);
+        }
+
+        log.debug("Deferring {} claimed missions until {}", missionIds.size(), notBefore);
+
+        return defer(missionIds, notBefore, LocalDateTime.now()).toFuture();
+    }
+
+    @Override
+    public CompletableFuture<Integer> confirmClaims(Collection<String> missionIds) {
+        if (missionIds.isEmpty()) {
+            return CompletableFuture.completedFuture(0);
+        }
+
+        log.debug("Confirming {} published claims", missionIds.size());
+        return confirm(missionIds).toFuture();
+    }
+
+    @Override
+    public CompletableFuture<Integer> releaseStaleClaims(LocalDateTime claimedBefore, int limit) {
+        log.debug("Releasing up to {} claims unconfirmed since {}", limit, claimedBefore);
+
+        return databaseClient.sql(RELEASE_STALE)
+                .bind("claimedBefore", claimedBefore)
+                .bind("releasedAt", LocalDateTime.now())
+                .bind("limit", limit)
+                .fetch()
+                .rowsUpdated()
+                .map(Long::intValue)
+                .toFuture();
+    }
+
+    @Override
+    public CompletableFuture<ClaimPartition> claimReadyMissionsIntoOutbox(
+            LocalDateTime estimatedDateBefore,
+            int limit,
+            MissionShard shard,
+            Function<List<Mission>, CompletableFuture<ClaimPartition>> partitioner
+    ) {
+        if (shard.isEmpty()) {
+            return CompletableFuture.completedFuture(ClaimPartition.releaseAll(List.of()));
+        }
+
+        log.debug("Claiming up to {} ready missions into outbox before: {} in {}",
+                limit, estimatedDateBefore, shard);
+
+        return claimReady(estimatedDateBefore, limit, shard)
+                .flatMap(claimed -> Mono.fromFuture(partitioner.apply(claimed)))
+                .flatMap(this::stageExecutionEvents)
+                .flatMap(this::confirmStaged)
+                .flatMap(this::deferHeld)
+                .as(transactionalOperator::transactional)
+                .toFuture();
+    }
+
+    @Override
+    public CompletableFuture<ClaimPartition> claimMissionsIntoOutbox(
+            Collection<String> missionIds,
+            LocalDateTime estimatedDateBefore,
+            Function<List<Mission>, CompletableFuture<ClaimPartition>> partitioner
+    ) {
+        if (missionIds.isEmpty()) {
+            return CompletableFuture.completedFuture(ClaimPartition.releaseAll(List.of()));
+        }
+
+        log.debug("Claiming {} missions into outbox before: {}", missionIds.size(), estimatedDateBefore);
+
+        return claimById(missionIds, estimatedDateBefore)
+                .flatMap(claimed -> Mono.fromFuture(partitioner.apply(claimed)))
+                .flatMap(this::stageExecutionEvents)
+                .flatMap(this::confirmStaged)
+                .flatMap(this::deferHeld)
+                .as(transactionalOperator::transactional)
+                .toFuture();
+    }
+
+    /**
+     * Una sola consulta por rango: el driver pide filas en bloques de page-size
+     * a medida que el consumidor las solicita (la conexión queda tomada mientras dura el flujo)
+     */
+    @Override
+    public Flux<Mission> streamUpcomingMissions(LocalDateTime after, LocalDateTime before, MissionShard shard) {
+        if (shard.isEmpty()) {
+            return Flux.empty();
+        }
+
+        int fetchSize = pipelineProperties.getPageSize();
+        log.debug("Streaming upcoming missions after {} up to {} in {}", after, before, shard);
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql("""
+                        SELECT %s FROM mission m
+                        WHERE m.state = 'APROBADA'
+                        AND m.is_automatic = true
+                        AND m.estimated_date > :afterDate
+                        AND m.estimated_date <= :estimatedDateBefore
+                        %s
+                        ORDER BY m.estimated_date ASC, m.id ASC
+                        """.formatted(COLUMNS, bucketFilter("m", shard)))
+                .bind("afterDate", after)
+                .bind("estimatedDateBefore", before)
+                .filter(statement -> statement.fetchSize(fetchSize));
+
+        return bindShard(spec, shard)
+                .map(this::toDomain)
+                .all();
+    }
+
+    /**
+     * Con el evento en el outbox el reclamo ya está confirmado: misma transacción
+     */
+    private Mono<ClaimPartition> confirmStaged(ClaimPartition partition) {
+        if (partition.released().isEmpty()) {
+            return Mono.just(partition);
+        }
+        return confirm(partition.released().stream().map(Mission::id).toList())
+                .thenReturn(partition);
+    }
+
+    /**
+     * Las retenidas vuelven a APROBADA hasta su notBefore: misma transacción
+     */
+    private Mono<ClaimPartition> deferHeld(ClaimPartition partition) {
+        LocalDateTime deferredAt = LocalDateTime.now();
+        return Flux.fromIterable(partition.heldIdsByNotBefore().entrySet())
+                .concatMap(entry -> defer(entry.getValue(), entry.getKey(), deferredAt))
+                .then(Mono.just(partition));
+    }
+
+    private Mono<Integer> defer(Collection<String> missionIds, LocalDateTime notBefore, LocalDateTime releasedAt) {
+        return databaseClient.sql(DEFER)
+                .bind("missionIds", toUuids(missionIds))
+                .bind("notBefore", notBefore)
+                .bind("releasedAt", releasedAt)
+                .fetch()
+                .rowsUpdated()
+                .map(Long::intValue);
+    }
+
+    private Mono<Integer> confirm(Collection<String> missionIds) {
+        return databaseClient.sql(CONFIRM)
+                .bind("missionIds", toUuids(missionIds))
+                .fetch()
+                .rowsUpdated()
+                .map(Long::intValue);
+    }
+
+    private Mono<List<Mission>> claimReady(LocalDateTime estimatedDateBefore, int limit, MissionShard shard) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient
+                .sql(CLAIM_READY.formatted(bucketFilter("c", shard), COLUMNS))
+                .bind("estimatedDateBefore", estimatedDateBefore)
+                .bind("claimedAt", LocalDateTime.now())
+                .bind("limit", limit);
+
+        return sortedByEstimatedDate(bindShard(spec, shard));
+    }
+
+    private Mono<List<Mission>> claimById(Collection<String> missionIds, LocalDateTime estimatedDateBefore) {
+        return sortedByEstimatedDate(databaseClient.sql(CLAIM_BY_ID)
+                .bind("missionIds", toUuids(missionIds))
+                .bind("estimatedDateBefore", estimatedDateBefore)
+                .bind("claimedAt", LocalDateTime.now()));
+    }
+
+    /**
+     * RETURNING no garantiza orden: se ordena igual que el adaptador JPA
+     */
+    private Mono<List<Mission>> sortedByEstimatedDate(DatabaseClient.GenericExecuteSpec spec) {
+        return spec.map(this::toDomain)
+                .all()
+                .sort(Comparator.comparing(Mission::estimatedDate))
+                .collectList();
+    }
+
+    /**
+     * Registra en el outbox el evento de ejecución de cada misión despachada
+     * Debe componerse dentro de la transacción del reclamo
+     */
+    private Mono<ClaimPartition> stageExecutionEvents(ClaimPartition partition) {
+        return Flux.fromIterable(partition.released())
+                .map(mission -> outboxEventWriter.executionEntry(MissionExecutionScheduledEvent.of(
+                        mission.id(),
+                        mission.name(),
+                        mission.estimatedDate()
+                )))
+                .concatMap(this::insertOutboxEntry)
+                .then(Mono.just(partition));
+    }
+
+    private Mono<Long> insertOutboxEntry(OutboxEventEntity entry) {
+        return databaseClient.sql(INSERT_OUTBOX)
+                .bind("id", entry.getId())
+                .bind("aggregateId", entry.getAggregateId())
+                .bind("topic", entry.getTopic())
+                .bind("messageKey", entry.getMessageKey())
+                .bind("payload", entry.getPayload())
+                .bind("contentType", entry.getContentType())
+                .bind("schemaVersion", entry.getSchemaVersion())
+                .bind("createdAt", entry.getCreatedAt())
+                .bind("attempts", entry.getAttempts())
+                .fetch()
+                .rowsUpdated();
+    }
+
+    /**
+     * Filtro por bucket: vacío cuando el shard cubre todas las misiones
+     */
+    private static String bucketFilter(String alias, MissionShard shard) {
+        return shard.isAll() ? "" : IN_BUCKETS.formatted(alias);
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bindShard(
+            DatabaseClient.GenericExecuteSpec spec,
+            MissionShard shard
+    ) {
+        if (shard.isAll()) {
+            return spec;
+        }
+        return spec.bind("bucketCount", shard.bucketCount())
+                .bind("buckets", shard.buckets());
+    }
+
+    private List<UUID> toUuids(Collection<String> missionIds) {
+        return missionIds.stream()
+                .map(UUID::fromString)
+                .toList();
+    }
+
+    /**
+     * Transforma una fila (proyección COLUMNS) en VO de dominio
+     */
+    private Mission toDomain(Readable row) {
+        return new Mission(
+                row.get("id", UUID.class).toString(),
+                row.get("name", String.class),
+                row.get("operator_id", UUID.class).toString(),
+                MissionOrigin.valueOf(row.get("mission_type", String.class)),
+                MissionState.valueOf(row.get("state", String.class)),
+                row.get("estimated_date", LocalDateTime.class),
+                row.get("start_date", LocalDateTime.class),
+                row.get("end_date", LocalDateTime.class),
+                row.get("is_automatic", Boolean.class),
+                row.get("created_at", LocalDateTime.class),
+                row.get("updated_at", LocalDateTime.class),
+                false
+        );
+    }
+
+}
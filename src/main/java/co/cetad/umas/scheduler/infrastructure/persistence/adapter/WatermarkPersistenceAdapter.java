@@ -0,0 +1,64 @@
+package co.cetad.umas.scheduler.infrastructure.persistence.adapter;
+
+import co.cetad.umas.scheduler.domain.model.entity.SchedulerWatermarkEntity;
+import co.cetad.umas.scheduler.domain.ports.out.WatermarkRepository;
+import co.cetad.umas.scheduler.infrastructure.config.BulkheadTasks;
+import co.cetad.umas.scheduler.infrastructure.config.ExecutorConfig;
+import co.cetad.umas.scheduler.infrastructure.persistence.postgresql.repository.R2dbcWatermarkRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+/**
+ * Adaptador de persistencia para watermarks
+ *
+ * CARACTERÍSTICAS:
+ * - Operaciones asíncronas en el executor dedicado de BD (dbExecutor)
+ * - Avance con upsert monotónico (GREATEST), seguro ante ejecuciones repetidas
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WatermarkPersistenceAdapter implements WatermarkRepository {
+
+    private final R2dbcWatermarkRepository repository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Qualifier(ExecutorConfig.DB_EXECUTOR)
+    private final Executor dbExecutor;
+
+    @Override
+    public CompletableFuture<Map<String, LocalDateTime>> find(Collection<String> names) {
+        if (names.isEmpty()) {
+            return CompletableFuture.completedFuture(Map.of());
+        }
+
+        return BulkheadTasks.supplyAsync(() -> repository.findByNameIn(names).stream()
+                .collect(Collectors.toMap(
+                        SchedulerWatermarkEntity::getName,
+                        SchedulerWatermarkEntity::getWatermark
+                )), dbExecutor);
+    }
+
+    @Override
+    public CompletableFuture<Void> advance(Collection<String> names, LocalDateTime watermark) {
+        if (names.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return BulkheadTasks.runAsync(() -> transactionTemplate.executeWithoutResult(status -> {
+            names.forEach(name -> repository.advance(name, watermark));
+            log.debug("Advanced {} watermarks to {}", names.size(), watermark);
+        }), dbExecutor);
+    }
+
+}
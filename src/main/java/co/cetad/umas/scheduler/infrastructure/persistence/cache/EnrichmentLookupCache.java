@@ -0,0 +1,140 @@
+package co.cetad.umas.scheduler.infrastructure.persistence.cache;
+
+import co.cetad.umas.scheduler.domain.model.entity.DroneEntity;
+import co.cetad.umas.scheduler.domain.model.entity.OperatorEntity;
+import co.cetad.umas.scheduler.domain.ports.out.EnrichmentLookup;
+import co.cetad.umas.scheduler.infrastructure.config.CacheConfig;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Búsquedas cacheadas de drones, operadores y asignaciones para el enriquecimiento
+ *
+ * CARACTERÍSTICAS:
+ * - Búsquedas por lote: solo las claves ausentes van a la BD (EnrichmentLookupSource), en bloques IN
+ * - Resultados como CompletableFuture: con R2DBC ningún hilo espera a la BD
+ * - Búsquedas concurrentes de la misma clave se agrupan en una sola consulta
+ *   (la cache asíncrona publica el futuro en curso antes de consultar)
+ * - Drones y operadores inexistentes también se cachean (Optional.empty) hasta su TTL
+ * - Las misiones sin asignación no se cachean: la asignación suele crearse poco después
+ *   y la siguiente búsqueda debe verla sin esperar el TTL
+ * - TTL, tamaño máximo y estadísticas según scheduler.cache.*
+ *
+ * INVALIDACIÓN:
+ * - invalidate*: hooks explícitos para eventos de cambio
+ * - DELETE /actuator/caches/{cache} también vacía cada cache
+ */
+@Slf4j
+@Component
+public class EnrichmentLookupCache implements EnrichmentLookup {
+
+    private final EnrichmentLookupSource source;
+
+    private final AsyncCache<Object, Object> drones;
+    private final AsyncCache<Object, Object> operators;
+    private final AsyncCache<Object, Object> assignments;
+
+    public EnrichmentLookupCache(EnrichmentLookupSource source, CaffeineCacheManager cacheManager) {
+        this.source = source;
+        this.drones = asyncCache(cacheManager, CacheConfig.DRONES_CACHE);
+        this.operators = asyncCache(cacheManager, CacheConfig.OPERATORS_CACHE);
+        this.assignments = asyncCache(cacheManager, CacheConfig.ASSIGNMENTS_CACHE);
+    }
+
+    /**
+     * Dron principal (primera asignación por assignedAt) de cada misión
+     * Las misiones sin asignación no aparecen en el resultado
+     */
+    @Override
+    public CompletableFuture<Map<UUID, UUID>> findFirstDroneIdByMission(Collection<UUID> missionIds) {
+        return lookup(assignments, missionIds, source::loadFirstDroneIds, false);
+    }
+
+    @Override
+    public CompletableFuture<Map<UUID, DroneEntity>> findDrones(Collection<UUID> droneIds) {
+        return lookup(drones, droneIds, source::loadDrones, true);
+    }
+
+    @Override
+    public CompletableFuture<Map<UUID, OperatorEntity>> findOperators(Collection<UUID> operatorIds) {
+        return lookup(operators, operatorIds, source::loadOperators, true);
+    }
+
+    public void invalidateDrone(UUID droneId) {
+        drones.synchronous().invalidate(droneId);
+    }
+
+    public void invalidateOperator(UUID operatorId) {
+        operators.synchronous().invalidate(operatorId);
+    }
+
+    public void invalidateAssignment(UUID missionId) {
+        assignments.synchronous().invalidate(missionId);
+    }
+
+    public void invalidateAll() {
+        drones.synchronous().invalidateAll();
+        operators.synchronous().invalidateAll();
+        assignments.synchronous().invalidateAll();
+        log.info("Enrichment lookup caches invalidated");
+    }
+
+    /**
+     * Resuelve las claves desde la cache y carga las ausentes en una sola pasada
+     * La carga la ejecuta el origen (enrichmentExecutor con JPA, pool reactivo con R2DBC)
+     *
+     * @param cacheMissing true: las claves sin fila se cachean como Optional.empty;
+     *                     false: quedan fuera del mapa de getAll y Caffeine no las guarda
+     */
+    @SuppressWarnings("unchecked")
+    private <V> CompletableFuture<Map<UUID, V>> lookup(
+            AsyncCache<Object, Object> cache,
+            Collection<UUID> keys,
+            Function<List<UUID>, CompletableFuture<Map<UUID, V>>> loader,
+            boolean cacheMissing
+    ) {
+        if (keys.isEmpty()) {
+            return CompletableFuture.completedFuture(Map.of());
+        }
+
+        return cache.getAll(Set.copyOf(keys), (missing, executor) -> {
+            List<UUID> ids = missing.stream()
+                    .map(UUID.class::cast)
+                    .toList();
+
+            return loader.apply(ids).thenApply(loaded -> {
+                Map<Object, Object> values = new HashMap<>();
+                ids.forEach(id -> {
+                    V value = loaded.get(id);
+                    if (value != null || cacheMissing) {
+                        values.put(id, Optional.ofNullable(value));
+                    }
+                });
+                return values;
+            });
+        }).thenApply(cached -> {
+            Map<UUID, V> result = new HashMap<>();
+            cached.forEach((key, value) ->
+                    ((Optional<V>) value).ifPresent(entity -> result.put((UUID) key, entity)));
+            return result;
+        });
+    }
+
+    private static AsyncCache<Object, Object> asyncCache(CaffeineCacheManager cacheManager, String name) {
+        return ((CaffeineCache) cacheManager.getCache(name)).getAsyncCache();
+    }
+
+}
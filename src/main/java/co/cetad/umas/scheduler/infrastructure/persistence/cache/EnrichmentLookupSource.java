@@ -0,0 +1,62 @@
+package co.cetad.umas.scheduler.infrastructure.persistence.cache;
+
+import co.cetad.umas.scheduler.domain.model.entity.DroneEntity;
+import co.cetad.umas.scheduler.domain.model.entity.OperatorEntity;
+import co.cetad.umas.scheduler.infrastructure.persistence.postgresql.projection.DroneBookingRow;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Origen en BD de las búsquedas de enriquecimiento que EnrichmentLookupCache no tiene en cache
+ *
+ * Implementaciones según scheduler.persistence.adapter:
+ * - JpaEnrichmentLookupSource: repositorios JPA en el enrichmentExecutor
+ * - R2dbcEnrichmentLookupSource: consultas no bloqueantes en el pool reactivo
+ */
+public interface EnrichmentLookupSource {
+
+    /**
+     * Máximo de parámetros por cláusula IN
+     * Evita exceder el límite de parámetros de PostgreSQL en ventanas grandes
+     */
+    int IN_CLAUSE_CHUNK_SIZE = 1000;
+
+    /**
+     * Dron principal (primera asignación por assignedAt) de cada misión
+     * Las misiones sin asignación no aparecen en el resultado
+     */
+    CompletableFuture<Map<UUID, UUID>> loadFirstDroneIds(List<UUID> missionIds);
+
+    /**
+     * Todos los drones asignados a cada misión (DroneBookingIndex)
+     * Las misiones sin asignación no aparecen en el resultado
+     */
+    CompletableFuture<Map<UUID, List<UUID>>> loadDroneIds(List<UUID> missionIds);
+
+    CompletableFuture<Map<UUID, DroneEntity>> loadDrones(List<UUID> droneIds);
+
+    CompletableFuture<Map<UUID, OperatorEntity>> loadOperators(List<UUID> operatorIds);
+
+    /**
+     * Asignaciones de drones de misiones EN_EJECUCION reclamadas desde busySince
+     * y de misiones APROBADA que vencen antes de pendingBefore (DroneBookingIndex)
+     */
+    CompletableFuture<List<DroneBookingRow>> loadDroneBookings(LocalDateTime busySince, LocalDateTime pendingBefore);
+
+    /**
+     * Divide los ids en bloques de IN_CLAUSE_CHUNK_SIZE
+     */
+    static List<List<UUID>> chunked(List<UUID> ids) {
+        List<List<UUID>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            chunks.add(ids.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, ids.size())));
+        }
+        return chunks;
+    }
+
+}
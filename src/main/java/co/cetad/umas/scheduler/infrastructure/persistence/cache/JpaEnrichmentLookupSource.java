@@ -0,0 +1,115 @@
+package co.cetad.umas.scheduler.infrastructure.persistence.cache;
+
+import co.cetad.umas.scheduler.domain.model.entity.DroneEntity;
+import co.cetad.umas.scheduler.domain.model.entity.MissionState;
+import co.cetad.umas.scheduler.domain.model.entity.OperatorEntity;
+import co.cetad.umas.scheduler.infrastructure.config.BulkheadTasks;
+import co.cetad.umas.scheduler.infrastructure.config.ExecutorConfig;
+import co.cetad.umas.scheduler.infrastructure.persistence.postgresql.projection.DroneBookingRow;
+import co.cetad.umas.scheduler.infrastructure.persistence.postgresql.repository.R2dbcDroneMissionAssignmentRepository;
+import co.cetad.umas.scheduler.infrastructure.persistence.postgresql.repository.R2dbcDroneRepository;
+import co.cetad.umas.scheduler.infrastructure.persistence.postgresql.repository.R2dbcOperatorRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * Búsquedas de enriquecimiento sobre los repositorios JPA
+ * Cada carga corre en el enrichmentExecutor (JDBC bloquea el hilo durante la consulta)
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "scheduler.persistence", name = "adapter", havingValue = "jpa", matchIfMissing = true)
+public class JpaEnrichmentLookupSource implements EnrichmentLookupSource {
+
+    private final R2dbcDroneMissionAssignmentRepository assignmentRepository;
+    private final R2dbcDroneRepository droneRepository;
+    private final R2dbcOperatorRepository operatorRepository;
+
+    @Qualifier(ExecutorConfig.ENRICHMENT_EXECUTOR)
+    private final Executor enrichmentExecutor;
+
+    /**
+     * La consulta viene ordenada por assignedAt: se conserva la primera de cada misión
+     */
+    @Override
+    public CompletableFuture<Map<UUID, UUID>> loadFirstDroneIds(List<UUID> missionIds) {
+        return BulkheadTasks.supplyAsync(() -> {
+            Map<UUID, UUID> droneIdByMission = new HashMap<>();
+            for (List<UUID> chunk : EnrichmentLookupSource.chunked(missionIds)) {
+                assignmentRepository.findByMissionIdIn(chunk).forEach(assignment ->
+                        droneIdByMission.putIfAbsent(assignment.getMissionId(), assignment.getDroneId()));
+            }
+            return droneIdByMission;
+        }, enrichmentExecutor);
+    }
+
+    @Override
+    public CompletableFuture<Map<UUID, List<UUID>>> loadDroneIds(List<UUID> missionIds) {
+        return BulkheadTasks.supplyAsync(() -> {
+            Map<UUID, List<UUID>> droneIdsByMission = new HashMap<>();
+            for (List<UUID> chunk : EnrichmentLookupSource.chunked(missionIds)) {
+                assignmentRepository.findByMissionIdIn(chunk).forEach(assignment -> droneIdsByMission
+                        .computeIfAbsent(assignment.getMissionId(), ignored -> new ArrayList<>())
+                        .add(assignment.getDroneId()));
+            }
+            return droneIdsByMission;
+        }, enrichmentExecutor);
+    }
+
+    @Override
+    public CompletableFuture<Map<UUID, DroneEntity>> loadDrones(List<UUID> droneIds) {
+        return BulkheadTasks.supplyAsync(
+                () -> loadById(droneIds, droneRepository::findAllById, DroneEntity::getId),
+                enrichmentExecutor
+        );
+    }
+
+    @Override
+    public CompletableFuture<Map<UUID, OperatorEntity>> loadOperators(List<UUID> operatorIds) {
+        return BulkheadTasks.supplyAsync(
+                () -> loadById(operatorIds, operatorRepository::findAllById, OperatorEntity::getId),
+                enrichmentExecutor
+        );
+    }
+
+    @Override
+    public CompletableFuture<List<DroneBookingRow>> loadDroneBookings(
+            LocalDateTime busySince,
+            LocalDateTime pendingBefore
+    ) {
+        return BulkheadTasks.supplyAsync(() -> assignmentRepository.findBookings(
+                MissionState.EN_EJECUCION,
+                busySince,
+                MissionState.APROBADA,
+                pendingBefore
+        ), enrichmentExecutor);
+    }
+
+    /**
+     * Carga entidades por id en bloques de IN_CLAUSE_CHUNK_SIZE
+     */
+    private <E> Map<UUID, E> loadById(
+            List<UUID> ids,
+            Function<List<UUID>, List<E>> finder,
+            Function<E, UUID> idExtractor
+    ) {
+        Map<UUID, E> entitiesById = new HashMap<>();
+        for (List<UUID> chunk : EnrichmentLookupSource.chunked(ids)) {
+            finder.apply(chunk).forEach(entity -> entitiesById.put(idExtractor.apply(entity), entity));
+        }
+        return entitiesById;
+    }
+
+}
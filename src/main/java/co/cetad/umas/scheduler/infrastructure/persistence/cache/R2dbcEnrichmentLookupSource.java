@@ -0,0 +1,178 @@
+package co.cetad.umas.scheduler.infrastructure.persistence.cache;
+
+import co.cetad.umas.scheduler.domain.model.entity.DroneEntity;
+import co.cetad.umas.scheduler.domain.model.entity.DroneStatus;
+import co.cetad.umas.scheduler.domain.model.entity.MissionState;
+import co.cetad.umas.scheduler.domain.model.entity.OperatorEntity;
+import co.cetad.umas.scheduler.domain.model.entity.OperatorStatus;
+import co.cetad.umas.scheduler.infrastructure.config.R2dbcConfig;
+import co.cetad.umas.scheduler.infrastructure.persistence.postgresql.projection.DroneBookingRow;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Búsquedas de enriquecimiento sobre R2DBC (scheduler.persistence.adapter=r2dbc)
+ *
+ * - Mismas consultas IN (...) que los repositorios JPA, en bloques de 1000 parámetros
+ * - Los bloques de un lote se consultan en secuencia sobre el pool reactivo, sin hilos bloqueados
+ * - Las filas se mapean a las mismas entidades que cachea EnrichmentLookupCache
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "scheduler.persistence", name = "adapter", havingValue = "r2dbc")
+public class R2dbcEnrichmentLookupSource implements EnrichmentLookupSource {
+
+    @Qualifier(R2dbcConfig.DATABASE_CLIENT)
+    private final DatabaseClient databaseClient;
+
+    /**
+     * La consulta viene ordenada por assignedAt: se conserva la primera de cada misión
+     */
+    @Override
+    public CompletableFuture<Map<UUID, UUID>> loadFirstDroneIds(List<UUID> missionIds) {
+        return Flux.fromIterable(EnrichmentLookupSource.chunked(missionIds))
+                .concatMap(chunk -> databaseClient.sql("""
+                                SELECT dma.mission_id, dma.drone_id FROM drone_mission_assignment dma
+                                WHERE dma.mission_id IN (:missionIds)
+                                ORDER BY dma.mission_id ASC, dma.assigned_at ASC
+                                """)
+                        .bind("missionIds", chunk)
+                        .map(row -> Map.entry(
+                                row.get("mission_id", UUID.class),
+                                row.get("drone_id", UUID.class)
+                        ))
+                        .all())
+                .<Map<UUID, UUID>>collect(HashMap::new, (droneIdByMission, assignment) ->
+                        droneIdByMission.putIfAbsent(assignment.getKey(), assignment.getValue()))
+                .toFuture();
+    }
+
+    @Override
+    public CompletableFuture<Map<UUID, List<UUID>>> loadDroneIds(List<UUID> missionIds) {
+        return Flux.fromIterable(EnrichmentLookupSource.chunked(missionIds))
+                .concatMap(chunk -> databaseClient.sql("""
+                                SELECT dma.mission_id, dma.drone_id FROM drone_mission_assignment dma
+                                WHERE dma.mission_id IN (:missionIds)
+                                ORDER BY dma.mission_id ASC, dma.assigned_at ASC
+                                """)
+                        .bind("missionIds", chunk)
+                        .map(row -> Map.entry(
+                                row.get("mission_id", UUID.class),
+                                row.get("drone_id", UUID.class)
+                        ))
+                        .all())
+                .<Map<UUID, List<UUID>>>collect(HashMap::new, (droneIdsByMission, assignment) -> droneIdsByMission
+                        .computeIfAbsent(assignment.getKey(), ignored -> new ArrayList<>())
+                        .add(assignment.getValue()))
+                .toFuture();
+    }
+
+    @Override
+    public CompletableFuture<Map<UUID, DroneEntity>> loadDrones(List<UUID> droneIds) {
+        return loadById(droneIds, """
+                SELECT d.id, d.name, d.vehicle_id, d.model, d.description, d.serial_number,
+                    d.status::text AS status, d.flight_hours, d.created_at, d.updated_at
+                FROM drone d
+                WHERE d.id IN (:ids)
+                """, this::toDrone, DroneEntity::getId);
+    }
+
+    @Override
+    public CompletableFuture<Map<UUID, OperatorEntity>> loadOperators(List<UUID> operatorIds) {
+        return loadById(operatorIds, """
+                SELECT o.id, o.username, o.full_name, o.email, o.phone_number, o.ugcs_user_id,
+                    o.status::text AS status, o.is_available, o.created_at, o.updated_at
+                FROM operator o
+                WHERE o.id IN (:ids)
+                """, this::toOperator, OperatorEntity::getId);
+    }
+
+    @Override
+    public CompletableFuture<List<DroneBookingRow>> loadDroneBookings(
+            LocalDateTime busySince,
+            LocalDateTime pendingBefore
+    ) {
+        return databaseClient.sql("""
+                        SELECT dma.drone_id, dma.mission_id, m.state::text AS state,
+                            m.estimated_date, m.start_date, m.updated_at
+                        FROM drone_mission_assignment dma
+                        JOIN mission m ON m.id = dma.mission_id
+                        WHERE (m.state = 'EN_EJECUCION' AND m.updated_at >= :busySince)
+                        OR (m.state = 'APROBADA' AND m.estimated_date < :pendingBefore)
+                        """)
+                .bind("busySince", busySince)
+                .bind("pendingBefore", pendingBefore)
+                .map(row -> new DroneBookingRow(
+                        row.get("drone_id", UUID.class),
+                        row.get("mission_id", UUID.class),
+                        MissionState.valueOf(row.get("state", String.class)),
+                        row.get("estimated_date", LocalDateTime.class),
+                        row.get("start_date", LocalDateTime.class),
+                        row.get("updated_at", LocalDateTime.class)
+                ))
+                .all()
+                .collectList()
+                .toFuture();
+    }
+
+    private <E> CompletableFuture<Map<UUID, E>> loadById(
+            List<UUID> ids,
+            String sql,
+            Function<Readable, E> mapper,
+            Function<E, UUID> idExtractor
+    ) {
+        return Flux.fromIterable(EnrichmentLookupSource.chunked(ids))
+                .concatMap(chunk -> databaseClient.sql(sql)
+                        .bind("ids", chunk)
+                        .map(mapper)
+                        .all())
+                .collectMap(idExtractor)
+                .toFuture();
+    }
+
+    private DroneEntity toDrone(Readable row) {
+        DroneEntity drone = new DroneEntity();
+        drone.setId(row.get("id", UUID.class));
+        drone.setName(row.get("name", String.class));
+        drone.setVehicleId(row.get("vehicle_id", String.class));
+        drone.setModel(row.get("model", String.class));
+        drone.setDescription(row.get("description", String.class));
+        drone.setSerialNumber(row.get("serial_number", String.class));
+        drone.setStatus(DroneStatus.valueOf(row.get("status", String.class)));
+        drone.setFlightHours(row.get("flight_hours", BigDecimal.class));
+        drone.setCreatedAt(row.get("created_at", LocalDateTime.class));
+        drone.setUpdatedAt(row.get("updated_at", LocalDateTime.class));
+        return drone;
+    }
+
+    private OperatorEntity toOperator(Readable row) {
+        OperatorEntity operator = new OperatorEntity();
+        operator.setId(row.get("id", UUID.class));
+        operator.setUsername(row.get("username", String.class));
+        operator.setFullName(row.get("full_name", String.class));
+        operator.setEmail(row.get("email", String.class));
+        operator.setPhoneNumber(row.get("phone_number", String.class));
+        operator.setUgcsUserId(row.get("ugcs_user_id", String.class));
+        operator.setStatus(OperatorStatus.valueOf(row.get("status", String.class)));
+        operator.setIsAvailable(row.get("is_available", Boolean.class));
+        operator.setCreatedAt(row.get("created_at", LocalDateTime.class));
+        operator.setUpdatedAt(row.get("updated_at", LocalDateTime.class));
+        return operator;
+    }
+
+}
@@ -0,0 +1,229 @@
+package co.cetad.umas.scheduler.infrastructure.persistence.index;
+
+import co.cetad.umas.scheduler.domain.model.entity.MissionState;
+import co.cetad.umas.scheduler.domain.model.vo.DroneConflict;
+import co.cetad.umas.scheduler.domain.model.vo.Mission;
+import co.cetad.umas.scheduler.domain.ports.out.DroneBookingRegistry;
+import co.cetad.umas.scheduler.infrastructure.config.DroneConflictProperties;
+import co.cetad.umas.scheduler.infrastructure.persistence.cache.EnrichmentLookupSource;
+import co.cetad.umas.scheduler.infrastructure.persistence.postgresql.projection.DroneBookingRow;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Índice en memoria de reservas de drones: un DroneIntervalTree por droneId
+ *
+ * CONTENIDO (desde drone_mission_assignment JOIN mission):
+ * - Misiones EN_EJECUCION: ocupan cada dron asignado desde su despacho durante mission-duration
+ * - Misiones APROBADA próximas o vencidas: solo se guardan sus drones, para resolver
+ *   las reservas al despacharlas sin consultar la BD por misión
+ * - Misiones reclamadas que la carga no incluyó: loadAssignments trae sus drones
+ *   con una consulta IN por lote antes de reservar (sin ella pasarían sin revisar)
+ *
+ * CONSISTENCIA:
+ * - Todo el acceso es synchronized: cada operación es O(log n) por dron
+ * - Las reservas y liberaciones hechas durante una reconstrucción se reaplican
+ *   sobre la carga nueva (la carga pudo leerse antes de ellas)
+ * - Solo se consulta cuando ready(): hasta la primera carga nada se retiene
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "scheduler.drone-conflicts", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class DroneBookingIndex implements DroneBookingRegistry {
+
+    private final DroneConflictProperties properties;
+    private final EnrichmentLookupSource lookupSource;
+
+    private Map<UUID, DroneIntervalTree> bookingsByDrone = new HashMap<>();
+    private Map<String, List<UUID>> dronesByMission = new HashMap<>();
+    private Map<String, LocalDateTime> bookedStarts = new HashMap<>();
+
+    private final List<Booking> replay = new ArrayList<>();
+    private boolean rebuilding;
+    private volatile boolean ready;
+
+    public DroneBookingIndex(
+            DroneConflictProperties properties,
+            EnrichmentLookupSource lookupSource,
+            MeterRegistry meterRegistry
+    ) {
+        this.properties = properties;
+        this.lookupSource = lookupSource;
+
+        Gauge.builder("scheduler.drone.index.bookings", this, DroneBookingIndex::bookedMissions)
+                .description("Misiones con drones reservados en el índice en memoria")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean ready() {
+        return ready;
+    }
+
+    /**
+     * Las misiones sin asignación en la BD quedan registradas sin drones:
+     * no se vuelven a consultar hasta la siguiente reconstrucción
+     */
+    @Override
+    public CompletableFuture<Void> loadAssignments(List<Mission> missions) {
+        List<UUID> unknown = unknownMissions(missions);
+        if (unknown.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return lookupSource.loadDroneIds(unknown)
+                .thenAccept(droneIdsByMission -> {
+                    addAssignments(unknown, droneIdsByMission);
+                    log.debug("Loaded drone assignments of {} claimed missions missing from the index",
+                            unknown.size());
+                });
+    }
+
+    /**
+     * Reserva los drones de la misión desde start si ninguno está ocupado en la ventana
+     *
+     * @return El conflicto encontrado (la misión no reserva nada), o null si quedó reservada
+     *         (también si la misión no tiene drones asignados)
+     */
+    @Override
+    public synchronized DroneConflict reserve(Mission mission, LocalDateTime start) {
+        List<UUID> drones = dronesByMission.getOrDefault(mission.id(), List.of());
+        LocalDateTime end = start.plus(properties.getMissionDuration());
+
+        for (UUID droneId : drones) {
+            DroneIntervalTree bookings = bookingsByDrone.get(droneId);
+            DroneIntervalTree.Reservation busyWith = bookings == null
+                    ? null
+                    : bookings.findOverlap(start, end, mission.id());
+            if (busyWith != null) {
+                return new DroneConflict(mission.id(), droneId, busyWith.missionId(), busyWith.end());
+            }
+        }
+
+        book(mission.id(), drones, start);
+        if (rebuilding) {
+            replay.add(new Booking(mission.id(), drones, start));
+        }
+        return null;
+    }
+
+    /**
+     * Libera las reservas de una misión que finalmente no se despachó
+     */
+    @Override
+    public synchronized void release(String missionId) {
+        unbook(missionId);
+        if (rebuilding) {
+            replay.add(new Booking(missionId, List.of(), null));
+        }
+    }
+
+    public synchronized void beginRebuild() {
+        rebuilding = true;
+        replay.clear();
+    }
+
+    /**
+     * Reemplaza el contenido con la carga desde la BD y reaplica los cambios concurrentes
+     */
+    public synchronized void completeRebuild(List<DroneBookingRow> rows) {
+        bookingsByDrone = new HashMap<>();
+        dronesByMission = new HashMap<>();
+        bookedStarts = new HashMap<>();
+
+        rows.forEach(row -> dronesByMission
+                .computeIfAbsent(row.missionId().toString(), ignored -> new ArrayList<>())
+                .add(row.droneId()));
+        rows.stream()
+                .filter(row -> row.state() == MissionState.EN_EJECUCION)
+                .forEach(row -> bookDrone(row.missionId().toString(), row.droneId(), row.dispatchedAt()));
+
+        replay.forEach(booking -> {
+            if (booking.start() == null) {
+                unbook(booking.missionId());
+            } else {
+                book(booking.missionId(), booking.drones(), booking.start());
+            }
+        });
+
+        int replayed = replay.size();
+        replay.clear();
+        rebuilding = false;
+        ready = true;
+        log.debug("Drone booking index rebuilt - {} assignments, {} booked missions, {} changes replayed",
+                rows.size(), bookedStarts.size(), replayed);
+    }
+
+    public synchronized void abortRebuild() {
+        replay.clear();
+        rebuilding = false;
+    }
+
+    private synchronized List<UUID> unknownMissions(List<Mission> missions) {
+        return missions.stream()
+                .map(Mission::id)
+                .filter(missionId -> !dronesByMission.containsKey(missionId))
+                .map(UUID::fromString)
+                .toList();
+    }
+
+    private synchronized void addAssignments(List<UUID> missionIds, Map<UUID, List<UUID>> droneIdsByMission) {
+        missionIds.forEach(missionId -> dronesByMission.putIfAbsent(
+                missionId.toString(),
+                new ArrayList<>(droneIdsByMission.getOrDefault(missionId, List.of()))
+        ));
+    }
+
+    private synchronized int bookedMissions() {
+        return bookedStarts.size();
+    }
+
+    private void book(String missionId, List<UUID> drones, LocalDateTime start) {
+        unbook(missionId);
+        drones.forEach(droneId -> bookDrone(missionId, droneId, start));
+    }
+
+    private void bookDrone(String missionId, UUID droneId, LocalDateTime start) {
+        bookedStarts.put(missionId, start);
+        List<UUID> assigned = dronesByMission.computeIfAbsent(missionId, ignored -> new ArrayList<>());
+        if (!assigned.contains(droneId)) {
+            assigned.add(droneId);
+        }
+        bookingsByDrone.computeIfAbsent(droneId, ignored -> new DroneIntervalTree())
+                .insert(missionId, start, start.plus(properties.getMissionDuration()));
+    }
+
+    private void unbook(String missionId) {
+        LocalDateTime start = bookedStarts.remove(missionId);
+        if (start == null) {
+            return;
+        }
+        dronesByMission.getOrDefault(missionId, List.of()).forEach(droneId -> {
+            DroneIntervalTree bookings = bookingsByDrone.get(droneId);
+            if (bookings != null) {
+                bookings.remove(missionId, start);
+                if (bookings.size() == 0) {
+                    bookingsByDrone.remove(droneId);
+                }
+            }
+        });
+    }
+
+    /**
+     * Reserva (start != null) o liberación registrada durante una reconstrucción
+     */
+    private record Booking(String missionId, List<UUID> drones, LocalDateTime start) {
+    }
+
+}
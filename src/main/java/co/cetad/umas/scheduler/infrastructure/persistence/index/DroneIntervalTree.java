@@ -0,0 +1,200 @@
+package co.cetad.umas.scheduler.infrastructure.persistence.index;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+
+/**
+ * Árbol de intervalos aumentado de las reservas de un dron
+ *
+ * ESTRUCTURA:
+ * - Árbol AVL ordenado por (start, missionId); cada nodo guarda el mayor end de su subárbol
+ * - Intervalos semiabiertos [start, end): una misión que empieza justo cuando otra termina
+ *   no se solapa con ella
+ *
+ * COSTO:
+ * - insert / remove: O(log n)
+ * - findOverlap: O(log n); los subárboles cuyo mayor end no alcanza la ventana se descartan
+ *
+ * No es thread-safe: DroneBookingIndex serializa el acceso
+ */
+final class DroneIntervalTree {
+
+    private static final Comparator<Node> ORDER = Comparator
+            .comparing((Node node) -> node.start)
+            .thenComparing(node -> node.missionId);
+
+    private Node root;
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    void insert(String missionId, LocalDateTime start, LocalDateTime end) {
+        root = insert(root, new Node(missionId, start, end));
+    }
+
+    void remove(String missionId, LocalDateTime start) {
+        root = remove(root, new Node(missionId, start, start));
+    }
+
+    /**
+     * Primera reserva de otra misión que se solapa con [start, end)
+     *
+     * @return Reserva en conflicto, o null si el dron está libre
+     */
+    Reservation findOverlap(LocalDateTime start, LocalDateTime end, String excludedMissionId) {
+        Node overlap = findOverlap(root, start, end, excludedMissionId);
+        return overlap == null ? null : new Reservation(overlap.missionId, overlap.start, overlap.end);
+    }
+
+    private Node findOverlap(Node node, LocalDateTime start, LocalDateTime end, String excludedMissionId) {
+        if (node == null || !node.maxEnd.isAfter(start)) {
+            return null;
+        }
+
+        Node left = findOverlap(node.left, start, end, excludedMissionId);
+        if (left != null) {
+            return left;
+        }
+        if (!node.start.isBefore(end)) {
+            // Este nodo y todo su subárbol derecho empiezan después de la ventana
+            return null;
+        }
+        if (node.end.isAfter(start) && !node.missionId.equals(excludedMissionId)) {
+            return node;
+        }
+        return findOverlap(node.right, start, end, excludedMissionId);
+    }
+
+    private Node insert(Node node, Node inserted) {
+        if (node == null) {
+            size++;
+            return inserted;
+        }
+
+        int comparison = ORDER.compare(inserted, node);
+        if (comparison < 0) {
+            node.left = insert(node.left, inserted);
+        } else if (comparison > 0) {
+            node.right = insert(node.right, inserted);
+        } else {
+            // Misma misión y mismo inicio: se actualiza el fin
+            node.end = inserted.end;
+        }
+        return balance(node);
+    }
+
+    private Node remove(Node node, Node removed) {
+        if (node == null) {
+            return null;
+        }
+
+        int comparison = ORDER.compare(removed, node);
+        if (comparison < 0) {
+            node.left = remove(node.left, removed);
+        } else if (comparison > 0) {
+            node.right = remove(node.right, removed);
+        } else {
+            size--;
+            if (node.left == null || node.right == null) {
+                return node.left != null ? node.left : node.right;
+            }
+            Node successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            node.right = removeMin(node.right);
+            successor.left = node.left;
+            successor.right = node.right;
+            return balance(successor);
+        }
+        return balance(node);
+    }
+
+    private Node removeMin(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = removeMin(node.left);
+        return balance(node);
+    }
+
+    private Node balance(Node node) {
+        update(node);
+        int factor = height(node.left) - height(node.right);
+
+        if (factor > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (factor < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static void update(Node node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        node.maxEnd = node.end;
+        if (node.left != null && node.left.maxEnd.isAfter(node.maxEnd)) {
+            node.maxEnd = node.left.maxEnd;
+        }
+        if (node.right != null && node.right.maxEnd.isAfter(node.maxEnd)) {
+            node.maxEnd = node.right.maxEnd;
+        }
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * Reserva [start, end) de una misión sobre el dron
+     */
+    record Reservation(String missionId, LocalDateTime start, LocalDateTime end) {
+    }
+
+    private static final class Node {
+
+        private final String missionId;
+        private final LocalDateTime start;
+        private LocalDateTime end;
+        private LocalDateTime maxEnd;
+        private int height = 1;
+        private Node left;
+        private Node right;
+
+        private Node(String missionId, LocalDateTime start, LocalDateTime end) {
+            this.missionId = missionId;
+            this.start = start;
+            this.end = end;
+            this.maxEnd = end;
+        }
+
+    }
+
+}
@@ -0,0 +1,211 @@
+package co.cetad.umas.scheduler.infrastructure.persistence.index;
+
+import co.cetad.umas.scheduler.domain.model.vo.Mission;
+import co.cetad.umas.scheduler.domain.model.vo.MissionCursor;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Collectors;
+
+/**
+ * Índice en memoria de misiones APROBADA automáticas, ordenado por (estimatedDate, id)
+ *
+ * ESTRUCTURA:
+ * - byDate: ConcurrentSkipListMap para rangos por fecha (notificaciones, precarga, vencidas)
+ * - byId: última versión de cada misión; sus compute() serializan los cambios por misión
+ *
+ * VERSIONES:
+ * - Cada cambio trae updatedAt: una versión anterior a la indexada se descarta,
+ *   así los eventos reordenados o la carga desde BD no pisan un cambio más reciente
+ * - Durante una reconstrucción se guardan las bajas (tombstones) para que la carga,
+ *   tomada antes de la baja, no vuelva a insertar la misión
+ * - Durante una reconstrucción se guardan también las altas por evento: la carga pudo leer
+ *   su página antes del cambio, así que su ausencia no las vuelve obsoletas
+ *   (sin comparar relojes: updatedAt lo escribe la BD o el servicio que cambió la misión)
+ *
+ * Solo se consulta cuando ready(): hasta la primera reconstrucción completa
+ * el repositorio sigue leyendo de la BD
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "scheduler.mission-index", name = "enabled", havingValue = "true")
+public class UpcomingMissionIndex {
+
+    /**
+     * Mayor que cualquier UUID en texto: cota superior de una fecha en byDate
+     */
+    private static final String MAX_ID = "\uffff";
+
+    private static final Comparator<MissionCursor> ORDER = Comparator
+            .comparing(MissionCursor::estimatedDate)
+            .thenComparing(MissionCursor::missionId);
+
+    private final ConcurrentSkipListMap<MissionCursor, Mission> byDate = new ConcurrentSkipListMap<>(ORDER);
+    private final Map<String, Mission> byId = new ConcurrentHashMap<>();
+    private final Map<String, LocalDateTime> tombstones = new ConcurrentHashMap<>();
+    private final Set<String> upsertedDuringRebuild = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean ready;
+    private volatile boolean rebuilding;
+
+    public UpcomingMissionIndex(MeterRegistry meterRegistry) {
+        Gauge.builder("scheduler.mission.index.size", byId, Map::size)
+                .description("Misiones APROBADA automáticas en el índice en memoria")
+                .register(meterRegistry);
+    }
+
+    public boolean ready() {
+        return ready;
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    /**
+     * Inserta o reemplaza una misión si su versión no es anterior a la indexada
+     */
+    public void upsert(Mission mission) {
+        if (apply(mission) && rebuilding) {
+            upsertedDuringRebuild.add(mission.id());
+        }
+    }
+
+    /**
+     * @return true si la versión se indexó
+     */
+    private boolean apply(Mission mission) {
+        boolean[] applied = {false};
+        byId.compute(mission.id(), (id, existing) -> {
+            if (existing != null && existing.updatedAt().isAfter(mission.updatedAt())) {
+                return existing;
+            }
+            LocalDateTime removedAt = tombstones.get(id);
+            if (removedAt != null && !mission.updatedAt().isAfter(removedAt)) {
+                return existing;
+            }
+            if (existing != null) {
+                byDate.remove(MissionCursor.after(existing));
+            }
+            byDate.put(MissionCursor.after(mission), mission);
+            applied[0] = true;
+            return mission;
+        });
+        return applied[0];
+    }
+
+    /**
+     * Retira una misión que dejó de ser programable en la versión indicada
+     */
+    public void remove(String missionId, LocalDateTime version) {
+        if (rebuilding) {
+            tombstones.merge(missionId, version, (current, candidate) -> candidate.isAfter(current) ? candidate : current);
+        }
+        byId.computeIfPresent(missionId, (id, existing) -> {
+            if (existing.updatedAt().isAfter(version)) {
+                return existing;
+            }
+            byDate.remove(MissionCursor.after(existing));
+            return null;
+        });
+    }
+
+    /**
+     * Retira la misión solo si el índice aún tiene exactamente esa versión
+     * Usado tras un reclamo que no la tomó (ya no estaba lista en BD)
+     *
+     * @return true si la misión se retiró
+     */
+    public boolean removeIfUnchanged(Mission mission) {
+        boolean[] removed = {false};
+        byId.computeIfPresent(mission.id(), (id, existing) -> {
+            if (!existing.equals(mission)) {
+                return existing;
+            }
+            byDate.remove(MissionCursor.after(existing));
+            removed[0] = true;
+            return null;
+        });
+        return removed[0];
+    }
+
+    /**
+     * Misiones con estimatedDate en (after, before], en orden
+     */
+    public List<Mission> between(LocalDateTime after, LocalDateTime before) {
+        return byDate.tailMap(new MissionCursor(after, MAX_ID), false).values().stream()
+                .takeWhile(mission -> !mission.estimatedDate().isAfter(before))
+                .toList();
+    }
+
+    /**
+     * Primeras misiones con estimatedDate <= before, en orden
+     */
+    public List<Mission> dueBefore(LocalDateTime before, int limit) {
+        return byDate.headMap(new MissionCursor(before, MAX_ID), true).values().stream()
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * Inicia una reconstrucción: desde aquí las bajas dejan tombstone y las altas por evento se registran
+     * Debe llamarse antes de empezar a leer la BD
+     */
+    public void beginRebuild() {
+        tombstones.clear();
+        upsertedDuringRebuild.clear();
+        rebuilding = true;
+    }
+
+    /**
+     * Aplica la carga completa desde la BD y marca el índice como listo
+     * - Las misiones cargadas se insertan con las reglas de versión
+     * - Las indexadas que no vinieron en la carga ni llegaron por evento durante ella se retiran
+     *   (si entre tanto no cambiaron)
+     *
+     * @param loaded Misiones APROBADA automáticas leídas de la BD
+     */
+    public void completeRebuild(Collection<Mission> loaded) {
+        loaded.forEach(this::apply);
+
+        Set<String> loadedIds = loaded.stream()
+                .map(Mission::id)
+                .collect(Collectors.toSet());
+
+        int removed = 0;
+        for (Mission mission : byId.values()) {
+            if (!loadedIds.contains(mission.id()) && !upsertedDuringRebuild.contains(mission.id())
+                    && removeIfUnchanged(mission)) {
+                removed++;
+            }
+        }
+
+        rebuilding = false;
+        tombstones.clear();
+        upsertedDuringRebuild.clear();
+        ready = true;
+        log.info("🗂️ Upcoming mission index rebuilt - {} missions loaded, {} stale removed, {} indexed",
+                loaded.size(), removed, byId.size());
+    }
+
+    /**
+     * Cancela una reconstrucción fallida: el índice conserva su estado anterior
+     */
+    public void abortRebuild() {
+        rebuilding = false;
+        tombstones.clear();
+        upsertedDuringRebuild.clear();
+    }
+
+}
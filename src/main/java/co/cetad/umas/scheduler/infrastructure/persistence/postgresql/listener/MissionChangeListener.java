@@ -0,0 +1,233 @@
+package co.cetad.umas.scheduler.infrastructure.persistence.postgresql.listener;
+
+import co.cetad.umas.scheduler.infrastructure.config.DispatcherProperties;
+import co.cetad.umas.scheduler.infrastructure.config.MissionListenerProperties;
+import co.cetad.umas.scheduler.infrastructure.scheduler.ReadyMissionDispatcher;
+import co.cetad.umas.scheduler.infrastructure.scheduler.ReadyMissionTrigger;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Listener de PostgreSQL LISTEN/NOTIFY para misiones aprobadas o reprogramadas
+ *
+ * FUNCIONAMIENTO:
+ * 1. Abre una conexión JDBC dedicada (fuera del pool de Hikari) y ejecuta LISTEN
+ * 2. Un hilo dedicado espera notificaciones (getNotifications con timeout)
+ * 3. Las notificaciones que llegan juntas se procesan como un lote:
+ *    - Si alguna misión ya venció (o vence dentro de dispatch-threshold): se dispara el
+ *      scheduling por ReadyMissionTrigger (mismo lock de ShedLock / shard que el cron)
+ *    - Si alguna vence dentro del lookahead del dispatcher: refresca su cola
+ * 4. Los disparos se agrupan: como mucho uno por dispatch-debounce; si el lock lo tenía
+ *    otra ejecución, se reintenta en la siguiente ventana
+ * 5. Si la conexión se pierde, reconecta y hace una pasada completa (las notificaciones
+ *    emitidas mientras estaba desconectado no se reciben)
+ *
+ * El canal se valida como identificador simple de PostgreSQL y se usa entre comillas
+ *
+ * El cron sigue como red de seguridad: NOTIFY no es durable
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "scheduler.listener", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class MissionChangeListener {
+
+    /**
+     * Identificador sin comillas de PostgreSQL (máximo 63 caracteres)
+     */
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]{0,62}");
+
+    private final DataSourceProperties dataSourceProperties;
+    private final MissionListenerProperties properties;
+    private final DispatcherProperties dispatcherProperties;
+    private final ReadyMissionTrigger readyMissionTrigger;
+    private final ObjectProvider<ReadyMissionDispatcher> dispatcher;
+    private final ObjectMapper objectMapper;
+
+    private volatile boolean running;
+    private volatile Connection connection;
+    private Thread listenerThread;
+
+    // Solo los usa el hilo del listener
+    private boolean dispatchPending;
+    private long nextDispatchAt;
+
+    @PostConstruct
+    void start() {
+        if (!CHANNEL_NAME.matcher(properties.getChannel()).matches()) {
+            throw new IllegalStateException("Invalid mission change channel name: " + properties.getChannel());
+        }
+        nextDispatchAt = System.nanoTime();
+        running = true;
+        listenerThread = Thread.ofPlatform()
+                .name("mission-change-listener")
+                .daemon()
+                .start(this::listenLoop);
+        log.info("Mission change listener started on channel: {}", properties.getChannel());
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+        closeQuietly(connection);
+        log.info("Mission change listener stopped");
+    }
+
+    private void listenLoop() {
+        boolean reconnecting = false;
+
+        while (running) {
+            try (Connection listening = openListeningConnection()) {
+                connection = listening;
+                PGConnection pgConnection = listening.unwrap(PGConnection.class);
+
+                if (reconnecting) {
+                    log.info("Mission change listener reconnected, running catch-up");
+                    onMissionsChanged(List.of(LocalDateTime.now()));
+                }
+                reconnecting = true;
+
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(
+                            (int) properties.getPollTimeout().toMillis());
+                    if (notifications != null && notifications.length > 0) {
+                        onMissionsChanged(parse(notifications));
+                    }
+                    dispatchIfPending();
+                }
+
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.error("❌ Mission change listener connection lost, retrying in {}",
+                        properties.getReconnectBackoff(), e);
+                if (!sleep(properties.getReconnectBackoff().toMillis())) {
+                    return;
+                }
+            } catch (Exception e) {
+                log.error("❌ Unexpected error in mission change listener", e);
+                if (!sleep(properties.getReconnectBackoff().toMillis())) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private Connection openListeningConnection() throws SQLException {
+        Connection listening = DriverManager.getConnection(
+                dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(),
+                dataSourceProperties.determinePassword()
+        );
+        try (Statement statement = listening.createStatement()) {
+            statement.execute("LISTEN \"" + properties.getChannel() + "\"");
+        }
+        return listening;
+    }
+
+    /**
+     * Reacciona a un lote de cambios según la fecha estimada más próxima
+     */
+    private void onMissionsChanged(List<LocalDateTime> estimatedDates) {
+        Optional<LocalDateTime> earliest = estimatedDates.stream().min(LocalDateTime::compareTo);
+        if (earliest.isEmpty()) {
+            return;
+        }
+        log.debug("Received {} mission change notifications, earliest due at {}", estimatedDates.size(), earliest.get());
+
+        LocalDateTime now = LocalDateTime.now();
+        if (!earliest.get().isAfter(now.plus(properties.getDispatchThreshold()))) {
+            dispatchPending = true;
+        }
+
+        ReadyMissionDispatcher readyMissionDispatcher = dispatcher.getIfAvailable();
+        boolean withinLookahead = estimatedDates.stream()
+                .anyMatch(date -> !date.isAfter(now.plus(dispatcherProperties.getLookahead())));
+        if (readyMissionDispatcher != null && withinLookahead) {
+            readyMissionDispatcher.refresh();
+        }
+    }
+
+    private List<LocalDateTime> parse(PGNotification[] notifications) {
+        return Arrays.stream(notifications)
+                .map(notification -> {
+                    try {
+                        return objectMapper.readValue(notification.getParameter(), MissionChange.class).estimatedDate();
+                    } catch (Exception e) {
+                        log.warn("Ignoring malformed mission change notification: {}", notification.getParameter());
+                        return null;
+                    }
+                })
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * Dispara el scheduling pendiente si ya pasó la ventana de debounce desde el anterior
+     * Las notificaciones recibidas mientras tanto se cubren con un solo disparo
+     */
+    private void dispatchIfPending() {
+        long now = System.nanoTime();
+        if (!dispatchPending || now - nextDispatchAt < 0) {
+            return;
+        }
+
+        nextDispatchAt = now + properties.getDispatchDebounce().toNanos();
+        dispatchPending = !readyMissionTrigger.triggerReadyMissions();
+        if (dispatchPending) {
+            log.debug("Mission scheduling lock busy, retrying in {}", properties.getDispatchDebounce());
+        }
+    }
+
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            log.debug("Error closing listener connection", e);
+        }
+    }
+
+    /**
+     * Payload del trigger notify_mission_change()
+     */
+    record MissionChange(String id, LocalDateTime estimatedDate) {
+    }
+
+}
@@ -0,0 +1,32 @@
+package co.cetad.umas.scheduler.infrastructure.persistence.postgresql.projection;
+
+import co.cetad.umas.scheduler.domain.model.entity.MissionState;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Proyección de solo lectura de una asignación de dron con las fechas de su misión
+ * (DRONE_MISSION_ASSIGNMENT JOIN MISSION), base del índice de reservas por dron
+ */
+public record DroneBookingRow(
+        UUID droneId,
+        UUID missionId,
+        MissionState state,
+        LocalDateTime estimatedDate,
+        LocalDateTime startDate,
+        LocalDateTime updatedAt
+) {
+
+    /**
+     * Inicio efectivo de una misión ya despachada
+     * Sin startDate se toma el reclamo (updatedAt) si fue posterior a la fecha estimada
+     */
+    public LocalDateTime dispatchedAt() {
+        if (startDate != null) {
+            return startDate;
+        }
+        return updatedAt.isAfter(estimatedDate) ? updatedAt : estimatedDate;
+    }
+
+}
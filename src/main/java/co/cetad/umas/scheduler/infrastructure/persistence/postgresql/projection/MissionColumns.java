@@ -0,0 +1,41 @@
+package co.cetad.umas.scheduler.infrastructure.persistence.postgresql.projection;
+
+import co.cetad.umas.scheduler.domain.model.entity.MissionOrigin;
+import co.cetad.umas.scheduler.domain.model.entity.MissionState;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Proyección por interfaz de las consultas nativas de la tabla MISSION
+ *
+ * Mismas columnas que MissionRow: las consultas nativas seleccionan la lista explícita
+ * R2dbcMissionRepository.MISSION_COLUMNS (alias entre comillas con el nombre de cada getter)
+ * Spring Data expone cada fila con estos getters: sin entidad administrada, sin snapshot
+ * y sin leer columnas que el scheduler no usa; los enums llegan como texto y se convierten por nombre
+ */
+public interface MissionColumns {
+
+    UUID getId();
+
+    String getName();
+
+    UUID getOperatorId();
+
+    MissionOrigin getMissionType();
+
+    MissionState getState();
+
+    LocalDateTime getEstimatedDate();
+
+    LocalDateTime getStartDate();
+
+    LocalDateTime getEndDate();
+
+    Boolean getIsAutomatic();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+
+}
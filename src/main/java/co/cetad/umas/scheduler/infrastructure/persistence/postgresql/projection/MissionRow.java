@@ -0,0 +1,29 @@
+package co.cetad.umas.scheduler.infrastructure.persistence.postgresql.projection;
+
+import co.cetad.umas.scheduler.domain.model.entity.MissionOrigin;
+import co.cetad.umas.scheduler.domain.model.entity.MissionState;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Proyección de solo lectura de la tabla MISSION
+ *
+ * Se construye directamente en la consulta JPQL (SELECT new ...MissionRow(...)):
+ * no es una entidad administrada, por lo que Hibernate no guarda snapshot
+ * para dirty-checking ni la registra en el persistence context
+ */
+public record MissionRow(
+        UUID id,
+        String name,
+        UUID operatorId,
+        MissionOrigin missionType,
+        MissionState state,
+        LocalDateTime estimatedDate,
+        LocalDateTime startDate,
+        LocalDateTime endDate,
+        Boolean isAutomatic,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
@@ -0,0 +1,99 @@
+package co.cetad.umas.scheduler.infrastructure.persistence.postgresql.repository;
+
+import co.cetad.umas.scheduler.domain.model.entity.BucketLeaseEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Leases de buckets de misiones
+ * Los tiempos usan el reloj de la BD (CURRENT_TIMESTAMP), como ShedLock con usingDbTime
+ */
+@Repository
+public interface R2dbcBucketLeaseRepository extends JpaRepository<BucketLeaseEntity, Integer> {
+
+    /**
+     * Crea las filas de los buckets que aún no existen
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO scheduler_bucket_lease (bucket)
+            SELECT generate_series(0, :bucketCount - 1)
+            ON CONFLICT (bucket) DO NOTHING
+            """, nativeQuery = true)
+    int initializeBuckets(@Param("bucketCount") int bucketCount);
+
+    /**
+     * Extiende los leases vigentes de la instancia y retorna sus buckets
+     * Un lease ya vencido y tomado por otra instancia no se recupera
+     */
+    @Query(value = """
+            UPDATE scheduler_bucket_lease
+            SET lease_until = CURRENT_TIMESTAMP + make_interval(secs => :ttlSeconds)
+            WHERE owner_id = :ownerId
+            AND bucket < :bucketCount
+            RETURNING bucket
+            """, nativeQuery = true)
+    List<Integer> renewLeases(
+            @Param("ownerId") String ownerId,
+            @Param("bucketCount") int bucketCount,
+            @Param("ttlSeconds") long ttlSeconds
+    );
+
+    /**
+     * Toma hasta :limit buckets libres o con lease vencido
+     * SKIP LOCKED: dos instancias rebalanceando a la vez no toman el mismo bucket
+     */
+    @Query(value = """
+            UPDATE scheduler_bucket_lease l
+            SET owner_id = :ownerId,
+                lease_until = CURRENT_TIMESTAMP + make_interval(secs => :ttlSeconds)
+            WHERE l.bucket IN (
+                SELECT f.bucket FROM scheduler_bucket_lease f
+                WHERE f.bucket < :bucketCount
+                AND (f.owner_id IS NULL OR f.lease_until < CURRENT_TIMESTAMP)
+                ORDER BY f.bucket ASC
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+            )
+            RETURNING l.bucket
+            """, nativeQuery = true)
+    List<Integer> claimFreeBuckets(
+            @Param("ownerId") String ownerId,
+            @Param("bucketCount") int bucketCount,
+            @Param("ttlSeconds") long ttlSeconds,
+            @Param("limit") int limit
+    );
+
+    /**
+     * Libera buckets de la instancia para que otra los tome de inmediato
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE scheduler_bucket_lease
+            SET owner_id = NULL, lease_until = NULL
+            WHERE owner_id = :ownerId
+            AND bucket IN (:buckets)
+            """, nativeQuery = true)
+    int releaseBuckets(
+            @Param("ownerId") String ownerId,
+            @Param("buckets") Collection<Integer> buckets
+    );
+
+    /**
+     * Libera todos los buckets de la instancia (apagado ordenado)
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE scheduler_bucket_lease
+            SET owner_id = NULL, lease_until = NULL
+            WHERE owner_id = :ownerId
+            """, nativeQuery = true)
+    int releaseAll(@Param("ownerId") String ownerId);
+
+}
@@ -0,0 +1,45 @@
+package co.cetad.umas.scheduler.infrastructure.persistence.postgresql.repository;
+
+import co.cetad.umas.scheduler.domain.model.entity.SchedulerCatchUpCheckpointEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface R2dbcCatchUpCheckpointRepository extends JpaRepository<SchedulerCatchUpCheckpointEntity, String> {
+
+    List<SchedulerCatchUpCheckpointEntity> findByNameIn(Collection<String> names);
+
+    /**
+     * Crea o reemplaza un checkpoint
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            INSERT INTO scheduler_catch_up_checkpoint
+                (name, estimated_date, mission_id, drained, drain_rate, updated_at)
+            VALUES (:name, :estimatedDate, :missionId, :drained, :drainRate, CURRENT_TIMESTAMP)
+            ON CONFLICT (name) DO UPDATE
+            SET estimated_date = EXCLUDED.estimated_date,
+                mission_id = EXCLUDED.mission_id,
+                drained = EXCLUDED.drained,
+                drain_rate = EXCLUDED.drain_rate,
+                updated_at = CURRENT_TIMESTAMP
+            """, nativeQuery = true)
+    int upsert(
+            @Param("name") String name,
+            @Param("estimatedDate") LocalDateTime estimatedDate,
+            @Param("missionId") UUID missionId,
+            @Param("drained") long drained,
+            @Param("drainRate") long drainRate
+    );
+
+}
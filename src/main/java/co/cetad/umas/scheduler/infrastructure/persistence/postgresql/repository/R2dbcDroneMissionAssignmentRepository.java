@@ -1,11 +1,16 @@
 package co.cetad.umas.scheduler.infrastructure.persistence.postgresql.repository;
 
 import co.cetad.umas.scheduler.domain.model.entity.DroneMissionAssignmentEntity;
+import co.cetad.umas.scheduler.domain.model.entity.MissionState;
+import co.cetad.umas.scheduler.infrastructure.persistence.postgresql.projection.DroneBookingRow;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -26,4 +31,37 @@ public interface R2dbcDroneMissionAssignmentRepository extends JpaRepository<Dro
     @Query("SELECT dma FROM DroneMissionAssignmentEntity dma WHERE dma.missionId = :missionId ORDER BY dma.assignedAt ASC")
     Optional<DroneMissionAssignmentEntity> findFirstByMissionId(@Param("missionId") UUID missionId);
 
-}
\ No newline at end of file
+    /**
+     * Busca las asignaciones de un conjunto de misiones en una sola consulta
+     * Ordenadas por misión y fecha de asignación: la primera de cada misión es el dron principal
+     */
+    @Query("""
+            SELECT dma FROM DroneMissionAssignmentEntity dma
+            WHERE dma.missionId IN :missionIds
+            ORDER BY dma.missionId ASC, dma.assignedAt ASC
+            """)
+    List<DroneMissionAssignmentEntity> findByMissionIdIn(@Param("missionIds") Collection<UUID> missionIds);
+
+    /**
+     * Reservas de drones para el índice de conflictos
+     * - Misiones despachadas (busyState) desde busySince: ocupan su dron
+     * - Misiones pendientes (pendingState) que vencen antes de pendingBefore: candidatas a despacho
+     */
+    @Transactional(readOnly = true)
+    @Query("""
+            SELECT new co.cetad.umas.scheduler.infrastructure.persistence.postgresql.projection.DroneBookingRow(
+                dma.droneId, dma.missionId, m.state, m.estimatedDate, m.startDate, m.updatedAt
+            )
+            FROM DroneMissionAssignmentEntity dma
+            JOIN MissionEntity m ON m.id = dma.missionId
+            WHERE (m.state = :busyState AND m.updatedAt >= :busySince)
+            OR (m.state = :pendingState AND m.estimatedDate < :pendingBefore)
+            """)
+    List<DroneBookingRow> findBookings(
+            @Param("busyState") MissionState busyState,
+            @Param("busySince") LocalDateTime busySince,
+            @Param("pendingState") MissionState pendingState,
+            @Param("pendingBefore") LocalDateTime pendingBefore
+    );
+
+}
@@ -2,52 +2,420 @@ package co.cetad.umas.scheduler.infrastructure.persistence.postgresql.repository
 
 import co.cetad.umas.scheduler.domain.model.entity.MissionEntity;
 import co.cetad.umas.scheduler.domain.model.entity.MissionState;
+import co.cetad.umas.scheduler.infrastructure.persistence.postgresql.projection.MissionColumns;
+import co.cetad.umas.scheduler.infrastructure.persistence.postgresql.projection.MissionRow;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+
+/**
+ * Repositorio de misiones
+ *
+ * LECTURA (escaneos de los jobs):
+ * - Proyección MissionRow con SELECT new: sin entidades administradas ni snapshots
+ * - Las consultas nativas (literales para el índice parcial, hashtext) seleccionan la lista
+ *   explícita MISSION_COLUMNS en la proyección MissionColumns, también sin entidades
+ * - Transacción de solo lectura (flush manual) y fetch size acotado: el driver de PostgreSQL
+ *   solo usa cursor con autocommit desactivado, así el tick no materializa todo el resultado
+ *
+ * ESCRITURA (reclamos): UPDATE ... RETURNING sobre la entidad
+ */
 @Repository
 public interface R2dbcMissionRepository extends JpaRepository<MissionEntity, UUID> {
 
     /**
-     * Busca misiones por estado, tipo automático y fecha estimada antes de un límite
-     * Usado para encontrar misiones listas para ejecutar
+     * Filas por round-trip en los escaneos
+     */
+    String SCAN_FETCH_SIZE = "500";
+
+    String MISSION_ROW = """
+            SELECT new co.cetad.umas.scheduler.infrastructure.persistence.postgresql.projection.MissionRow(
+                m.id, m.name, m.operatorId, m.missionType, m.state, m.estimatedDate,
+                m.startDate, m.endDate, m.isAutomatic, m.createdAt, m.updatedAt
+            )
+            FROM MissionEntity m
+            """;
+
+    /**
+     * Columnas de las consultas nativas de lectura (proyección MissionColumns)
+     * Los enums se leen como texto: la proyección los convierte por nombre
      */
-    @Query("""
-            SELECT m FROM MissionEntity m
+    String MISSION_COLUMNS = """
+            SELECT m.id AS "id", m.name AS "name", m.operator_id AS "operatorId",
+                CAST(m.mission_type AS text) AS "missionType", CAST(m.state AS text) AS "state",
+                m.estimated_date AS "estimatedDate", m.start_date AS "startDate", m.end_date AS "endDate",
+                m.is_automatic AS "isAutomatic", m.created_at AS "createdAt", m.updated_at AS "updatedAt"
+            FROM mission m
+            """;
+
+    /**
+     * Primera página de misiones por estado, en orden (estimatedDate, id)
+     * El tamaño de página lo define el Pageable (sin consulta de conteo)
+     */
+    @Transactional(readOnly = true)
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = SCAN_FETCH_SIZE))
+    @Query(MISSION_ROW + """
             WHERE m.state = :state
-            AND m.isAutomatic = :isAutomatic
-            AND m.estimatedDate <= :estimatedDateBefore
-            ORDER BY m.estimatedDate ASC
+            ORDER BY m.estimatedDate ASC, m.id ASC
             """)
-    List<MissionEntity> findByStateAndIsAutomaticAndEstimatedDateBefore(
+    List<MissionRow> findPageByState(
             @Param("state") MissionState state,
-            @Param("isAutomatic") Boolean isAutomatic,
-            @Param("estimatedDateBefore") LocalDateTime estimatedDateBefore
+            Pageable pageable
+    );
+
+    /**
+     * Página siguiente por keyset: misiones estrictamente posteriores a (afterDate, afterId)
+     * No usa OFFSET, por lo que el costo no crece con la profundidad de la paginación
+     */
+    @Transactional(readOnly = true)
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = SCAN_FETCH_SIZE))
+    @Query(MISSION_ROW + """
+            WHERE m.state = :state
+            AND (m.estimatedDate > :afterDate
+                OR (m.estimatedDate = :afterDate AND m.id > :afterId))
+            ORDER BY m.estimatedDate ASC, m.id ASC
+            """)
+    List<MissionRow> findPageByStateAfter(
+            @Param("state") MissionState state,
+            @Param("afterDate") LocalDateTime afterDate,
+            @Param("afterId") UUID afterId,
+            Pageable pageable
     );
 
     /**
      * Busca misiones en un rango de tiempo específico
      * Usado para encontrar misiones que necesitan notificación de preparación
      */
-    @Query("""
-            SELECT m FROM MissionEntity m
+    @Transactional(readOnly = true)
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = SCAN_FETCH_SIZE))
+    @Query(MISSION_ROW + """
             WHERE m.state = :state
             AND m.isAutomatic = :isAutomatic
             AND m.estimatedDate > :estimatedDateAfter
             AND m.estimatedDate <= :estimatedDateBefore
             ORDER BY m.estimatedDate ASC
             """)
-    List<MissionEntity> findByStateAndIsAutomaticAndEstimatedDateBetween(
+    List<MissionRow> findByStateAndIsAutomaticAndEstimatedDateBetween(
             @Param("state") MissionState state,
             @Param("isAutomatic") Boolean isAutomatic,
             @Param("estimatedDateAfter") LocalDateTime estimatedDateAfter,
             @Param("estimatedDateBefore") LocalDateTime estimatedDateBefore
     );
 
-}
\ No newline at end of file
+    /**
+     * Misiones APROBADA automáticas del rango (ventanas de notificación y precarga)
+     * Consulta nativa con el estado y el flag como literales: también el plan genérico de la
+     * sentencia preparada puede usar el índice parcial idx_mission_ready_automatic
+     * (con :state / :isAutomatic como parámetros el planner no puede probar su predicado)
+     */
+    @Transactional(readOnly = true)
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = SCAN_FETCH_SIZE))
+    @Query(value = MISSION_COLUMNS + """
+            WHERE m.state = 'APROBADA'
+            AND m.is_automatic = true
+            AND m.estimated_date > :estimatedDateAfter
+            AND m.estimated_date <= :estimatedDateBefore
+            ORDER BY m.estimated_date ASC
+            """, nativeQuery = true)
+    List<MissionColumns> findReadyBetween(
+            @Param("estimatedDateAfter") LocalDateTime estimatedDateAfter,
+            @Param("estimatedDateBefore") LocalDateTime estimatedDateBefore
+    );
+
+    /**
+     * Igual que findReadyBetween, solo de los buckets indicados
+     */
+    @Transactional(readOnly = true)
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = SCAN_FETCH_SIZE))
+    @Query(value = MISSION_COLUMNS + """
+            WHERE m.state = 'APROBADA'
+            AND m.is_automatic = true
+            AND m.estimated_date > :estimatedDateAfter
+            AND m.estimated_date <= :estimatedDateBefore
+            AND (hashtext(CAST(m.id AS text)) & 2147483647) % :bucketCount IN (:buckets)
+            ORDER BY m.estimated_date ASC
+            """, nativeQuery = true)
+    List<MissionColumns> findReadyBetweenInBuckets(
+            @Param("estimatedDateAfter") LocalDateTime estimatedDateAfter,
+            @Param("estimatedDateBefore") LocalDateTime estimatedDateBefore,
+            @Param("bucketCount") int bucketCount,
+            @Param("buckets") Collection<Integer> buckets
+    );
+
+    /**
+     * Página de misiones APROBADA automáticas del rango, estrictamente posteriores a (afterDate, afterId)
+     * Usada por el pipeline reactivo: el rango se recorre página a página por keyset
+     * (para la primera página afterId es el UUID máximo: solo cuenta estimatedDate > afterDate)
+     * Estado y flag literales, igual que findReadyBetween
+     */
+    @Transactional(readOnly = true)
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = SCAN_FETCH_SIZE))
+    @Query(value = MISSION_COLUMNS + """
+            WHERE m.state = 'APROBADA'
+            AND m.is_automatic = true
+            AND (m.estimated_date > :afterDate
+                OR (m.estimated_date = :afterDate AND m.id > :afterId))
+            AND m.estimated_date <= :estimatedDateBefore
+            ORDER BY m.estimated_date ASC, m.id ASC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<MissionColumns> findUpcomingPage(
+            @Param("afterDate") LocalDateTime afterDate,
+            @Param("afterId") UUID afterId,
+            @Param("estimatedDateBefore") LocalDateTime estimatedDateBefore,
+            @Param("limit") int limit
+    );
+
+    /**
+     * Igual que findUpcomingPage, solo de los buckets indicados (consulta nativa por hashtext)
+     */
+    @Transactional(readOnly = true)
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = SCAN_FETCH_SIZE))
+    @Query(value = MISSION_COLUMNS + """
+            WHERE m.state = 'APROBADA'
+            AND m.is_automatic = true
+            AND (m.estimated_date > :afterDate
+                OR (m.estimated_date = :afterDate AND m.id > :afterId))
+            AND m.estimated_date <= :estimatedDateBefore
+            AND (hashtext(CAST(m.id AS text)) & 2147483647) % :bucketCount IN (:buckets)
+            ORDER BY m.estimated_date ASC, m.id ASC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<MissionColumns> findUpcomingPageInBuckets(
+            @Param("afterDate") LocalDateTime afterDate,
+            @Param("afterId") UUID afterId,
+            @Param("estimatedDateBefore") LocalDateTime estimatedDateBefore,
+            @Param("limit") int limit,
+            @Param("bucketCount") int bucketCount,
+            @Param("buckets") Collection<Integer> buckets
+    );
+
+    /**
+     * Cuenta las misiones listas para ejecutar aún no reclamadas (backlog de ejecución)
+     * Recorre el índice parcial de misiones APROBADA automáticas: barato mientras no haya atraso
+     */
+    @Transactional(readOnly = true)
+    @Query(value = """
+            SELECT count(*) FROM mission m
+            WHERE m.state = 'APROBADA'
+            AND m.is_automatic = true
+            AND m.estimated_date <= :estimatedDateBefore
+            AND (m.dispatch_not_before IS NULL OR m.dispatch_not_before <= :estimatedDateBefore)
+            """, nativeQuery = true)
+    long countReadyMissions(@Param("estimatedDateBefore") LocalDateTime estimatedDateBefore);
+
+    /**
+     * Igual que countReadyMissions, solo de los buckets indicados
+     */
+    @Transactional(readOnly = true)
+    @Query(value = """
+            SELECT count(*) FROM mission m
+            WHERE m.state = 'APROBADA'
+            AND m.is_automatic = true
+            AND m.estimated_date <= :estimatedDateBefore
+            AND (m.dispatch_not_before IS NULL OR m.dispatch_not_before <= :estimatedDateBefore)
+            AND (hashtext(CAST(m.id AS text)) & 2147483647) % :bucketCount IN (:buckets)
+            """, nativeQuery = true)
+    long countReadyMissionsInBuckets(
+            @Param("estimatedDateBefore") LocalDateTime estimatedDateBefore,
+            @Param("bucketCount") int bucketCount,
+            @Param("buckets") Collection<Integer> buckets
+    );
+
+    /**
+     * Reclama atómicamente misiones listas para ejecutar
+     * Las pasa de APROBADA a EN_EJECUCION y las retorna en la misma sentencia
+     *
+     * FOR UPDATE SKIP LOCKED: instancias concurrentes nunca reclaman la misma fila,
+     * por lo que cada misión se selecciona y publica una sola vez
+     * Las retenidas por conflicto de dron esperan a su dispatch_not_before (el reclamo lo limpia)
+     * claimed_at marca el reclamo hasta que se confirma la publicación (confirmClaims)
+     */
+    @Transactional
+    @Query(value = """
+            UPDATE mission m
+            SET state = 'EN_EJECUCION', updated_at = :claimedAt, dispatch_not_before = NULL, claimed_at = :claimedAt
+            WHERE m.id IN (
+                SELECT c.id FROM mission c
+                WHERE c.state = 'APROBADA'
+                AND c.is_automatic = true
+                AND c.estimated_date <= :estimatedDateBefore
+                AND (c.dispatch_not_before IS NULL OR c.dispatch_not_before <= :claimedAt)
+                ORDER BY c.estimated_date ASC
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+            )
+            RETURNING m.*
+            """, nativeQuery = true)
+    List<MissionEntity> claimReadyMissions(
+            @Param("estimatedDateBefore") LocalDateTime estimatedDateBefore,
+            @Param("claimedAt") LocalDateTime claimedAt,
+            @Param("limit") int limit
+    );
+
+    /**
+     * Busca misiones en un rango de tiempo, solo de los buckets indicados
+     * bucket = (hashtext(id) & 0x7fffffff) % bucketCount, igual en todas las instancias
+     * Consulta nativa (hashtext no existe en JPQL): proyección MissionColumns, sin entidades
+     */
+    @Transactional(readOnly = true)
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = SCAN_FETCH_SIZE))
+    @Query(value = MISSION_COLUMNS + """
+            WHERE m.state = CAST(:state AS mission_state)
+            AND m.is_automatic = :isAutomatic
+            AND m.estimated_date > :estimatedDateAfter
+            AND m.estimated_date <= :estimatedDateBefore
+            AND (hashtext(CAST(m.id AS text)) & 2147483647) % :bucketCount IN (:buckets)
+            ORDER BY m.estimated_date ASC
+            """, nativeQuery = true)
+    List<MissionColumns> findByStateAndIsAutomaticAndEstimatedDateBetweenInBuckets(
+            @Param("state") String state,
+            @Param("isAutomatic") Boolean isAutomatic,
+            @Param("estimatedDateAfter") LocalDateTime estimatedDateAfter,
+            @Param("estimatedDateBefore") LocalDateTime estimatedDateBefore,
+            @Param("bucketCount") int bucketCount,
+            @Param("buckets") Collection<Integer> buckets
+    );
+
+    /**
+     * Reclama atómicamente misiones listas de los buckets indicados
+     * Mismas garantías que claimReadyMissions: el shard reparte el trabajo,
+     * SKIP LOCKED y el cambio de estado evitan duplicados si dos instancias se solapan
+     */
+    @Transactional
+    @Query(value = """
+            UPDATE mission m
+            SET state = 'EN_EJECUCION', updated_at = :claimedAt, dispatch_not_before = NULL, claimed_at = :claimedAt
+            WHERE m.id IN (
+                SELECT c.id FROM mission c
+                WHERE c.state = 'APROBADA'
+                AND c.is_automatic = true
+                AND c.estimated_date <= :estimatedDateBefore
+                AND (c.dispatch_not_before IS NULL OR c.dispatch_not_before <= :claimedAt)
+                AND (hashtext(CAST(c.id AS text)) & 2147483647) % :bucketCount IN (:buckets)
+                ORDER BY c.estimated_date ASC
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+            )
+            RETURNING m.*
+            """, nativeQuery = true)
+    List<MissionEntity> claimReadyMissionsInBuckets(
+            @Param("estimatedDateBefore") LocalDateTime estimatedDateBefore,
+            @Param("claimedAt") LocalDateTime claimedAt,
+            @Param("limit") int limit,
+            @Param("bucketCount") int bucketCount,
+            @Param("buckets") Collection<Integer> buckets
+    );
+
+    /**
+     * Reclama atómicamente misiones específicas si siguen APROBADA y ya vencieron
+     * Usado por el dispatcher en memoria: las reprogramadas o canceladas no se reclaman
+     */
+    @Transactional
+    @Query(value = """
+            UPDATE mission m
+            SET state = 'EN_EJECUCION', updated_at = :claimedAt, dispatch_not_before = NULL, claimed_at = :claimedAt
+            WHERE m.id IN (
+                SELECT c.id FROM mission c
+                WHERE c.id IN (:missionIds)
+                AND c.state = 'APROBADA'
+                AND c.is_automatic = true
+                AND c.estimated_date <= :estimatedDateBefore
+                AND (c.dispatch_not_before IS NULL OR c.dispatch_not_before <= :claimedAt)
+                FOR UPDATE SKIP LOCKED
+            )
+            RETURNING m.*
+            """, nativeQuery = true)
+    List<MissionEntity> claimMissions(
+            @Param("missionIds") Collection<UUID> missionIds,
+            @Param("estimatedDateBefore") LocalDateTime estimatedDateBefore,
+            @Param("claimedAt") LocalDateTime claimedAt
+    );
+
+    /**
+     * Devuelve a APROBADA misiones reclamadas cuya publicación falló
+     * Así el siguiente tick vuelve a intentarlas
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            UPDATE mission
+            SET state = 'APROBADA', updated_at = :releasedAt, claimed_at = NULL
+            WHERE id IN (:missionIds)
+            AND state = 'EN_EJECUCION'
+            """, nativeQuery = true)
+    int releaseClaims(
+            @Param("missionIds") Collection<UUID> missionIds,
+            @Param("releasedAt") LocalDateTime releasedAt
+    );
+
+    /**
+     * Devuelve a APROBADA misiones reclamadas que se retuvieron por conflicto de dron
+     * Los reclamos las ignoran hasta notBefore (fin de la reserva que las bloquea)
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            UPDATE mission
+            SET state = 'APROBADA', updated_at = :releasedAt, dispatch_not_before = :notBefore, claimed_at = NULL
+            WHERE id IN (:missionIds)
+            AND state = 'EN_EJECUCION'
+            """, nativeQuery = true)
+    int deferClaims(
+            @Param("missionIds") Collection<UUID> missionIds,
+            @Param("notBefore") LocalDateTime notBefore,
+            @Param("releasedAt") LocalDateTime releasedAt
+    );
+
+    /**
+     * Confirma la publicación de misiones reclamadas: el reaper ya no las considera
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            UPDATE mission
+            SET claimed_at = NULL
+            WHERE id IN (:missionIds)
+            AND claimed_at IS NOT NULL
+            """, nativeQuery = true)
+    int confirmClaims(@Param("missionIds") Collection<UUID> missionIds);
+
+    /**
+     * Devuelve a APROBADA reclamos sin confirmar anteriores a claimedBefore
+     * (la instancia cayó entre el reclamo y el ack de Kafka)
+     * Solo filas con claimed_at: EN_EJECUCION puesto por otros servicios no se toca
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            UPDATE mission m
+            SET state = 'APROBADA', updated_at = :releasedAt, claimed_at = NULL
+            WHERE m.id IN (
+                SELECT c.id FROM mission c
+                WHERE c.claimed_at < :claimedBefore
+                AND c.state = 'EN_EJECUCION'
+                ORDER BY c.claimed_at ASC
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+            )
+            """, nativeQuery = true)
+    int releaseStaleClaims(
+            @Param("claimedBefore") LocalDateTime claimedBefore,
+            @Param("releasedAt") LocalDateTime releasedAt,
+            @Param("limit") int limit
+    );
+
+}
@@ -0,0 +1,45 @@
+package co.cetad.umas.scheduler.infrastructure.persistence.postgresql.repository;
+
+import co.cetad.umas.scheduler.domain.model.entity.SchedulerNotifiedMissionEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface R2dbcNotifiedMissionRepository extends JpaRepository<SchedulerNotifiedMissionEntity, UUID> {
+
+    List<SchedulerNotifiedMissionEntity> findByEstimatedDateGreaterThanAndEstimatedDateLessThanEqual(
+            LocalDateTime after,
+            LocalDateTime before
+    );
+
+    /**
+     * Registra una misión notificada; si ya estaba, actualiza la fecha con la que se notificó
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            INSERT INTO scheduler_notified_mission (mission_id, estimated_date, notified_at)
+            VALUES (:missionId, :estimatedDate, CURRENT_TIMESTAMP)
+            ON CONFLICT (mission_id) DO UPDATE
+            SET estimated_date = EXCLUDED.estimated_date,
+                notified_at = CURRENT_TIMESTAMP
+            """, nativeQuery = true)
+    int record(
+            @Param("missionId") UUID missionId,
+            @Param("estimatedDate") LocalDateTime estimatedDate
+    );
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM scheduler_notified_mission WHERE estimated_date < :estimatedDate", nativeQuery = true)
+    int purgeBefore(@Param("estimatedDate") LocalDateTime estimatedDate);
+
+}
@@ -0,0 +1,93 @@
+package co.cetad.umas.scheduler.infrastructure.persistence.postgresql.repository;
+
+import co.cetad.umas.scheduler.domain.model.entity.OutboxEventEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface R2dbcOutboxEventRepository extends JpaRepository<OutboxEventEntity, UUID> {
+
+    /**
+     * Reserva un lote de eventos pendientes en orden de creación hasta leaseUntil
+     * SKIP LOCKED y la reserva permiten que varias instancias drenen el outbox en paralelo
+     * sin mantener la transacción abierta durante el envío a Kafka
+     * Las reservas vencidas (relay caído antes de registrar el resultado) se vuelven a tomar
+     * RETURNING no garantiza orden: el relay ordena el lote por createdAt
+     */
+    @Transactional
+    @Query(value = """
+            UPDATE event_outbox e
+            SET relay_lease_until = :leaseUntil
+            WHERE e.id IN (
+                SELECT p.id FROM event_outbox p
+                WHERE p.published_at IS NULL
+                AND p.attempts < :maxAttempts
+                AND (p.relay_lease_until IS NULL OR p.relay_lease_until < :now)
+                ORDER BY p.created_at ASC
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+            )
+            RETURNING e.*
+            """, nativeQuery = true)
+    List<OutboxEventEntity> leasePendingBatch(
+            @Param("maxAttempts") int maxAttempts,
+            @Param("limit") int limit,
+            @Param("now") LocalDateTime now,
+            @Param("leaseUntil") LocalDateTime leaseUntil
+    );
+
+    /**
+     * Marca como entregados los eventos confirmados por Kafka y libera su reserva
+     */
+    @Modifying
+    @Query("""
+            UPDATE OutboxEventEntity e
+            SET e.publishedAt = :publishedAt, e.relayLeaseUntil = NULL
+            WHERE e.id IN :ids
+            """)
+    int markPublished(
+            @Param("ids") Collection<UUID> ids,
+            @Param("publishedAt") LocalDateTime publishedAt
+    );
+
+    /**
+     * Registra un intento fallido y libera la reserva para reintentar en la siguiente pasada del relay
+     */
+    @Modifying
+    @Query("""
+            UPDATE OutboxEventEntity e
+            SET e.attempts = e.attempts + 1, e.lastError = :error, e.relayLeaseUntil = NULL
+            WHERE e.id IN :ids
+            """)
+    int markFailed(
+            @Param("ids") Collection<UUID> ids,
+            @Param("error") String error
+    );
+
+    /**
+     * Eventos sin entregar que agotaron sus intentos (dead letters)
+     */
+    @Query(value = """
+            SELECT count(*) FROM event_outbox
+            WHERE published_at IS NULL
+            AND attempts >= :maxAttempts
+            """, nativeQuery = true)
+    long countDeadLetters(@Param("maxAttempts") int maxAttempts);
+
+    /**
+     * Purga los eventos ya entregados antes de la fecha indicada
+     */
+    @Modifying
+    @Query("DELETE FROM OutboxEventEntity e WHERE e.publishedAt < :publishedBefore")
+    int deletePublishedBefore(@Param("publishedBefore") LocalDateTime publishedBefore);
+
+}
@@ -0,0 +1,42 @@
+package co.cetad.umas.scheduler.infrastructure.persistence.postgresql.repository;
+
+import co.cetad.umas.scheduler.domain.model.entity.SchedulerInstanceEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface R2dbcSchedulerInstanceRepository extends JpaRepository<SchedulerInstanceEntity, String> {
+
+    /**
+     * Registra o refresca el heartbeat de la instancia
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO scheduler_instance (instance_id, heartbeat_at)
+            VALUES (:instanceId, CURRENT_TIMESTAMP)
+            ON CONFLICT (instance_id) DO UPDATE SET heartbeat_at = CURRENT_TIMESTAMP
+            """, nativeQuery = true)
+    int heartbeat(@Param("instanceId") String instanceId);
+
+    /**
+     * Elimina las instancias sin heartbeat dentro del TTL
+     */
+    @Modifying
+    @Query(value = """
+            DELETE FROM scheduler_instance
+            WHERE heartbeat_at < CURRENT_TIMESTAMP - make_interval(secs => :ttlSeconds)
+            """, nativeQuery = true)
+    int deleteExpired(@Param("ttlSeconds") long ttlSeconds);
+
+    /**
+     * Instancias vivas en orden estable; la posición define la cuota de buckets de cada una
+     */
+    @Query(value = "SELECT instance_id FROM scheduler_instance ORDER BY instance_id ASC", nativeQuery = true)
+    List<String> findLiveInstanceIds();
+
+}
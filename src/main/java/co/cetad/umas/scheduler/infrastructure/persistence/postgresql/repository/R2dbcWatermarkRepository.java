@@ -0,0 +1,37 @@
+package co.cetad.umas.scheduler.infrastructure.persistence.postgresql.repository;
+
+import co.cetad.umas.scheduler.domain.model.entity.SchedulerWatermarkEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface R2dbcWatermarkRepository extends JpaRepository<SchedulerWatermarkEntity, String> {
+
+    List<SchedulerWatermarkEntity> findByNameIn(Collection<String> names);
+
+    /**
+     * Crea o avanza un watermark; GREATEST garantiza que nunca retroceda
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            INSERT INTO scheduler_watermark (name, watermark, updated_at)
+            VALUES (:name, :watermark, CURRENT_TIMESTAMP)
+            ON CONFLICT (name) DO UPDATE
+            SET watermark = GREATEST(scheduler_watermark.watermark, EXCLUDED.watermark),
+                updated_at = CURRENT_TIMESTAMP
+            """, nativeQuery = true)
+    int advance(
+            @Param("name") String name,
+            @Param("watermark") LocalDateTime watermark
+    );
+
+}
@@ -0,0 +1,194 @@
+package co.cetad.umas.scheduler.infrastructure.scheduler;
+
+import co.cetad.umas.scheduler.domain.model.vo.MissionShard;
+import co.cetad.umas.scheduler.infrastructure.config.ShardingProperties;
+import co.cetad.umas.scheduler.infrastructure.persistence.postgresql.repository.R2dbcBucketLeaseRepository;
+import co.cetad.umas.scheduler.infrastructure.persistence.postgresql.repository.R2dbcSchedulerInstanceRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Administra los leases de buckets de misiones de esta instancia
+ *
+ * FUNCIONAMIENTO (cada heartbeat-interval, en una transacción):
+ * 1. Registra el heartbeat de la instancia y elimina las instancias vencidas
+ * 2. Calcula la cuota justa: bucketCount / instancias vivas (el resto a las primeras por id)
+ * 3. Renueva sus leases; si tiene más de su cuota, libera los sobrantes
+ * 4. Si tiene menos, toma buckets libres o vencidos (FOR UPDATE SKIP LOCKED)
+ *
+ * REBALANCEO:
+ * - Al entrar una instancia, las demás bajan su cuota y liberan buckets que la nueva toma
+ * - Al caer una instancia, sus leases vencen tras lease-ttl y las demás los absorben
+ * - Al apagarse ordenadamente, libera sus buckets de inmediato
+ *
+ * SEGURIDAD:
+ * - El shard local deja de ser válido si no se renueva a tiempo (lease-ttl - heartbeat-interval)
+ * - Un solapamiento breve entre dueños no duplica publicaciones: el reclamo de misiones
+ *   sigue siendo atómico (FOR UPDATE SKIP LOCKED + cambio de estado)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "scheduler.sharding", name = "enabled", havingValue = "true")
+public class BucketLeaseManager {
+
+    private final R2dbcBucketLeaseRepository leaseRepository;
+    private final R2dbcSchedulerInstanceRepository instanceRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ShardingProperties properties;
+    private final String instanceId;
+
+    private volatile MissionShard shard;
+    private volatile long validUntilNanos;
+
+    public BucketLeaseManager(
+            R2dbcBucketLeaseRepository leaseRepository,
+            R2dbcSchedulerInstanceRepository instanceRepository,
+            TransactionTemplate transactionTemplate,
+            ShardingProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.leaseRepository = leaseRepository;
+        this.instanceRepository = instanceRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.instanceId = resolveInstanceId(properties.getInstanceId());
+        this.shard = MissionShard.none(properties.getBucketCount());
+
+        Gauge.builder("scheduler.sharding.buckets", this, manager -> manager.currentShard().buckets().size())
+                .description("Buckets de misiones asignados a esta instancia")
+                .tag("instance", instanceId)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    leaseRepository.initializeBuckets(properties.getBucketCount()));
+        } catch (Exception e) {
+            log.error("❌ Error initializing {} mission buckets", properties.getBucketCount(), e);
+        }
+        rebalance();
+        log.info("Sharded scheduling started - instance: {}, buckets: {}", instanceId, shard.buckets().size());
+    }
+
+    @PreDestroy
+    void stop() {
+        shard = MissionShard.none(properties.getBucketCount());
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                int released = leaseRepository.releaseAll(instanceId);
+                instanceRepository.deleteById(instanceId);
+                log.info("Sharded scheduling stopped - instance: {}, released {} buckets", instanceId, released);
+            });
+        } catch (Exception e) {
+            log.warn("Could not release buckets of instance {}, they will expire after {}",
+                    instanceId, properties.getLeaseTtl(), e);
+        }
+    }
+
+    /**
+     * Buckets que esta instancia puede procesar ahora
+     * Vacío si el último heartbeat no se renovó a tiempo
+     */
+    public MissionShard currentShard() {
+        if (System.nanoTime() - validUntilNanos > 0) {
+            return MissionShard.none(properties.getBucketCount());
+        }
+        return shard;
+    }
+
+    public String instanceId() {
+        return instanceId;
+    }
+
+    /**
+     * Heartbeat y rebalanceo de buckets
+     */
+    @Scheduled(
+            fixedDelayString = "${scheduler.sharding.heartbeat-interval:5s}",
+            initialDelayString = "${scheduler.sharding.heartbeat-interval:5s}"
+    )
+    public void rebalance() {
+        long startedAt = System.nanoTime();
+        try {
+            Set<Integer> owned = transactionTemplate.execute(status -> renewAndRebalance());
+
+            MissionShard previous = shard;
+            shard = new MissionShard(properties.getBucketCount(), owned);
+            validUntilNanos = startedAt + properties.getLeaseTtl().minus(properties.getHeartbeatInterval()).toNanos();
+
+            if (!previous.buckets().equals(shard.buckets())) {
+                log.info("🔀 Instance {} now owns {} of {} buckets",
+                        instanceId, shard.buckets().size(), properties.getBucketCount());
+            }
+
+        } catch (Exception e) {
+            log.error("❌ Error renewing bucket leases for instance {}", instanceId, e);
+        }
+    }
+
+    private Set<Integer> renewAndRebalance() {
+        int bucketCount = properties.getBucketCount();
+        long ttlSeconds = properties.getLeaseTtl().toSeconds();
+
+        instanceRepository.heartbeat(instanceId);
+        instanceRepository.deleteExpired(ttlSeconds);
+
+        int target = fairShare(instanceRepository.findLiveInstanceIds(), bucketCount);
+        Set<Integer> owned = new HashSet<>(leaseRepository.renewLeases(instanceId, bucketCount, ttlSeconds));
+
+        if (owned.size() > target) {
+            List<Integer> surplus = owned.stream()
+                    .sorted()
+                    .skip(target)
+                    .toList();
+            leaseRepository.releaseBuckets(instanceId, surplus);
+            surplus.forEach(owned::remove);
+            log.debug("Released {} buckets (target {})", surplus.size(), target);
+
+        } else if (owned.size() < target) {
+            List<Integer> claimed = leaseRepository.claimFreeBuckets(
+                    instanceId, bucketCount, ttlSeconds, target - owned.size());
+            owned.addAll(claimed);
+            log.debug("Claimed {} free buckets (target {})", claimed.size(), target);
+        }
+
+        return owned;
+    }
+
+    /**
+     * Cuota de buckets de esta instancia según su posición entre las vivas
+     */
+    private int fairShare(List<String> liveInstances, int bucketCount) {
+        int instances = Math.max(liveInstances.size(), 1);
+        int position = Math.max(liveInstances.indexOf(instanceId), 0);
+        return bucketCount / instances + (position < bucketCount % instances ? 1 : 0);
+    }
+
+    private static String resolveInstanceId(String configured) {
+        if (configured != null && !configured.isBlank()) {
+            return configured;
+        }
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        try {
+            return InetAddress.getLocalHost().getHostName() + "-" + suffix;
+        } catch (Exception e) {
+            return "scheduler-" + suffix;
+        }
+    }
+
+}
@@ -0,0 +1,61 @@
+package co.cetad.umas.scheduler.infrastructure.scheduler;
+
+import co.cetad.umas.scheduler.infrastructure.config.DroneConflictProperties;
+import co.cetad.umas.scheduler.infrastructure.persistence.cache.EnrichmentLookupSource;
+import co.cetad.umas.scheduler.infrastructure.persistence.index.DroneBookingIndex;
+import co.cetad.umas.scheduler.infrastructure.persistence.postgresql.projection.DroneBookingRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Reconstrucción del índice de reservas de drones desde la BD
+ *
+ * FUNCIONAMIENTO:
+ * - Al arrancar y cada refresh-interval-ms: una sola consulta con las asignaciones de
+ *   misiones EN_EJECUCION aún dentro de mission-duration y de misiones APROBADA
+ *   que vencen antes de now + lookahead
+ * - Las misiones que terminan (salen de EN_EJECUCION) liberan su dron en la siguiente carga
+ * - Si la carga falla se conserva el contenido anterior
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "scheduler.drone-conflicts", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class DroneBookingIndexRebuilder {
+
+    private final EnrichmentLookupSource lookupSource;
+    private final DroneBookingIndex index;
+    private final DroneConflictProperties properties;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${scheduler.drone-conflicts.refresh-interval-ms:30000}")
+    public synchronized void rebuild() {
+        LocalDateTime now = LocalDateTime.now();
+        index.beginRebuild();
+
+        try {
+            List<DroneBookingRow> rows = lookupSource.loadDroneBookings(
+                    now.minus(properties.getMissionDuration()),
+                    now.plus(properties.getLookahead())
+            ).join();
+            index.completeRebuild(rows);
+
+        } catch (Exception e) {
+            index.abortRebuild();
+            log.error("❌ Error rebuilding drone booking index, previous bookings kept", e);
+        }
+    }
+
+}
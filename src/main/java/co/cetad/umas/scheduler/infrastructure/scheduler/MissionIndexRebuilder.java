@@ -0,0 +1,86 @@
+package co.cetad.umas.scheduler.infrastructure.scheduler;
+
+import co.cetad.umas.scheduler.domain.model.entity.MissionState;
+import co.cetad.umas.scheduler.domain.model.vo.Mission;
+import co.cetad.umas.scheduler.domain.model.vo.MissionCursor;
+import co.cetad.umas.scheduler.domain.model.vo.MissionPage;
+import co.cetad.umas.scheduler.domain.ports.out.MissionRepository;
+import co.cetad.umas.scheduler.infrastructure.config.MissionIndexProperties;
+import co.cetad.umas.scheduler.infrastructure.config.PersistenceProperties;
+import co.cetad.umas.scheduler.infrastructure.persistence.index.UpcomingMissionIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reconstrucción del índice en memoria de misiones próximas desde la BD
+ *
+ * FUNCIONAMIENTO:
+ * 1. Al arrancar (ApplicationReadyEvent): carga completa paginada por keyset
+ *    mientras el consumidor de cambios ya aplica deltas (las versiones resuelven el orden)
+ * 2. Periódicamente (rebuild-cron): misma carga como reconciliación, cubre eventos
+ *    perdidos (p. ej. los publicados antes de que el consumidor tuviera particiones)
+ *
+ * Mientras el índice no esté listo, el repositorio sigue leyendo de la BD
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "scheduler.mission-index", name = "enabled", havingValue = "true")
+public class MissionIndexRebuilder {
+
+    @Qualifier(PersistenceProperties.DATABASE_MISSION_REPOSITORY)
+    private final MissionRepository missionRepository;
+    private final UpcomingMissionIndex index;
+    private final MissionIndexProperties properties;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuild();
+    }
+
+    @Scheduled(cron = "${scheduler.mission-index.rebuild-cron:0 */10 * * * *}")
+    public synchronized void rebuild() {
+        index.beginRebuild();
+
+        try {
+            List<Mission> loaded = loadSchedulableMissions();
+            index.completeRebuild(loaded);
+
+        } catch (Exception e) {
+            index.abortRebuild();
+            log.error("❌ Error rebuilding upcoming mission index, {} missions kept", index.size(), e);
+        }
+    }
+
+    /**
+     * Lee todas las misiones APROBADA automáticas en páginas (estimatedDate, id)
+     */
+    private List<Mission> loadSchedulableMissions() {
+        List<Mission> loaded = new ArrayList<>();
+        MissionCursor cursor = null;
+
+        do {
+            MissionPage page = missionRepository
+                    .findAutoByState(MissionState.APROBADA, cursor, properties.getRebuildPageSize())
+                    .join();
+
+            page.missions().stream()
+                    .filter(mission -> Boolean.TRUE.equals(mission.isAutomatic()))
+                    .forEach(loaded::add);
+            cursor = page.nextCursor();
+
+        } while (cursor != null);
+
+        return loaded;
+    }
+
+}
@@ -1,12 +1,19 @@
 package co.cetad.umas.scheduler.infrastructure.scheduler;
 
 import co.cetad.umas.scheduler.domain.ports.in.MissionSchedulerUseCase;
+import co.cetad.umas.scheduler.infrastructure.metrics.SchedulerMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.core.LockConfiguration;
+import net.javacrumbs.shedlock.core.LockingTaskExecutor;
 import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.time.Instant;
+
 /**
  * Job programado para ejecutar el scheduling de misiones automáticas
  *
@@ -27,13 +34,25 @@ import org.springframework.stereotype.Component;
  * 3. Si el lock es adquirido, ejecuta el caso de uso
  * 4. Si el lock ya está tomado por otra instancia, no hace nada
  * 5. El lock se libera automáticamente al finalizar o después de lockAtMostFor
+ * 6. La duración de cada ejecución se registra en scheduler.job.duration (job, outcome)
+ * 7. triggerReadyMissions() ejecuta el scheduling fuera del cron bajo el mismo lock
+ *
+ * Con scheduler.sharding.enabled lo reemplaza ShardedMissionSchedulerJob
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class MissionSchedulerJob {
+@ConditionalOnProperty(prefix = "scheduler.sharding", name = "enabled", havingValue = "false", matchIfMissing = true)
+public class MissionSchedulerJob implements ReadyMissionTrigger {
+
+    /**
+     * Lock de ShedLock del scheduling de misiones listas (cron y disparos inmediatos)
+     */
+    public static final String SCHEDULE_MISSIONS_LOCK = "scheduleMissions";
 
     private final MissionSchedulerUseCase missionSchedulerUseCase;
+    private final SchedulerMetrics metrics;
+    private final LockingTaskExecutor lockingTaskExecutor;
 
     /**
      * Job para verificar y ejecutar misiones que están listas
@@ -45,12 +64,38 @@ public class MissionSchedulerJob {
      */
     @Scheduled(cron = "${scheduler.mission-execution-cron}")
     @SchedulerLock(
-            name = "scheduleMissions",
+            name = SCHEDULE_MISSIONS_LOCK,
             lockAtMostFor = "9m",
             lockAtLeastFor = "30s"
     )
     public void scheduleReadyMissionsJob() {
+        scheduleReadyMissions();
+    }
+
+    /**
+     * Scheduling inmediato bajo el lock del job
+     * Sin lockAtLeastFor: el lock se suelta al terminar y no retrasa al cron
+     */
+    @Override
+    public boolean triggerReadyMissions() {
+        try {
+            return lockingTaskExecutor.executeWithLock(
+                    () -> {
+                        scheduleReadyMissions();
+                        return null;
+                    },
+                    new LockConfiguration(Instant.now(), SCHEDULE_MISSIONS_LOCK, Duration.ofMinutes(9), Duration.ZERO)
+            ).wasExecuted();
+        } catch (Throwable throwable) {
+            log.error("❌ Unexpected error in triggered mission execution", throwable);
+            return true;
+        }
+    }
+
+    private void scheduleReadyMissions() {
         log.info("🔍 Starting mission execution scheduling job");
+        long startedAt = System.nanoTime();
+        boolean[] successful = {true};
 
         try {
             missionSchedulerUseCase.scheduleReadyMissions()
@@ -63,12 +108,16 @@ public class MissionSchedulerJob {
                     })
                     .exceptionally(throwable -> {
                         log.error("❌ Error in mission execution job", throwable);
+                        successful[0] = false;
                         return null;
                     })
                     .join(); // Wait for completion
 
         } catch (Exception e) {
             log.error("❌ Unexpected error in mission execution job", e);
+            successful[0] = false;
+        } finally {
+            metrics.recordJob(SchedulerMetrics.JOB_EXECUTION, Duration.ofNanos(System.nanoTime() - startedAt), successful[0]);
         }
     }
 
@@ -88,6 +137,8 @@ public class MissionSchedulerJob {
     )
     public void notifyUpcomingMissionsJob() {
         log.info("📧 Starting preparation notification job");
+        long startedAt = System.nanoTime();
+        boolean[] successful = {true};
 
         try {
             missionSchedulerUseCase.notifyUpcomingMissions()
@@ -100,12 +151,16 @@ public class MissionSchedulerJob {
                     })
                     .exceptionally(throwable -> {
                         log.error("❌ Error in preparation notification job", throwable);
+                        successful[0] = false;
                         return null;
                     })
                     .join(); // Wait for completion
 
         } catch (Exception e) {
             log.error("❌ Unexpected error in preparation notification job", e);
+            successful[0] = false;
+        } finally {
+            metrics.recordJob(SchedulerMetrics.JOB_NOTIFICATION, Duration.ofNanos(System.nanoTime() - startedAt), successful[0]);
         }
     }
 
@@ -0,0 +1,283 @@
+package co.cetad.umas.scheduler.infrastructure.scheduler;
+
+import co.cetad.umas.scheduler.domain.model.vo.Mission;
+import co.cetad.umas.scheduler.domain.model.vo.MissionShard;
+import co.cetad.umas.scheduler.domain.ports.in.MissionSchedulerUseCase;
+import co.cetad.umas.scheduler.infrastructure.config.DispatcherProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.core.LockConfiguration;
+import net.javacrumbs.shedlock.core.LockingTaskExecutor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Dispatcher en memoria para misiones automáticas próximas a vencer
+ *
+ * RESPONSABILIDADES:
+ * 1. Precargar periódicamente las misiones APROBADA automáticas que vencen en la ventana
+ * 2. Mantenerlas en una DelayQueue ordenada por estimatedDate
+ * 3. Publicar el evento de ejecución en cuanto vence cada misión (milisegundos, no minutos)
+ *
+ * FUNCIONAMIENTO:
+ * - La precarga usa ShedLock: solo la instancia que la ejecuta mantiene la cola;
+ *   la que no obtiene el lock vacía la suya (otra instancia la tomó) y no refresca
+ * - En modo sharded no hay lock: cada instancia precarga solo las misiones de sus buckets
+ * - Un hilo dedicado bloquea en queue.take() y publica los lotes vencidos
+ * - Al vencer, la misión se reclama en BD antes de publicarse: si otra instancia o el
+ *   barrido ya la despachó, o fue cancelada/reprogramada, simplemente no se reclama
+ * - Si una misión se reprograma, la siguiente precarga reemplaza su entrada
+ * - Si desaparece de la ventana (cancelada, reprogramada fuera), se retira de la cola
+ * - El cron de ejecución (scheduleReadyMissions) sigue como barrido de recuperación
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "scheduler.dispatcher", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ReadyMissionDispatcher {
+
+    private final MissionSchedulerUseCase missionSchedulerUseCase;
+    private final DispatcherProperties properties;
+    private final LockingTaskExecutor lockingTaskExecutor;
+    private final ObjectProvider<BucketLeaseManager> leaseManager;
+
+    private final DelayQueue<ScheduledMission> queue = new DelayQueue<>();
+    private final Map<String, ScheduledMission> pending = new ConcurrentHashMap<>();
+
+    private volatile boolean running;
+    private volatile boolean ownsPreload;
+    private Thread dispatchThread;
+
+    @PostConstruct
+    void start() {
+        running = true;
+        dispatchThread = Thread.ofPlatform()
+                .name("mission-dispatcher")
+                .daemon()
+                .start(this::dispatchLoop);
+        log.info("Mission dispatcher started - lookahead: {}", properties.getLookahead());
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (dispatchThread != null) {
+            dispatchThread.interrupt();
+        }
+        log.info("Mission dispatcher stopped - {} missions pending", pending.size());
+    }
+
+    /**
+     * Precarga las misiones que vencen dentro de la ventana configurada
+     *
+     * SHEDLOCK (sin sharding, lock programático para poder omitirlo en modo sharded):
+     * - lockAtMostFor: 1 minuto (la precarga es una sola consulta)
+     * - lockAtLeastFor: 10 segundos (evita precargas duplicadas entre instancias)
+     * Sin el lock la cola se vacía: sus misiones las despacha la instancia que precarga
+     */
+    @Scheduled(cron = "${scheduler.dispatcher.preload-cron:*/30 * * * * *}")
+    public void preloadUpcomingMissionsJob() {
+        BucketLeaseManager sharding = leaseManager.getIfAvailable();
+        if (sharding != null) {
+            preload(sharding.currentShard());
+            return;
+        }
+
+        boolean acquired;
+        try {
+            acquired = lockingTaskExecutor.executeWithLock(
+                    () -> {
+                        preload(MissionShard.all());
+                        return null;
+                    },
+                    new LockConfiguration(
+                            Instant.now(),
+                            "preloadUpcomingMissions",
+                            Duration.ofMinutes(1),
+                            Duration.ofSeconds(10)
+                    )
+            ).wasExecuted();
+        } catch (Throwable throwable) {
+            log.error("❌ Unexpected error in dispatcher preload", throwable);
+            return;
+        }
+
+        if (acquired) {
+            ownsPreload = true;
+        } else if (ownsPreload || !pending.isEmpty()) {
+            ownsPreload = false;
+            int dropped = pending.size();
+            pending.clear();
+            queue.clear();
+            log.info("Dispatcher preload owned by another instance, dropped {} pending missions", dropped);
+        }
+    }
+
+    /**
+     * Recarga la ventana fuera del cron (p. ej. tras un NOTIFY de cambio de misión)
+     *
+     * Sin sharding solo refresca la instancia que ganó la última precarga: las demás
+     * mantendrían una cola que nadie sincroniza (cada misión se reclama atómicamente,
+     * pero las reprogramadas y canceladas solo se retiran en la precarga)
+     */
+    public void refresh() {
+        BucketLeaseManager sharding = leaseManager.getIfAvailable();
+        if (sharding != null) {
+            preload(sharding.currentShard());
+        } else if (ownsPreload) {
+            preload(MissionShard.all());
+        }
+    }
+
+    /**
+     * Carga en la cola las misiones de la ventana que pertenecen al shard
+     */
+    private void preload(MissionShard shard) {
+        if (shard.isEmpty()) {
+            return;
+        }
+
+        try {
+            missionSchedulerUseCase.findMissionsDueWithin(properties.getLookahead(), shard)
+                    .thenAccept(this::enqueue)
+                    .exceptionally(throwable -> {
+                        log.error("❌ Error preloading upcoming missions", throwable);
+                        return null;
+                    })
+                    .join();
+
+        } catch (Exception e) {
+            log.error("❌ Unexpected error preloading upcoming missions", e);
+        }
+    }
+
+    /**
+     * Sincroniza la cola con las misiones de la ventana
+     * - Agrega las nuevas
+     * - Reemplaza las reprogramadas
+     * - Retira las que ya no están en la ventana y aún no vencen
+     */
+    private void enqueue(List<Mission> missions) {
+        long now = System.currentTimeMillis();
+        int added = 0;
+
+        for (Mission mission : missions) {
+            ScheduledMission candidate = new ScheduledMission(mission, toEpochMillis(mission));
+            ScheduledMission existing = pending.get(mission.id());
+
+            if (existing != null && existing.dueAtMillis() == candidate.dueAtMillis()) {
+                continue;
+            }
+            // Si el hilo de despacho la tomó mientras tanto, no se vuelve a encolar
+            boolean registered = existing == null
+                    ? pending.putIfAbsent(mission.id(), candidate) == null
+                    : pending.replace(mission.id(), existing, candidate);
+            if (!registered) {
+                continue;
+            }
+            if (existing != null) {
+                queue.remove(existing);
+            }
+            queue.offer(candidate);
+            added++;
+        }
+
+        Set<String> loadedIds = missions.stream()
+                .map(Mission::id)
+                .collect(Collectors.toSet());
+        int removed = 0;
+        for (ScheduledMission scheduled : pending.values()) {
+            if (scheduled.dueAtMillis() > now && !loadedIds.contains(scheduled.mission().id())
+                    && pending.remove(scheduled.mission().id(), scheduled)) {
+                queue.remove(scheduled);
+                removed++;
+            }
+        }
+
+        if (added > 0 || removed > 0) {
+            log.info("🗓️ Dispatcher preload - {} added/rescheduled, {} removed, {} pending",
+                    added, removed, pending.size());
+        }
+    }
+
+    /**
+     * Bucle del hilo dedicado: espera la siguiente misión vencida
+     * y publica junto con ella todas las que vencieron al mismo tiempo
+     */
+    private void dispatchLoop() {
+        while (running) {
+            try {
+                List<ScheduledMission> due = new ArrayList<>();
+                due.add(queue.take());
+                queue.drainTo(due, properties.getMaxBatchSize() - 1);
+
+                List<Mission> missions = due.stream()
+                        .filter(scheduled -> pending.remove(scheduled.mission().id(), scheduled))
+                        .map(ScheduledMission::mission)
+                        .toList();
+
+                if (!missions.isEmpty()) {
+                    dispatch(missions);
+                }
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("❌ Unexpected error in mission dispatcher loop", e);
+            }
+        }
+    }
+
+    private void dispatch(List<Mission> missions) {
+        log.debug("Dispatching {} due missions", missions.size());
+
+        missionSchedulerUseCase.dispatchMissions(missions)
+                .exceptionally(throwable -> {
+                    log.error("❌ Error dispatching {} due missions", missions.size(), throwable);
+                    return 0;
+                });
+    }
+
+    private static long toEpochMillis(Mission mission) {
+        return mission.estimatedDate()
+                .atZone(ZoneId.systemDefault())
+                .toInstant()
+                .toEpochMilli();
+    }
+
+    /**
+     * Entrada de la DelayQueue: vence en el estimatedDate de la misión
+     */
+    private record ScheduledMission(Mission mission, long dueAtMillis) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(dueAtMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.MILLISECONDS), other.getDelay(TimeUnit.MILLISECONDS));
+        }
+
+    }
+
+}
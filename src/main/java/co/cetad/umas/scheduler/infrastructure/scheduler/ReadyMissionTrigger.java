@@ -0,0 +1,19 @@
+package co.cetad.umas.scheduler.infrastructure.scheduler;
+
+/**
+ * Ejecución inmediata del scheduling de misiones listas, fuera del cron
+ * (p. ej. tras un NOTIFY de cambio de misión)
+ *
+ * Sigue el mismo camino que el job de ejecución activo:
+ * - Sin sharding: el lock de ShedLock del job (una sola instancia a la vez)
+ * - Con sharding: solo los buckets que la instancia tiene en lease
+ */
+public interface ReadyMissionTrigger {
+
+    /**
+     * @return true si el scheduling se ejecutó (o no había buckets asignados);
+     *         false si otra ejecución tenía el lock y conviene reintentar
+     */
+    boolean triggerReadyMissions();
+
+}
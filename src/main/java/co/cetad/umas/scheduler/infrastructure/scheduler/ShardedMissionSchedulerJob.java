@@ -0,0 +1,109 @@
+package co.cetad.umas.scheduler.infrastructure.scheduler;
+
+import co.cetad.umas.scheduler.domain.model.vo.MissionShard;
+import co.cetad.umas.scheduler.domain.ports.in.MissionSchedulerUseCase;
+import co.cetad.umas.scheduler.infrastructure.metrics.SchedulerMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Job de scheduling en modo sharded
+ *
+ * A diferencia de MissionSchedulerJob no usa ShedLock: todas las instancias
+ * ejecutan cada tick, pero cada una solo sobre los buckets que tiene en lease.
+ * Agregar réplicas agrega capacidad de escaneo y publicación
+ *
+ * FUNCIONAMIENTO:
+ * 1. Spring Scheduler ejecuta el método según el cron (los mismos que el modo ShedLock)
+ * 2. Se toma el shard vigente del BucketLeaseManager
+ * 3. Si la instancia no tiene buckets (recién iniciada o lease vencido), no hace nada
+ * 4. Si tiene, ejecuta el caso de uso restringido a esos buckets
+ * 5. triggerReadyMissions() ejecuta el mismo tick fuera del cron (p. ej. tras un NOTIFY)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "scheduler.sharding", name = "enabled", havingValue = "true")
+public class ShardedMissionSchedulerJob implements ReadyMissionTrigger {
+
+    private final MissionSchedulerUseCase missionSchedulerUseCase;
+    private final BucketLeaseManager leaseManager;
+    private final SchedulerMetrics metrics;
+
+    /**
+     * Verifica y ejecuta las misiones listas de los buckets de esta instancia
+     */
+    @Scheduled(cron = "${scheduler.mission-execution-cron}")
+    public void scheduleReadyMissionsJob() {
+        scheduleReadyMissions();
+    }
+
+    /**
+     * Sin lock que esperar: el tick inmediato siempre se ejecuta sobre el shard vigente
+     */
+    @Override
+    public boolean triggerReadyMissions() {
+        scheduleReadyMissions();
+        return true;
+    }
+
+    private void scheduleReadyMissions() {
+        MissionShard shard = leaseManager.currentShard();
+        if (shard.isEmpty()) {
+            log.debug("Instance {} owns no buckets, skipping mission execution tick", leaseManager.instanceId());
+            return;
+        }
+
+        log.info("🔍 Starting sharded mission execution job - {} buckets", shard.buckets().size());
+        long startedAt = System.nanoTime();
+        boolean successful = true;
+
+        try {
+            Integer count = missionSchedulerUseCase.scheduleReadyMissions(shard).join();
+            if (count > 0) {
+                log.info("✅ Sharded mission execution job completed - {} missions scheduled", count);
+            }
+
+        } catch (Exception e) {
+            log.error("❌ Error in sharded mission execution job", e);
+            successful = false;
+        } finally {
+            metrics.recordJob(SchedulerMetrics.JOB_EXECUTION, Duration.ofNanos(System.nanoTime() - startedAt), successful);
+        }
+    }
+
+    /**
+     * Envía las notificaciones de preparación de los buckets de esta instancia
+     */
+    @Scheduled(cron = "${scheduler.preparation-notification-cron}")
+    public void notifyUpcomingMissionsJob() {
+        MissionShard shard = leaseManager.currentShard();
+        if (shard.isEmpty()) {
+            log.debug("Instance {} owns no buckets, skipping notification tick", leaseManager.instanceId());
+            return;
+        }
+
+        log.info("📧 Starting sharded preparation notification job - {} buckets", shard.buckets().size());
+        long startedAt = System.nanoTime();
+        boolean successful = true;
+
+        try {
+            Integer count = missionSchedulerUseCase.notifyUpcomingMissions(shard).join();
+            if (count > 0) {
+                log.info("✅ Sharded notification job completed - {} notifications sent", count);
+            }
+
+        } catch (Exception e) {
+            log.error("❌ Error in sharded preparation notification job", e);
+            successful = false;
+        } finally {
+            metrics.recordJob(SchedulerMetrics.JOB_NOTIFICATION, Duration.ofNanos(System.nanoTime() - startedAt), successful);
+        }
+    }
+
+}
@@ -0,0 +1,56 @@
+package co.cetad.umas.scheduler.infrastructure.scheduler;
+
+import co.cetad.umas.scheduler.domain.ports.out.MissionRepository;
+import co.cetad.umas.scheduler.infrastructure.config.ClaimReaperProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Libera reclamos de misiones que ninguna instancia confirmó
+ *
+ * FUNCIONAMIENTO:
+ * 1. Cada interval-ms busca misiones EN_EJECUCION con claimed_at anterior a now - timeout
+ *    (la instancia que las reclamó cayó antes de publicar o de liberar)
+ * 2. Las devuelve a APROBADA y limpia claimed_at: el siguiente tick las reclama de nuevo
+ * 3. Libera hasta batch-size por pasada; el resto queda para la siguiente
+ *
+ * - Solo toca filas con claimed_at: el EN_EJECUCION que ponen otros servicios no se libera
+ * - Bajo ShedLock (una instancia por pasada); SKIP LOCKED evita esperar a reclamos en curso
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "scheduler.claim-reaper", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class StaleClaimReaper {
+
+    private final MissionRepository missionRepository;
+    private final ClaimReaperProperties properties;
+
+    @Scheduled(fixedDelayString = "${scheduler.claim-reaper.interval-ms:60000}")
+    @SchedulerLock(
+            name = "releaseStaleClaims",
+            lockAtMostFor = "5m",
+            lockAtLeastFor = "10s"
+    )
+    public void releaseStaleClaims() {
+        LocalDateTime claimedBefore = LocalDateTime.now().minus(properties.getTimeout());
+
+        try {
+            int released = missionRepository.releaseStaleClaims(claimedBefore, properties.getBatchSize()).join();
+            if (released > 0) {
+                log.warn("♻️ Released {} mission claims unconfirmed since {}", released, claimedBefore);
+            } else {
+                log.debug("No stale mission claims before {}", claimedBefore);
+            }
+        } catch (Exception e) {
+            log.error("❌ Error releasing stale mission claims", e);
+        }
+    }
+
+}
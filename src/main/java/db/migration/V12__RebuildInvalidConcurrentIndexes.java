@@ -0,0 +1,75 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+
+/**
+ * Reconstruye los índices de V5/V6 que CREATE INDEX CONCURRENTLY dejó INVALID
+ *
+ * FUNCIONAMIENTO:
+ * - Si el CREATE INDEX CONCURRENTLY falla (deadlock, cancelación, unicidad) el índice queda
+ *   creado pero con pg_index.indisvalid = false: el planner no lo usa y el IF NOT EXISTS del
+ *   reintento lo da por bueno
+ * - Por cada índice INVALID: DROP INDEX CONCURRENTLY y se vuelve a crear con la definición original
+ * - Los índices válidos (caso normal) no se tocan
+ *
+ * Fuera de transacción: CONCURRENTLY no puede ejecutarse dentro de un bloque transaccional
+ */
+public class V12__RebuildInvalidConcurrentIndexes extends BaseJavaMigration {
+
+    private static final Map<String, String> INDEXES = Map.of(
+            "idx_mission_ready_automatic", """
+                    CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_mission_ready_automatic
+                        ON mission (estimated_date)
+                        WHERE state = 'APROBADA' AND is_automatic
+                    """,
+            "idx_drone_mission_assignment_mission_assigned", """
+                    CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_drone_mission_assignment_mission_assigned
+                        ON drone_mission_assignment (mission_id, assigned_at)
+                    """
+    );
+
+    private static final String IS_INVALID = """
+            SELECT NOT i.indisvalid
+            FROM pg_index i
+            JOIN pg_class c ON c.oid = i.indexrelid
+            WHERE c.relname = ?
+            AND pg_catalog.pg_table_is_visible(c.oid)
+            """;
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return false;
+    }
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        Connection connection = context.getConnection();
+
+        for (Map.Entry<String, String> index : INDEXES.entrySet()) {
+            if (isInvalid(connection, index.getKey())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("DROP INDEX CONCURRENTLY IF EXISTS " + index.getKey());
+                    statement.execute(index.getValue());
+                }
+            }
+        }
+    }
+
+    private static boolean isInvalid(Connection connection, String indexName) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(IS_INVALID)) {
+            statement.setString(1, indexName);
+            try (ResultSet result = statement.executeQuery()) {
+                return result.next() && result.getBoolean(1);
+            }
+        }
+    }
+
+}
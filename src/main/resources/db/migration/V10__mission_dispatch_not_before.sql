@@ -0,0 +1,6 @@
+-- Misiones retenidas por conflicto de dron: vuelven a APROBADA con un dispatch_not_before
+-- (fin de la reserva que las bloquea) y los reclamos las ignoran hasta entonces,
+-- así no vuelven a ocupar la cabeza de la cola (ORDER BY estimated_date LIMIT n) en cada tick
+-- Columna nullable sin default: no reescribe la tabla (la comparten otros servicios)
+ALTER TABLE mission
+    ADD COLUMN IF NOT EXISTS dispatch_not_before TIMESTAMP;
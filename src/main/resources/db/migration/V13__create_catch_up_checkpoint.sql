@@ -0,0 +1,11 @@
+-- Posición del drenado catch-up de ejecución: última misión drenada por (estimated_date, id)
+-- y ritmo del drenado; un drenado posterior (u otra instancia) informa desde dónde retoma
+CREATE TABLE IF NOT EXISTS scheduler_catch_up_checkpoint (
+    name           VARCHAR(255) NOT NULL,
+    estimated_date TIMESTAMP    NOT NULL,
+    mission_id     UUID         NOT NULL,
+    drained        BIGINT       NOT NULL,
+    drain_rate     BIGINT       NOT NULL,
+    updated_at     TIMESTAMP    NOT NULL,
+    PRIMARY KEY (name)
+);
@@ -0,0 +1,4 @@
+-- Reclamo del scheduler pendiente de confirmar: se llena al reclamar (EN_EJECUCION) y se
+-- limpia cuando Kafka confirma el evento, al registrarlo en el outbox o al liberar el reclamo
+-- Un claimed_at antiguo indica una instancia caída entre el reclamo y la publicación
+ALTER TABLE mission ADD COLUMN IF NOT EXISTS claimed_at TIMESTAMP;
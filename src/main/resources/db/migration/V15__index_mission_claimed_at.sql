@@ -0,0 +1,5 @@
+-- Reclamos sin confirmar por antigüedad (releaseStaleClaims del reaper)
+-- Parcial: solo las pocas filas con un reclamo en curso
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_mission_claimed_at
+    ON mission (claimed_at)
+    WHERE claimed_at IS NOT NULL;
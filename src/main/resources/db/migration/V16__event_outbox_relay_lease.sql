@@ -0,0 +1,3 @@
+-- Reserva de un lote por el relay: se llena al tomar el lote y se limpia al registrar el resultado
+-- El envío a Kafka ocurre fuera de la transacción; si el relay cae, la reserva vence y el lote se reenvía
+ALTER TABLE event_outbox ADD COLUMN IF NOT EXISTS relay_lease_until TIMESTAMP;
@@ -0,0 +1,13 @@
+-- Misiones ya notificadas por delante del watermark de notificación
+-- Tras un hueco (una misión que falló o no produjo evento) el watermark se detiene y el
+-- siguiente tick reescanea desde ahí: estas filas evitan volver a publicar las posteriores
+-- La fecha forma parte de la coincidencia: una misión reprogramada se vuelve a notificar
+CREATE TABLE IF NOT EXISTS scheduler_notified_mission (
+    mission_id     UUID      NOT NULL,
+    estimated_date TIMESTAMP NOT NULL,
+    notified_at    TIMESTAMP NOT NULL,
+    PRIMARY KEY (mission_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_scheduler_notified_mission_estimated_date
+    ON scheduler_notified_mission (estimated_date);
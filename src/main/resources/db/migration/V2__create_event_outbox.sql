@@ -0,0 +1,23 @@
+-- Transactional outbox: mensajes Kafka pendientes escritos junto con el reclamo de la misión
+CREATE TABLE IF NOT EXISTS event_outbox (
+    id           UUID         NOT NULL,
+    aggregate_id UUID         NOT NULL,
+    topic        VARCHAR(255) NOT NULL,
+    message_key  VARCHAR(255) NOT NULL,
+    payload      TEXT         NOT NULL,
+    created_at   TIMESTAMP    NOT NULL,
+    published_at TIMESTAMP,
+    attempts     INTEGER      NOT NULL DEFAULT 0,
+    last_error   VARCHAR(500),
+    PRIMARY KEY (id)
+);
+
+-- lockPendingBatch: solo recorre los pendientes, en orden de creación
+CREATE INDEX IF NOT EXISTS idx_event_outbox_pending
+    ON event_outbox (created_at)
+    WHERE published_at IS NULL;
+
+-- deletePublishedBefore
+CREATE INDEX IF NOT EXISTS idx_event_outbox_published_at
+    ON event_outbox (published_at)
+    WHERE published_at IS NOT NULL;
@@ -0,0 +1,13 @@
+-- Scheduling sharded: instancias vivas y leases de buckets de misiones
+CREATE TABLE IF NOT EXISTS scheduler_instance (
+    instance_id  VARCHAR(255) NOT NULL,
+    heartbeat_at TIMESTAMP    NOT NULL,
+    PRIMARY KEY (instance_id)
+);
+
+CREATE TABLE IF NOT EXISTS scheduler_bucket_lease (
+    bucket      INTEGER      NOT NULL,
+    owner_id    VARCHAR(255),
+    lease_until TIMESTAMP,
+    PRIMARY KEY (bucket)
+);
@@ -0,0 +1,7 @@
+-- High-watermarks sobre estimated_date de los procesos incrementales
+CREATE TABLE IF NOT EXISTS scheduler_watermark (
+    name       VARCHAR(255) NOT NULL,
+    watermark  TIMESTAMP    NOT NULL,
+    updated_at TIMESTAMP    NOT NULL,
+    PRIMARY KEY (name)
+);
@@ -0,0 +1,7 @@
+-- Misiones automáticas aprobadas por fecha estimada (parcial: solo las pendientes de ejecutar)
+-- Cubre claimReadyMissions (estimated_date <= ?) y las ventanas de notificación/precarga
+-- (estimated_date > ? AND estimated_date <= ?): el costo es O(misiones en rango), no O(tabla)
+-- CONCURRENTLY no bloquea escrituras sobre mission (la tabla la comparten otros servicios)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_mission_ready_automatic
+    ON mission (estimated_date)
+    WHERE state = 'APROBADA' AND is_automatic;
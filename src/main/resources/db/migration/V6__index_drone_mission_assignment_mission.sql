@@ -0,0 +1,3 @@
+-- Asignaciones por misión en orden de asignación (findByMissionIdIn del enriquecimiento)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_drone_mission_assignment_mission_assigned
+    ON drone_mission_assignment (mission_id, assigned_at);
@@ -0,0 +1,37 @@
+-- NOTIFY en el canal mission_changes cuando una misión automática queda APROBADA
+-- o cambia su fecha estimada: el scheduler despacha/precarga sin esperar al cron
+-- Solo notifican las transiciones que crean trabajo nuevo: las liberaciones del propio
+-- scheduler (EN_EJECUCION → APROBADA) no, o el listener volvería a despachar, la misión
+-- se reclamaría y liberaría otra vez, y así en bucle
+-- En un trigger INSERT el WHEN no puede leer OLD: INSERT y UPDATE van en triggers separados
+CREATE OR REPLACE FUNCTION notify_mission_change() RETURNS trigger AS $$
+BEGIN
+    PERFORM pg_notify(
+        'mission_changes',
+        json_build_object(
+            'id', NEW.id,
+            'estimatedDate', NEW.estimated_date
+        )::text
+    );
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_mission_change_notify ON mission;
+DROP TRIGGER IF EXISTS trg_mission_change_notify_update ON mission;
+
+CREATE TRIGGER trg_mission_change_notify
+    AFTER INSERT ON mission
+    FOR EACH ROW
+    WHEN (NEW.state = 'APROBADA' AND NEW.is_automatic)
+    EXECUTE FUNCTION notify_mission_change();
+
+CREATE TRIGGER trg_mission_change_notify_update
+    AFTER UPDATE OF state, estimated_date, is_automatic ON mission
+    FOR EACH ROW
+    WHEN (NEW.state = 'APROBADA' AND NEW.is_automatic AND (
+        (OLD.state IS DISTINCT FROM NEW.state AND OLD.state <> 'EN_EJECUCION')
+        OR OLD.estimated_date IS DISTINCT FROM NEW.estimated_date
+        OR OLD.is_automatic IS DISTINCT FROM NEW.is_automatic
+    ))
+    EXECUTE FUNCTION notify_mission_change();
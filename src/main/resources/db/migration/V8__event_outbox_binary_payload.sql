@@ -0,0 +1,4 @@
+-- El payload se guarda como los bytes que se envían a Kafka (JSON UTF-8):
+-- el relay ya no vuelve a codificar un texto en cada envío
+ALTER TABLE event_outbox
+    ALTER COLUMN payload TYPE BYTEA USING convert_to(payload, 'UTF8');
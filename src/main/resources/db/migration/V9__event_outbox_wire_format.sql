@@ -0,0 +1,5 @@
+-- Formato y versión de esquema con que se serializó cada payload:
+-- el relay los envía como headers content-type / schema-version
+ALTER TABLE event_outbox
+    ADD COLUMN content_type VARCHAR(100) NOT NULL DEFAULT 'application/json',
+    ADD COLUMN schema_version INTEGER NOT NULL DEFAULT 1;
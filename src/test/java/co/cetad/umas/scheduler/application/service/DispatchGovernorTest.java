@@ -0,0 +1,172 @@
+package co.cetad.umas.scheduler.application.service;
+
+import co.cetad.umas.scheduler.domain.model.vo.PublicationResult;
+import co.cetad.umas.scheduler.infrastructure.config.DispatchGovernorProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifica el ajuste AIMD de la tasa y el token bucket del gobernador de publicación
+ * El reloj es manual: el tiempo solo avanza cuando la prueba lo indica
+ */
+class DispatchGovernorTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void rateIncreasesAdditivelyWhileLagIsUnderTarget() {
+        DispatchGovernor governor = governor(properties());
+
+        governor.onConsumerLag(0);
+        assertThat(governor.currentRate()).isEqualTo(250);
+
+        governor.onConsumerLag(1000);
+        assertThat(governor.currentRate()).isEqualTo(300);
+    }
+
+    @Test
+    void rateDecreasesMultiplicativelyWhenLagExceedsTarget() {
+        DispatchGovernor governor = governor(properties());
+
+        governor.onConsumerLag(1001);
+        assertThat(governor.currentRate()).isEqualTo(100);
+
+        governor.onConsumerLag(50_000);
+        assertThat(governor.currentRate()).isEqualTo(50);
+    }
+
+    @Test
+    void rateStaysWithinMinAndMax() {
+        DispatchGovernorProperties properties = properties();
+        properties.setMaxRate(300);
+        DispatchGovernor governor = governor(properties);
+
+        IntStream.range(0, 10).forEach(i -> governor.onConsumerLag(0));
+        assertThat(governor.currentRate()).isEqualTo(300);
+
+        IntStream.range(0, 10).forEach(i -> governor.onConsumerLag(50_000));
+        assertThat(governor.currentRate()).isEqualTo(10);
+    }
+
+    @Test
+    void missingLagSampleKeepsTheRate() {
+        DispatchGovernor governor = governor(properties());
+
+        governor.onConsumerLagUnavailable();
+
+        assertThat(governor.currentRate()).isEqualTo(200);
+    }
+
+    @Test
+    void burstIsFreeAndDebtWaitsAtTheCurrentRate() {
+        DispatchGovernor governor = governor(properties());
+
+        // El bucket arranca lleno: una ráfaga completa sale sin espera
+        assertThat(governor.reserve(100)).isZero();
+        // 50 tokens de deuda a 200 eventos/s: 250 ms
+        assertThat(governor.reserve(50)).isEqualTo(SECOND / 4);
+    }
+
+    @Test
+    void tokensRefillWithElapsedTimeUpToTheBurst() {
+        DispatchGovernor governor = governor(properties());
+        governor.reserve(100);
+
+        clock.addAndGet(SECOND / 4);
+        // 250 ms a 200 eventos/s regeneran 50 tokens
+        assertThat(governor.reserve(50)).isZero();
+
+        clock.addAndGet(10 * SECOND);
+        // Muchos segundos después el saldo no supera la ráfaga
+        assertThat(governor.reserve(100)).isZero();
+        assertThat(governor.reserve(20)).isEqualTo(SECOND / 10);
+    }
+
+    @Test
+    void reservationBeyondMaxWaitIsRefusedWithoutTakingTokens() {
+        DispatchGovernorProperties properties = properties();
+        properties.setMaxWait(Duration.ofMillis(500));
+        DispatchGovernor governor = governor(properties);
+        governor.reserve(100);
+
+        // 200 tokens de deuda serían 1 s de espera
+        assertThat(governor.reserve(200)).isEqualTo(-1);
+        // La reserva rechazada no dejó deuda: 100 tokens siguen siendo 500 ms
+        assertThat(governor.reserve(100)).isEqualTo(SECOND / 2);
+    }
+
+    @Test
+    void throttleReturnsSlicesBeyondMaxWaitAsFailures() {
+        DispatchGovernorProperties properties = properties();
+        properties.setBurst(10);
+        properties.setInitialRate(10);
+        properties.setMaxWait(Duration.ofMillis(500));
+        DispatchGovernor governor = governor(properties);
+
+        List<String> events = IntStream.range(0, 40).mapToObj(i -> "e-" + i).toList();
+        List<List<String>> published = new ArrayList<>();
+
+        PublicationResult<String> result = governor.throttle(events, slice -> {
+                    published.add(List.copyOf(slice));
+                    return CompletableFuture.completedFuture(new PublicationResult<>(slice, List.of()));
+                }, event -> event)
+                .join();
+
+        // El primer tramo usa la ráfaga; el segundo esperaría 1 s (> 500 ms): se devuelven los 30 restantes
+        assertThat(published).containsExactly(events.subList(0, 10));
+        assertThat(result.published()).isEqualTo(events.subList(0, 10));
+        assertThat(result.failures())
+                .extracting(PublicationResult.Failure::event)
+                .isEqualTo(events.subList(10, 40));
+        assertThat(result.failures())
+                .allSatisfy(failure -> assertThat(failure.cause()).isInstanceOf(RejectedExecutionException.class));
+    }
+
+    @Test
+    void disabledGovernorPublishesTheWholeBatch() {
+        DispatchGovernorProperties properties = properties();
+        properties.setEnabled(false);
+        DispatchGovernor governor = governor(properties);
+
+        List<String> events = IntStream.range(0, 500).mapToObj(i -> "e-" + i).toList();
+
+        PublicationResult<String> result = governor.throttle(events,
+                        slice -> CompletableFuture.completedFuture(new PublicationResult<>(slice, List.of())),
+                        event -> event)
+                .join();
+
+        assertThat(result.publishedCount()).isEqualTo(500);
+        assertThat(result.hasFailures()).isFalse();
+    }
+
+    private DispatchGovernor governor(DispatchGovernorProperties properties) {
+        return new DispatchGovernor(properties, new SimpleMeterRegistry(), clock::get);
+    }
+
+    private static DispatchGovernorProperties properties() {
+        DispatchGovernorProperties properties = new DispatchGovernorProperties();
+        properties.setEnabled(true);
+        properties.setTargetLag(1000);
+        properties.setInitialRate(200);
+        properties.setMinRate(10);
+        properties.setMaxRate(2000);
+        properties.setIncreaseStep(50);
+        properties.setDecreaseFactor(0.5);
+        properties.setBurst(100);
+        return properties;
+    }
+
+}
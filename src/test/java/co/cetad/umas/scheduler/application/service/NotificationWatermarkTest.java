@@ -0,0 +1,135 @@
+package co.cetad.umas.scheduler.application.service;
+
+import co.cetad.umas.scheduler.domain.model.dto.DronPreparationNotificationEvent;
+import co.cetad.umas.scheduler.domain.model.entity.MissionOrigin;
+import co.cetad.umas.scheduler.domain.model.entity.MissionState;
+import co.cetad.umas.scheduler.domain.model.vo.Mission;
+import co.cetad.umas.scheduler.domain.model.vo.MissionCursor;
+import co.cetad.umas.scheduler.domain.model.vo.PublicationResult;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifica el avance del watermark de notificación y el registro de las notificadas tras un hueco
+ * Las fechas son minutos desde BASE
+ */
+class NotificationWatermarkTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 1, 8, 0);
+    private static final LocalDateTime WINDOW = at(60);
+
+    private final Mission a = mission("a", 10);
+    private final Mission b = mission("b", 20);
+    private final Mission c = mission("c", 20);
+    private final Mission d = mission("d", 30);
+    private final Mission e = mission("e", 40);
+
+    @Test
+    void advancesToWindowWhenEveryMissionIsNotified() {
+        NotificationWatermark watermark = NotificationWatermark.start(BASE)
+                .apply(List.of(a, b, c), published(a, b, c), Set.of());
+
+        assertThat(watermark.stopped()).isFalse();
+        assertThat(watermark.pastGap()).isEmpty();
+        assertThat(watermark.next(WINDOW)).isEqualTo(WINDOW);
+    }
+
+    @Test
+    void gapStopsAtPreviousGroupAndReturnsLaterNotifiedMissions() {
+        NotificationWatermark watermark = NotificationWatermark.start(BASE)
+                .apply(List.of(a, b, c, d, e), published(a, b, d, e), Set.of());
+
+        assertThat(watermark.next(WINDOW)).isEqualTo(at(10));
+        assertThat(watermark.pastGap()).extracting(Mission::id).containsExactly("b", "d", "e");
+    }
+
+    @Test
+    void groupSplitAcrossBatchesIsRolledBackAndRecorded() {
+        NotificationWatermark first = NotificationWatermark.start(BASE)
+                .apply(List.of(a, b), published(a, b), Set.of());
+        assertThat(first.watermark()).isEqualTo(at(20));
+
+        NotificationWatermark second = first.apply(List.of(c, d), published(d), Set.of());
+
+        assertThat(second.next(WINDOW)).isEqualTo(at(10));
+        assertThat(second.pastGap()).extracting(Mission::id).containsExactly("b", "d");
+    }
+
+    @Test
+    void batchesAfterGapOnlyReturnTheirOwnNotifiedMissions() {
+        NotificationWatermark stopped = NotificationWatermark.start(BASE)
+                .apply(List.of(a, b, c), published(a, b), Set.of());
+
+        NotificationWatermark next = stopped.apply(List.of(d, e), published(e), Set.of());
+
+        assertThat(next.next(WINDOW)).isEqualTo(at(10));
+        assertThat(next.pastGap()).extracting(Mission::id).containsExactly("e");
+    }
+
+    @Test
+    void alreadyNotifiedMissionsCountAsNotifiedOnRescan() {
+        Set<MissionCursor> alreadyNotified = Set.of(MissionCursor.after(b), MissionCursor.after(d));
+
+        NotificationWatermark watermark = NotificationWatermark.start(at(10))
+                .apply(List.of(b, c, d), published(c), alreadyNotified);
+
+        assertThat(watermark.stopped()).isFalse();
+        assertThat(watermark.pastGap()).isEmpty();
+        assertThat(watermark.next(WINDOW)).isEqualTo(WINDOW);
+    }
+
+    @Test
+    void rescheduledMissionIsNotifiedAgain() {
+        Set<MissionCursor> alreadyNotified = Set.of(MissionCursor.after(e));
+        Mission rescheduled = mission("e", 50);
+
+        NotificationWatermark watermark = NotificationWatermark.start(at(10))
+                .apply(List.of(rescheduled), published(), alreadyNotified);
+
+        assertThat(watermark.stopped()).isTrue();
+        assertThat(watermark.next(WINDOW)).isEqualTo(at(10));
+    }
+
+    private static PublicationResult<DronPreparationNotificationEvent> published(Mission... missions) {
+        return new PublicationResult<>(Arrays.stream(missions)
+                .map(mission -> new DronPreparationNotificationEvent(
+                        mission.id(),
+                        mission.name(),
+                        "vehicle-1",
+                        "Vehicle 1",
+                        mission.estimatedDate(),
+                        30,
+                        BASE,
+                        "operator@cetad.co"
+                ))
+                .toList(), List.of());
+    }
+
+    private static Mission mission(String id, int estimatedMinute) {
+        return new Mission(
+                id,
+                "Mission " + id,
+                "operator-1",
+                MissionOrigin.AUTOMATICA,
+                MissionState.APROBADA,
+                at(estimatedMinute),
+                null,
+                null,
+                true,
+                at(-60),
+                at(-60),
+                false
+        );
+    }
+
+    private static LocalDateTime at(int minute) {
+        return BASE.plusMinutes(minute);
+    }
+
+}
@@ -0,0 +1,137 @@
+package co.cetad.umas.scheduler.infrastructure.messaging.kafka.serialization;
+
+import co.cetad.umas.scheduler.domain.model.dto.DronPreparationMessage;
+import co.cetad.umas.scheduler.domain.model.dto.MissionExecutionMessage;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HexFormat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Fija los bytes del esquema binario versión 1 y verifica el ida y vuelta de cada mensaje
+ *
+ * Los vectores dorados son el contrato con los consumidores: si una prueba dorada falla,
+ * el cambio de codificación exige subir schemaVersion en lugar de actualizar el vector
+ */
+class CompactBinaryWireFormatTest {
+
+    private static final String MISSION_ID = "123e4567-e89b-12d3-a456-426614174000";
+    private static final LocalDateTime SCHEDULED = LocalDateTime.of(2026, 1, 1, 10, 30);
+
+    private final CompactBinaryWireFormat format = new CompactBinaryWireFormat();
+
+    @Test
+    void executionMessageMatchesGoldenBytes() {
+        MissionExecutionMessage message = new MissionExecutionMessage(
+                MISSION_ID, "Inspección", SCHEDULED, LocalDateTime.of(2026, 1, 1, 10, 29, 59, 123_000_000));
+
+        assertThat(hex(format.write(message))).isEqualTo(
+                // uuid
+                "123e4567e89b12d3a456426614174000"
+                        // "Inspección": 11 bytes UTF-8 → varint 12
+                        + "0c" + "496e737065636369c3b36e"
+                        // 2026-01-01T10:30 leído como UTC
+                        + "0000019b791b7040"
+                        // 2026-01-01T10:29:59.123 leído como UTC
+                        + "0000019b791b6cd3");
+    }
+
+    @Test
+    void preparationMessageMatchesGoldenBytes() {
+        DronPreparationMessage message = new DronPreparationMessage(
+                MISSION_ID, "Inspección", "DRN-001", "Test Drone Alpha",
+                SCHEDULED, 30, LocalDateTime.of(2026, 1, 1, 10, 0), null);
+
+        assertThat(hex(format.write(message))).isEqualTo(
+                "123e4567e89b12d3a456426614174000"
+                        + "0c" + "496e737065636369c3b36e"
+                        + "08" + "44524e2d303031"
+                        + "11" + "546573742044726f6e6520416c706861"
+                        + "0000019b791b7040"
+                        // int32 30
+                        + "0000001e"
+                        + "0000019b78fff900"
+                        // recipient_email null
+                        + "00");
+    }
+
+    @Test
+    void nullFieldsUseTheirSentinels() {
+        MissionExecutionMessage message = new MissionExecutionMessage(MISSION_ID, null, null, null);
+
+        assertThat(hex(format.write(message))).isEqualTo(
+                "123e4567e89b12d3a456426614174000"
+                        + "00"
+                        + "8000000000000000"
+                        + "8000000000000000");
+    }
+
+    @Test
+    void executionMessageRoundTrips() {
+        MissionExecutionMessage message = new MissionExecutionMessage(
+                MISSION_ID, "Misión nocturna ✈", SCHEDULED, LocalDateTime.of(2026, 1, 1, 10, 29, 59, 123_000_000));
+
+        assertThat(format.readExecution(format.write(message))).isEqualTo(message);
+    }
+
+    @Test
+    void preparationMessageRoundTrips() {
+        DronPreparationMessage message = new DronPreparationMessage(
+                MISSION_ID, "Inspección", "DRN-001", "Test Drone Alpha",
+                SCHEDULED, 30, LocalDateTime.of(2026, 1, 1, 10, 0), "ops@example.com");
+
+        assertThat(format.readPreparation(format.write(message))).isEqualTo(message);
+    }
+
+    @Test
+    void nullFieldsRoundTrip() {
+        MissionExecutionMessage execution = new MissionExecutionMessage(MISSION_ID, null, null, null);
+        DronPreparationMessage preparation = new DronPreparationMessage(
+                MISSION_ID, null, null, null, null, null, null, null);
+
+        assertThat(format.readExecution(format.write(execution))).isEqualTo(execution);
+        assertThat(format.readPreparation(format.write(preparation))).isEqualTo(preparation);
+    }
+
+    @Test
+    void longStringsUseMultiByteLength() {
+        String name = "x".repeat(300);
+        MissionExecutionMessage message = new MissionExecutionMessage(MISSION_ID, name, SCHEDULED, SCHEDULED);
+
+        byte[] payload = format.write(message);
+
+        // 301 como varint: 0xad 0x02
+        assertThat(hex(Arrays.copyOfRange(payload, 16, 18))).isEqualTo("ad02");
+        assertThat(format.readExecution(payload).name()).isEqualTo(name);
+    }
+
+    @Test
+    void timestampsKeepMillisecondPrecision() {
+        MissionExecutionMessage message = new MissionExecutionMessage(
+                MISSION_ID, "m", LocalDateTime.of(2026, 1, 1, 10, 30, 0, 123_456_789), null);
+
+        assertThat(format.readExecution(format.write(message)).scheduledAt())
+                .isEqualTo(LocalDateTime.of(2026, 1, 1, 10, 30, 0, 123_000_000));
+    }
+
+    @Test
+    void rejectsTruncatedAndTrailingBytes() {
+        byte[] payload = format.write(new MissionExecutionMessage(MISSION_ID, "m", SCHEDULED, SCHEDULED));
+
+        assertThatThrownBy(() -> format.readExecution(Arrays.copyOf(payload, payload.length - 1)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Truncated");
+        assertThatThrownBy(() -> format.readExecution(Arrays.copyOf(payload, payload.length + 1)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("trailing");
+    }
+
+    private static String hex(byte[] bytes) {
+        return HexFormat.of().formatHex(bytes);
+    }
+
+}
@@ -0,0 +1,56 @@
+package co.cetad.umas.scheduler.infrastructure.metrics;
+
+import co.cetad.umas.scheduler.domain.model.vo.PublicationResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Verifica que una acción que lanza al crear su futuro se registra como error
+ * y llega al llamador como futuro fallido
+ */
+class SchedulerMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final SchedulerMetrics metrics = new SchedulerMetrics(registry);
+
+    @Test
+    void queryThatThrowsSynchronouslyIsRecordedAsError() {
+        CompletableFuture<Integer> result = metrics.timeQuery(SchedulerMetrics.JOB_EXECUTION, "claimReadyMissions",
+                () -> {
+                    throw new IllegalStateException("pool closed");
+                });
+
+        assertThatThrownBy(result::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(registry.get("scheduler.query.latency").tag("outcome", "error").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void enrichmentThatThrowsSynchronouslyIsRecordedAsError() {
+        CompletableFuture<Integer> result = metrics.timeEnrichment(SchedulerMetrics.JOB_NOTIFICATION, () -> {
+            throw new IllegalStateException("executor rejected");
+        });
+
+        assertThat(result).isCompletedExceptionally();
+        assertThat(registry.get("scheduler.enrichment.latency").tag("outcome", "error").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void publishThatThrowsSynchronouslyIsRecordedAsFailure() {
+        CompletableFuture<PublicationResult<String>> result = metrics.timePublish(SchedulerMetrics.JOB_EXECUTION,
+                "umas.mission.execute", () -> {
+                    throw new IllegalStateException("producer closed");
+                });
+
+        assertThat(result).isCompletedExceptionally();
+        assertThat(registry.get("scheduler.publish.latency").tag("outcome", "failure").timer().count()).isEqualTo(1);
+    }
+
+}
@@ -0,0 +1,227 @@
+package co.cetad.umas.scheduler.infrastructure.persistence;
+
+import co.cetad.umas.scheduler.infrastructure.persistence.postgresql.repository.R2dbcMissionRepository;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifica con EXPLAIN que las consultas calientes del scheduler usan los índices
+ * de las migraciones (range scan) y no recorren la tabla mission completa
+ *
+ * Corre las migraciones de Flyway sobre un PostgreSQL embebido con el esquema base
+ * y una distribución realista: pocas misiones automáticas APROBADA frente al histórico
+ *
+ * Las consultas del scheduler se comprueban con su texto real (@Query del repositorio),
+ * preparadas y con plan genérico: así se ve el plan que ejecuta la aplicación, no uno con literales
+ */
+class MissionQueryPlanTest {
+
+    private static final int MISSIONS = 50_000;
+
+    private static final Pattern NAMED_PARAMETER = Pattern.compile("(?<![:\\w]):(\\w+)");
+
+    private static EmbeddedPostgres postgres;
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void setUp() throws IOException {
+        postgres = EmbeddedPostgres.start();
+        DataSource dataSource = postgres.getPostgresDatabase();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        new ResourceDatabasePopulator(new ClassPathResource("db/base-schema.sql")).execute(dataSource);
+
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .table("scheduler_schema_history")
+                .baselineOnMigrate(true)
+                .baselineVersion("0")
+                .load()
+                .migrate();
+
+        // 1 de cada 50 misiones es automática y APROBADA; el resto es histórico finalizado
+        jdbcTemplate.update("""
+                INSERT INTO mission (id, name, operator_id, mission_type, state, estimated_date,
+                                     is_automatic, created_at, updated_at)
+                SELECT gen_random_uuid(),
+                       'Mission ' || i,
+                       gen_random_uuid(),
+                       'MANUAL',
+                       CASE WHEN i % 50 = 0 THEN 'APROBADA' ELSE 'FINALIZADA' END::mission_state,
+                       now() - interval '30 days' + (i * interval '1 minute'),
+                       i % 50 = 0,
+                       now(),
+                       now()
+                FROM generate_series(1, ?) AS i
+                """, MISSIONS);
+
+        jdbcTemplate.update("""
+                INSERT INTO drone_mission_assignment (id, drone_id, mission_id, assigned_at, created_at, updated_at)
+                SELECT gen_random_uuid(), gen_random_uuid(), m.id, now() - (d * interval '1 hour'), now(), now()
+                FROM mission m, generate_series(1, 3) AS d
+                """);
+
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @AfterAll
+    static void tearDown() throws IOException {
+        if (postgres != null) {
+            postgres.close();
+        }
+    }
+
+    @Test
+    void claimReadyMissionsUsesPartialIndex() {
+        String plan = explainGeneric("claimReadyMissions", Map.of(
+                "estimatedDateBefore", "now()",
+                "claimedAt", "now()",
+                "limit", "1000"
+        ));
+
+        assertThat(plan).contains("idx_mission_ready_automatic");
+        assertThat(plan).doesNotContain("Seq Scan on mission");
+    }
+
+    @Test
+    void countReadyMissionsUsesPartialIndex() {
+        String plan = explainGeneric("countReadyMissions", Map.of(
+                "estimatedDateBefore", "now()"
+        ));
+
+        assertThat(plan).contains("idx_mission_ready_automatic");
+        assertThat(plan).doesNotContain("Seq Scan on mission");
+    }
+
+    @Test
+    void upcomingMissionsWindowUsesPartialIndex() {
+        String plan = explainGeneric("findReadyBetween", Map.of(
+                "estimatedDateAfter", "now() + interval '29 minutes'",
+                "estimatedDateBefore", "now() + interval '30 minutes'"
+        ));
+
+        assertThat(plan).contains("idx_mission_ready_automatic");
+        assertThat(plan).doesNotContain("Seq Scan on mission");
+    }
+
+    @Test
+    void upcomingPageUsesPartialIndex() {
+        String plan = explainGeneric("findUpcomingPage", Map.of(
+                "afterDate", "now() + interval '29 minutes'",
+                "afterId", "'ffffffff-ffff-ffff-ffff-ffffffffffff'",
+                "estimatedDateBefore", "now() + interval '30 minutes'",
+                "limit", "500"
+        ));
+
+        assertThat(plan).contains("idx_mission_ready_automatic");
+        assertThat(plan).doesNotContain("Seq Scan on mission");
+    }
+
+    @Test
+    void concurrentIndexesAreValid() {
+        List<String> invalid = jdbcTemplate.queryForList("""
+                SELECT c.relname FROM pg_index i
+                JOIN pg_class c ON c.oid = i.indexrelid
+                WHERE c.relname IN ('idx_mission_ready_automatic', 'idx_drone_mission_assignment_mission_assigned')
+                AND NOT (i.indisvalid AND i.indisready)
+                """, String.class);
+        Integer present = jdbcTemplate.queryForObject("""
+                SELECT count(*) FROM pg_class
+                WHERE relname IN ('idx_mission_ready_automatic', 'idx_drone_mission_assignment_mission_assigned')
+                """, Integer.class);
+
+        assertThat(invalid).isEmpty();
+        assertThat(present).isEqualTo(2);
+    }
+
+    @Test
+    void assignmentsByMissionUseMissionAssignedAtIndex() {
+        String plan = explain("""
+                SELECT a.* FROM drone_mission_assignment a
+                WHERE a.mission_id IN (SELECT id FROM mission ORDER BY id LIMIT 100)
+                ORDER BY a.mission_id ASC, a.assigned_at ASC
+                """);
+
+        assertThat(plan).contains("idx_drone_mission_assignment_mission_assigned");
+        assertThat(plan).doesNotContain("Seq Scan on drone_mission_assignment");
+    }
+
+    private static String explain(String sql) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+    }
+
+    /**
+     * EXPLAIN de la consulta nativa real del repositorio (su @Query) como sentencia preparada
+     * con plan genérico: es el plan que usa el driver JDBC tras prepareThreshold ejecuciones,
+     * sin los valores de los parámetros a la vista del planner
+     */
+    private static String explainGeneric(String repositoryMethod, Map<String, String> arguments) {
+        List<String> parameters = new ArrayList<>();
+        Matcher matcher = NAMED_PARAMETER.matcher(nativeQuery(repositoryMethod));
+        StringBuilder positional = new StringBuilder();
+        while (matcher.find()) {
+            String name = matcher.group(1);
+            if (!parameters.contains(name)) {
+                parameters.add(name);
+            }
+            matcher.appendReplacement(positional, "\\$" + (parameters.indexOf(name) + 1));
+        }
+        matcher.appendTail(positional);
+
+        String values = parameters.stream()
+                .map(name -> Objects.requireNonNull(arguments.get(name), "No argument for :" + name))
+                .collect(Collectors.joining(", "));
+
+        // Misma conexión para SET, PREPARE y EXPLAIN: las sentencias preparadas son de sesión
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET plan_cache_mode = force_generic_plan");
+                statement.execute("PREPARE plan_check AS " + positional);
+                try (ResultSet result = statement.executeQuery("EXPLAIN EXECUTE plan_check(" + values + ")")) {
+                    List<String> lines = new ArrayList<>();
+                    while (result.next()) {
+                        lines.add(result.getString(1));
+                    }
+                    return String.join("\n", lines);
+                } finally {
+                    statement.execute("DEALLOCATE plan_check");
+                }
+            }
+        });
+    }
+
+    private static String nativeQuery(String repositoryMethod) {
+        return Arrays.stream(R2dbcMissionRepository.class.getDeclaredMethods())
+                .filter(method -> method.getName().equals(repositoryMethod))
+                .map(method -> method.getAnnotation(Query.class))
+                .filter(query -> query != null && query.nativeQuery())
+                .map(Query::value)
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("No native query for " + repositoryMethod));
+    }
+
+}
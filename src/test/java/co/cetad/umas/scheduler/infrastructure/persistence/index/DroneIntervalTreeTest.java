@@ -0,0 +1,141 @@
+package co.cetad.umas.scheduler.infrastructure.persistence.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifica la búsqueda de solapes del árbol de intervalos de reservas de un dron
+ * Intervalos semiabiertos [start, start + duración)
+ */
+class DroneIntervalTreeTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 1, 8, 0);
+    private static final Duration DURATION = Duration.ofMinutes(30);
+
+    @Test
+    void findsOverlapWithExistingBooking() {
+        DroneIntervalTree tree = new DroneIntervalTree();
+        book(tree, "m-1", 0);
+
+        DroneIntervalTree.Reservation overlap = tree.findOverlap(at(10), at(40), "m-2");
+
+        assertThat(overlap).isNotNull();
+        assertThat(overlap.missionId()).isEqualTo("m-1");
+        assertThat(overlap.end()).isEqualTo(at(30));
+    }
+
+    @Test
+    void touchingBoundariesDoNotOverlap() {
+        DroneIntervalTree tree = new DroneIntervalTree();
+        book(tree, "m-1", 30);
+
+        // Termina justo cuando empieza la reserva
+        assertThat(tree.findOverlap(at(0), at(30), "m-2")).isNull();
+        // Empieza justo cuando termina la reserva
+        assertThat(tree.findOverlap(at(60), at(90), "m-2")).isNull();
+        // Un minuto dentro por cada lado
+        assertThat(tree.findOverlap(at(1), at(31), "m-2")).isNotNull();
+        assertThat(tree.findOverlap(at(59), at(89), "m-2")).isNotNull();
+    }
+
+    @Test
+    void ignoresBookingOfTheSameMission() {
+        DroneIntervalTree tree = new DroneIntervalTree();
+        book(tree, "m-1", 0);
+
+        assertThat(tree.findOverlap(at(0), at(30), "m-1")).isNull();
+    }
+
+    @Test
+    void removedBookingNoLongerOverlaps() {
+        DroneIntervalTree tree = new DroneIntervalTree();
+        book(tree, "m-1", 0);
+        book(tree, "m-2", 60);
+
+        tree.remove("m-1", at(0));
+
+        assertThat(tree.size()).isEqualTo(1);
+        assertThat(tree.findOverlap(at(0), at(30), "m-3")).isNull();
+        assertThat(tree.findOverlap(at(70), at(80), "m-3").missionId()).isEqualTo("m-2");
+    }
+
+    @Test
+    void removingNonexistentBookingIsNoOp() {
+        DroneIntervalTree tree = new DroneIntervalTree();
+        book(tree, "m-1", 0);
+        book(tree, "m-2", 60);
+
+        tree.remove("m-3", at(0));
+        tree.remove("m-1", at(5));
+        new DroneIntervalTree().remove("m-1", at(0));
+
+        assertThat(tree.size()).isEqualTo(2);
+        assertThat(tree.findOverlap(at(10), at(20), "m-9").missionId()).isEqualTo("m-1");
+        assertThat(tree.findOverlap(at(70), at(80), "m-9").missionId()).isEqualTo("m-2");
+    }
+
+    @Test
+    void findsOverlapAfterRebalancingInsertsAndRemovals() {
+        DroneIntervalTree tree = new DroneIntervalTree();
+        List<Interval> bookings = new ArrayList<>();
+
+        // Inserciones ascendentes y descendentes: fuerzan rotaciones simples y dobles
+        for (int i = 0; i < 200; i++) {
+            int start = i % 2 == 0 ? i * 20 : (400 - i) * 20;
+            String missionId = "m-" + i;
+            book(tree, missionId, start);
+            bookings.add(new Interval(missionId, start, start + 30));
+        }
+        // Quita un tercio, incluida la raíz original y nodos con dos hijos
+        for (int i = 0; i < 200; i += 3) {
+            Interval removed = bookings.get(i);
+            tree.remove(removed.missionId(), at(removed.start()));
+        }
+        List<Interval> remaining = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            if (i % 3 != 0) {
+                remaining.add(bookings.get(i));
+            }
+        }
+
+        assertThat(tree.size()).isEqualTo(remaining.size());
+
+        Random random = new Random(42);
+        for (int probe = 0; probe < 2_000; probe++) {
+            int start = random.nextInt(8_200);
+            int end = start + 1 + random.nextInt(60);
+
+            DroneIntervalTree.Reservation overlap = tree.findOverlap(at(start), at(end), "probe");
+            boolean expected = remaining.stream()
+                    .anyMatch(interval -> interval.start() < end && start < interval.end());
+
+            assertThat(overlap != null)
+                    .as("overlap of [%d, %d)", start, end)
+                    .isEqualTo(expected);
+            if (overlap != null) {
+                assertThat(overlap.start()).isBefore(at(end));
+                assertThat(overlap.end()).isAfter(at(start));
+            }
+        }
+    }
+
+    private static void book(DroneIntervalTree tree, String missionId, int startMinute) {
+        LocalDateTime start = at(startMinute);
+        tree.insert(missionId, start, start.plus(DURATION));
+    }
+
+    private static LocalDateTime at(int minute) {
+        return BASE.plusMinutes(minute);
+    }
+
+    private record Interval(String missionId, int start, int end) {
+    }
+
+}
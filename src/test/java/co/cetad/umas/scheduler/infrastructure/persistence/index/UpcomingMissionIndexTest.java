@@ -0,0 +1,167 @@
+package co.cetad.umas.scheduler.infrastructure.persistence.index;
+
+import co.cetad.umas.scheduler.domain.model.entity.MissionOrigin;
+import co.cetad.umas.scheduler.domain.model.entity.MissionState;
+import co.cetad.umas.scheduler.domain.model.vo.Mission;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifica las reglas de versión, tombstones y retiro de obsoletas del índice de misiones próximas
+ * Las versiones (updatedAt) son minutos desde BASE; estimatedDate es una hora después
+ */
+class UpcomingMissionIndexTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 1, 8, 0);
+
+    private final UpcomingMissionIndex index = new UpcomingMissionIndex(new SimpleMeterRegistry());
+
+    @Test
+    void olderVersionDoesNotReplaceIndexedOne() {
+        index.upsert(mission("m-1", 60, 5));
+        index.upsert(mission("m-1", 90, 3));
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(dueBeforeMinute(120)).extracting(Mission::updatedAt).containsExactly(at(5));
+    }
+
+    @Test
+    void newerVersionMovesMissionToItsNewDate() {
+        index.upsert(mission("m-1", 60, 5));
+        index.upsert(mission("m-1", 90, 7));
+
+        assertThat(dueBeforeMinute(80)).isEmpty();
+        assertThat(dueBeforeMinute(90)).extracting(Mission::updatedAt).containsExactly(at(7));
+    }
+
+    @Test
+    void removalOlderThanIndexedVersionIsIgnored() {
+        index.upsert(mission("m-1", 60, 5));
+
+        index.remove("m-1", at(4));
+        assertThat(index.size()).isEqualTo(1);
+
+        index.remove("m-1", at(5));
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void tombstoneKeepsRebuildFromReinsertingRemovedMission() {
+        index.beginRebuild();
+        // La baja llega mientras se lee la BD; la carga leyó la versión anterior
+        index.remove("m-1", at(6));
+        index.completeRebuild(List.of(mission("m-1", 60, 5)));
+
+        assertThat(index.size()).isZero();
+        assertThat(index.ready()).isTrue();
+    }
+
+    @Test
+    void versionNewerThanTombstoneIsIndexed() {
+        index.beginRebuild();
+        index.remove("m-1", at(6));
+        index.completeRebuild(List.of(mission("m-1", 60, 7)));
+
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void tombstonesAreDiscardedAfterRebuild() {
+        index.beginRebuild();
+        index.remove("m-1", at(6));
+        index.completeRebuild(List.of());
+
+        index.upsert(mission("m-1", 60, 5));
+
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void rebuildRemovesIndexedMissionsMissingFromTheLoad() {
+        index.upsert(mission("m-1", 60, 5));
+        index.upsert(mission("m-2", 70, 5));
+
+        index.beginRebuild();
+        index.completeRebuild(List.of(mission("m-2", 70, 5)));
+
+        assertThat(dueBeforeMinute(120)).extracting(Mission::id).containsExactly("m-2");
+    }
+
+    @Test
+    void rebuildKeepsMissionsUpsertedWhileLoading() {
+        index.beginRebuild();
+        // Llega por evento después de que la carga leyó su página; su versión no se compara con ningún reloj
+        index.upsert(mission("m-1", 60, -30));
+        index.completeRebuild(List.of(mission("m-2", 70, 5)));
+
+        assertThat(dueBeforeMinute(120)).extracting(Mission::id).containsExactly("m-1", "m-2");
+    }
+
+    @Test
+    void upsertProtectsMissionOnlyDuringItsRebuild() {
+        index.beginRebuild();
+        index.upsert(mission("m-1", 60, 5));
+        index.completeRebuild(List.of());
+        assertThat(index.size()).isEqualTo(1);
+
+        // La siguiente carga tampoco la trae y no llegó de nuevo por evento: es obsoleta
+        index.beginRebuild();
+        index.completeRebuild(List.of());
+
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void abortedRebuildDiscardsTombstones() {
+        index.upsert(mission("m-1", 60, 5));
+
+        index.beginRebuild();
+        index.remove("m-1", at(6));
+        index.abortRebuild();
+        index.upsert(mission("m-1", 60, 6));
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.ready()).isFalse();
+    }
+
+    @Test
+    void removeIfUnchangedKeepsNewerVersion() {
+        Mission claimed = mission("m-1", 60, 5);
+        index.upsert(claimed);
+        index.upsert(mission("m-1", 60, 6));
+
+        assertThat(index.removeIfUnchanged(claimed)).isFalse();
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    private List<Mission> dueBeforeMinute(int minute) {
+        return index.dueBefore(at(minute), Integer.MAX_VALUE);
+    }
+
+    private static Mission mission(String id, int estimatedMinute, int versionMinute) {
+        return new Mission(
+                id,
+                "Mission " + id,
+                "operator-1",
+                MissionOrigin.AUTOMATICA,
+                MissionState.APROBADA,
+                at(estimatedMinute),
+                null,
+                null,
+                true,
+                at(-60),
+                at(versionMinute),
+                false
+        );
+    }
+
+    private static LocalDateTime at(int minute) {
+        return BASE.plusMinutes(minute);
+    }
+
+}
@@ -0,0 +1,31 @@
+-- Esquema base que administra el servicio de misiones (no es parte de las migraciones del scheduler)
+-- Solo las tablas y columnas que consultan MissionQueryPlanTest y los repositorios del scheduler
+CREATE TYPE mission_origin AS ENUM ('MANUAL', 'AUTOMATICA');
+
+CREATE TYPE mission_state AS ENUM (
+    'PENDIENTE_APROBACION', 'APROBADA', 'EN_EJECUCION', 'PAUSADA',
+    'FINALIZADA', 'ABORTADA', 'FALLIDA', 'ARCHIVADA'
+);
+
+CREATE TABLE mission (
+    id             UUID           NOT NULL PRIMARY KEY,
+    name           VARCHAR(255),
+    operator_id    UUID           NOT NULL,
+    mission_type   mission_origin NOT NULL,
+    state          mission_state  NOT NULL,
+    estimated_date TIMESTAMP      NOT NULL,
+    start_date     TIMESTAMP,
+    end_date       TIMESTAMP,
+    is_automatic   BOOLEAN        NOT NULL DEFAULT FALSE,
+    created_at     TIMESTAMP      NOT NULL,
+    updated_at     TIMESTAMP      NOT NULL
+);
+
+CREATE TABLE drone_mission_assignment (
+    id          UUID      NOT NULL PRIMARY KEY,
+    drone_id    UUID      NOT NULL,
+    mission_id  UUID      NOT NULL REFERENCES mission (id),
+    assigned_at TIMESTAMP NOT NULL,
+    created_at  TIMESTAMP NOT NULL,
+    updated_at  TIMESTAMP NOT NULL
+);